@@ -0,0 +1,84 @@
+package com.ocean.piuda.admin.dashboard.controller;
+
+import com.ocean.piuda.dashboard.service.TemperatureRollupService;
+import com.ocean.piuda.dashboard.service.TransplantSummaryService;
+import com.ocean.piuda.dashboard.service.WaterStatsService;
+import com.ocean.piuda.global.api.dto.ApiData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/dashboard/maintenance")
+@RequiredArgsConstructor
+@Tag(
+        name = "Admin Dashboard Maintenance",
+        description = "관리자 대시보드 집계 데이터 재계산 API입니다. 증분 집계가 어긋났을 때 원본 로그 기준으로 다시 계산합니다."
+)
+public class AdminDashboardMaintenanceController {
+
+    private final TransplantSummaryService transplantSummaryService;
+    private final TemperatureRollupService temperatureRollupService;
+    private final WaterStatsService waterStatsService;
+
+    /**
+     * 전체 작업 영역의 이식 요약 재계산
+     */
+    @PostMapping("/transplant-summaries/rebuild")
+    @Operation(summary = "이식 요약 전체 재계산", description = "모든 작업 영역의 이식 요약을 이식 로그 기준으로 다시 계산합니다. 처리한 영역 수를 반환합니다.")
+    public ApiData<Integer> rebuildAllTransplantSummaries() {
+        return ApiData.ok(transplantSummaryService.rebuildAll());
+    }
+
+    /**
+     * 특정 작업 영역의 이식 요약 재계산
+     */
+    @PostMapping("/transplant-summaries/{areaId}/rebuild")
+    @Operation(summary = "이식 요약 단건 재계산", description = "특정 작업 영역의 이식 요약을 이식 로그 기준으로 다시 계산합니다.")
+    public ApiData<Boolean> rebuildTransplantSummary(@PathVariable Long areaId) {
+        transplantSummaryService.rebuild(areaId);
+        return ApiData.ok(true);
+    }
+
+    /**
+     * 전체 작업 영역의 수온 롤업 재계산
+     */
+    @PostMapping("/temperature-rollups/rebuild")
+    @Operation(summary = "수온 롤업 전체 재계산", description = "모든 작업 영역의 일/주/월 수온 롤업을 수질 로그 기준으로 다시 계산합니다. 처리한 영역 수를 반환합니다.")
+    public ApiData<Integer> rebuildAllTemperatureRollups() {
+        return ApiData.ok(temperatureRollupService.rebuildAll());
+    }
+
+    /**
+     * 특정 작업 영역의 수온 롤업 재계산
+     */
+    @PostMapping("/temperature-rollups/{areaId}/rebuild")
+    @Operation(summary = "수온 롤업 단건 재계산", description = "특정 작업 영역의 일/주/월 수온 롤업을 수질 로그 기준으로 다시 계산합니다.")
+    public ApiData<Boolean> rebuildTemperatureRollups(@PathVariable Long areaId) {
+        temperatureRollupService.rebuild(areaId);
+        return ApiData.ok(true);
+    }
+
+    /**
+     * 전체 작업 영역의 수온 누적 통계 재계산
+     */
+    @PostMapping("/water-stats/rebuild")
+    @Operation(summary = "수온 누적 통계 전체 재계산", description = "모든 작업 영역의 수온 누적 통계(개수/평균/분산/최저/최고/마지막 기록)를 수질 로그 기준으로 다시 계산합니다. 처리한 영역 수를 반환합니다.")
+    public ApiData<Integer> rebuildAllWaterStats() {
+        return ApiData.ok(waterStatsService.rebuildAll());
+    }
+
+    /**
+     * 특정 작업 영역의 수온 누적 통계 재계산
+     */
+    @PostMapping("/water-stats/{areaId}/rebuild")
+    @Operation(summary = "수온 누적 통계 단건 재계산", description = "특정 작업 영역의 수온 누적 통계를 수질 로그 기준으로 다시 계산합니다.")
+    public ApiData<Boolean> rebuildWaterStats(@PathVariable Long areaId) {
+        waterStatsService.rebuild(areaId);
+        return ApiData.ok(true);
+    }
+}
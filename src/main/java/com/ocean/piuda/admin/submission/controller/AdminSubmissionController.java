@@ -65,7 +65,8 @@ public class AdminSubmissionController {
             @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "정렬 필드") @RequestParam(defaultValue = "submittedAt") String sortBy,
-            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "DESC") String sortDir
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "DESC") String sortDir,
+            @Parameter(description = "전체 개수 포함 여부 (false 이면 COUNT 없이 hasNext 만 반환)") @RequestParam(defaultValue = "true") boolean includeTotal
     ) {
         Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
@@ -76,7 +77,8 @@ public class AdminSubmissionController {
                 activityType,
                 startDate,
                 endDate,
-                pageable
+                pageable,
+                includeTotal
         );
 
         return ApiData.ok(result);
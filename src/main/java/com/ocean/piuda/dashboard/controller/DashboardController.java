@@ -1,30 +1,54 @@
 package com.ocean.piuda.dashboard.controller;
 
+import com.ocean.piuda.dashboard.dto.DataVersion;
 import com.ocean.piuda.dashboard.dto.response.AreaDetailResponse;
 import com.ocean.piuda.dashboard.dto.response.AreaMarkerResponse;
 import com.ocean.piuda.dashboard.dto.response.AreaStatResponse;
 import com.ocean.piuda.dashboard.dto.response.IdResponse;
+import com.ocean.piuda.dashboard.service.AreaHeatmapService;
+import com.ocean.piuda.dashboard.service.AreaStatusAnalyticsService;
+import com.ocean.piuda.dashboard.service.AreaTileService;
+import com.ocean.piuda.dashboard.service.DashboardChartService;
 import com.ocean.piuda.dashboard.service.DashboardCommandService;
+import com.ocean.piuda.dashboard.service.DashboardExportService;
 import com.ocean.piuda.dashboard.service.DashboardQueryService;
+import com.ocean.piuda.dashboard.service.LogBulkEditService;
+import com.ocean.piuda.dashboard.service.WaterLogImportService;
 import com.ocean.piuda.global.api.dto.ApiData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.ocean.piuda.dashboard.dto.request.*;
 import jakarta.validation.Valid;
 import com.ocean.piuda.dashboard.dto.request.LogPageRequest;
 import com.ocean.piuda.dashboard.dto.response.*;
+import com.ocean.piuda.global.api.dto.CursorResponse;
 import com.ocean.piuda.global.api.dto.PageResponse;
 import org.springframework.format.annotation.DateTimeFormat;
 import com.ocean.piuda.dashboard.dto.request.AreaPageRequest;
+import com.ocean.piuda.dashboard.enums.AnalyticsGranularity;
+import com.ocean.piuda.dashboard.enums.AreaDetailTab;
+import com.ocean.piuda.dashboard.enums.EnvironmentWindow;
 import com.ocean.piuda.dashboard.enums.HabitatType;
 import com.ocean.piuda.dashboard.enums.ProjectLevel;
 import com.ocean.piuda.dashboard.enums.RestorationRegion;
+import com.ocean.piuda.dashboard.enums.RollupResolution;
+import com.ocean.piuda.dashboard.enums.WaterLogImportFormat;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -32,8 +56,17 @@ import java.util.List;
 @Tag(name = "Dashboard API", description = "대시보드 작업 영역(PostGIS) 및 통계 데이터 조회")
 public class DashboardController {
 
+    private static final String MVT_VALUE = "application/vnd.mapbox-vector-tile";
+
     private final DashboardQueryService dashboardQueryService;
     private final DashboardCommandService dashboardCommandService;
+    private final AreaStatusAnalyticsService areaStatusAnalyticsService;
+    private final DashboardChartService dashboardChartService;
+    private final DashboardExportService dashboardExportService;
+    private final WaterLogImportService waterLogImportService;
+    private final LogBulkEditService logBulkEditService;
+    private final AreaTileService areaTileService;
+    private final AreaHeatmapService areaHeatmapService;
 
     /**
      * ProjectArea
@@ -78,13 +111,15 @@ public class DashboardController {
 
     @GetMapping("/areas/{id}/species")
     @Operation(summary = "영역 내 이식된 종 목록 조회", description = "대표종 설정 팝업 등에서 사용할 '이 영역에 존재하는 종' 목록을 반환합니다.")
-    public ApiData<List<AreaSpeciesResponse>> getAreaSpecies(@PathVariable Long id) {
+    public ApiData<List<AreaSpeciesResponse>> getAreaSpecies(@PathVariable Long id, WebRequest request) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(id))) return null;
         return ApiData.ok(dashboardQueryService.getAreaSpeciesCandidates(id));
     }
 
     @GetMapping("/areas/{id}/representative-species")
     @Operation(summary = "작업 영역 현재 대표종 조회", description = "현재 설정된 대표종 정보를 반환합니다. 설정되지 않은 경우 null을 반환합니다.")
-    public ApiData<AreaSpeciesResponse> getRepresentativeSpecies(@PathVariable Long id) {
+    public ApiData<AreaSpeciesResponse> getRepresentativeSpecies(@PathVariable Long id, WebRequest request) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(id))) return null;
         return ApiData.ok(dashboardQueryService.getRepresentativeSpecies(id));
     }
 
@@ -97,8 +132,10 @@ public class DashboardController {
     @Operation(summary = "이식 로그 단건 조회")
     public ApiData<TransplantLogResponse> getTransplantLog(
             @PathVariable Long areaId,
-            @PathVariable Long logId
+            @PathVariable Long logId,
+            WebRequest request
     ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(areaId))) return null;
         return ApiData.ok(dashboardQueryService.getTransplantLog(areaId, logId));
     }
 
@@ -110,11 +147,35 @@ public class DashboardController {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
-            @Valid LogPageRequest pageReq
+            @Valid LogPageRequest pageReq,
+            WebRequest request
     ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(areaId))) return null;
         return ApiData.ok(dashboardQueryService.getTransplantLogs(areaId, from, to, pageReq));
     }
 
+    @GetMapping("/areas/{areaId}/transplants/cursor")
+    @Operation(
+            summary = "이식 로그 커서 기반 목록 조회",
+            description = """
+                (기록일, id) 기준 커서로 다음 페이지를 조회합니다. 전체 개수는 계산하지 않습니다.
+                - 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor 를 cursor 로 넘깁니다.
+                - sort 는 RECORD_DATE_DESC(기본) / RECORD_DATE_ASC 만 지원합니다.
+                """
+    )
+    public ApiData<CursorResponse<TransplantLogResponse>> getTransplantLogsByCursor(
+            @PathVariable Long areaId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Valid LogCursorRequest cursorReq,
+            WebRequest request
+    ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(areaId))) return null;
+        return ApiData.ok(dashboardQueryService.getTransplantLogsByCursor(areaId, from, to, cursorReq));
+    }
+
 
     @PostMapping("/areas/{areaId}/transplants")
     @Operation(summary = "이식 로그 생성")
@@ -141,6 +202,30 @@ public class DashboardController {
         return ApiData.ok(new IdResponse(logId));
     }
 
+    @PatchMapping("/areas/{areaId}/transplants/bulk")
+    @Operation(
+            summary = "이식 로그 대량 수정",
+            description = "ids 또는 기록일 구간(from, to) 중 하나로 대상을 지정하고, changes 의 null 이 아닌 값을 UPDATE 1문장으로 반영합니다. 감사 기록 1건을 남깁니다."
+    )
+    public ApiData<BulkLogEditResponse> bulkPatchTransplants(
+            @PathVariable Long areaId,
+            @RequestBody @Valid BulkLogUpdateRequest<UpdateTransplantLogRequest> req
+    ) {
+        return ApiData.ok(logBulkEditService.updateTransplants(areaId, req));
+    }
+
+    @PostMapping("/areas/{areaId}/transplants/bulk-delete")
+    @Operation(
+            summary = "이식 로그 대량 삭제",
+            description = "ids 또는 기록일 구간(from, to) 중 하나로 대상을 지정해 DELETE 1문장으로 삭제합니다. 감사 기록 1건을 남깁니다."
+    )
+    public ApiData<BulkLogEditResponse> bulkDeleteTransplants(
+            @PathVariable Long areaId,
+            @RequestBody @Valid BulkLogDeleteRequest req
+    ) {
+        return ApiData.ok(logBulkEditService.deleteTransplants(areaId, req));
+    }
+
 
     /**
      * GrowthLog
@@ -149,8 +234,10 @@ public class DashboardController {
     @Operation(summary = "성장 로그 단건 조회")
     public ApiData<GrowthLogResponse> getGrowthLog(
             @PathVariable Long areaId,
-            @PathVariable Long logId
+            @PathVariable Long logId,
+            WebRequest request
     ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(areaId))) return null;
         return ApiData.ok(dashboardQueryService.getGrowthLog(areaId, logId));
     }
 
@@ -162,11 +249,35 @@ public class DashboardController {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
-            @Valid LogPageRequest pageReq
+            @Valid LogPageRequest pageReq,
+            WebRequest request
     ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(areaId))) return null;
         return ApiData.ok(dashboardQueryService.getGrowthLogs(areaId, from, to, pageReq));
     }
 
+    @GetMapping("/areas/{areaId}/growth-logs/cursor")
+    @Operation(
+            summary = "성장 로그 커서 기반 목록 조회",
+            description = """
+                (기록일, id) 기준 커서로 다음 페이지를 조회합니다. 전체 개수는 계산하지 않습니다.
+                - 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor 를 cursor 로 넘깁니다.
+                - sort 는 RECORD_DATE_DESC(기본) / RECORD_DATE_ASC 만 지원합니다.
+                """
+    )
+    public ApiData<CursorResponse<GrowthLogResponse>> getGrowthLogsByCursor(
+            @PathVariable Long areaId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Valid LogCursorRequest cursorReq,
+            WebRequest request
+    ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(areaId))) return null;
+        return ApiData.ok(dashboardQueryService.getGrowthLogsByCursor(areaId, from, to, cursorReq));
+    }
+
 
     @PostMapping("/areas/{areaId}/growth-logs")
     @Operation(summary = "성장 로그 생성")
@@ -193,6 +304,30 @@ public class DashboardController {
         return ApiData.ok(new IdResponse(logId));
     }
 
+    @PatchMapping("/areas/{areaId}/growth-logs/bulk")
+    @Operation(
+            summary = "성장 로그 대량 수정",
+            description = "ids 또는 기록일 구간(from, to) 중 하나로 대상을 지정하고, changes 의 null 이 아닌 값을 UPDATE 1문장으로 반영합니다. 감사 기록 1건을 남깁니다."
+    )
+    public ApiData<BulkLogEditResponse> bulkPatchGrowths(
+            @PathVariable Long areaId,
+            @RequestBody @Valid BulkLogUpdateRequest<UpdateGrowthLogRequest> req
+    ) {
+        return ApiData.ok(logBulkEditService.updateGrowths(areaId, req));
+    }
+
+    @PostMapping("/areas/{areaId}/growth-logs/bulk-delete")
+    @Operation(
+            summary = "성장 로그 대량 삭제",
+            description = "ids 또는 기록일 구간(from, to) 중 하나로 대상을 지정해 DELETE 1문장으로 삭제합니다. 감사 기록 1건을 남깁니다."
+    )
+    public ApiData<BulkLogEditResponse> bulkDeleteGrowths(
+            @PathVariable Long areaId,
+            @RequestBody @Valid BulkLogDeleteRequest req
+    ) {
+        return ApiData.ok(logBulkEditService.deleteGrowths(areaId, req));
+    }
+
 
     /**
      * WaterLog
@@ -201,8 +336,10 @@ public class DashboardController {
     @Operation(summary = "환경 로그 단건 조회")
     public ApiData<WaterLogResponse> getWaterLog(
             @PathVariable Long areaId,
-            @PathVariable Long logId
+            @PathVariable Long logId,
+            WebRequest request
     ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(areaId))) return null;
         return ApiData.ok(dashboardQueryService.getWaterLog(areaId, logId));
     }
 
@@ -214,11 +351,35 @@ public class DashboardController {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
-            @Valid LogPageRequest pageReq
+            @Valid LogPageRequest pageReq,
+            WebRequest request
     ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(areaId))) return null;
         return ApiData.ok(dashboardQueryService.getWaterLogs(areaId, from, to, pageReq));
     }
 
+    @GetMapping("/areas/{areaId}/water-logs/cursor")
+    @Operation(
+            summary = "수질 로그 커서 기반 목록 조회",
+            description = """
+                (기록일, id) 기준 커서로 다음 페이지를 조회합니다. 전체 개수는 계산하지 않습니다.
+                - 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor 를 cursor 로 넘깁니다.
+                - sort 는 RECORD_DATE_DESC(기본) / RECORD_DATE_ASC 만 지원합니다.
+                """
+    )
+    public ApiData<CursorResponse<WaterLogResponse>> getWaterLogsByCursor(
+            @PathVariable Long areaId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Valid LogCursorRequest cursorReq,
+            WebRequest request
+    ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(areaId))) return null;
+        return ApiData.ok(dashboardQueryService.getWaterLogsByCursor(areaId, from, to, cursorReq));
+    }
+
 
     @PostMapping("/areas/{areaId}/water-logs")
     @Operation(summary = "환경 로그 생성")
@@ -226,6 +387,27 @@ public class DashboardController {
         return ApiData.ok(new IdResponse(dashboardCommandService.createWater(areaId, req)));
     }
 
+    @PostMapping(
+            value = "/areas/{areaId}/water-logs/bulk",
+            consumes = {WaterLogImportFormat.CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE}
+    )
+    @Operation(
+            summary = "환경 로그 대량 적재 (CSV / NDJSON)",
+            description = """
+                계측 장비 등에서 나온 수질 로그를 한 번에 적재합니다. 형식은 Content-Type 으로 구분합니다.
+                - text/csv: 첫 줄 헤더 recordDate,temperature,visibility,current,surge,wave (순서 무관)
+                - application/x-ndjson: 한 줄에 환경 로그 생성 요청 JSON 1개
+                - 오류 행은 건너뛰고 나머지를 적재하며, 결과에 줄 번호별 오류 사유를 담아 반환합니다.
+                """
+    )
+    public ApiData<BulkImportResponse> importWaterLogs(
+            @PathVariable Long areaId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        return ApiData.ok(waterLogImportService.importWaterLogs(areaId, WaterLogImportFormat.from(contentType), body));
+    }
+
     @PatchMapping("/areas/{areaId}/water-logs/{logId}")
     @Operation(summary = "환경 로그 부분 수정(PATCH)")
     public ApiData<IdResponse> patchWater(
@@ -246,6 +428,30 @@ public class DashboardController {
         return ApiData.ok(new IdResponse(logId));
     }
 
+    @PatchMapping("/areas/{areaId}/water-logs/bulk")
+    @Operation(
+            summary = "환경 로그 대량 수정",
+            description = "ids 또는 기록일 구간(from, to) 중 하나로 대상을 지정하고, changes 의 null 이 아닌 값을 UPDATE 1문장으로 반영합니다. temperatureOffset 은 기존 수온에 더할 보정값입니다. 감사 기록 1건을 남깁니다."
+    )
+    public ApiData<BulkLogEditResponse> bulkPatchWaters(
+            @PathVariable Long areaId,
+            @RequestBody @Valid BulkLogUpdateRequest<BulkWaterLogChanges> req
+    ) {
+        return ApiData.ok(logBulkEditService.updateWaters(areaId, req));
+    }
+
+    @PostMapping("/areas/{areaId}/water-logs/bulk-delete")
+    @Operation(
+            summary = "환경 로그 대량 삭제",
+            description = "ids 또는 기록일 구간(from, to) 중 하나로 대상을 지정해 DELETE 1문장으로 삭제합니다. 감사 기록 1건을 남깁니다."
+    )
+    public ApiData<BulkLogEditResponse> bulkDeleteWaters(
+            @PathVariable Long areaId,
+            @RequestBody @Valid BulkLogDeleteRequest req
+    ) {
+        return ApiData.ok(logBulkEditService.deleteWaters(areaId, req));
+    }
+
     /**
      * MediaLog
      */
@@ -253,8 +459,10 @@ public class DashboardController {
     @Operation(summary = "미디어 로그 단건 조회")
     public ApiData<MediaLogResponse> getMediaLog(
             @PathVariable Long areaId,
-            @PathVariable Long logId
+            @PathVariable Long logId,
+            WebRequest request
     ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(areaId))) return null;
         return ApiData.ok(dashboardQueryService.getMediaLog(areaId, logId));
     }
 
@@ -266,11 +474,60 @@ public class DashboardController {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
-            @Valid LogPageRequest pageReq
+            @Valid LogPageRequest pageReq,
+            WebRequest request
     ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(areaId))) return null;
         return ApiData.ok(dashboardQueryService.getMediaLogs(areaId, from, to, pageReq));
     }
 
+    @GetMapping("/areas/{areaId}/media-logs/cursor")
+    @Operation(
+            summary = "사진 로그 커서 기반 목록 조회",
+            description = """
+                (기록일, id) 기준 커서로 다음 페이지를 조회합니다. 전체 개수는 계산하지 않습니다.
+                - 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor 를 cursor 로 넘깁니다.
+                - sort 는 RECORD_DATE_DESC(기본) / RECORD_DATE_ASC 만 지원합니다.
+                """
+    )
+    public ApiData<CursorResponse<MediaLogResponse>> getMediaLogsByCursor(
+            @PathVariable Long areaId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Valid LogCursorRequest cursorReq,
+            WebRequest request
+    ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(areaId))) return null;
+        return ApiData.ok(dashboardQueryService.getMediaLogsByCursor(areaId, from, to, cursorReq));
+    }
+
+
+    @GetMapping("/areas/{areaId}/timeline")
+    @Operation(
+            summary = "통합 타임라인 (커서 기반)",
+            description = """
+                이식/성장/수질/미디어 로그를 기록일 순으로 합친 타임라인을 조회합니다.
+                - 각 항목은 type(TRANSPLANT / GROWTH / WATER / MEDIA)과 해당 로그(log)를 가집니다.
+                - 같은 기록일은 이식 → 성장 → 수질 → 미디어 순입니다. (내림차순이면 반대)
+                - 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor 를 cursor 로 넘깁니다.
+                - sort 는 RECORD_DATE_DESC(기본) / RECORD_DATE_ASC 만 지원합니다.
+                """
+    )
+    public ApiData<CursorResponse<TimelineItemResponse>> getTimeline(
+            @PathVariable Long areaId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Valid LogCursorRequest cursorReq,
+            WebRequest request
+    ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(areaId))) return null;
+        return ApiData.ok(dashboardQueryService.getTimeline(areaId, from, to, cursorReq));
+    }
+
 
     @PostMapping("/areas/{areaId}/media-logs")
     @Operation(summary = "미디어 로그 생성")
@@ -297,6 +554,30 @@ public class DashboardController {
         return ApiData.ok(new IdResponse(logId));
     }
 
+    @PatchMapping("/areas/{areaId}/media-logs/bulk")
+    @Operation(
+            summary = "미디어 로그 대량 수정",
+            description = "ids 또는 기록일 구간(from, to) 중 하나로 대상을 지정하고, changes 의 null 이 아닌 값을 UPDATE 1문장으로 반영합니다. 감사 기록 1건을 남깁니다."
+    )
+    public ApiData<BulkLogEditResponse> bulkPatchMedia(
+            @PathVariable Long areaId,
+            @RequestBody @Valid BulkLogUpdateRequest<UpdateMediaLogRequest> req
+    ) {
+        return ApiData.ok(logBulkEditService.updateMedia(areaId, req));
+    }
+
+    @PostMapping("/areas/{areaId}/media-logs/bulk-delete")
+    @Operation(
+            summary = "미디어 로그 대량 삭제",
+            description = "ids 또는 기록일 구간(from, to) 중 하나로 대상을 지정해 DELETE 1문장으로 삭제합니다. 감사 기록 1건을 남깁니다."
+    )
+    public ApiData<BulkLogEditResponse> bulkDeleteMedia(
+            @PathVariable Long areaId,
+            @RequestBody @Valid BulkLogDeleteRequest req
+    ) {
+        return ApiData.ok(logBulkEditService.deleteMedia(areaId, req));
+    }
+
 
     @GetMapping("/areas")
     @Operation(
@@ -314,8 +595,10 @@ public class DashboardController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
             @RequestParam(required = false) String keyword,
-            @Valid AreaPageRequest pageReq
+            @Valid AreaPageRequest pageReq,
+            WebRequest request
     ) {
+        if (notModified(request, dashboardQueryService.getDashboardVersion())) return null;
         return ApiData.ok(dashboardQueryService.getAreas(region, level, habitat, from, to, keyword, pageReq));
     }
 
@@ -326,9 +609,130 @@ public class DashboardController {
 
     // 1. 상세 데이터 API
     @GetMapping("/areas/{id}")
-    @Operation(summary = "작업 영역 상세 조회", description = "ID 기반으로 작업 영역의 상세 데이터(성장률, 수질 등)를 조회합니다.")
-    public ApiData<AreaDetailResponse> getAreaDetail(@PathVariable Long id) {
-        return ApiData.ok(dashboardQueryService.getAreaDetail(id));
+    @Operation(
+            summary = "작업 영역 상세 조회",
+            description = """
+                ID 기반으로 작업 영역의 상세 데이터(성장률, 수질 등)를 조회합니다.
+                - tabs 로 필요한 탭만 지정하면 해당 탭의 쿼리만 실행합니다. (예: tabs=OVERVIEW,ENVIRONMENT)
+                - tabs 를 생략하면 5개 탭(OVERVIEW, STATUS, ECOLOGY, ENVIRONMENT, PHOTOS)을 모두 조회합니다.
+                - 요청하지 않은 탭은 응답에서 생략됩니다.
+                - envMonths 로 환경 탭 요약 기간(가장 최근 기록일 기준 1/3/6/12개월)을 지정합니다. (기본 3)
+                - tempMaxPoints 로 수온 차트 점 개수를 제한합니다. (LTTB 다운샘플링, 피크/골 보존)
+                """
+    )
+    public ApiData<AreaDetailResponse> getAreaDetail(
+            @PathVariable Long id,
+            @Parameter(description = "조회할 탭 목록 (콤마 구분)") @RequestParam(required = false) Set<AreaDetailTab> tabs,
+            @Parameter(description = "환경 요약 기간(개월): 1, 3, 6, 12") @RequestParam(defaultValue = "3") int envMonths,
+            @Parameter(description = "수온 차트 최대 점 개수 (3 이상, 생략 시 전체)") @RequestParam(required = false) Integer tempMaxPoints,
+            WebRequest request
+    ) {
+        EnvironmentWindow window = EnvironmentWindow.ofMonths(envMonths);
+        DataVersion version = dashboardQueryService.getAreaVersion(id);
+        if (notModified(request, version)) return null;
+        return ApiData.ok(dashboardQueryService.getAreaDetail(id, version, tabs, window, tempMaxPoints));
+    }
+
+
+    @GetMapping("/areas/details")
+    @Operation(
+            summary = "작업 영역 상세 다중 조회",
+            description = """
+                비교 화면용으로 여러 작업 영역의 상세 데이터를 한 번에 조회합니다. (최대 50개)
+                - 탭 쿼리는 영역 수와 무관하게 탭마다 한 번씩만 실행됩니다.
+                - tabs 는 단건 상세 조회와 같으며, 환경 요약 기간은 기본값(3개월)입니다.
+                - 응답은 요청한 ids 순서이며, 존재하지 않는 영역이 있으면 404 를 반환합니다.
+                """
+    )
+    public ApiData<List<AreaDetailResponse>> getAreaDetails(
+            @Parameter(description = "작업 영역 ID 목록 (콤마 구분)") @RequestParam List<Long> ids,
+            @Parameter(description = "조회할 탭 목록 (콤마 구분)") @RequestParam(required = false) Set<AreaDetailTab> tabs
+    ) {
+        return ApiData.ok(dashboardQueryService.getAreaDetails(ids, tabs));
+    }
+
+
+    @GetMapping("/areas/{id}/status-analytics")
+    @Operation(
+            summary = "작업 영역 현황 기간 분석",
+            description = """
+                from ~ to 기간의 현황 탭 지표(방식별 분포, 종별 수량, 누적 통계, 작업 횟수 추이)를 조회합니다.
+                - granularity 로 작업 횟수 추이의 집계 단위(WEEK / MONTH / QUARTER)를 지정합니다. (기본 MONTH)
+                - 데이터가 없는 구간은 0 으로 채워지며, 결과는 (영역, 기간, 단위) 별로 캐시됩니다.
+                """
+    )
+    public ApiData<AreaStatusAnalyticsResponse> getStatusAnalytics(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "MONTH") AnalyticsGranularity granularity,
+            WebRequest request
+    ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(id))) return null;
+        return ApiData.ok(areaStatusAnalyticsService.getStatusAnalytics(id, from, to, granularity));
+    }
+
+
+    @GetMapping("/areas/{id}/charts/growth")
+    @Operation(
+            summary = "성장 차트 (열 형식)",
+            description = """
+                종별 성장 길이 시계열을 열(column) 형식으로 조회합니다.
+                - 각 계열은 days(1970-01-01 기준 epoch day 정수 배열)와 values(성장 길이 mm 배열)를 가집니다.
+                - speciesIds 로 여러 종(최대 10개)을 한 번에 겹쳐 조회할 수 있으며, 생략 시 대표종만 조회합니다.
+                """
+    )
+    public ApiData<ColumnarChartResponse> getGrowthChart(
+            @PathVariable Long id,
+            @Parameter(description = "겹쳐 볼 종 ID 목록 (콤마 구분)") @RequestParam(required = false) List<Long> speciesIds,
+            WebRequest request
+    ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(id))) return null;
+        return ApiData.ok(dashboardChartService.getGrowthChart(id, speciesIds));
+    }
+
+
+    @GetMapping("/areas/{id}/charts/temperature")
+    @Operation(
+            summary = "수온 차트 (열 형식)",
+            description = """
+                전체 기간 수온 시계열을 열(column) 형식(days: epoch day, values: ℃)으로 조회합니다.
+                - maxPoints 로 점 개수를 제한합니다. (LTTB 다운샘플링, 생략 시 전체)
+                - resolution(DAY / WEEK / MONTH)을 지정하면 원본 로그 대신 사전 집계된 롤업을 읽어
+                  평균/최저/최고 수온 3개 계열을 반환합니다. (이때 maxPoints 는 적용되지 않음)
+                """
+    )
+    public ApiData<ColumnarChartResponse> getTemperatureChart(
+            @PathVariable Long id,
+            @Parameter(description = "최대 점 개수 (3 이상)") @RequestParam(required = false) Integer maxPoints,
+            @Parameter(description = "롤업 해상도 (생략 시 원본)") @RequestParam(required = false) RollupResolution resolution,
+            WebRequest request
+    ) {
+        if (notModified(request, dashboardQueryService.getAreaVersion(id))) return null;
+        return ApiData.ok(dashboardChartService.getTemperatureChart(id, maxPoints, resolution));
+    }
+
+
+    @GetMapping(value = "/areas/{id}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "로그 전체 이력 내보내기 (NDJSON)",
+            description = """
+                작업 영역의 이식/성장/수질/미디어 로그 전체 이력을 줄 단위 JSON(NDJSON)으로 스트리밍합니다.
+                - 한 줄 = {"type":"water","log":{...}} (log 는 목록 조회와 같은 형식)
+                - 이식 → 성장 → 수질 → 미디어 순서이며, 각 종류 안에서는 기록일/ID 오름차순입니다.
+                - 페이지 단위 반복 조회 없이 한 번의 요청으로 전체 기간을 받을 수 있습니다.
+                - 응답 제한 시간은 내보내기 전용 설정(기본 30분)을 따릅니다.
+                - 로그인 사용자(ROLE_USER 이상)만 호출할 수 있습니다.
+                """
+    )
+    public ResponseEntity<StreamingResponseBody> exportAreaLogs(@PathVariable Long id) {
+        dashboardExportService.assertAreaExists(id);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("area-" + id + "-logs.ndjson").build().toString())
+                .body(out -> dashboardExportService.exportAreaLogs(id, out));
     }
 
 
@@ -336,7 +740,9 @@ public class DashboardController {
     @Operation(summary = "반경 내 통계 요약", description = "반경 내 프로젝트 수, 총 면적, 평균 수심 등을 집계합니다.")
     public ApiData<AreaStatResponse> getStats(
             @RequestParam Double lat, @RequestParam Double lon,
-            @RequestParam(defaultValue = "10.0") Double radius) {
+            @RequestParam(defaultValue = "10.0") Double radius,
+            WebRequest request) {
+        if (notModified(request, dashboardQueryService.getDashboardVersion())) return null;
         return ApiData.ok(dashboardQueryService.getNearbyStats(lat, lon, radius));
     }
 
@@ -355,13 +761,80 @@ public class DashboardController {
             @Parameter(description = "최소 위도 (south)") @RequestParam Double minLat,
             @Parameter(description = "최소 경도 (west)") @RequestParam Double minLon,
             @Parameter(description = "최대 위도 (north)") @RequestParam Double maxLat,
-            @Parameter(description = "최대 경도 (east)") @RequestParam Double maxLon
+            @Parameter(description = "최대 경도 (east)") @RequestParam Double maxLon,
+            WebRequest request
+    ) {
+        DataVersion version = dashboardQueryService.getDashboardVersion();
+        if (notModified(request, version)) return null;
+        return ApiData.ok(
+                dashboardQueryService.getMarkersInBBox(minLat, minLon, maxLat, maxLon, version.etag())
+        );
+    }
+
+    @GetMapping("/markers/clusters")
+    @Operation(
+            summary = "지도 뷰포트 내 마커 클러스터",
+            description = """
+                현재 지도 화면(BBox)의 작업 영역을 줌 단계에 맞는 화면 격자 칸 단위로 묶어 조회합니다.
+                - 클러스터마다 중심 좌표, 영역 수, 면적 합계, 가장 많은 서식지를 반환합니다.
+                - 응답 개수는 화면에 들어가는 칸 수로 제한되므로 낮은 줌에서도 가볍게 사용할 수 있습니다.
+                - 최대 클러스터 줌을 넘으면 개별 영역이 count=1 클러스터로 반환됩니다. (areaId 포함)
+                """
+    )
+    public ApiData<List<MarkerClusterResponse>> getMarkerClusters(
+            @Parameter(description = "최소 위도 (south)") @RequestParam Double minLat,
+            @Parameter(description = "최소 경도 (west)") @RequestParam Double minLon,
+            @Parameter(description = "최대 위도 (north)") @RequestParam Double maxLat,
+            @Parameter(description = "최대 경도 (east)") @RequestParam Double maxLon,
+            @Parameter(description = "지도 줌 단계 (0 = 세계 전체)") @RequestParam Integer zoom,
+            WebRequest request
     ) {
+        if (notModified(request, dashboardQueryService.getDashboardVersion())) return null;
         return ApiData.ok(
-                dashboardQueryService.getMarkersInBBox(minLat, minLon, maxLat, maxLon)
+                dashboardQueryService.getMarkerClusters(minLat, minLon, maxLat, maxLon, zoom)
         );
     }
 
+    @GetMapping(value = "/tiles/{z}/{x}/{y}.mvt", produces = MVT_VALUE)
+    @Operation(
+            summary = "작업 영역 벡터 타일 (MVT)",
+            description = """
+                XYZ 타일 좌표의 작업 영역 위치를 Mapbox Vector Tile(protobuf)로 반환합니다.
+                - 레이어 "areas", 피처 ID = 영역 ID, 속성: name, habitat, level (Enum 코드)
+                - 영역이 없는 타일은 빈 본문으로 응답합니다.
+                - 전체 영역 데이터 버전 기준 ETag 로 조건부 요청(304)을 지원합니다.
+                """
+    )
+    public ResponseEntity<byte[]> getAreaTile(
+            @Parameter(description = "줌 단계") @PathVariable int z,
+            @Parameter(description = "타일 X") @PathVariable int x,
+            @Parameter(description = "타일 Y (북쪽이 0)") @PathVariable int y,
+            WebRequest request
+    ) {
+        DataVersion version = dashboardQueryService.getDashboardVersion();
+        if (notModified(request, version)) return null;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(MVT_VALUE))
+                .body(areaTileService.getTile(z, x, y, version.etag()));
+    }
+
+    @GetMapping("/heatmap")
+    @Operation(
+            summary = "작업 영역 밀도 히트맵",
+            description = """
+                전체 작업 영역을 경위도 격자 칸으로 묶어 칸별 영역 수, 면적 합계, 평균 수심을 조회합니다.
+                - 영역이 있는 칸만 반환하며, 칸 크기별로 서버에서 캐시됩니다.
+                - 개별 마커를 모두 받아 브라우저에서 집계하지 않고 히트맵 레이어를 그릴 때 사용합니다.
+                """
+    )
+    public ApiData<AreaHeatmapResponse> getAreaHeatmap(
+            @Parameter(description = "칸 크기(도), 기본값 0.1") @RequestParam(defaultValue = "0.1") Double cellSize,
+            WebRequest request
+    ) {
+        if (notModified(request, dashboardQueryService.getDashboardVersion())) return null;
+        return ApiData.ok(areaHeatmapService.getHeatmap(cellSize));
+    }
+
     @GetMapping("/markers/nearby")
     @Operation(
             summary = "반경 내 마커 목록",
@@ -374,8 +847,10 @@ public class DashboardController {
     public ApiData<List<AreaMarkerResponse>> getNearbyMarkers(
             @Parameter(description = "위도") @RequestParam Double lat,
             @Parameter(description = "경도") @RequestParam Double lon,
-            @Parameter(description = "반경(km), 기본값 5.0") @RequestParam(defaultValue = "5.0") Double radius
+            @Parameter(description = "반경(km), 기본값 5.0") @RequestParam(defaultValue = "5.0") Double radius,
+            WebRequest request
     ) {
+        if (notModified(request, dashboardQueryService.getDashboardVersion())) return null;
         return ApiData.ok(
                 dashboardQueryService.getNearbyMarkers(lat, lon, radius)
         );
@@ -393,11 +868,24 @@ public class DashboardController {
     public ApiData<List<AreaMarkerResponse>> getNearestMarkers(
             @Parameter(description = "위도") @RequestParam Double lat,
             @Parameter(description = "경도") @RequestParam Double lon,
-            @Parameter(description = "가져올 마커 개수, 기본값 3") @RequestParam(defaultValue = "3") Integer limit
+            @Parameter(description = "가져올 마커 개수, 기본값 3") @RequestParam(defaultValue = "3") Integer limit,
+            WebRequest request
     ) {
+        if (notModified(request, dashboardQueryService.getDashboardVersion())) return null;
         return ApiData.ok(
                 dashboardQueryService.getNearestMarkers(lat, lon, limit)
         );
     }
 
+    /**
+     * 조건부 GET 처리
+     * - ETag / Last-Modified 를 설정하고, 클라이언트가 가진 응답이 최신이면 true 를 반환합니다. (304, 응답 조립 생략)
+     * - Cache-Control: no-cache 로 클라이언트가 매번 재검증하도록 합니다.
+     */
+    private boolean notModified(WebRequest request, DataVersion version) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+        return request.checkNotModified(version.etag(), version.lastModified());
+    }
 }
@@ -0,0 +1,50 @@
+package com.ocean.piuda.dashboard.dto;
+
+import java.util.Arrays;
+
+/**
+ * 열(column) 단위 시계열
+ * - days: 기록일 (1970-01-01 기준 epoch day), values: 측정값
+ * - 두 배열은 같은 길이이며 days 오름차순입니다.
+ * - 박싱된 List&lt;LocalDate&gt; / List&lt;Double&gt; 대신 기본형 배열을 사용하므로 JSON 도 숫자 배열 두 개로 직렬화됩니다.
+ */
+public record ColumnarSeries(int[] days, double[] values) {
+
+    public static final ColumnarSeries EMPTY = new ColumnarSeries(new int[0], new double[0]);
+
+    public int size() {
+        return days.length;
+    }
+
+    /**
+     * 행 단위로 값을 쌓는 버퍼 (용량이 부족하면 2배로 늘림)
+     */
+    public static final class Buffer {
+        private int[] days;
+        private double[] values;
+        private int size;
+
+        public Buffer() {
+            this(64);
+        }
+
+        public Buffer(int initialCapacity) {
+            this.days = new int[Math.max(1, initialCapacity)];
+            this.values = new double[Math.max(1, initialCapacity)];
+        }
+
+        public void add(int epochDay, double value) {
+            if (size == days.length) {
+                days = Arrays.copyOf(days, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            days[size] = epochDay;
+            values[size] = value;
+            size++;
+        }
+
+        public ColumnarSeries build() {
+            return new ColumnarSeries(Arrays.copyOf(days, size), Arrays.copyOf(values, size));
+        }
+    }
+}
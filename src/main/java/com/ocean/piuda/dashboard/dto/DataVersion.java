@@ -0,0 +1,35 @@
+package com.ocean.piuda.dashboard.dto;
+
+import com.ocean.piuda.dashboard.repository.projection.AreaVersionProjection;
+import com.ocean.piuda.dashboard.repository.projection.DashboardVersionProjection;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since) 용 버전 정보
+ *
+ * @param etag         ETag 값 (따옴표는 스프링이 붙임)
+ * @param lastModified 최종 수정 시각 (epoch millis, 알 수 없으면 -1)
+ */
+public record DataVersion(String etag, long lastModified) {
+
+    /**
+     * 특정 작업 영역 기준 (영역 + 하위 로그 변경 시 dataVersion 증가)
+     */
+    public static DataVersion ofArea(Long areaId, AreaVersionProjection v) {
+        return new DataVersion("area-" + areaId + "-v" + v.getDataVersion(), toEpochMilli(v.getModifiedAt()));
+    }
+
+    /**
+     * 전체 작업 영역 기준 (목록 / 마커 / 통계)
+     */
+    public static DataVersion ofDashboard(DashboardVersionProjection v) {
+        long lastModified = toEpochMilli(v.getLastModifiedAt());
+        return new DataVersion("areas-" + v.getAreaCount() + "-" + v.getVersionSum() + "-" + lastModified, lastModified);
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
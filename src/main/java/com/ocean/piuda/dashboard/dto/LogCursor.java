@@ -0,0 +1,46 @@
+package com.ocean.piuda.dashboard.dto;
+
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 로그 목록 커서 (record_date, id)
+ * - 마지막으로 받은 행의 정렬 키이며, 다음 페이지는 이 키 "이후" 행부터 조회합니다.
+ * - 클라이언트에는 정렬 방향을 포함해 Base64(URL-safe) 로 인코딩한 불투명 문자열로 전달합니다.
+ *   (다른 정렬 방향으로 만든 커서를 넘기면 INVALID_INPUT_VALUE)
+ */
+public record LogCursor(LocalDate recordDate, long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * 첫 페이지용 시작 키
+     * - 오름차순: (from, 0) 보다 큰 행 / 내림차순: (to, Long.MAX_VALUE) 보다 작은 행
+     */
+    public static LogCursor first(boolean ascending, LocalDate from, LocalDate to) {
+        return ascending ? new LogCursor(from, 0L) : new LogCursor(to, Long.MAX_VALUE);
+    }
+
+    public String encode(boolean ascending) {
+        String raw = (ascending ? "A" : "D") + "|" + recordDate + "|" + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LogCursor decode(String cursor, boolean ascending) {
+        try {
+            String[] parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !parts[0].equals(ascending ? "A" : "D")) {
+                throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+            }
+            return new LogCursor(LocalDate.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        }
+    }
+}
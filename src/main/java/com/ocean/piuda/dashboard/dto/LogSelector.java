@@ -0,0 +1,41 @@
+package com.ocean.piuda.dashboard.dto;
+
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 대량 수정/삭제 대상 로그 선택 조건 (영역 안에서)
+ * - ID 목록 또는 기록일 구간(from ~ to, 양 끝 포함) 중 정확히 하나를 지정합니다.
+ * - 실수로 영역 전체를 바꾸지 않도록 구간은 양 끝을 모두 요구합니다.
+ */
+public record LogSelector(List<Long> ids, LocalDate from, LocalDate to) {
+
+    public static final int MAX_IDS = 10_000;
+
+    public static LogSelector of(List<Long> ids, LocalDate from, LocalDate to) {
+        boolean byIds = ids != null && !ids.isEmpty();
+        boolean byRange = from != null || to != null;
+
+        if (byIds == byRange) throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        if (byIds) {
+            if (ids.size() > MAX_IDS || ids.contains(null)) throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+            return new LogSelector(List.copyOf(ids), null, null);
+        }
+        if (from == null || to == null || from.isAfter(to)) throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        return new LogSelector(null, from, to);
+    }
+
+    public boolean byIds() {
+        return ids != null;
+    }
+
+    /**
+     * 감사 기록용 표현 ("ids=[1, 2, 3]" / "recordDate=2025-06-01~2025-06-30")
+     */
+    public String describe() {
+        return byIds() ? "ids=" + ids : "recordDate=" + from + "~" + to;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ocean.piuda.dashboard.dto;
+
+import com.ocean.piuda.dashboard.enums.TimelineSource;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 통합 타임라인 커서 (record_date, source, id)
+ * - 마지막으로 받은 항목의 정렬 키입니다. 출처별 로그 커서(LogCursor)로 변환해 각 테이블을 탐색합니다.
+ * - LogCursor 와 같은 방식으로 정렬 방향을 포함해 Base64(URL-safe) 로 인코딩합니다.
+ */
+public record TimelineCursor(LocalDate recordDate, TimelineSource source, long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * 출처 s 에서 이 키 "이후" 행을 찾기 위한 (record_date, id) 커서
+     * - 오름차순: s 가 앞 출처면 같은 날짜는 이미 지나감 (d, MAX) / 같은 출처면 (d, id) / 뒤 출처면 같은 날짜부터 (d, 0)
+     * - 내림차순: 앞 출처가 나중에 나오므로 반대로 매핑
+     */
+    public LogCursor toLogCursor(TimelineSource s, boolean ascending) {
+        int order = Integer.compare(s.ordinal(), source.ordinal());
+        if (order == 0) return new LogCursor(recordDate, id);
+
+        // 같은 날짜의 행을 이미 모두 지나친 출처인지
+        boolean passed = ascending ? order < 0 : order > 0;
+        if (ascending) return new LogCursor(recordDate, passed ? Long.MAX_VALUE : 0L);
+        return new LogCursor(recordDate, passed ? 0L : Long.MAX_VALUE);
+    }
+
+    public String encode(boolean ascending) {
+        String raw = (ascending ? "A" : "D") + "|" + recordDate + "|" + source + "|" + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TimelineCursor decode(String cursor, boolean ascending) {
+        try {
+            String[] parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 4 || !parts[0].equals(ascending ? "A" : "D")) {
+                throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+            }
+            return new TimelineCursor(LocalDate.parse(parts[1]), TimelineSource.valueOf(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ocean.piuda.dashboard.dto.request;
+
+import com.ocean.piuda.dashboard.dto.LogSelector;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 로그 대량 삭제 요청
+ * - 대상: ids 또는 기록일 구간(from, to) 중 하나
+ */
+public record BulkLogDeleteRequest(
+        @Size(max = LogSelector.MAX_IDS) List<Long> ids,
+        LocalDate from,
+        LocalDate to
+) {
+    public LogSelector selector() {
+        return LogSelector.of(ids, from, to);
+    }
+}
@@ -0,0 +1,25 @@
+package com.ocean.piuda.dashboard.dto.request;
+
+import com.ocean.piuda.dashboard.dto.LogSelector;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 로그 대량 수정 요청
+ * - 대상: ids 또는 기록일 구간(from, to) 중 하나
+ * - changes: 단건 수정과 같은 형식이며, null 이 아닌 값만 모든 대상 로그에 반영합니다.
+ */
+public record BulkLogUpdateRequest<T>(
+        @Size(max = LogSelector.MAX_IDS) List<Long> ids,
+        LocalDate from,
+        LocalDate to,
+        @NotNull @Valid T changes
+) {
+    public LogSelector selector() {
+        return LogSelector.of(ids, from, to);
+    }
+}
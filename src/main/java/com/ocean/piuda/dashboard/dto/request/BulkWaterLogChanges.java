@@ -0,0 +1,20 @@
+package com.ocean.piuda.dashboard.dto.request;
+
+import com.ocean.piuda.dashboard.enums.MarineStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 환경 로그 대량 수정 값
+ * - 단건 수정(UpdateWaterLogRequest) 항목 + temperatureOffset
+ * - temperatureOffset: 기존 수온에 더할 보정값 (계측 장비 보정용, temperature 와 함께 지정 불가)
+ */
+public record BulkWaterLogChanges(
+        LocalDate recordDate,
+        Double temperature,
+        Double temperatureOffset,
+        MarineStatus visibility,
+        MarineStatus current,
+        MarineStatus surge,
+        MarineStatus wave
+) {}
@@ -0,0 +1,50 @@
+package com.ocean.piuda.dashboard.dto.request;
+
+import com.ocean.piuda.dashboard.dto.LogCursor;
+import com.ocean.piuda.dashboard.enums.LogSort;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 로그 목록 커서 페이지 요청
+ * - cursor 를 생략하면 첫 페이지입니다.
+ * - 정렬은 기록일 기준(RECORD_DATE_DESC / RECORD_DATE_ASC)만 지원합니다. (동일 날짜는 id 순)
+ */
+@Data
+public class LogCursorRequest {
+
+    private String cursor;
+
+    @Min(value = 1, message = "사이즈는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "사이즈는 100 이하여야 합니다.")
+    private int size = 20;
+
+    private LogSort sort = LogSort.RECORD_DATE_DESC;
+
+    public void setSort(LogSort sort) {
+        this.sort = sort == null ? LogSort.RECORD_DATE_DESC : sort;
+    }
+
+    public boolean isAscending() {
+        return switch (sort) {
+            case RECORD_DATE_ASC -> true;
+            case RECORD_DATE_DESC -> false;
+            default -> throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        };
+    }
+
+    /**
+     * 요청 커서 (없으면 기간 경계의 시작 키)
+     */
+    public LogCursor resolveCursor(LocalDate from, LocalDate to) {
+        boolean ascending = isAscending();
+        return (cursor == null || cursor.isBlank())
+                ? LogCursor.first(ascending, from, to)
+                : LogCursor.decode(cursor, ascending);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ocean.piuda.dashboard.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.ocean.piuda.dashboard.dto.TimeSeriesChartDto;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,8 +9,13 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 작업 영역 상세 응답
+ * - tabs 파라미터로 일부 탭만 요청한 경우, 요청되지 않은 탭은 응답에서 생략됩니다.
+ */
 @Builder
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class AreaDetailResponse {
     private Long id;
     private OverviewTab overview;
@@ -37,6 +43,7 @@ public class AreaDetailResponse {
         private Double lat;
         private Double lon;
         private String attachmentStatus; // "안정", "일부 감소" 등
+        private WaterStatsResponse waterStats; // 수온 누적 통계 (수질 로그가 없으면 null)
     }
 
     /**
@@ -103,7 +110,8 @@ public class AreaDetailResponse {
     @Builder
     @Getter
     public static class EnvironmentTab {
-        private EnvironmentSummary last3MonthsSummary;
+        private Integer summaryMonths;                // 요약 기간 (개월, 기본 3)
+        private EnvironmentSummary last3MonthsSummary; // 최근 summaryMonths 개월 요약 (필드명은 호환을 위해 유지)
         private TimeSeriesChartDto temperatureChart; // 수온 시계열
     }
 
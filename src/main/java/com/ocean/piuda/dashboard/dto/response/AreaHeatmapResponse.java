@@ -0,0 +1,25 @@
+package com.ocean.piuda.dashboard.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 작업 영역 밀도 히트맵
+ * - 영역이 있는 칸만 포함합니다. (남쪽 -> 북쪽, 서쪽 -> 동쪽 순)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AreaHeatmapResponse {
+
+    /** 칸 크기 (경위도, 도 단위) */
+    private Double cellSize;
+
+    /** 집계에 포함된 전체 영역 수 */
+    private Integer totalCount;
+
+    private List<HeatmapCellResponse> cells;
+}
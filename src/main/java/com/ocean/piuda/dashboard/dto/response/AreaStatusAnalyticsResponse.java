@@ -0,0 +1,21 @@
+package com.ocean.piuda.dashboard.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 작업 영역 현황 기간 분석 응답
+ * - status 는 상세 조회의 현황 탭과 같은 구조이며, 모든 값이 from ~ to 기간 기준입니다.
+ * - status.workHistoryChart 는 granularity 단위 버킷 시작일을 라벨로 사용합니다. (데이터가 없는 버킷은 0)
+ */
+@Getter
+@Builder
+public class AreaStatusAnalyticsResponse {
+    private Long areaId;
+    private LocalDate from;
+    private LocalDate to;
+    private String granularity;   // "주" / "월" / "분기"
+    private AreaDetailResponse.StatusTab status;
+}
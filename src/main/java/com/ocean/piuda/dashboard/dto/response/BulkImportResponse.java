@@ -0,0 +1,21 @@
+package com.ocean.piuda.dashboard.dto.response;
+
+import java.util.List;
+
+/**
+ * 대량 적재 결과
+ * - 형식/검증 오류가 있는 행은 건너뛰고 나머지 행만 적재합니다.
+ * - errors 는 최대 개수까지만 담으며, 넘치면 errorsTruncated=true 입니다. (failedRows 는 전체 개수)
+ */
+public record BulkImportResponse(
+        long totalRows,
+        long insertedRows,
+        long failedRows,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+    /**
+     * line: 입력의 물리적 줄 번호 (1부터, CSV 는 헤더가 1행)
+     */
+    public record RowError(long line, String message) {}
+}
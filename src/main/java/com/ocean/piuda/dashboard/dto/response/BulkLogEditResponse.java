@@ -0,0 +1,8 @@
+package com.ocean.piuda.dashboard.dto.response;
+
+/**
+ * 로그 대량 수정/삭제 결과
+ * - affectedRows: 실제로 바뀐 행 수 (다른 영역의 ID 는 제외됨)
+ * - auditId: 남긴 감사 기록 ID
+ */
+public record BulkLogEditResponse(int affectedRows, Long auditId) {}
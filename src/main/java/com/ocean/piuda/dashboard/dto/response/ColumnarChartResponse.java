@@ -0,0 +1,35 @@
+package com.ocean.piuda.dashboard.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 열(column) 형식 차트 응답
+ * - 각 계열(series)은 days(epoch day 정수 배열)와 values(실수 배열)를 가집니다.
+ * - 클라이언트에서 날짜는 new Date(day * 86400000) 으로 복원합니다.
+ *
+ * 예) {"areaId":1,"metric":"growth","unit":"mm",
+ *      "series":[{"speciesId":3,"name":"감태","days":[20089,20120],"values":[12.5,18.0]}]}
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ColumnarChartResponse {
+    private Long areaId;
+    private String metric;   // "growth" / "temperature"
+    private String unit;
+    private String resolution; // 롤업 해상도 (DAY / WEEK / MONTH), 원본 조회는 null
+    private List<Series> series;
+
+    @Getter
+    @Builder
+    public static class Series {
+        private Long speciesId; // 수온 차트는 null
+        private String name;
+        private int[] days;
+        private double[] values;
+    }
+}
@@ -0,0 +1,31 @@
+package com.ocean.piuda.dashboard.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 히트맵 격자 칸 하나의 집계
+ * - 칸은 남서쪽 모서리(minLat, minLon)부터 cellSize(도) 크기의 경위도 사각형입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class HeatmapCellResponse {
+
+    private Double minLat;
+    private Double minLon;
+
+    /** 칸 중심 좌표 */
+    private Double centerLat;
+    private Double centerLon;
+
+    /** 작업 영역 수 */
+    private Integer count;
+
+    /** 면적 합계 */
+    private Double totalAreaSize;
+
+    /** 평균 수심 (수심이 기록된 영역 기준, 없으면 null) */
+    private Double avgDepth;
+}
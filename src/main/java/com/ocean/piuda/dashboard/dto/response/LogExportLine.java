@@ -0,0 +1,11 @@
+package com.ocean.piuda.dashboard.dto.response;
+
+/**
+ * NDJSON 내보내기 한 줄
+ * - type: transplant / growth / water / media
+ * - log: 목록/단건 조회와 같은 로그 응답 DTO
+ *
+ * 예) {"type":"water","log":{"id":12,"recordDate":[2025,7,3],"temperature":18.5,...}}
+ */
+public record LogExportLine(String type, Object log) {
+}
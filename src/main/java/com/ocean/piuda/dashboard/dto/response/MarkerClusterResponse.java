@@ -0,0 +1,32 @@
+package com.ocean.piuda.dashboard.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 지도 마커 클러스터 DTO
+ * - 줌 단계의 격자 칸 하나에 묶인 작업 영역 요약
+ * - count 가 1 이면 개별 영역이며 areaId 로 상세 정보를 조회할 수 있습니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MarkerClusterResponse {
+
+    /** 클러스터 중심 (소속 영역 좌표 평균) */
+    private Double lat;
+    private Double lon;
+
+    /** 소속 영역 수 */
+    private Integer count;
+
+    /** 소속 영역 면적 합계 */
+    private Double totalAreaSize;
+
+    /** 가장 많은 서식지 한글 설명 (예: "암반") */
+    private String dominantHabitat;
+
+    /** 개별 영역 ID (count == 1 일 때만) */
+    private Long areaId;
+}
@@ -27,6 +27,8 @@ public class ProjectAreaListItemResponse {
     private Double lat;
     private Double lon;
 
+    private WaterStatsResponse waterStats; // 수온 누적 통계 (수질 로그가 없으면 null)
+
     public static ProjectAreaListItemResponse from(ProjectArea a) {
         return ProjectAreaListItemResponse.builder()
                 .id(a.getId())
@@ -41,6 +43,7 @@ public class ProjectAreaListItemResponse {
                 .attachmentStatus(a.getAttachmentStatus() != null ? a.getAttachmentStatus().getName() : null)
                 .lat(a.getLat())
                 .lon(a.getLon())
+                .waterStats(WaterStatsResponse.from(a.getWaterStats()))
                 .build();
     }
 }
@@ -0,0 +1,21 @@
+package com.ocean.piuda.dashboard.dto.response;
+
+import com.ocean.piuda.dashboard.enums.TimelineSource;
+
+import java.time.LocalDate;
+
+/**
+ * 통합 타임라인 항목
+ * - log: 출처별 로그 응답 DTO (TransplantLogResponse / GrowthLogResponse / WaterLogResponse / MediaLogResponse)
+ */
+public record TimelineItemResponse(
+        TimelineSource type,
+        String typeName,
+        LocalDate recordDate,
+        Long id,
+        Object log
+) {
+    public static TimelineItemResponse of(TimelineSource type, LocalDate recordDate, Long id, Object log) {
+        return new TimelineItemResponse(type, type.getName(), recordDate, id, log);
+    }
+}
@@ -0,0 +1,41 @@
+package com.ocean.piuda.dashboard.dto.response;
+
+import com.ocean.piuda.dashboard.entity.WaterStats;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 수온 누적 통계 (영역 행에 저장된 값을 그대로 노출, 추가 집계 쿼리 없음)
+ * - variance / stddev 는 표본 기준이며 2건 미만이면 null
+ */
+@Getter
+@Builder
+public class WaterStatsResponse {
+    private long count;
+    private Double mean;
+    private Double variance;
+    private Double stddev;
+    private Double min;
+    private Double max;
+    private LocalDate lastRecordDate;
+    private Double lastTemperature;
+
+    /**
+     * 수질 로그가 없으면 null
+     */
+    public static WaterStatsResponse from(WaterStats s) {
+        if (s == null || s.getSampleCount() == 0) return null;
+        return WaterStatsResponse.builder()
+                .count(s.getSampleCount())
+                .mean(s.getMean())
+                .variance(s.getVariance())
+                .stddev(s.getStddev())
+                .min(s.getMin())
+                .max(s.getMax())
+                .lastRecordDate(s.getLastRecordDate())
+                .lastTemperature(s.getLastTemperature())
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.ocean.piuda.dashboard.entity;
+
+import com.ocean.piuda.dashboard.enums.TransplantMethod;
+import com.ocean.piuda.global.api.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 작업 영역별 이식 요약 (비정규화 집계 테이블)
+ * - 이식 로그 생성/수정/삭제 시 증분으로 갱신됩니다.
+ * - 현황 탭은 transplant_logs 전체 집계 대신 이 테이블의 PK 단건 조회로 구성됩니다.
+ * - 관리자 재계산(rebuild) 작업으로 언제든 원본 로그에서 다시 만들 수 있습니다.
+ */
+@Entity
+@Table(name = "area_transplant_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AreaTransplantSummary extends BaseEntity {
+
+    @Id
+    @Column(name = "area_id")
+    private Long areaId;
+
+    @Column(nullable = false)
+    private long totalCount;        // 전체 이식 로그 수
+
+    @Column(nullable = false)
+    private double totalArea;       // 누적 이식 면적 (m2)
+
+    private LocalDate lastWorkDate; // 마지막 작업일
+
+    // 이식 방식별 로그 수
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private Map<TransplantMethod, Long> methodCounts = new HashMap<>();
+
+    // 월별 작업 횟수 (key: "yyyy-MM")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private Map<String, Long> monthlyCounts = new HashMap<>();
+
+    // 종 x 방식별 수량 합계
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private List<SpeciesMethodTotal> speciesMethodTotals = new ArrayList<>();
+
+    public static AreaTransplantSummary empty(Long areaId) {
+        AreaTransplantSummary summary = new AreaTransplantSummary();
+        summary.areaId = areaId;
+        return summary;
+    }
+
+    /**
+     * 이식 로그 1건 반영
+     */
+    public void add(TransplantContribution c) {
+        apply(c, 1);
+        if (lastWorkDate == null || c.recordDate().isAfter(lastWorkDate)) lastWorkDate = c.recordDate();
+    }
+
+    /**
+     * 이식 로그 1건 제거
+     *
+     * @return 마지막 작업일을 다시 계산해야 하면 true (제거된 로그가 마지막 작업일의 로그였던 경우)
+     */
+    public boolean remove(TransplantContribution c) {
+        apply(c, -1);
+        return c.recordDate().equals(lastWorkDate);
+    }
+
+    public void updateLastWorkDate(LocalDate lastWorkDate) {
+        this.lastWorkDate = lastWorkDate;
+    }
+
+    /**
+     * 원본 로그 집계 결과로 전체 덮어쓰기 (재계산용)
+     */
+    public void overwrite(
+            long totalCount,
+            double totalArea,
+            LocalDate lastWorkDate,
+            Map<TransplantMethod, Long> methodCounts,
+            Map<String, Long> monthlyCounts,
+            List<SpeciesMethodTotal> speciesMethodTotals
+    ) {
+        this.totalCount = totalCount;
+        this.totalArea = totalArea;
+        this.lastWorkDate = lastWorkDate;
+        this.methodCounts = new HashMap<>(methodCounts);
+        this.monthlyCounts = new HashMap<>(monthlyCounts);
+        this.speciesMethodTotals = new ArrayList<>(speciesMethodTotals);
+    }
+
+    private void apply(TransplantContribution c, int sign) {
+        totalCount += sign;
+        totalArea += sign * c.areaSize();
+
+        // JSON 컬럼은 새 컬렉션을 할당해야 변경 감지가 확실하게 동작
+        Map<TransplantMethod, Long> methods = new HashMap<>(methodCounts);
+        merge(methods, c.method(), sign);
+        methodCounts = methods;
+
+        Map<String, Long> months = new HashMap<>(monthlyCounts);
+        merge(months, monthKey(c.recordDate()), sign);
+        monthlyCounts = months;
+
+        List<SpeciesMethodTotal> totals = new ArrayList<>();
+        boolean found = false;
+        for (SpeciesMethodTotal t : speciesMethodTotals) {
+            if (Objects.equals(t.speciesId(), c.speciesId()) && t.method() == c.method()) {
+                found = true;
+                long quantity = t.quantity() + (long) sign * c.count();
+                if (quantity > 0) totals.add(new SpeciesMethodTotal(t.speciesId(), c.speciesName(), t.method(), quantity));
+            } else {
+                totals.add(t);
+            }
+        }
+        if (!found && sign > 0) {
+            totals.add(new SpeciesMethodTotal(c.speciesId(), c.speciesName(), c.method(), c.count()));
+        }
+        speciesMethodTotals = totals;
+    }
+
+    private static <K> void merge(Map<K, Long> map, K key, int sign) {
+        long next = map.getOrDefault(key, 0L) + sign;
+        if (next > 0) map.put(key, next);
+        else map.remove(key);
+    }
+
+    public static String monthKey(LocalDate date) {
+        return String.format("%04d-%02d", date.getYear(), date.getMonthValue());
+    }
+
+    /**
+     * 종 x 방식별 수량 합계
+     */
+    public record SpeciesMethodTotal(
+            Long speciesId,
+            String speciesName,
+            TransplantMethod method,
+            long quantity
+    ) { }
+
+    /**
+     * 이식 로그 1건이 요약에 기여하는 값 (수정 전/후 스냅샷 비교용)
+     */
+    public record TransplantContribution(
+            TransplantMethod method,
+            Long speciesId,
+            String speciesName,
+            LocalDate recordDate,
+            double areaSize,
+            int count
+    ) {
+        public static TransplantContribution of(TransplantLog log) {
+            return new TransplantContribution(
+                    log.getMethod(),
+                    log.getSpecies().getId(),
+                    log.getSpecies().getName(),
+                    log.getRecordDate(),
+                    log.getAreaSize() != null ? log.getAreaSize() : 0.0,
+                    log.getCount() != null ? log.getCount() : 0
+            );
+        }
+    }
+}
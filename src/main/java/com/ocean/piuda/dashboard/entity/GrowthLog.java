@@ -9,7 +9,10 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "growth_logs")
+@Table(name = "growth_logs", indexes = {
+        @Index(name = "idx_growth_logs_area_species_date", columnList = "area_id, species_id, record_date"),
+        @Index(name = "idx_growth_logs_area_date_id", columnList = "area_id, record_date, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,48 @@
+package com.ocean.piuda.dashboard.entity;
+
+import com.ocean.piuda.dashboard.enums.BulkEditAction;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.global.api.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 로그 대량 수정/삭제 감사 기록
+ * - 대량 작업 1회당 1건을 남깁니다. (행마다 남기지 않음)
+ * - 영역이 삭제되어도 기록이 남도록 영역은 FK 없이 ID 로만 보관합니다.
+ */
+@Entity
+@Table(name = "log_bulk_edit_audits", indexes = {
+        @Index(name = "idx_log_bulk_edit_audits_area", columnList = "area_id, created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class LogBulkEditAudit extends BaseEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "area_id", nullable = false)
+    private Long areaId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private DashboardChangeType logType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private BulkEditAction action;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String selector;        // 대상 조건 (LogSelector.describe)
+
+    @Column(columnDefinition = "text")
+    private String changes;         // 수정 값 JSON (삭제면 null)
+
+    @Column(nullable = false)
+    private int affectedRows;
+
+    @Column(nullable = false, length = 100)
+    private String performedBy;
+}
@@ -8,7 +8,9 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "media_logs")
+@Table(name = "media_logs", indexes = {
+        @Index(name = "idx_media_logs_area_date_id", columnList = "area_id, record_date, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -10,6 +10,7 @@ import com.ocean.piuda.global.util.GeometryUtils;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import org.locationtech.jts.geom.Point;
 
 import java.time.LocalDate;
@@ -89,6 +90,18 @@ public class ProjectArea extends BaseEntity {
     @Column(columnDefinition = "geometry(Point, 4326)")
     private Point location;
 
+    // 수온 누적 통계 (수질 로그 변경 시 WaterStatsService 가 갱신)
+    @Embedded
+    @Builder.Default
+    private WaterStats waterStats = WaterStats.empty();
+
+    // 변경 버전: 영역 또는 하위 로그가 바뀔 때마다 증가 (조회 API 의 ETag 계산용)
+    // - 엔티티 값으로 덮어쓰지 않도록 updatable = false, 증가는 ProjectAreaRepository.incrementDataVersion 으로만 합니다.
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private long dataVersion = 0L;
+
 
     /**
      * lat, lon -> GIS location set 편의 메서드
@@ -144,6 +157,18 @@ public class ProjectArea extends BaseEntity {
         this.representativeSpecies = species;
     }
 
+    /**
+     * 수온 누적 통계 (컬럼이 모두 비어 null 로 로딩된 경우 빈 통계로 초기화)
+     */
+    public WaterStats getWaterStats() {
+        if (waterStats == null) waterStats = WaterStats.empty();
+        return waterStats;
+    }
+
+    public void replaceWaterStats(WaterStats waterStats) {
+        this.waterStats = waterStats;
+    }
+
 
 
     // --- 연관관계 편의 메서드 ---
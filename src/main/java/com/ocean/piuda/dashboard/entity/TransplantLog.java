@@ -10,7 +10,10 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "transplant_logs")
+@Table(name = "transplant_logs", indexes = {
+        // 로그 목록 커서 페이지 (record_date, id) 탐색
+        @Index(name = "idx_transplant_logs_area_date_id", columnList = "area_id, record_date, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
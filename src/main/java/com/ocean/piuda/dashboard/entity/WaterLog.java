@@ -8,7 +8,10 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "water_logs")
+@Table(name = "water_logs", indexes = {
+        // 영역별 기간 조회 / 최신 기록일(MAX) / 환경 요약 구간 스캔 / 로그 목록 커서 페이지
+        @Index(name = "idx_water_logs_area_date_id", columnList = "area_id, record_date, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
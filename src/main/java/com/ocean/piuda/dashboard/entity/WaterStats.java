@@ -0,0 +1,145 @@
+package com.ocean.piuda.dashboard.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDate;
+
+/**
+ * 작업 영역 수온 누적 통계 (project_areas 행에 내장)
+ * - 개수/평균/편차제곱합(M2)은 Welford 알고리즘으로 로그 1건마다 O(1) 갱신합니다.
+ * - 최저/최고/마지막 기록은 제거 시 되돌릴 수 없으므로, 해당 값을 가진 로그가 빠지면
+ *   remove 가 false 를 반환하고 호출 측이 원본 로그로 다시 계산합니다.
+ * - 영역 조회(개요/목록) 시 함께 읽히므로 별도 집계 쿼리가 필요 없습니다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WaterStats {
+
+    @ColumnDefault("0")
+    @Column(name = "water_sample_count", nullable = false)
+    private long sampleCount;
+
+    @Column(name = "water_temp_mean")
+    private Double mean;
+
+    @Column(name = "water_temp_m2")
+    private Double m2;            // 평균과의 편차 제곱합 (분산 = m2 / (n - 1))
+
+    @Column(name = "water_temp_min")
+    private Double min;
+
+    @Column(name = "water_temp_max")
+    private Double max;
+
+    @Column(name = "water_last_log_id")
+    private Long lastLogId;
+
+    @Column(name = "water_last_record_date")
+    private LocalDate lastRecordDate;
+
+    @Column(name = "water_last_temperature")
+    private Double lastTemperature;
+
+    public static WaterStats empty() {
+        return new WaterStats();
+    }
+
+    /**
+     * 원본 로그 집계 결과로 생성 (variancePop: 모분산)
+     */
+    public static WaterStats of(
+            long sampleCount, Double mean, Double variancePop, Double min, Double max,
+            Long lastLogId, LocalDate lastRecordDate, Double lastTemperature
+    ) {
+        WaterStats stats = new WaterStats();
+        if (sampleCount == 0) return stats;
+
+        stats.sampleCount = sampleCount;
+        stats.mean = mean;
+        stats.m2 = variancePop != null ? variancePop * sampleCount : 0.0;
+        stats.min = min;
+        stats.max = max;
+        stats.lastLogId = lastLogId;
+        stats.lastRecordDate = lastRecordDate;
+        stats.lastTemperature = lastTemperature;
+        return stats;
+    }
+
+    /**
+     * 표본 분산 (2건 미만이면 null)
+     */
+    public Double getVariance() {
+        return sampleCount > 1 ? m2 / (sampleCount - 1) : null;
+    }
+
+    public Double getStddev() {
+        Double variance = getVariance();
+        return variance != null ? Math.sqrt(variance) : null;
+    }
+
+    public void add(long logId, LocalDate recordDate, double temperature) {
+        if (sampleCount == 0) {
+            sampleCount = 1;
+            mean = temperature;
+            m2 = 0.0;
+            min = temperature;
+            max = temperature;
+        } else {
+            sampleCount++;
+            double delta = temperature - mean;
+            mean += delta / sampleCount;
+            m2 += delta * (temperature - mean);
+            min = Math.min(min, temperature);
+            max = Math.max(max, temperature);
+        }
+
+        if (lastRecordDate == null || isAfterLast(logId, recordDate)) {
+            lastLogId = logId;
+            lastRecordDate = recordDate;
+            lastTemperature = temperature;
+        }
+    }
+
+    /**
+     * 로그 1건 제거
+     *
+     * @return 증분 상태가 여전히 유효하면 true, 최저/최고/마지막 기록이 빠져 재계산이 필요하면 false
+     */
+    public boolean remove(long logId, double temperature) {
+        if (sampleCount <= 1) {
+            reset();
+            return true;
+        }
+        if (temperature <= min || temperature >= max || Long.valueOf(logId).equals(lastLogId)) {
+            return false;
+        }
+
+        double newMean = (sampleCount * mean - temperature) / (sampleCount - 1);
+        m2 = Math.max(0.0, m2 - (temperature - mean) * (temperature - newMean));
+        mean = newMean;
+        sampleCount--;
+        return true;
+    }
+
+    private boolean isAfterLast(long logId, LocalDate recordDate) {
+        int cmp = recordDate.compareTo(lastRecordDate);
+        return cmp > 0 || (cmp == 0 && lastLogId != null && logId > lastLogId);
+    }
+
+    private void reset() {
+        sampleCount = 0;
+        mean = null;
+        m2 = null;
+        min = null;
+        max = null;
+        lastLogId = null;
+        lastRecordDate = null;
+        lastTemperature = null;
+    }
+}
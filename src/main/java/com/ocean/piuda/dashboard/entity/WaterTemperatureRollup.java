@@ -0,0 +1,54 @@
+package com.ocean.piuda.dashboard.entity;
+
+import com.ocean.piuda.dashboard.enums.RollupResolution;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 작업 영역별 수온 롤업 (일/주/월 버킷)
+ * - 수질 로그 생성 시 해당 버킷에 증분(upsert)으로 반영하고,
+ *   수정/삭제 시에는 영향을 받은 버킷만 원본 로그로 다시 계산합니다. (최소/최대는 증분으로 되돌릴 수 없음)
+ * - 관리자 재계산(rebuild) 작업으로 언제든 원본 로그에서 다시 만들 수 있습니다.
+ * - 행은 native upsert 로만 기록하므로 감사 컬럼(BaseEntity)을 두지 않습니다.
+ */
+@Entity
+@Table(name = "water_temperature_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_water_temperature_rollups_bucket", columnNames = {"area_id", "resolution", "bucket_start"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WaterTemperatureRollup {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "area_id", nullable = false)
+    private Long areaId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupResolution resolution;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;   // 버킷 시작일 (주: 월요일, 월: 1일)
+
+    @Column(nullable = false)
+    private long sampleCount;        // 기록 수
+
+    @Column(nullable = false)
+    private double temperatureSum;   // 평균 계산용 합계
+
+    @Column(nullable = false)
+    private double temperatureMin;
+
+    @Column(nullable = false)
+    private double temperatureMax;
+
+    public double getTemperatureAvg() {
+        return sampleCount > 0 ? temperatureSum / sampleCount : 0.0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ocean.piuda.dashboard.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 기간 분석 집계 단위
+ * - truncUnit 은 PostgreSQL DATE_TRUNC 단위이며, truncate 는 같은 규칙(주: 월요일 시작)으로 Java 에서 버킷을 계산합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AnalyticsGranularity {
+    WEEK("week", "주"),
+    MONTH("month", "월"),
+    QUARTER("quarter", "분기");
+
+    private final String truncUnit;
+    private final String name;
+
+    /**
+     * 날짜가 속한 버킷의 시작일
+     */
+    public LocalDate truncate(LocalDate date) {
+        return switch (this) {
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case QUARTER -> LocalDate.of(date.getYear(), ((date.getMonthValue() - 1) / 3) * 3 + 1, 1);
+        };
+    }
+
+    /**
+     * 다음 버킷의 시작일
+     */
+    public LocalDate next(LocalDate bucketStart) {
+        return switch (this) {
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+            case QUARTER -> bucketStart.plusMonths(3);
+        };
+    }
+}
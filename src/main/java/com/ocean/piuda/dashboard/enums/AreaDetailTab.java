@@ -0,0 +1,20 @@
+package com.ocean.piuda.dashboard.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 작업 영역 상세 조회의 탭 구분
+ * - tabs 파라미터로 필요한 탭만 골라 조회할 때 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AreaDetailTab {
+    OVERVIEW("개요"),
+    STATUS("현황"),
+    ECOLOGY("생태 반응"),
+    ENVIRONMENT("환경"),
+    PHOTOS("사진");
+
+    private final String name;
+}
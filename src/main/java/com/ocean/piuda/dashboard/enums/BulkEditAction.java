@@ -0,0 +1,16 @@
+package com.ocean.piuda.dashboard.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그 대량 작업 종류 (감사 기록용)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BulkEditAction {
+    UPDATE("수정"),
+    DELETE("삭제");
+
+    private final String name;
+}
@@ -0,0 +1,21 @@
+package com.ocean.piuda.dashboard.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대시보드 데이터 변경 종류
+ * - DashboardChangedEvent 와 함께 발행되어, 캐시 등 파생 데이터가 무엇이 바뀌었는지 구분할 때 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DashboardChangeType {
+    AREA("작업 영역"),
+    REPRESENTATIVE_SPECIES("대표종"),
+    TRANSPLANT("이식 로그"),
+    GROWTH("생장 로그"),
+    WATER("수중 환경 로그"),
+    MEDIA("미디어 로그");
+
+    private final String name;
+}
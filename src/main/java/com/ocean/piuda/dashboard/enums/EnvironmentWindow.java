@@ -0,0 +1,35 @@
+package com.ocean.piuda.dashboard.enums;
+
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * 환경 탭 요약 기간 (가장 최근 기록일 기준 N개월)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EnvironmentWindow {
+    ONE_MONTH(1, "최근 1개월"),
+    THREE_MONTHS(3, "최근 3개월"),
+    SIX_MONTHS(6, "최근 6개월"),
+    TWELVE_MONTHS(12, "최근 12개월");
+
+    public static final EnvironmentWindow DEFAULT = THREE_MONTHS;
+
+    private final int months;
+    private final String name;
+
+    /**
+     * 개월 수 -> 기간 (1/3/6/12 외의 값은 INVALID_INPUT_VALUE)
+     */
+    public static EnvironmentWindow ofMonths(int months) {
+        return Arrays.stream(values())
+                .filter(w -> w.months == months)
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ExceptionType.INVALID_INPUT_VALUE));
+    }
+}
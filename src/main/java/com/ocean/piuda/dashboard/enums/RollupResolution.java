@@ -0,0 +1,45 @@
+package com.ocean.piuda.dashboard.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 수온 롤업 해상도
+ * - truncUnit 은 PostgreSQL DATE_TRUNC 단위이며, truncate 는 같은 규칙(주: 월요일 시작)으로 Java 에서 버킷을 계산합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RollupResolution {
+    DAY("day", "일"),
+    WEEK("week", "주"),
+    MONTH("month", "월");
+
+    private final String truncUnit;
+    private final String name;
+
+    /**
+     * 날짜가 속한 버킷의 시작일
+     */
+    public LocalDate truncate(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * 다음 버킷의 시작일
+     */
+    public LocalDate next(LocalDate bucketStart) {
+        return switch (this) {
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.ocean.piuda.dashboard.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 통합 타임라인의 로그 출처
+ * - 선언 순서가 같은 기록일 안에서의 정렬 순서입니다. (이식 → 성장 → 수질 → 미디어, 내림차순이면 반대)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TimelineSource {
+    TRANSPLANT("이식"),
+    GROWTH("성장"),
+    WATER("수질"),
+    MEDIA("미디어");
+
+    private final String name;
+}
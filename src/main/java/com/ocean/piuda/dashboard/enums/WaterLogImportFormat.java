@@ -0,0 +1,27 @@
+package com.ocean.piuda.dashboard.enums;
+
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import org.springframework.http.MediaType;
+
+/**
+ * 수질 로그 대량 적재 입력 형식 (요청 Content-Type 으로 결정)
+ */
+public enum WaterLogImportFormat {
+    CSV,
+    NDJSON;
+
+    public static final String CSV_VALUE = "text/csv";
+
+    public static WaterLogImportFormat from(String contentType) {
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        }
+        if (mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) return CSV;
+        if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) return NDJSON;
+        throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+    }
+}
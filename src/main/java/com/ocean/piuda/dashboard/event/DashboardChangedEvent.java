@@ -0,0 +1,14 @@
+package com.ocean.piuda.dashboard.event;
+
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+
+/**
+ * 대시보드 데이터 변경 이벤트
+ * - DashboardCommandService 의 모든 변경 메서드에서 발행됩니다.
+ * - 구독자는 @TransactionalEventListener(AFTER_COMMIT) 로 받아 커밋된 변경만 반영합니다.
+ *
+ * @param areaId 변경된 작업 영역 ID
+ * @param type   변경 종류
+ */
+public record DashboardChangedEvent(Long areaId, DashboardChangeType type) {
+}
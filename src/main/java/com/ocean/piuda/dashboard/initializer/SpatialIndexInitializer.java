@@ -0,0 +1,62 @@
+package com.ocean.piuda.dashboard.initializer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+/**
+ * project_areas 공간 인덱스 생성 (PostgreSQL/PostGIS 전용)
+ * - @Table 인덱스로는 GiST / 식(expression) 인덱스를 만들 수 없어, 스키마 갱신 이후 시작 시점에 보장합니다.
+ * - idx_project_areas_location      : geometry GiST (BBox `&&`, KNN `<->`)
+ * - idx_project_areas_location_geog : CAST(location AS geography) 식 GiST (반경 ST_DWithin(geography))
+ *   - 반경 쿼리의 `CAST(p.location AS geography)` 와 같은 식이어야 인덱스가 사용됩니다.
+ * - IF NOT EXISTS 로 여러 번 실행해도 안전합니다.
+ */
+@Slf4j
+@Component
+@Order(0)
+public class SpatialIndexInitializer implements CommandLineRunner {
+
+    public static final List<String> STATEMENTS = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_project_areas_location ON project_areas USING GIST (location)",
+            "CREATE INDEX IF NOT EXISTS idx_project_areas_location_geog ON project_areas USING GIST ((CAST(location AS geography)))"
+    );
+
+    private final DataSource dataSource;
+    private final boolean enabled;
+
+    public SpatialIndexInitializer(
+            DataSource dataSource,
+            @Value("${dashboard.spatial-index.auto-create:true}") boolean enabled
+    ) {
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!enabled) return;
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            if (!"PostgreSQL".equals(product)) {
+                log.info("공간 인덱스 생성 생략 - database={}", product);
+                return;
+            }
+
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            STATEMENTS.forEach(jdbcTemplate::execute);
+            log.info("project_areas 공간 인덱스 확인 완료");
+        } catch (Exception e) {
+            // 인덱스가 없어도 기능은 동작하므로 기동은 계속 (반경/BBox 쿼리가 느려질 뿐)
+            log.warn("project_areas 공간 인덱스 생성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ocean.piuda.dashboard.initializer;
+
+import com.ocean.piuda.dashboard.service.WaterStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수온 누적 통계 보정
+ * - 통계 컬럼이 추가되기 전부터 있던 영역은 표본 수 0 으로 시작하므로, 기동 시 실제 로그 수와 다른 영역만 재계산합니다.
+ * - 이미 맞는 영역은 건드리지 않아 여러 번 실행해도 안전합니다. (초기 데이터 적재 이후 실행)
+ */
+@Slf4j
+@Component
+@Order(2)
+public class WaterStatsBackfillInitializer implements CommandLineRunner {
+
+    private final WaterStatsService waterStatsService;
+    private final boolean enabled;
+
+    public WaterStatsBackfillInitializer(
+            WaterStatsService waterStatsService,
+            @Value("${dashboard.water-stats.backfill-on-startup:true}") boolean enabled
+    ) {
+        this.waterStatsService = waterStatsService;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!enabled) return;
+        try {
+            waterStatsService.rebuildStale();
+        } catch (Exception e) {
+            // 관리자 재계산 API 로도 보정할 수 있으므로 기동은 계속
+            log.warn("수온 누적 통계 보정 실패", e);
+        }
+    }
+}
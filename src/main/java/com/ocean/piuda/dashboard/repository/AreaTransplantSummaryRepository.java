@@ -0,0 +1,41 @@
+package com.ocean.piuda.dashboard.repository;
+
+import com.ocean.piuda.dashboard.entity.AreaTransplantSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AreaTransplantSummaryRepository extends JpaRepository<AreaTransplantSummary, Long> {
+
+    /**
+     * 증분 갱신용 조회 (동시 갱신 시 유실 방지를 위해 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AreaTransplantSummary s WHERE s.areaId = :areaId")
+    Optional<AreaTransplantSummary> findForUpdate(@Param("areaId") Long areaId);
+
+    /**
+     * 요약 행이 없으면 빈 행 생성 (이미 있으면 아무것도 하지 않음)
+     * - 요약 행이 없는 영역에 이식 로그가 동시에 쓰여도 뒤의 트랜잭션은 앞의 커밋을 기다렸다가 넘어가므로
+     *   같은 PK 를 두 번 INSERT 해 사용자 쓰기가 롤백되지 않습니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO area_transplant_summaries
+               (area_id, total_count, total_area, method_counts, monthly_counts, species_method_totals, created_at, modified_at)
+        VALUES (:areaId, 0, 0, CAST('{}' AS jsonb), CAST('{}' AS jsonb), CAST('[]' AS jsonb), LOCALTIMESTAMP, LOCALTIMESTAMP)
+        ON CONFLICT (area_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertEmptyIfAbsent(@Param("areaId") Long areaId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM AreaTransplantSummary s WHERE s.areaId = :areaId")
+    int deleteByAreaId(@Param("areaId") Long areaId);
+}
@@ -0,0 +1,80 @@
+package com.ocean.piuda.dashboard.repository;
+
+import com.ocean.piuda.dashboard.dto.ColumnarSeries;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 차트용 열(column) 시계열 로더
+ * - 필요한 두 컬럼(기록일, 값)만 읽어 기본형 배열에 바로 쌓습니다. (엔티티 / 프록시 / 박싱 객체 생성 없음)
+ * - 기록일은 SQL 에서 epoch day 정수로 변환합니다. (record_date - DATE '1970-01-01')
+ * - fetch size 를 지정해 긴 시계열도 드라이버가 나눠 읽도록 합니다. (트랜잭션 내부에서 호출)
+ */
+@Repository
+public class ChartSeriesJdbcRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ChartSeriesJdbcRepository(DataSource dataSource) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+    }
+
+    /**
+     * 종별 성장 길이 시계열 (species_id -> series)
+     * - 데이터가 없는 종은 결과에 포함되지 않습니다.
+     */
+    public Map<Long, ColumnarSeries> findGrowthSeries(Long areaId, Collection<Long> speciesIds) {
+        Map<Long, ColumnarSeries.Buffer> buffers = new HashMap<>();
+
+        jdbcTemplate.query("""
+                SELECT species_id,
+                       (record_date - DATE '1970-01-01') AS epoch_day,
+                       growth_length
+                  FROM growth_logs
+                 WHERE area_id = :areaId
+                   AND species_id IN (:speciesIds)
+                 ORDER BY species_id, record_date, id
+                """,
+                new MapSqlParameterSource()
+                        .addValue("areaId", areaId)
+                        .addValue("speciesIds", speciesIds),
+                (RowCallbackHandler) rs -> buffers
+                        .computeIfAbsent(rs.getLong(1), id -> new ColumnarSeries.Buffer())
+                        .add(rs.getInt(2), rs.getDouble(3)));
+
+        Map<Long, ColumnarSeries> result = new HashMap<>();
+        buffers.forEach((speciesId, buffer) -> result.put(speciesId, buffer.build()));
+        return result;
+    }
+
+    /**
+     * 수온 시계열 (전체 기간)
+     */
+    public ColumnarSeries findTemperatureSeries(Long areaId) {
+        ColumnarSeries.Buffer buffer = new ColumnarSeries.Buffer(256);
+
+        jdbcTemplate.query("""
+                SELECT (record_date - DATE '1970-01-01') AS epoch_day,
+                       temperature
+                  FROM water_logs
+                 WHERE area_id = :areaId
+                 ORDER BY record_date, id
+                """,
+                new MapSqlParameterSource("areaId", areaId),
+                (RowCallbackHandler) rs -> buffer.add(rs.getInt(1), rs.getDouble(2)));
+
+        return buffer.build();
+    }
+}
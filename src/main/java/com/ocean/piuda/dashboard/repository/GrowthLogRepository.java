@@ -1,21 +1,50 @@
 package com.ocean.piuda.dashboard.repository;
 
 import com.ocean.piuda.dashboard.entity.GrowthLog;
-import org.springframework.data.domain.Page;
+import com.ocean.piuda.dashboard.repository.projection.AreaGrowthPointProjection;
+import com.ocean.piuda.dashboard.repository.projection.GrowthPointProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface GrowthLogRepository extends JpaRepository<GrowthLog, Long> {
     Optional<GrowthLog> findByIdAndProjectAreaId(Long id, Long projectAreaId);
 
+    /**
+     * 영역 삭제용 일괄 삭제 (행 단위 로딩 없이 DELETE 1회)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM GrowthLog x WHERE x.projectArea.id = :areaId")
+    int deleteAllByAreaId(@Param("areaId") Long areaId);
+
+    /**
+     * 내보내기(NDJSON)용 전체 이력 스트림 (기록일, id 오름차순)
+     * - 페이지/카운트 쿼리 없이 서버 측 커서에서 fetch size 단위로 읽습니다. (호출 측 트랜잭션 안에서 소비하고 닫아야 함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT g FROM GrowthLog g LEFT JOIN FETCH g.species WHERE g.projectArea.id = :areaId ORDER BY g.recordDate, g.id")
+    Stream<GrowthLog> streamAllByAreaId(@Param("areaId") Long areaId);
+
 
     /**
      * 특정 작업 영역(ProjectArea)의 "특정 종" 성장 로그 조회 (대표종 차트용)
@@ -23,9 +52,82 @@ public interface GrowthLogRepository extends JpaRepository<GrowthLog, Long> {
      */
     List<GrowthLog> findAllByProjectAreaIdAndSpeciesIdOrderByRecordDateAsc(Long projectAreaId, Long speciesId);
 
+    /**
+     * 대표종 성장 차트용 프로젝션 (기록일, 성장 길이 두 컬럼만 조회)
+     * - 엔티티를 만들지 않으므로 영속성 컨텍스트에 적재되지 않습니다.
+     */
+    @Query("""
+        SELECT g.recordDate AS recordDate, g.growthLength AS growthLength
+        FROM GrowthLog g
+        WHERE g.projectArea.id = :areaId AND g.species.id = :speciesId
+        ORDER BY g.recordDate ASC, g.id ASC
+    """)
+    List<GrowthPointProjection> findGrowthPoints(@Param("areaId") Long areaId, @Param("speciesId") Long speciesId);
+
+    /**
+     * 상세 조회용: 영역의 대표종 성장 기록 (대표종이 없으면 빈 리스트)
+     * - 영역 엔티티를 먼저 읽지 않아도 되므로 다른 탭 쿼리와 동시에 실행할 수 있습니다.
+     */
+    @Query("""
+        SELECT g.recordDate AS recordDate, g.growthLength AS growthLength
+        FROM GrowthLog g JOIN g.projectArea a
+        WHERE a.id = :areaId AND g.species.id = a.representativeSpecies.id
+        ORDER BY g.recordDate ASC, g.id ASC
+    """)
+    List<GrowthPointProjection> findRepresentativeGrowthPoints(@Param("areaId") Long areaId);
+
+    /**
+     * 다중 영역 상세 조회용: 영역마다 그 영역의 대표종 성장 기록만 한 번에 조회
+     * - 대표종이 없는 영역은 결과에 포함되지 않습니다.
+     */
+    @Query("""
+        SELECT a.id AS areaId, g.recordDate AS recordDate, g.growthLength AS growthLength
+        FROM GrowthLog g JOIN g.projectArea a
+        WHERE a.id IN :areaIds AND g.species.id = a.representativeSpecies.id
+        ORDER BY a.id, g.recordDate ASC, g.id ASC
+    """)
+    List<AreaGrowthPointProjection> findRepresentativeGrowthPointsByAreaIds(@Param("areaIds") Collection<Long> areaIds);
+
+    /**
+     * 페이지 본문 (size + 1 건 조회, COUNT 없음 - 전체 개수는 countBy... + PageCountCache)
+     */
     @EntityGraph(attributePaths = {"species"})
-    Page<GrowthLog> findAllByProjectAreaIdAndRecordDateBetween(
+    Slice<GrowthLog> findAllByProjectAreaIdAndRecordDateBetween(
             Long projectAreaId, LocalDate from, LocalDate to, Pageable pageable
     );
 
+    long countByProjectAreaIdAndRecordDateBetween(Long projectAreaId, LocalDate from, LocalDate to);
+
+    /**
+     * 커서 페이지 (기록일, id 오름차순)
+     */
+    @EntityGraph(attributePaths = {"species"})
+    @Query("""
+        SELECT g FROM GrowthLog g
+        WHERE g.projectArea.id = :areaId
+          AND g.recordDate BETWEEN :from AND :to
+          AND (g.recordDate, g.id) > (:cursorDate, :cursorId)
+        ORDER BY g.recordDate ASC, g.id ASC
+    """)
+    List<GrowthLog> findPageAfterCursor(
+            @Param("areaId") Long areaId, @Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("cursorDate") LocalDate cursorDate, @Param("cursorId") long cursorId, Limit limit
+    );
+
+    /**
+     * 커서 페이지 (기록일, id 내림차순)
+     */
+    @EntityGraph(attributePaths = {"species"})
+    @Query("""
+        SELECT g FROM GrowthLog g
+        WHERE g.projectArea.id = :areaId
+          AND g.recordDate BETWEEN :from AND :to
+          AND (g.recordDate, g.id) < (:cursorDate, :cursorId)
+        ORDER BY g.recordDate DESC, g.id DESC
+    """)
+    List<GrowthLog> findPageBeforeCursor(
+            @Param("areaId") Long areaId, @Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("cursorDate") LocalDate cursorDate, @Param("cursorId") long cursorId, Limit limit
+    );
+
 }
@@ -0,0 +1,7 @@
+package com.ocean.piuda.dashboard.repository;
+
+import com.ocean.piuda.dashboard.entity.LogBulkEditAudit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LogBulkEditAuditRepository extends JpaRepository<LogBulkEditAudit, Long> {
+}
@@ -0,0 +1,72 @@
+package com.ocean.piuda.dashboard.repository;
+
+import com.ocean.piuda.dashboard.dto.LogSelector;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 로그 대량 수정/삭제 (집합 단위 UPDATE / DELETE 1문장)
+ * - 로그 엔티티를 로딩하지 않으므로, 대상 행 수와 무관하게 실행되는 문장이 1개입니다.
+ * - 대상은 항상 해당 영역(projectArea.id)으로 한정하며, 다른 영역의 ID 는 무시됩니다.
+ * - 영속성 컨텍스트를 우회하므로 실행 전에 대기 중인 변경을 flush 합니다. (modifiedAt 도 직접 갱신)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogBulkEditRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * @param assignments 속성명 → 대입할 값
+     * @param increments  속성명 → 기존 값에 더할 값
+     * @return 수정된 행 수
+     */
+    public <T> int update(
+            Class<T> logType, Long areaId, LogSelector selector,
+            Map<String, Object> assignments, Map<String, Double> increments
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(logType);
+        Root<T> root = update.from(logType);
+
+        assignments.forEach((attribute, value) -> update.set(root.get(attribute), value));
+        increments.forEach((attribute, delta) ->
+                update.set(root.<Double>get(attribute), cb.sum(root.<Double>get(attribute), delta)));
+        update.set(root.<LocalDateTime>get("modifiedAt"), LocalDateTime.now());
+        update.where(target(cb, root, areaId, selector));
+
+        entityManager.flush();
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    /**
+     * @return 삭제된 행 수
+     */
+    public <T> int delete(Class<T> logType, Long areaId, LogSelector selector) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<T> delete = cb.createCriteriaDelete(logType);
+        Root<T> root = delete.from(logType);
+        delete.where(target(cb, root, areaId, selector));
+
+        entityManager.flush();
+        return entityManager.createQuery(delete).executeUpdate();
+    }
+
+    private Predicate target(CriteriaBuilder cb, Root<?> root, Long areaId, LogSelector selector) {
+        Predicate inArea = cb.equal(root.get("projectArea").get("id"), areaId);
+        Predicate selected = selector.byIds()
+                ? root.get("id").in(selector.ids())
+                : cb.between(root.<LocalDate>get("recordDate"), selector.from(), selector.to());
+        return cb.and(inArea, selected);
+    }
+}
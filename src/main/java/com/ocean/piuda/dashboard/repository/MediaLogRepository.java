@@ -1,14 +1,24 @@
 package com.ocean.piuda.dashboard.repository;
 
 import com.ocean.piuda.dashboard.entity.MediaLog;
+import com.ocean.piuda.dashboard.repository.projection.AreaMediaPointProjection;
 import com.ocean.piuda.dashboard.repository.projection.MediaPointProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
 
@@ -17,14 +27,79 @@ public interface MediaLogRepository extends JpaRepository<MediaLog, Long> {
 
     Optional<MediaLog> findByIdAndProjectAreaId(Long id, Long projectAreaId);
 
+    /**
+     * 영역 삭제용 일괄 삭제 (행 단위 로딩 없이 DELETE 1회)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM MediaLog x WHERE x.projectArea.id = :areaId")
+    int deleteAllByAreaId(@Param("areaId") Long areaId);
+
+    /**
+     * 내보내기(NDJSON)용 전체 이력 스트림 (기록일, id 오름차순)
+     * - 페이지/카운트 쿼리 없이 서버 측 커서에서 fetch size 단위로 읽습니다. (호출 측 트랜잭션 안에서 소비하고 닫아야 함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM MediaLog m WHERE m.projectArea.id = :areaId ORDER BY m.recordDate, m.id")
+    Stream<MediaLog> streamAllByAreaId(@Param("areaId") Long areaId);
+
 
     /**
      * 특정 영역의 모든 사진 데이터를 날짜순으로 조회
      */
     List<MediaPointProjection> findAllByProjectAreaIdOrderByRecordDateAsc(Long areaId);
 
-    Page<MediaLog> findAllByProjectAreaIdAndRecordDateBetween(
+    /**
+     * 다중 영역 사진 조회 (영역, 날짜 순)
+     */
+    @Query("""
+        SELECT m.projectArea.id AS areaId, m.mediaUrl AS mediaUrl, m.recordDate AS recordDate,
+               m.caption AS caption, m.category AS category
+        FROM MediaLog m
+        WHERE m.projectArea.id IN :areaIds
+        ORDER BY m.projectArea.id, m.recordDate ASC
+    """)
+    List<AreaMediaPointProjection> findMediaPointsByAreaIds(@Param("areaIds") Collection<Long> areaIds);
+
+    /**
+     * 페이지 본문 (size + 1 건 조회, COUNT 없음 - 전체 개수는 countBy... + PageCountCache)
+     */
+    Slice<MediaLog> findAllByProjectAreaIdAndRecordDateBetween(
             Long projectAreaId, LocalDate from, LocalDate to, Pageable pageable
     );
 
-}
\ No newline at end of file
+    long countByProjectAreaIdAndRecordDateBetween(Long projectAreaId, LocalDate from, LocalDate to);
+
+    /**
+     * 커서 페이지 (기록일, id 오름차순)
+     */
+    @Query("""
+        SELECT m FROM MediaLog m
+        WHERE m.projectArea.id = :areaId
+          AND m.recordDate BETWEEN :from AND :to
+          AND (m.recordDate, m.id) > (:cursorDate, :cursorId)
+        ORDER BY m.recordDate ASC, m.id ASC
+    """)
+    List<MediaLog> findPageAfterCursor(
+            @Param("areaId") Long areaId, @Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("cursorDate") LocalDate cursorDate, @Param("cursorId") long cursorId, Limit limit
+    );
+
+    /**
+     * 커서 페이지 (기록일, id 내림차순)
+     */
+    @Query("""
+        SELECT m FROM MediaLog m
+        WHERE m.projectArea.id = :areaId
+          AND m.recordDate BETWEEN :from AND :to
+          AND (m.recordDate, m.id) < (:cursorDate, :cursorId)
+        ORDER BY m.recordDate DESC, m.id DESC
+    """)
+    List<MediaLog> findPageBeforeCursor(
+            @Param("areaId") Long areaId, @Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("cursorDate") LocalDate cursorDate, @Param("cursorId") long cursorId, Limit limit
+    );
+
+}
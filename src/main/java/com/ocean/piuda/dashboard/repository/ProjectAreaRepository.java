@@ -1,17 +1,113 @@
 package com.ocean.piuda.dashboard.repository;
 
 import com.ocean.piuda.dashboard.entity.ProjectArea;
+import com.ocean.piuda.dashboard.repository.projection.AreaIdVersionProjection;
 import com.ocean.piuda.dashboard.repository.projection.AreaMarkerProjection;
 import com.ocean.piuda.dashboard.repository.projection.AreaStatProjection;
+import com.ocean.piuda.dashboard.repository.projection.AreaVersionProjection;
+import com.ocean.piuda.dashboard.repository.projection.DashboardVersionProjection;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProjectAreaRepository extends JpaRepository<ProjectArea, Long> , JpaSpecificationExecutor<ProjectArea> {
+public interface ProjectAreaRepository extends JpaRepository<ProjectArea, Long> , JpaSpecificationExecutor<ProjectArea>,
+        ProjectAreaSliceRepository {
+
+    /**
+     * 전체 작업 영역 ID 목록 (관리자 재계산 작업용)
+     */
+    @Query("SELECT p.id FROM ProjectArea p ORDER BY p.id")
+    List<Long> findAllIds();
+
+    /**
+     * 수온 누적 통계의 표본 수가 실제 수질 로그 수와 다른 영역 ID 목록
+     * - 통계 컬럼 추가 이전부터 있던 영역(기본값 0) 등 재계산이 필요한 영역을 찾습니다.
+     */
+    @Query(value = """
+        SELECT p.area_id
+          FROM project_areas p
+          LEFT JOIN (SELECT area_id, COUNT(*) AS log_count FROM water_logs GROUP BY area_id) w
+                 ON w.area_id = p.area_id
+         WHERE p.water_sample_count <> COALESCE(w.log_count, 0)
+         ORDER BY p.area_id
+        """, nativeQuery = true)
+    List<Long> findAreaIdsWithStaleWaterStats();
+
+    /**
+     * 영역 행 잠금 조회 (수온 누적 통계처럼 영역 행에 내장된 값을 증분 갱신할 때, 동시 갱신 유실 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM ProjectArea p WHERE p.id = :id")
+    Optional<ProjectArea> findForUpdate(@Param("id") Long id);
+
+    /**
+     * 영역 행만 삭제 (하위 로그는 각 로그 저장소의 deleteAllByAreaId 로 먼저 삭제)
+     * - 엔티티를 로딩하지 않으므로 컬렉션 cascade 가 동작하지 않습니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ProjectArea p WHERE p.id = :id")
+    int deleteByIdInBulk(@Param("id") Long id);
+
+    /**
+     * 다중 영역 상세 조회용: 대표종을 함께 로딩 (영역마다 프록시 초기화 쿼리가 나가지 않도록)
+     */
+    @EntityGraph(attributePaths = {"representativeSpecies"})
+    List<ProjectArea> findAllByIdIn(Collection<Long> ids);
+
+    /**
+     * 상세 조회용: 대표종을 함께 로딩 (탭 로더 트랜잭션이 끝난 뒤에도 응답 조립에 쓸 수 있도록)
+     */
+    @EntityGraph(attributePaths = {"representativeSpecies"})
+    Optional<ProjectArea> findWithRepresentativeSpeciesById(Long id);
+
+    /**
+     * 영역 변경 버전 +1 (modifiedAt 도 함께 갱신)
+     * - 엔티티 값을 읽어 다시 쓰지 않고 DB 에서 증가시키므로, 동시에 커밋된 쓰기끼리 같은 버전을 만들지 않습니다.
+     *   (UPDATE 가 영역 행을 잠그므로 뒤따르는 쓰기는 앞의 커밋을 본 뒤 증가)
+     */
+    @Modifying
+    @Query("UPDATE ProjectArea p SET p.dataVersion = p.dataVersion + 1, p.modifiedAt = LOCAL DATETIME WHERE p.id = :id")
+    int incrementDataVersion(@Param("id") Long id);
+
+    /**
+     * 특정 영역의 변경 버전 (조건부 GET 용, 응답 조립 전에 실행)
+     */
+    @Query("""
+        SELECT p.dataVersion AS dataVersion, p.modifiedAt AS modifiedAt
+        FROM ProjectArea p
+        WHERE p.id = :id
+        """)
+    Optional<AreaVersionProjection> findVersionById(@Param("id") Long id);
+
+    /**
+     * 여러 영역의 변경 버전 (다중 상세 조회에서 버전별 캐시 조회용)
+     */
+    @Query("""
+        SELECT p.id AS areaId, p.dataVersion AS dataVersion, p.modifiedAt AS modifiedAt
+        FROM ProjectArea p
+        WHERE p.id IN :ids
+        """)
+    List<AreaIdVersionProjection> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 전체 영역의 변경 버전 (목록/마커/통계 조건부 GET 용)
+     * - 생성/삭제는 영역 수, 수정(하위 로그 포함)은 버전 합계와 최종 수정 시각으로 감지합니다.
+     */
+    @Query("""
+        SELECT COUNT(p) AS areaCount, COALESCE(SUM(p.dataVersion), 0) AS versionSum, MAX(p.modifiedAt) AS lastModifiedAt
+        FROM ProjectArea p
+        """)
+    DashboardVersionProjection findDashboardVersion();
 
     // 1. 상세 엔티티 조회용 공간쿼리 (Deprecated / 현재 미사용)
     /**
@@ -68,6 +164,8 @@ public interface ProjectAreaRepository extends JpaRepository<ProjectArea, Long>
     );
 
     // 4. 반경 내 통계 (Aggregation) -> Interface Projection 반환
+    // - 반경 조건의 CAST(p.location AS geography) 는 식 인덱스(idx_project_areas_location_geog)와 같은 식이어야 합니다.
+    //   (SpatialIndexInitializer, 실행 계획 회귀 테스트: ProjectAreaSpatialPlanTest)
     @Query(value = """
         SELECT 
             count(*)                      AS totalCount, 
@@ -116,6 +214,7 @@ public interface ProjectAreaRepository extends JpaRepository<ProjectArea, Long>
     /**
      * 중심 좌표와 반경(미터) 기준 마커 목록
      * - 지도/리스트에서 주변 마커를 표시할 때 사용
+     * - geography 식 GiST 인덱스로 후보를 좁힌 뒤 정확한 측지 거리로 판정 (ST_DWithin)
      */
     @Query(value = """
         SELECT 
@@ -142,6 +241,26 @@ public interface ProjectAreaRepository extends JpaRepository<ProjectArea, Long>
     );
 
 
+    /**
+     * 전체 마커 목록 (위치가 있는 영역만)
+     * - 메모리 공간 인덱스(AreaMarkerIndex) 스냅샷 구성용
+     */
+    @Query(value = """
+        SELECT 
+            p.area_id        AS id,
+            p.name           AS name,
+            ST_Y(p.location) AS lat,
+            ST_X(p.location) AS lon,
+            p.start_date     AS startDate,
+            p.depth          AS depth,
+            p.area_size      AS areaSize,
+            p.habitat        AS habitat,
+            p.level          AS level
+        FROM project_areas p
+        WHERE p.location IS NOT NULL
+        """, nativeQuery = true)
+    List<AreaMarkerProjection> findAllMarkers();
+
     /**
      * KNN 기반 가장 가까운 N개 마커 목록
      * - 거리순(가까운 순)으로 정렬된 마커 요약 데이터를 반환합니다.
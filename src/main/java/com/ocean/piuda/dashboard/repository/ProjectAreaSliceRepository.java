@@ -0,0 +1,16 @@
+package com.ocean.piuda.dashboard.repository;
+
+import com.ocean.piuda.dashboard.entity.ProjectArea;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 작업 영역 목록 Slice 조회 (ProjectAreaRepository 프래그먼트)
+ * - JpaSpecificationExecutor.findAll(spec, pageable) 은 항상 COUNT 를 함께 실행하므로,
+ *   본문만 size + 1 건 조회하는 경로를 따로 둡니다. (개수는 count(spec) + PageCountCache)
+ */
+public interface ProjectAreaSliceRepository {
+
+    Slice<ProjectArea> findSlice(Specification<ProjectArea> spec, Pageable pageable);
+}
@@ -4,24 +4,49 @@ import com.ocean.piuda.bio.entity.Species;
 import com.ocean.piuda.dashboard.entity.TransplantLog;
 import com.ocean.piuda.dashboard.entity.WaterLog;
 import com.ocean.piuda.dashboard.repository.projection.*;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransplantLogRepository extends JpaRepository<TransplantLog, Long> {
 
     Optional<TransplantLog> findByIdAndProjectAreaId(Long id, Long projectAreaId);
 
+    /**
+     * 영역 삭제용 일괄 삭제 (행 단위 로딩 없이 DELETE 1회)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TransplantLog x WHERE x.projectArea.id = :areaId")
+    int deleteAllByAreaId(@Param("areaId") Long areaId);
+
+    /**
+     * 내보내기(NDJSON)용 전체 이력 스트림 (기록일, id 오름차순)
+     * - 페이지/카운트 쿼리 없이 서버 측 커서에서 fetch size 단위로 읽습니다. (호출 측 트랜잭션 안에서 소비하고 닫아야 함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TransplantLog t LEFT JOIN FETCH t.species WHERE t.projectArea.id = :areaId ORDER BY t.recordDate, t.id")
+    Stream<TransplantLog> streamAllByAreaId(@Param("areaId") Long areaId);
+
 
     /**
      * 이식 방식별 최신 착생 상태
@@ -87,11 +112,130 @@ public interface TransplantLogRepository extends JpaRepository<TransplantLog, Lo
     """)
     List<TransplantItemProjection> findTransplantItems(@Param("areaId") Long areaId);
 
+    /**
+     * 종(ID 포함) x 방식별 수량 합계 (요약 테이블 재계산용)
+     */
+    @Query("""
+            SELECT t.species.id as speciesId,
+                   t.species.name as speciesName,
+                   t.method as methodName,
+                   SUM(t.count) as totalCount
+            FROM TransplantLog t
+            WHERE t.projectArea.id = :areaId
+            GROUP BY t.species.id, t.species.name, t.method
+    """)
+    List<SpeciesMethodTotalProjection> findSpeciesMethodTotals(@Param("areaId") Long areaId);
+
+    /**
+     * 전체 기간 월별 작업 횟수 (요약 테이블 재계산용)
+     */
+    @Query(value = """
+        SELECT (DATE_TRUNC('month', record_date))::date as month, COUNT(*) as count
+        FROM transplant_logs
+        WHERE area_id = :areaId
+        GROUP BY month
+        ORDER BY month ASC
+        """, nativeQuery = true)
+    List<WorkHistoryPointProjection> findMonthlyWorkCounts(@Param("areaId") Long areaId);
+
+    /**
+     * 마지막 작업일 (요약 테이블의 마지막 작업일 보정용)
+     */
+    @Query("SELECT MAX(t.recordDate) FROM TransplantLog t WHERE t.projectArea.id = :areaId")
+    LocalDate findLastRecordDate(@Param("areaId") Long areaId);
+
+    /**
+     * 현황 기간 분석: 기간 내 로그를 (버킷, 방식, 종) 단위로 한 번에 집계
+     * - 분포 / 종별 수량 / 누적 통계 / 버킷별 작업 횟수를 모두 이 결과로 계산합니다.
+     * - unit: DATE_TRUNC 단위 (week / month / quarter)
+     */
+    @Query(value = """
+        SELECT (DATE_TRUNC(CAST(:unit AS text), t.record_date))::date AS bucket,
+               t.method        AS methodName,
+               s.species_id    AS speciesId,
+               s.name          AS speciesName,
+               COUNT(*)        AS logCount,
+               SUM(t.count)    AS quantity,
+               SUM(t.area_size) AS areaSize,
+               MAX(t.record_date) AS lastDate
+          FROM transplant_logs t
+          JOIN species s ON s.species_id = t.species_id
+         WHERE t.area_id = :areaId
+           AND t.record_date BETWEEN :from AND :to
+         GROUP BY bucket, t.method, s.species_id, s.name
+        """, nativeQuery = true)
+    List<StatusBucketProjection> findStatusBuckets(
+            @Param("areaId") Long areaId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("unit") String unit
+    );
+
+    // ------------------------------------------------------------
+    // 다중 영역 상세 조회용 (영역 ID 목록 IN + GROUP BY 영역)
+    // ------------------------------------------------------------
+
+    /**
+     * 영역 x 방식별 최신 착생 상태
+     */
+    @Query(value = """
+    SELECT DISTINCT ON (t.area_id, t.method)
+        t.area_id as areaId,
+        t.method as methodName,
+        t.attachment_status as statusName
+    FROM transplant_logs t
+    WHERE t.area_id IN (:areaIds)
+   ORDER BY t.area_id, t.method, t.record_date DESC NULLS LAST, t.id DESC
+   """, nativeQuery = true)
+    List<AreaMethodAttachmentStatusProjection> findLatestAttachmentStatusPerMethodByAreaIds(
+            @Param("areaIds") Collection<Long> areaIds
+    );
+
+    @Query("SELECT t.projectArea.id as areaId, t.method as methodName, COUNT(t) as count FROM TransplantLog t " +
+            "WHERE t.projectArea.id IN :areaIds GROUP BY t.projectArea.id, t.method")
+    List<AreaMethodDistributionProjection> findMethodDistributionByAreaIds(@Param("areaIds") Collection<Long> areaIds);
+
+    @Query("""
+       SELECT t.projectArea.id as areaId,
+              COUNT(t) as totalCount,
+              MAX(t.recordDate) as lastDate,
+              COALESCE(SUM(t.areaSize), 0) as totalArea
+       FROM TransplantLog t
+       WHERE t.projectArea.id IN :areaIds
+       GROUP BY t.projectArea.id""")
+    List<AreaAccumulatedStatsProjection> getAccumulatedStatsByAreaIds(@Param("areaIds") Collection<Long> areaIds);
+
+    @Query(value = """
+        SELECT area_id as areaId, (DATE_TRUNC('month', record_date))::date as month, COUNT(*) as count
+        FROM transplant_logs
+        WHERE area_id IN (:areaIds)
+        GROUP BY area_id, month
+        ORDER BY area_id, month ASC
+        """, nativeQuery = true)
+    List<AreaWorkHistoryPointProjection> findMonthlyWorkCountsByAreaIds(@Param("areaIds") Collection<Long> areaIds);
+
+    @Query("""
+            SELECT t.projectArea.id as areaId,
+                   t.species.id as speciesId,
+                   t.species.name as speciesName,
+                   t.method as methodName,
+                   SUM(t.count) as totalCount
+            FROM TransplantLog t
+            WHERE t.projectArea.id IN :areaIds
+            GROUP BY t.projectArea.id, t.species.id, t.species.name, t.method
+    """)
+    List<AreaSpeciesMethodTotalProjection> findSpeciesMethodTotalsByAreaIds(@Param("areaIds") Collection<Long> areaIds);
+
+    /**
+     * 페이지 본문 (size + 1 건 조회, COUNT 없음 - 전체 개수는 countBy... + PageCountCache)
+     */
     @EntityGraph(attributePaths = {"species"})
-    Page<TransplantLog> findAllByProjectAreaIdAndRecordDateBetween(
+    Slice<TransplantLog> findAllByProjectAreaIdAndRecordDateBetween(
             Long projectAreaId, LocalDate from, LocalDate to, Pageable pageable
     );
 
+    long countByProjectAreaIdAndRecordDateBetween(Long projectAreaId, LocalDate from, LocalDate to);
+
     /**
      * 특정 영역에 이식된 적이 있는 모든 종(Species) 목록 조회 (중복 제거)
      * - 드롭다운 후보군 제공용
@@ -99,4 +243,37 @@ public interface TransplantLogRepository extends JpaRepository<TransplantLog, Lo
     @Query("SELECT DISTINCT t.species FROM TransplantLog t WHERE t.projectArea.id = :areaId")
     List<Species> findDistinctSpeciesByAreaId(@Param("areaId") Long areaId);
 
+    /**
+     * 커서 페이지 (기록일, id 오름차순): (recordDate, id) 가 커서보다 큰 행부터
+     * - 복합 인덱스 (area_id, record_date, id) 를 커서 위치부터 순서대로 읽습니다. (COUNT 없음)
+     */
+    @EntityGraph(attributePaths = {"species"})
+    @Query("""
+        SELECT t FROM TransplantLog t
+        WHERE t.projectArea.id = :areaId
+          AND t.recordDate BETWEEN :from AND :to
+          AND (t.recordDate, t.id) > (:cursorDate, :cursorId)
+        ORDER BY t.recordDate ASC, t.id ASC
+    """)
+    List<TransplantLog> findPageAfterCursor(
+            @Param("areaId") Long areaId, @Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("cursorDate") LocalDate cursorDate, @Param("cursorId") long cursorId, Limit limit
+    );
+
+    /**
+     * 커서 페이지 (기록일, id 내림차순): (recordDate, id) 가 커서보다 작은 행부터
+     */
+    @EntityGraph(attributePaths = {"species"})
+    @Query("""
+        SELECT t FROM TransplantLog t
+        WHERE t.projectArea.id = :areaId
+          AND t.recordDate BETWEEN :from AND :to
+          AND (t.recordDate, t.id) < (:cursorDate, :cursorId)
+        ORDER BY t.recordDate DESC, t.id DESC
+    """)
+    List<TransplantLog> findPageBeforeCursor(
+            @Param("areaId") Long areaId, @Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("cursorDate") LocalDate cursorDate, @Param("cursorId") long cursorId, Limit limit
+    );
+
 }
@@ -0,0 +1,56 @@
+package com.ocean.piuda.dashboard.repository;
+
+import com.ocean.piuda.dashboard.dto.request.CreateWaterLogRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 수질 로그 대량 적재
+ * - 엔티티/영속성 컨텍스트를 거치지 않고 JDBC 배치 INSERT 로 적재합니다.
+ * - id 는 컬럼 기본값(IDENTITY)으로 채워지며 생성 키를 돌려받지 않으므로 드라이버가 배치로 전송합니다.
+ * - 호출 측 트랜잭션(JPA)과 같은 커넥션을 사용합니다.
+ */
+@Repository
+public class WaterLogJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WaterLogJdbcRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * rows 전체를 배치 1회로 적재합니다.
+     *
+     * @return 적재된 행 수
+     */
+    public int insertBatch(Long areaId, List<CreateWaterLogRequest> rows) {
+        if (rows.isEmpty()) return 0;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO water_logs
+                       (area_id, record_date, temperature, visibility, "current", surge, wave, created_at, modified_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """,
+                rows, rows.size(),
+                (ps, row) -> {
+                    ps.setLong(1, areaId);
+                    ps.setDate(2, Date.valueOf(row.recordDate()));
+                    ps.setDouble(3, row.temperature());
+                    ps.setString(4, row.visibility().name());
+                    ps.setString(5, row.current().name());
+                    ps.setString(6, row.surge().name());
+                    ps.setString(7, row.wave().name());
+                    ps.setTimestamp(8, now);
+                    ps.setTimestamp(9, now);
+                });
+        return rows.size();
+    }
+}
@@ -1,17 +1,28 @@
 package com.ocean.piuda.dashboard.repository;
 
 import com.ocean.piuda.dashboard.entity.WaterLog;
+import com.ocean.piuda.dashboard.repository.projection.AreaMarineStatusCountProjection;
+import com.ocean.piuda.dashboard.repository.projection.AreaTemperaturePointProjection;
 import com.ocean.piuda.dashboard.repository.projection.EnvironmentSummaryProjection;
+import com.ocean.piuda.dashboard.repository.projection.MarineStatusCountProjection;
 import com.ocean.piuda.dashboard.repository.projection.TemperaturePointProjection;
+import com.ocean.piuda.dashboard.repository.projection.WaterStatsProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
 
@@ -21,6 +32,46 @@ public interface WaterLogRepository extends JpaRepository<WaterLog, Long> {
 
     Optional<WaterLog> findByIdAndProjectAreaId(Long id, Long projectAreaId);
 
+    /**
+     * 영역 삭제용 일괄 삭제 (행 단위 로딩 없이 DELETE 1회)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM WaterLog x WHERE x.projectArea.id = :areaId")
+    int deleteAllByAreaId(@Param("areaId") Long areaId);
+
+    /**
+     * 내보내기(NDJSON)용 전체 이력 스트림 (기록일, id 오름차순)
+     * - 페이지/카운트 쿼리 없이 서버 측 커서에서 fetch size 단위로 읽습니다. (호출 측 트랜잭션 안에서 소비하고 닫아야 함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT w FROM WaterLog w WHERE w.projectArea.id = :areaId ORDER BY w.recordDate, w.id")
+    Stream<WaterLog> streamAllByAreaId(@Param("areaId") Long areaId);
+
+
+    /**
+     * 수온 누적 통계 재계산: 개수/평균/모분산/최저/최고 + 마지막 기록 1건 (문장 1회)
+     */
+    @Query(value = """
+        SELECT s.sampleCount, s.mean, s.variancePop, s.minTemperature, s.maxTemperature,
+               l.id AS lastLogId, l.record_date AS lastRecordDate, l.temperature AS lastTemperature
+          FROM (SELECT COUNT(*)             AS sampleCount,
+                       AVG(temperature)     AS mean,
+                       VAR_POP(temperature) AS variancePop,
+                       MIN(temperature)     AS minTemperature,
+                       MAX(temperature)     AS maxTemperature
+                  FROM water_logs
+                 WHERE area_id = :areaId) s
+          LEFT JOIN LATERAL (
+                SELECT id, record_date, temperature
+                  FROM water_logs
+                 WHERE area_id = :areaId
+                 ORDER BY record_date DESC, id DESC
+                 LIMIT 1) l ON TRUE
+        """, nativeQuery = true)
+    WaterStatsProjection aggregateWaterStats(@Param("areaId") Long areaId);
 
     /**
      * 수온 차트: 전체 기간에서 날짜와 온도만 (엔티티 로딩 X)
@@ -35,6 +86,12 @@ public interface WaterLogRepository extends JpaRepository<WaterLog, Long> {
     @Query(value = "SELECT * FROM water_logs WHERE area_id = :areaId ORDER BY record_date DESC LIMIT 1", nativeQuery = true)
     Optional<WaterLog> findTopByAreaIdOrderByRecordDateDesc(@Param("areaId") Long areaId);
 
+    /**
+     * @deprecated findMarineStatusCounts 로 대체되었습니다.
+     *   - 항목마다 MAX(record_date) 와 3개월 구간을 다시 스캔합니다. (4회)
+     *   - 실행 계획 비교를 위해 보존합니다.
+     */
+    @Deprecated
     @Query(value = """
         SELECT
           (SELECT w.visibility
@@ -75,8 +132,92 @@ public interface WaterLogRepository extends JpaRepository<WaterLog, Long> {
         """, nativeQuery = true)
     EnvironmentSummaryProjection findEnvironmentSummaryModeLast3Months(@Param("areaId") Long areaId);
 
-    Page<WaterLog> findAllByProjectAreaIdAndRecordDateBetween(
+    /**
+     * 환경 요약: 최근 N개월 구간을 한 번만 스캔하여 (시야, 조류, 서지, 파도) 조합별 기록 수를 집계
+     * - 기준일(MAX(record_date))은 비상관 서브쿼리로 한 번만 계산됩니다.
+     * - 항목별 최빈값은 MarineStatusSummary 에서 계산합니다.
+     */
+    @Query(value = """
+        SELECT w.visibility AS visibility,
+               w."current"  AS current,
+               w.surge      AS surge,
+               w.wave       AS wave,
+               COUNT(*)     AS count
+          FROM water_logs w
+         WHERE w.area_id = :areaId
+           AND w.record_date > (SELECT MAX(record_date) FROM water_logs WHERE area_id = :areaId)
+                               - make_interval(months => :months)
+         GROUP BY w.visibility, w."current", w.surge, w.wave
+        """, nativeQuery = true)
+    List<MarineStatusCountProjection> findMarineStatusCounts(@Param("areaId") Long areaId, @Param("months") int months);
+
+    /**
+     * 다중 영역 수온 차트: 영역 ID 목록을 한 번에 조회 (영역, 날짜 순)
+     */
+    @Query("SELECT w.projectArea.id as areaId, w.recordDate as recordDate, w.temperature as temperature " +
+            "FROM WaterLog w WHERE w.projectArea.id IN :areaIds ORDER BY w.projectArea.id, w.recordDate ASC")
+    List<AreaTemperaturePointProjection> findTemperatureHistoryByAreaIds(@Param("areaIds") Collection<Long> areaIds);
+
+    /**
+     * 다중 영역 환경 요약: findMarineStatusCounts 를 영역별로 묶어 한 번에 집계
+     * - 영역별 기준일(MAX(record_date))은 GROUP BY 서브쿼리로 한 번에 계산합니다.
+     */
+    @Query(value = """
+        SELECT w.area_id    AS areaId,
+               w.visibility AS visibility,
+               w."current"  AS current,
+               w.surge      AS surge,
+               w.wave       AS wave,
+               COUNT(*)     AS count
+          FROM water_logs w
+          JOIN (SELECT area_id, MAX(record_date) AS last_date
+                  FROM water_logs
+                 WHERE area_id IN (:areaIds)
+                 GROUP BY area_id) latest ON latest.area_id = w.area_id
+         WHERE w.record_date > latest.last_date - make_interval(months => :months)
+         GROUP BY w.area_id, w.visibility, w."current", w.surge, w.wave
+        """, nativeQuery = true)
+    List<AreaMarineStatusCountProjection> findMarineStatusCountsByAreaIds(
+            @Param("areaIds") Collection<Long> areaIds, @Param("months") int months
+    );
+
+    /**
+     * 페이지 본문 (size + 1 건 조회, COUNT 없음 - 전체 개수는 countBy... + PageCountCache)
+     */
+    Slice<WaterLog> findAllByProjectAreaIdAndRecordDateBetween(
             Long projectAreaId, LocalDate from, LocalDate to, Pageable pageable
     );
 
+    long countByProjectAreaIdAndRecordDateBetween(Long projectAreaId, LocalDate from, LocalDate to);
+
+    /**
+     * 커서 페이지 (기록일, id 오름차순)
+     */
+    @Query("""
+        SELECT w FROM WaterLog w
+        WHERE w.projectArea.id = :areaId
+          AND w.recordDate BETWEEN :from AND :to
+          AND (w.recordDate, w.id) > (:cursorDate, :cursorId)
+        ORDER BY w.recordDate ASC, w.id ASC
+    """)
+    List<WaterLog> findPageAfterCursor(
+            @Param("areaId") Long areaId, @Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("cursorDate") LocalDate cursorDate, @Param("cursorId") long cursorId, Limit limit
+    );
+
+    /**
+     * 커서 페이지 (기록일, id 내림차순)
+     */
+    @Query("""
+        SELECT w FROM WaterLog w
+        WHERE w.projectArea.id = :areaId
+          AND w.recordDate BETWEEN :from AND :to
+          AND (w.recordDate, w.id) < (:cursorDate, :cursorId)
+        ORDER BY w.recordDate DESC, w.id DESC
+    """)
+    List<WaterLog> findPageBeforeCursor(
+            @Param("areaId") Long areaId, @Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("cursorDate") LocalDate cursorDate, @Param("cursorId") long cursorId, Limit limit
+    );
+
 }
@@ -0,0 +1,112 @@
+package com.ocean.piuda.dashboard.repository;
+
+import com.ocean.piuda.dashboard.entity.WaterTemperatureRollup;
+import com.ocean.piuda.dashboard.enums.RollupResolution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface WaterTemperatureRollupRepository extends JpaRepository<WaterTemperatureRollup, Long> {
+
+    /**
+     * 차트 조회: 영역 x 해상도의 버킷 목록 (시간순)
+     */
+    List<WaterTemperatureRollup> findAllByAreaIdAndResolutionOrderByBucketStartAsc(Long areaId, RollupResolution resolution);
+
+    /**
+     * 수질 로그 1건 증분 반영 (버킷이 없으면 생성)
+     * - 유니크 키 (area_id, resolution, bucket_start) 충돌 시 누적하므로 동시 생성에도 유실되지 않습니다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO water_temperature_rollups
+               (area_id, resolution, bucket_start, sample_count, temperature_sum, temperature_min, temperature_max)
+        VALUES (:areaId, :resolution, :bucketStart, 1, :temperature, :temperature, :temperature)
+        ON CONFLICT (area_id, resolution, bucket_start) DO UPDATE SET
+               sample_count    = water_temperature_rollups.sample_count + 1,
+               temperature_sum = water_temperature_rollups.temperature_sum + EXCLUDED.temperature_sum,
+               temperature_min = LEAST(water_temperature_rollups.temperature_min, EXCLUDED.temperature_min),
+               temperature_max = GREATEST(water_temperature_rollups.temperature_max, EXCLUDED.temperature_max)
+        """, nativeQuery = true)
+    int upsertSample(
+            @Param("areaId") Long areaId,
+            @Param("resolution") String resolution,
+            @Param("bucketStart") LocalDate bucketStart,
+            @Param("temperature") double temperature
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        DELETE FROM WaterTemperatureRollup r
+        WHERE r.areaId = :areaId AND r.resolution = :resolution AND r.bucketStart = :bucketStart
+        """)
+    int deleteBucket(
+            @Param("areaId") Long areaId,
+            @Param("resolution") RollupResolution resolution,
+            @Param("bucketStart") LocalDate bucketStart
+    );
+
+    /**
+     * 버킷 1개를 원본 로그로 다시 계산해 덮어씀 (버킷이 없으면 생성)
+     * - 삭제 후 INSERT 가 아니라 유니크 키 충돌 시 갱신하므로, 같은 버킷을 동시에 다시 계산해도 키 위반이 나지 않습니다.
+     * - 로그가 없으면 행을 만들지 않고 0 을 반환합니다. (이때 호출 측에서 deleteBucket 으로 남은 행을 삭제)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO water_temperature_rollups
+               (area_id, resolution, bucket_start, sample_count, temperature_sum, temperature_min, temperature_max)
+        SELECT :areaId, :resolution, :bucketStart, COUNT(*), SUM(w.temperature), MIN(w.temperature), MAX(w.temperature)
+          FROM water_logs w
+         WHERE w.area_id = :areaId
+           AND w.record_date >= :bucketStart
+           AND w.record_date < :bucketEnd
+        HAVING COUNT(*) > 0
+        ON CONFLICT (area_id, resolution, bucket_start) DO UPDATE SET
+               sample_count    = EXCLUDED.sample_count,
+               temperature_sum = EXCLUDED.temperature_sum,
+               temperature_min = EXCLUDED.temperature_min,
+               temperature_max = EXCLUDED.temperature_max
+        """, nativeQuery = true)
+    int upsertBucketFromLogs(
+            @Param("areaId") Long areaId,
+            @Param("resolution") String resolution,
+            @Param("bucketStart") LocalDate bucketStart,
+            @Param("bucketEnd") LocalDate bucketEnd
+    );
+
+    /**
+     * 영역 전체를 해상도 1개 기준으로 원본 로그에서 다시 계산 (deleteAllByAreaId 직후 호출)
+     * - unit: DATE_TRUNC 단위 (day / week / month)
+     * - 삭제와 INSERT 사이에 다른 트랜잭션이 버킷을 만들었으면 원본 로그 기준 값으로 덮어씁니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO water_temperature_rollups
+               (area_id, resolution, bucket_start, sample_count, temperature_sum, temperature_min, temperature_max)
+        SELECT w.area_id, :resolution, (DATE_TRUNC(CAST(:unit AS text), w.record_date))::date AS bucket,
+               COUNT(*), SUM(w.temperature), MIN(w.temperature), MAX(w.temperature)
+          FROM water_logs w
+         WHERE w.area_id = :areaId
+         GROUP BY w.area_id, bucket
+        ON CONFLICT (area_id, resolution, bucket_start) DO UPDATE SET
+               sample_count    = EXCLUDED.sample_count,
+               temperature_sum = EXCLUDED.temperature_sum,
+               temperature_min = EXCLUDED.temperature_min,
+               temperature_max = EXCLUDED.temperature_max
+        """, nativeQuery = true)
+    int insertAllFromLogs(
+            @Param("areaId") Long areaId,
+            @Param("resolution") String resolution,
+            @Param("unit") String unit
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM WaterTemperatureRollup r WHERE r.areaId = :areaId")
+    int deleteAllByAreaId(@Param("areaId") Long areaId);
+}
@@ -0,0 +1,8 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+/**
+ * 다중 영역 상세 조회용: 영역별 이식 누적 통계
+ */
+public interface AreaAccumulatedStatsProjection extends AccumulatedStatsProjection {
+    Long getAreaId();
+}
@@ -0,0 +1,8 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+/**
+ * 다중 영역 상세 조회용: 영역별 대표종 성장 시계열 행
+ */
+public interface AreaGrowthPointProjection extends GrowthPointProjection {
+    Long getAreaId();
+}
@@ -0,0 +1,8 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+/**
+ * 다중 영역 상세 조회용: 영역 ID 가 포함된 변경 버전 행
+ */
+public interface AreaIdVersionProjection extends AreaVersionProjection {
+    Long getAreaId();
+}
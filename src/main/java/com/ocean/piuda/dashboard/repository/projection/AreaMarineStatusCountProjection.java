@@ -0,0 +1,8 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+/**
+ * 다중 영역 상세 조회용: 영역 ID 가 포함된 환경 상태 조합별 기록 수
+ */
+public interface AreaMarineStatusCountProjection extends MarineStatusCountProjection {
+    Long getAreaId();
+}
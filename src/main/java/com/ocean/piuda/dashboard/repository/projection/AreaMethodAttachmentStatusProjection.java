@@ -0,0 +1,8 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+/**
+ * 다중 영역 상세 조회용: 영역 x 방식별 최신 착생 상태
+ */
+public interface AreaMethodAttachmentStatusProjection extends MethodAttachmentStatusProjection {
+    Long getAreaId();
+}
@@ -0,0 +1,8 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+/**
+ * 다중 영역 상세 조회용: 영역 x 방식별 이식 건수
+ */
+public interface AreaMethodDistributionProjection extends MethodDistributionProjection {
+    Long getAreaId();
+}
@@ -0,0 +1,8 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface AreaVersionProjection {
+    Long getDataVersion();
+    LocalDateTime getModifiedAt();
+}
@@ -0,0 +1,8 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+/**
+ * 다중 영역 상세 조회용: 영역 x 월별 작업 횟수
+ */
+public interface AreaWorkHistoryPointProjection extends WorkHistoryPointProjection {
+    Long getAreaId();
+}
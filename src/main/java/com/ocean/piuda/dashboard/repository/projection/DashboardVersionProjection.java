@@ -0,0 +1,9 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface DashboardVersionProjection {
+    Long getAreaCount();
+    Long getVersionSum();
+    LocalDateTime getLastModifiedAt();
+}
@@ -0,0 +1,8 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+import java.time.LocalDate;
+
+public interface GrowthPointProjection {
+    LocalDate getRecordDate();
+    Double getGrowthLength();
+}
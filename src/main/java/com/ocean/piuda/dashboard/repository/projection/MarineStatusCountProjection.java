@@ -0,0 +1,13 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+/**
+ * 환경 요약 원천: (시야, 조류, 서지, 파도) 조합별 기록 수
+ * - 조합은 최대 3^4 = 81개이므로 로그 양과 무관하게 작습니다.
+ */
+public interface MarineStatusCountProjection {
+    String getVisibility();
+    String getCurrent();
+    String getSurge();
+    String getWave();
+    Long getCount();
+}
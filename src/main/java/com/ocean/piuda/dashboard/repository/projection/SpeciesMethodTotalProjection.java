@@ -0,0 +1,10 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+import com.ocean.piuda.dashboard.enums.TransplantMethod;
+
+public interface SpeciesMethodTotalProjection {
+    Long getSpeciesId();
+    String getSpeciesName();
+    TransplantMethod getMethodName();
+    Long getTotalCount();
+}
@@ -0,0 +1,17 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 현황 기간 분석 원천: (버킷, 이식 방식, 종) 단위 집계
+ */
+public interface StatusBucketProjection {
+    LocalDate getBucket();
+    String getMethodName();
+    Long getSpeciesId();
+    String getSpeciesName();
+    Long getLogCount();     // 로그 수 (작업 횟수)
+    Long getQuantity();     // 수량 합계
+    Double getAreaSize();   // 이식 면적 합계
+    LocalDate getLastDate();
+}
@@ -0,0 +1,17 @@
+package com.ocean.piuda.dashboard.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 수온 누적 통계 재계산용 집계 결과 (영역 단위)
+ */
+public interface WaterStatsProjection {
+    Long getSampleCount();
+    Double getMean();
+    Double getVariancePop();
+    Double getMinTemperature();
+    Double getMaxTemperature();
+    Long getLastLogId();
+    LocalDate getLastRecordDate();
+    Double getLastTemperature();
+}
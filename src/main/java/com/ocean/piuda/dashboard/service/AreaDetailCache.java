@@ -0,0 +1,91 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ocean.piuda.dashboard.dto.DataVersion;
+import com.ocean.piuda.dashboard.dto.response.AreaDetailResponse;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 작업 영역 상세 응답 캐시 (프로세스 내부)
+ * - 전체 탭이 조립된 AreaDetailResponse 를 (영역 ID, 데이터 버전 ETag) 기준으로 보관합니다.
+ *   - 조건부 GET 의 ETag 와 같은 버전으로 조회하므로, 커밋 이후 무효화 전까지도 새 ETag 에 이전 응답이 실리지 않습니다.
+ * - 최대 개수(max-size)와 TTL(ttl-seconds)로 크기를 제한합니다.
+ * - DashboardChangedEvent 를 커밋 이후(AFTER_COMMIT)에 받아 해당 영역의 이전 버전 응답을 미리 비웁니다.
+ * - 적중/미스/축출 횟수는 actuator metrics 의 cache.* (cache=dashboard.area-detail) 로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class AreaDetailCache {
+
+    static final String CACHE_NAME = "dashboard.area-detail";
+
+    private final boolean enabled;
+    private final Cache<DetailKey, AreaDetailResponse> cache;
+    private final Counter invalidations;
+
+    public AreaDetailCache(
+            @Value("${dashboard.detail.cache.enabled:true}") boolean enabled,
+            @Value("${dashboard.detail.cache.max-size:1000}") long maxSize,
+            @Value("${dashboard.detail.cache.ttl-seconds:600}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("cache.invalidations")
+                .description("변경 이벤트로 무효화된 상세 응답 수")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 해당 버전의 캐시된 응답을 반환하고, 없으면 loader 로 조립해 저장합니다.
+     * - version 은 조립 전에 읽은 버전이어야 합니다. (조립 결과는 그 버전 이후의 데이터)
+     * - loader 에서 발생한 예외(존재하지 않는 영역 등)는 그대로 전달되며 캐시되지 않습니다.
+     */
+    public AreaDetailResponse get(Long areaId, DataVersion version, Supplier<AreaDetailResponse> loader) {
+        if (!enabled) return loader.get();
+        return cache.get(new DetailKey(areaId, version.etag()), key -> loader.get());
+    }
+
+    /**
+     * 해당 버전의 캐시된 응답만 조회 (없으면 null)
+     */
+    public AreaDetailResponse getIfPresent(Long areaId, DataVersion version) {
+        return enabled ? cache.getIfPresent(new DetailKey(areaId, version.etag())) : null;
+    }
+
+    public void invalidate(Long areaId) {
+        cache.asMap().keySet().removeIf(key -> key.areaId().equals(areaId));
+        invalidations.increment();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        log.debug("상세 응답 캐시 무효화 - areaId={}, type={}", event.areaId(), event.type());
+        invalidate(event.areaId());
+    }
+
+    private record DetailKey(Long areaId, String etag) {}
+}
@@ -0,0 +1,26 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.entity.AreaTransplantSummary;
+import com.ocean.piuda.dashboard.repository.projection.*;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 상세 조회 탭 조립용 원천 데이터
+ * - 요청되지 않은 탭의 필드는 조회하지 않으므로 null 로 남습니다.
+ *
+ * @param tempHistory 수온 차트용 프로젝션 (전체 기간)
+ * @param envSummary 최근 N개월 환경 요약 (항목별 최빈값)
+ * @param transplantSummary 이식 요약 (요약 테이블 단건 또는 원본 로그 집계로 조립한 객체)
+ * @param repGrowthLogs 대표종 성장 차트용 프로젝션 (기록일, 성장 길이)
+ */
+@Builder
+public record AreaDetailSource(
+        List<TemperaturePointProjection> tempHistory,
+        MarineStatusSummary envSummary,
+        AreaTransplantSummary transplantSummary,
+        List<GrowthPointProjection> repGrowthLogs,
+        List<MethodAttachmentStatusProjection> methodStatuses,
+        List<MediaPointProjection> mediaHistory
+) { }
@@ -0,0 +1,145 @@
+package com.ocean.piuda.dashboard.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 상세 조회 탭 로더
+ * - 서로 독립적인 탭 조회 쿼리들을 가상 스레드에서 동시에 실행합니다.
+ * - 각 쿼리는 자신만의 읽기 전용 트랜잭션(= 별도 커넥션)에서 실행되며, 호출 스레드는 커넥션을 잡지 않습니다.
+ *   (호출하는 서비스 메서드는 트랜잭션 밖(NOT_SUPPORTED)에서 load 를 호출해야 합니다)
+ * - 요청 1건이 동시에 실행하는 쿼리 수는 max-concurrency 로 제한합니다.
+ * - 모든 요청을 통틀어서는 Hikari 커넥션 풀(maximum-pool-size)의 절반까지만 동시에 쓰도록 제한합니다.
+ *   (상세 조회가 몰려도 쓰기/다른 조회가 쓸 커넥션이 남도록)
+ * - dashboard.detail.parallel.enabled=false 이면 호출 스레드에서 읽기 전용 트랜잭션 1개로 순차 실행합니다.
+ */
+@Slf4j
+@Component
+public class AreaDetailTabLoader {
+
+    private final TransactionTemplate readOnlyTx;
+    private final ExecutorService executor;
+    private final boolean parallelEnabled;
+    private final int maxConcurrency;
+    private final Semaphore globalPermits;
+
+    public AreaDetailTabLoader(
+            PlatformTransactionManager transactionManager,
+            @Value("${dashboard.detail.parallel.enabled:true}") boolean parallelEnabled,
+            @Value("${dashboard.detail.parallel.max-concurrency:4}") int maxConcurrency,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize
+    ) {
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.parallelEnabled = parallelEnabled;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.globalPermits = new Semaphore(Math.max(1, connectionPoolSize / 2), true);
+        this.executor = parallelEnabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+    }
+
+    /**
+     * 요청 1건 단위로 Fork 를 만들어 work 를 실행합니다.
+     * - 병렬 모드: work 는 호출 스레드에서(트랜잭션 없이) 실행되고, submit 한 쿼리만 가상 스레드에서 실행됩니다.
+     * - 순차 모드: work 전체를 읽기 전용 트랜잭션 1개(= 커넥션 1개) 안에서 실행합니다.
+     */
+    public <T> T load(Function<Fork, T> work) {
+        if (!parallelEnabled) return readOnlyTx.execute(status -> work.apply(new SequentialFork()));
+        return work.apply(new ParallelFork());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) executor.shutdown();
+    }
+
+    /**
+     * 탭 쿼리 묶음
+     * - submit 으로 쿼리를 등록하고, join 이후에 반환된 Supplier 로 결과를 꺼냅니다.
+     */
+    public interface Fork {
+        <T> Supplier<T> submit(Supplier<T> query);
+
+        void join();
+    }
+
+    /**
+     * 순차 모드: 등록 즉시 호출 스레드(load 가 연 트랜잭션)에서 실행
+     */
+    private static final class SequentialFork implements Fork {
+        @Override
+        public <T> Supplier<T> submit(Supplier<T> query) {
+            T result = query.get();
+            return () -> result;
+        }
+
+        @Override
+        public void join() { }
+    }
+
+    /**
+     * 병렬 모드: 가상 스레드 + 쿼리별 읽기 전용 트랜잭션
+     * - 요청별 permit 을 먼저 얻은 뒤 전역 permit 을 얻습니다. (대기 중인 쿼리가 전역 permit 을 쥐고 있지 않도록)
+     */
+    private final class ParallelFork implements Fork {
+        private final List<CompletableFuture<?>> futures = new ArrayList<>();
+        private final Semaphore requestPermits = new Semaphore(maxConcurrency);
+
+        @Override
+        public <T> Supplier<T> submit(Supplier<T> query) {
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> runWithPermits(query), executor);
+            futures.add(future);
+            return future::join;
+        }
+
+        private <T> T runWithPermits(Supplier<T> query) {
+            acquire(requestPermits);
+            try {
+                acquire(globalPermits);
+                try {
+                    return readOnlyTx.execute(status -> query.get());
+                } finally {
+                    globalPermits.release();
+                }
+            } finally {
+                requestPermits.release();
+            }
+        }
+
+        private void acquire(Semaphore permits) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("탭 조회가 중단되었습니다.", e);
+            }
+        }
+
+        @Override
+        public void join() {
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException e) {
+                // 원래 예외(BusinessException 등)를 그대로 전달
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ocean.piuda.dashboard.dto.response.AreaHeatmapResponse;
+import com.ocean.piuda.dashboard.dto.response.HeatmapCellResponse;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.projection.AreaMarkerProjection;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 작업 영역 밀도 히트맵 (경위도 격자 집계)
+ * - 전체 마커를 한 번 훑어 칸별 영역 수 / 면적 합계 / 평균 수심을 계산합니다.
+ * - 칸 크기(cellSize, 도)별로 결과를 캐시하고, 영역 변경(AREA) 커밋 이후 전체를 비웁니다.
+ * - cellSize 는 소수 넷째 자리로 정규화해 캐시 키가 무한히 늘지 않도록 합니다.
+ * - 적중/미스/축출 횟수는 actuator metrics 의 cache.* (cache=dashboard.area-heatmap) 로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class AreaHeatmapService {
+
+    static final String CACHE_NAME = "dashboard.area-heatmap";
+
+    private final AreaMarkerIndex markerIndex;
+    private final ProjectAreaRepository projectAreaRepository;
+    private final double minCellSize;
+    private final double maxCellSize;
+    private final Cache<BigDecimal, AreaHeatmapResponse> cache;
+    private final Counter invalidations;
+
+    public AreaHeatmapService(
+            AreaMarkerIndex markerIndex,
+            ProjectAreaRepository projectAreaRepository,
+            @Value("${dashboard.heatmap.min-cell-size:0.01}") double minCellSize,
+            @Value("${dashboard.heatmap.max-cell-size:10}") double maxCellSize,
+            @Value("${dashboard.heatmap.cache.max-size:32}") long maxSize,
+            @Value("${dashboard.heatmap.cache.ttl-seconds:600}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.markerIndex = markerIndex;
+        this.projectAreaRepository = projectAreaRepository;
+        this.minCellSize = minCellSize;
+        this.maxCellSize = maxCellSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("cache.invalidations")
+                .description("영역 변경으로 비워진 히트맵 캐시 횟수")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 칸 크기(도)별 히트맵
+     */
+    public AreaHeatmapResponse getHeatmap(Double cellSize) {
+        if (cellSize == null || !Double.isFinite(cellSize) || cellSize < minCellSize || cellSize > maxCellSize) {
+            throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        }
+        BigDecimal resolution = BigDecimal.valueOf(cellSize).setScale(4, RoundingMode.HALF_UP).stripTrailingZeros();
+        return cache.get(resolution, key -> aggregate(key.doubleValue()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        if (event.type() != DashboardChangeType.AREA) return;
+        log.debug("히트맵 캐시 비움 - areaId={}", event.areaId());
+        cache.invalidateAll();
+        invalidations.increment();
+    }
+
+    private AreaHeatmapResponse aggregate(double cellSize) {
+        List<AreaMarkerProjection> rows = markerIndex.isEnabled()
+                ? markerIndex.withinBBox(-90, -180, 90, 180)
+                : projectAreaRepository.findAllMarkers();
+
+        // 행(위도) -> 열(경도) 순으로 정렬되도록 키를 구성
+        int columns = (int) Math.ceil(360 / cellSize) + 1;
+        Map<Long, Cell> cells = new TreeMap<>();
+        int total = 0;
+        for (AreaMarkerProjection m : rows) {
+            if (m.getLat() == null || m.getLon() == null) continue;
+            long row = (long) Math.floor((m.getLat() + 90) / cellSize);
+            long col = (long) Math.floor((m.getLon() + 180) / cellSize);
+            cells.computeIfAbsent(row * columns + col, k -> new Cell(row, col)).add(m);
+            total++;
+        }
+
+        return AreaHeatmapResponse.builder()
+                .cellSize(cellSize)
+                .totalCount(total)
+                .cells(cells.values().stream().map(c -> c.toResponse(cellSize)).toList())
+                .build();
+    }
+
+    // 집계 중에만 쓰는 가변 누적값
+    private static final class Cell {
+        private final long row;
+        private final long col;
+        private int count;
+        private double totalAreaSize;
+        private double depthSum;
+        private int depthCount;
+
+        Cell(long row, long col) {
+            this.row = row;
+            this.col = col;
+        }
+
+        void add(AreaMarkerProjection m) {
+            count++;
+            if (m.getAreaSize() != null) totalAreaSize += m.getAreaSize();
+            if (m.getDepth() != null) {
+                depthSum += m.getDepth();
+                depthCount++;
+            }
+        }
+
+        HeatmapCellResponse toResponse(double cellSize) {
+            double minLat = row * cellSize - 90;
+            double minLon = col * cellSize - 180;
+            return HeatmapCellResponse.builder()
+                    .minLat(minLat)
+                    .minLon(minLon)
+                    .centerLat(minLat + cellSize / 2)
+                    .centerLon(minLon + cellSize / 2)
+                    .count(count)
+                    .totalAreaSize(totalAreaSize)
+                    .avgDepth(depthCount > 0 ? depthSum / depthCount : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.projection.AreaMarkerProjection;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 지도 마커 메모리 공간 인덱스 (JTS STRtree 스냅샷)
+ * - project_areas 마커 전체를 읽어 만든 읽기 전용 STRtree 로 BBox / 반경 / KNN 조회를 DB 왕복 없이 처리합니다.
+ * - 스냅샷은 불변이며, 재구성은 새 트리를 만든 뒤 참조만 교체합니다. (copy-on-write, 조회는 잠금 없음)
+ * - 영역 변경(DashboardChangeType.AREA)이 커밋된 뒤(AFTER_COMMIT) 재구성하고,
+ *   이벤트를 거치지 않는 변경(초기 데이터 등)에 대비해 max-age-seconds 가 지나면 조회 시 다시 만듭니다.
+ * - 같은 스냅샷에 줌 단계별 클러스터 격자(MarkerClusterGrid)도 함께 만들어 둡니다.
+ * - 거리 기준
+ *   - 반경: 구면(haversine) 거리 (PostGIS geography 의 타원체 거리와 0.5% 이내 차이)
+ *   - KNN: 경위도 평면 거리 (기존 네이티브 쿼리의 `<->` 연산자와 같은 기준)
+ */
+@Slf4j
+@Component
+public class AreaMarkerIndex {
+
+    static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    // KNN 아이템 간 거리: 점 마커의 경위도 평면 거리
+    private static final ItemDistance PLANAR_DISTANCE =
+            (a, b) -> ((Envelope) a.getBounds()).distance((Envelope) b.getBounds());
+
+    private final ProjectAreaRepository projectAreaRepository;
+    private final boolean enabled;
+    private final long maxAgeNanos;
+    private final double clusterRadiusPx;
+    private final int clusterMaxZoom;
+    private final Timer rebuildTimer;
+    private final Object rebuildLock = new Object();
+
+    private volatile Snapshot snapshot;
+
+    public AreaMarkerIndex(
+            ProjectAreaRepository projectAreaRepository,
+            @Value("${dashboard.marker-index.enabled:true}") boolean enabled,
+            @Value("${dashboard.marker-index.max-age-seconds:300}") long maxAgeSeconds,
+            @Value("${dashboard.marker-cluster.radius-px:60}") double clusterRadiusPx,
+            @Value("${dashboard.marker-cluster.max-zoom:16}") int clusterMaxZoom,
+            MeterRegistry meterRegistry
+    ) {
+        this.projectAreaRepository = projectAreaRepository;
+        this.enabled = enabled;
+        this.maxAgeNanos = maxAgeSeconds * 1_000_000_000L;
+        this.clusterRadiusPx = clusterRadiusPx;
+        this.clusterMaxZoom = clusterMaxZoom;
+        this.rebuildTimer = Timer.builder("dashboard.marker-index.rebuild")
+                .description("마커 공간 인덱스 재구성 시간")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.marker-index.size", this, AreaMarkerIndex::size)
+                .description("마커 공간 인덱스에 들어 있는 영역 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 뷰포트(BBox) 안의 마커 (ID 순)
+     * - minLon > maxLon 이면 날짜변경선을 넘는 BBox 로 보고 두 구간을 조회합니다.
+     */
+    public List<AreaMarkerProjection> withinBBox(double minLat, double minLon, double maxLat, double maxLon) {
+        Snapshot s = current();
+        List<AreaMarkerProjection> result = new ArrayList<>();
+        for (Envelope envelope : bboxEnvelopes(minLat, minLon, maxLat, maxLon)) result.addAll(query(s, envelope));
+        result.sort(Comparator.comparing(AreaMarkerProjection::getId));
+        return result;
+    }
+
+    /**
+     * 중심에서 반경(미터) 안의 마커 (가까운 순)
+     * - 반경을 감싸는 경위도 사각형으로 후보를 고른 뒤 haversine 거리로 걸러냅니다.
+     */
+    public List<AreaMarkerProjection> nearby(double lat, double lon, double radiusMeters) {
+        Snapshot s = current();
+        List<AreaMarkerProjection> result = new ArrayList<>();
+        for (Envelope envelope : radiusEnvelopes(lat, lon, radiusMeters)) {
+            for (AreaMarkerProjection m : query(s, envelope)) {
+                if (haversineMeters(lat, lon, m.getLat(), m.getLon()) <= radiusMeters) result.add(m);
+            }
+        }
+        result.sort(Comparator.comparingDouble(m -> haversineMeters(lat, lon, m.getLat(), m.getLon())));
+        return result;
+    }
+
+    /**
+     * 가장 가까운 k 개 마커 (가까운 순)
+     */
+    public List<AreaMarkerProjection> nearest(double lat, double lon, int k) {
+        Snapshot s = current();
+        if (s.size() == 0 || k <= 0) return List.of();
+
+        Envelope point = new Envelope(lon, lon, lat, lat);
+        Object[] items = s.tree().nearestNeighbour(point, point, PLANAR_DISTANCE, Math.min(k, s.size()));
+
+        List<AreaMarkerProjection> result = new ArrayList<>(items.length);
+        for (Object item : items) result.add((AreaMarkerProjection) item);
+        result.sort(Comparator
+                .comparingDouble((AreaMarkerProjection m) -> point.distance(envelopeOf(m)))
+                .thenComparing(AreaMarkerProjection::getId));
+        return result;
+    }
+
+    /**
+     * 줌 단계 클러스터 (중심점이 BBox 안에 있는 것, 큰 클러스터 먼저)
+     * - 최대 클러스터 줌을 넘으면 개별 영역을 1건짜리 클러스터로 반환합니다.
+     */
+    public List<MarkerClusterGrid.Cluster> clusters(double minLat, double minLon, double maxLat, double maxLon, int zoom) {
+        if (zoom > clusterMaxZoom) return singles(withinBBox(minLat, minLon, maxLat, maxLon));
+        return current().grid().query(minLat, minLon, maxLat, maxLon, Math.max(zoom, 0));
+    }
+
+    /**
+     * 인덱스를 쓰지 않을 때: 이미 조회한 마커 목록을 그 자리에서 클러스터링
+     */
+    public List<MarkerClusterGrid.Cluster> cluster(
+            List<AreaMarkerProjection> rows,
+            double minLat, double minLon, double maxLat, double maxLon, int zoom
+    ) {
+        if (zoom > clusterMaxZoom) return singles(rows);
+        int level = Math.max(zoom, 0);
+        return MarkerClusterGrid.build(rows, clusterRadiusPx, level).query(minLat, minLon, maxLat, maxLon, level);
+    }
+
+    /**
+     * 영역 변경 커밋 이후 스냅샷 재구성
+     * - 커밋된 데이터를 읽도록 별도 읽기 전용 트랜잭션에서 조회합니다.
+     * - 재구성에 실패하면 스냅샷을 버려 다음 조회 시 다시 만들도록 합니다.
+     * - 스냅샷을 읽는 다른 캐시(타일 등)가 비워지기 전에 끝나도록 가장 먼저 실행합니다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        if (!enabled || event.type() != DashboardChangeType.AREA) return;
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("마커 공간 인덱스 재구성 실패 - areaId={}", event.areaId(), e);
+            snapshot = null;
+        }
+    }
+
+    /**
+     * DB 에서 마커 전체를 읽어 새 스냅샷으로 교체합니다.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            snapshot = build();
+        }
+    }
+
+    int size() {
+        Snapshot s = snapshot;
+        return s != null ? s.size() : 0;
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (isFresh(s)) return s;
+
+        synchronized (rebuildLock) {
+            // 대기하는 동안 다른 스레드가 이미 재구성했으면 그 결과를 사용
+            Snapshot latest = snapshot;
+            if (latest != s && isFresh(latest)) return latest;
+            latest = build();
+            snapshot = latest;
+            return latest;
+        }
+    }
+
+    private boolean isFresh(Snapshot s) {
+        return s != null && System.nanoTime() - s.builtAt() < maxAgeNanos;
+    }
+
+    private Snapshot build() {
+        return rebuildTimer.record(() -> {
+            List<AreaMarkerProjection> rows = projectAreaRepository.findAllMarkers();
+
+            STRtree tree = new STRtree();
+            int size = 0;
+            for (AreaMarkerProjection row : rows) {
+                if (row.getLat() == null || row.getLon() == null) continue;
+                tree.insert(envelopeOf(row), row);
+                size++;
+            }
+            // 공개 전에 트리를 확정해 두어야 동시 조회 시 지연 build() 경합이 생기지 않음
+            tree.build();
+            MarkerClusterGrid grid = MarkerClusterGrid.build(rows, clusterRadiusPx, clusterMaxZoom);
+
+            log.debug("마커 공간 인덱스 재구성 - size={}", size);
+            return new Snapshot(tree, size, grid, System.nanoTime());
+        });
+    }
+
+    private static List<MarkerClusterGrid.Cluster> singles(List<AreaMarkerProjection> rows) {
+        return rows.stream()
+                .filter(m -> m.getLat() != null && m.getLon() != null)
+                .map(MarkerClusterGrid::single)
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<AreaMarkerProjection> query(Snapshot s, Envelope envelope) {
+        return new ArrayList<>((List<AreaMarkerProjection>) s.tree().query(envelope));
+    }
+
+    private static Envelope envelopeOf(AreaMarkerProjection m) {
+        return new Envelope(m.getLon(), m.getLon(), m.getLat(), m.getLat());
+    }
+
+    /**
+     * 뷰포트 BBox 의 경위도 사각형 (minLon > maxLon 이면 날짜변경선 기준 두 개로 나눔)
+     * - Envelope 는 min/max 를 정렬하므로 그대로 넘기면 반대쪽 구간이 조회됩니다.
+     */
+    static List<Envelope> bboxEnvelopes(double minLat, double minLon, double maxLat, double maxLon) {
+        if (minLon > maxLon) {
+            return List.of(new Envelope(minLon, 180, minLat, maxLat), new Envelope(-180, maxLon, minLat, maxLat));
+        }
+        return List.of(new Envelope(minLon, maxLon, minLat, maxLat));
+    }
+
+    /**
+     * 반경 원을 감싸는 경위도 사각형 (날짜변경선을 넘으면 두 개로 나눔)
+     */
+    static List<Envelope> radiusEnvelopes(double lat, double lon, double radiusMeters) {
+        double angular = radiusMeters / EARTH_RADIUS_METERS;
+        double dLat = Math.toDegrees(angular);
+        double minLat = lat - dLat;
+        double maxLat = lat + dLat;
+
+        // 극점을 포함하거나 반경이 반구를 넘으면 경도 전체
+        if (minLat <= -90 || maxLat >= 90 || angular >= Math.PI / 2) {
+            return List.of(new Envelope(-180, 180, Math.max(minLat, -90), Math.min(maxLat, 90)));
+        }
+
+        double dLon = Math.toDegrees(Math.asin(Math.sin(angular) / Math.cos(Math.toRadians(lat))));
+        double minLon = lon - dLon;
+        double maxLon = lon + dLon;
+
+        if (minLon < -180) {
+            return List.of(new Envelope(-180, maxLon, minLat, maxLat), new Envelope(minLon + 360, 180, minLat, maxLat));
+        }
+        if (maxLon > 180) {
+            return List.of(new Envelope(minLon, 180, minLat, maxLat), new Envelope(-180, maxLon - 360, minLat, maxLat));
+        }
+        return List.of(new Envelope(minLon, maxLon, minLat, maxLat));
+    }
+
+    static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private record Snapshot(STRtree tree, int size, MarkerClusterGrid grid, long builtAt) {}
+}
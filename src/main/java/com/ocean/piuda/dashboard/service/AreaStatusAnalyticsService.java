@@ -0,0 +1,106 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ocean.piuda.dashboard.dto.response.AreaStatusAnalyticsResponse;
+import com.ocean.piuda.dashboard.enums.AnalyticsGranularity;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.TransplantLogRepository;
+import com.ocean.piuda.dashboard.repository.projection.StatusBucketProjection;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 작업 영역 현황 기간 분석
+ * - 임의의 from ~ to 기간을 주/월/분기 단위로 집계합니다. (이식 로그 집계 쿼리 1회)
+ * - 결과는 (영역, 영역 변경 버전, 기간, 단위) 를 키로 캐시합니다.
+ *   영역이나 하위 로그가 바뀌면 dataVersion 이 증가하므로 이전 버전의 결과는 다시 조회되지 않고 TTL/크기 제한으로 정리됩니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AreaStatusAnalyticsService {
+
+    static final String CACHE_NAME = "dashboard.status-analytics";
+    static final int MAX_BUCKETS = 1000;
+
+    private final ProjectAreaRepository projectAreaRepository;
+    private final TransplantLogRepository transplantLogRepository;
+    private final DashboardAggregateBuilder aggregateBuilder;
+    private final Cache<AnalyticsKey, AreaStatusAnalyticsResponse> cache;
+
+    public AreaStatusAnalyticsService(
+            ProjectAreaRepository projectAreaRepository,
+            TransplantLogRepository transplantLogRepository,
+            DashboardAggregateBuilder aggregateBuilder,
+            @Value("${dashboard.analytics.cache.max-size:2000}") long maxSize,
+            @Value("${dashboard.analytics.cache.ttl-seconds:600}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.projectAreaRepository = projectAreaRepository;
+        this.transplantLogRepository = transplantLogRepository;
+        this.aggregateBuilder = aggregateBuilder;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public AreaStatusAnalyticsResponse getStatusAnalytics(
+            Long areaId, LocalDate from, LocalDate to, AnalyticsGranularity granularity
+    ) {
+        if (from == null || to == null || from.isAfter(to) || granularity == null) {
+            throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        }
+
+        long version = projectAreaRepository.findVersionById(areaId)
+                .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND))
+                .getDataVersion();
+
+        return cache.get(new AnalyticsKey(areaId, version, from, to, granularity), this::load);
+    }
+
+    private AreaStatusAnalyticsResponse load(AnalyticsKey key) {
+        List<LocalDate> buckets = buckets(key.from(), key.to(), key.granularity());
+
+        List<StatusBucketProjection> rows = transplantLogRepository.findStatusBuckets(
+                key.areaId(), key.from(), key.to(), key.granularity().getTruncUnit());
+
+        return AreaStatusAnalyticsResponse.builder()
+                .areaId(key.areaId())
+                .from(key.from())
+                .to(key.to())
+                .granularity(key.granularity().getName())
+                .status(aggregateBuilder.buildStatusRange(rows, buckets, key.from() + " ~ " + key.to()))
+                .build();
+    }
+
+    /**
+     * 기간 내 모든 버킷 시작일 (오름차순)
+     * - 버킷 수가 MAX_BUCKETS 를 넘는 기간은 INVALID_INPUT_VALUE
+     */
+    static List<LocalDate> buckets(LocalDate from, LocalDate to, AnalyticsGranularity granularity) {
+        List<LocalDate> buckets = new ArrayList<>();
+        for (LocalDate b = granularity.truncate(from); !b.isAfter(to); b = granularity.next(b)) {
+            if (buckets.size() == MAX_BUCKETS) throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+            buckets.add(b);
+        }
+        return buckets;
+    }
+
+    private record AnalyticsKey(
+            Long areaId, long version, LocalDate from, LocalDate to, AnalyticsGranularity granularity
+    ) { }
+}
@@ -0,0 +1,134 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.projection.AreaMarkerProjection;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작업 영역 벡터 타일(MVT) 생성 + 캐시
+ * - 타일 범위(+ 가장자리 버퍼) 안의 영역 위치를 점 피처로 인코딩합니다. (레이어 "areas")
+ *   - 속성: name, habitat, level (habitat/level 은 Enum 코드)
+ * - 렌더링 결과는 (z, x, y, dataVersion) 키로 보관하며, 크기(바이트 합계)와 TTL 로 제한합니다.
+ * - 영역 변경(AREA) 커밋 이후 전체를 비웁니다. (마커 인덱스 재구성 이후 실행되도록 리스너 순서가 뒤)
+ * - 적중/미스/축출 횟수는 actuator metrics 의 cache.* (cache=dashboard.area-tile) 로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class AreaTileService {
+
+    static final String CACHE_NAME = "dashboard.area-tile";
+    static final String LAYER_NAME = "areas";
+    static final int BUFFER = 64;
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    private final AreaMarkerIndex markerIndex;
+    private final ProjectAreaRepository projectAreaRepository;
+    private final int maxZoom;
+    private final Cache<TileKey, byte[]> cache;
+    private final Counter invalidations;
+
+    public AreaTileService(
+            AreaMarkerIndex markerIndex,
+            ProjectAreaRepository projectAreaRepository,
+            @Value("${dashboard.tile.max-zoom:22}") int maxZoom,
+            @Value("${dashboard.tile.cache.max-bytes:67108864}") long maxBytes,
+            @Value("${dashboard.tile.cache.ttl-seconds:3600}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.markerIndex = markerIndex;
+        this.projectAreaRepository = projectAreaRepository;
+        this.maxZoom = maxZoom;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((TileKey key, byte[] tile) -> Math.max(tile.length, 1))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("cache.invalidations")
+                .description("영역 변경으로 비워진 타일 캐시 횟수")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 타일 조회 (캐시에 없으면 렌더링 후 저장, 영역이 없으면 빈 배열)
+     *
+     * @param dataVersion 전체 영역 데이터 버전 (DataVersion.ofDashboard 의 etag)
+     */
+    public byte[] getTile(int z, int x, int y, String dataVersion) {
+        if (z < 0 || z > maxZoom) throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        int tiles = 1 << z;
+        if (x < 0 || x >= tiles || y < 0 || y >= tiles) throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+
+        return cache.get(new TileKey(z, x, y, dataVersion), key -> render(z, x, y));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        if (event.type() != DashboardChangeType.AREA) return;
+        log.debug("타일 캐시 비움 - areaId={}", event.areaId());
+        cache.invalidateAll();
+        invalidations.increment();
+    }
+
+    private byte[] render(int z, int x, int y) {
+        double buffer = (double) BUFFER / VectorTileEncoder.EXTENT;
+        double minLon = tileLon(x - buffer, z);
+        double maxLon = tileLon(x + 1 + buffer, z);
+        double maxLat = tileLat(y - buffer, z);
+        double minLat = tileLat(y + 1 + buffer, z);
+
+        List<AreaMarkerProjection> rows = markerIndex.isEnabled()
+                ? markerIndex.withinBBox(minLat, minLon, maxLat, maxLon)
+                : projectAreaRepository.findMarkersWithinBBox(minLat, minLon, maxLat, maxLon);
+
+        double scale = (double) (1 << z);
+        VectorTileEncoder encoder = new VectorTileEncoder(LAYER_NAME);
+        for (AreaMarkerProjection m : rows) {
+            double px = (MarkerClusterGrid.mercatorX(m.getLon()) * scale - x) * VectorTileEncoder.EXTENT;
+            double py = (MarkerClusterGrid.mercatorY(m.getLat()) * scale - y) * VectorTileEncoder.EXTENT;
+
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            attributes.put("name", m.getName());
+            attributes.put("habitat", m.getHabitat());
+            attributes.put("level", m.getLevel());
+
+            encoder.addFeature(m.getId(), GEOMETRY_FACTORY.createPoint(new Coordinate(px, py)), attributes);
+        }
+        return encoder.encode();
+    }
+
+    // 타일 좌표 -> 경도/위도 (XYZ, 북쪽이 y = 0)
+    static double tileLon(double x, int z) {
+        return x / (1 << z) * 360 - 180;
+    }
+
+    static double tileLat(double y, int z) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / (1 << z)))));
+    }
+
+    private record TileKey(int z, int x, int y, String dataVersion) {}
+}
@@ -2,6 +2,7 @@ package com.ocean.piuda.dashboard.service;
 
 import com.ocean.piuda.dashboard.dto.TimeSeriesChartDto;
 import com.ocean.piuda.dashboard.dto.response.AreaDetailResponse;
+import com.ocean.piuda.dashboard.dto.response.WaterStatsResponse;
 import com.ocean.piuda.dashboard.entity.*;
 import com.ocean.piuda.dashboard.enums.*;
 import com.ocean.piuda.dashboard.repository.projection.*;
@@ -9,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
@@ -17,33 +19,24 @@ import java.util.*;
 public class DashboardAggregateBuilder {
 
     /**
+     * 요청된 탭만 조립합니다. (요청되지 않은 탭은 null)
+     *
      * @param area 기본 정보를 담은 엔티티
-     * @param tempHistory 수온 차트용 프로젝션 (전체 기간)
-     * @param envSummary 최신 3개월 환경 요약
-     * @param distributions 이식 방식 분포 (전체 집계 프로젝션)
-     * @param history 최근 3개월 작업 횟수 (집계 프로젝션)
-     * @param repGrowthLogs 대표 개체 성장 로그 (필터링된 엔티티 리스트)
+     * @param tabs 조립할 탭 목록
+     * @param src 탭별 원천 데이터 (요청된 탭에 필요한 필드만 채워져 있음)
      */
-    public AreaDetailResponse build(
-            ProjectArea area,
-            List<TemperaturePointProjection> tempHistory,
-            EnvironmentSummaryProjection envSummary,
-            List<MethodDistributionProjection> distributions,
-            List<WorkHistoryPointProjection> history,
-            List<GrowthLog> repGrowthLogs,
-            List<MethodAttachmentStatusProjection> methodStatuses,
-            List<TransplantItemProjection> speciesItems,
-            LocalDate lastWorkDate,
-            Double totalTransplantArea,
-            List<MediaPointProjection> mediaHistory
-    ) {
+    public AreaDetailResponse build(ProjectArea area, Set<AreaDetailTab> tabs, AreaDetailSource src) {
         return AreaDetailResponse.builder()
                 .id(area.getId())
-                .overview(buildOverview(area))
-                .status(buildStatus(area, distributions, history,speciesItems,lastWorkDate,totalTransplantArea))
-                .ecology(buildEcology(area, repGrowthLogs,methodStatuses))
-                .environment(buildEnvironment(envSummary, tempHistory))
-                .photos(buildPhotos(mediaHistory))
+                .overview(tabs.contains(AreaDetailTab.OVERVIEW) ? buildOverview(area) : null)
+                .status(tabs.contains(AreaDetailTab.STATUS) ? buildStatus(area, src.transplantSummary()) : null)
+                .ecology(tabs.contains(AreaDetailTab.ECOLOGY)
+                        ? buildEcology(area, src.repGrowthLogs(), src.methodStatuses())
+                        : null)
+                .environment(tabs.contains(AreaDetailTab.ENVIRONMENT)
+                        ? buildEnvironment(src.envSummary(), src.tempHistory())
+                        : null)
+                .photos(tabs.contains(AreaDetailTab.PHOTOS) ? buildPhotos(src.mediaHistory()) : null)
                 .build();
     }
 
@@ -65,62 +58,120 @@ public class DashboardAggregateBuilder {
                 .lon(area.getLon())
                 .attachmentStatus(area.getAttachmentStatus() != null ?
                         area.getAttachmentStatus().getName() : null)
+                .waterStats(WaterStatsResponse.from(area.getWaterStats()))
                 .build();
     }
 
-    private AreaDetailResponse.StatusTab buildStatus(
-            ProjectArea area,
-            List<MethodDistributionProjection> distributions,
-            List<WorkHistoryPointProjection> history,
-            List<TransplantItemProjection> speciesItems,
-            LocalDate lastWorkDate,
-            Double totalTransplantArea
-    ) {
+    /**
+     * 현황 탭: 이식 요약(단건)만으로 조립
+     * - 작업 히스토리는 데이터가 존재하는 최근 3개의 월만 사용 (항상 3개 이하 보장)
+     */
+    private AreaDetailResponse.StatusTab buildStatus(ProjectArea area, AreaTransplantSummary summary) {
         //  방식별 분포
-        Map<String, Double> distributionMap = new HashMap<>();
-        long totalCount = distributions.stream().mapToLong(MethodDistributionProjection::getCount).sum();
-
-        distributions.forEach(d -> {
-            double ratio = totalCount == 0 ? 0 : (double) d.getCount() / totalCount * 100;
-            distributionMap.put(d.getMethodName().getName(), Math.round(ratio * 10.0) / 10.0);
-        });
+        long totalCount = summary.getMethodCounts().values().stream().mapToLong(Long::longValue).sum();
+        Map<String, Double> distributionMap = toDistribution(summary.getMethodCounts(), totalCount);
 
         // 종별 리스트 생성
+        List<AreaDetailResponse.TransplantItem> speciesList = summary.getSpeciesMethodTotals().stream()
+                .map(t -> toTransplantItem(t.speciesName(), t.method(), t.quantity()))
+                .toList();
 
-        List<AreaDetailResponse.TransplantItem> speciesList = speciesItems.stream()
-                .map(p -> {
-
-                    TransplantMethod method = p.getMethodName();
-
-                    return AreaDetailResponse.TransplantItem.builder()
-                        .speciesName(p.getSpeciesName())
-                        .method(method.getName())
-                        .methodDesc(method.getDescription())
-                            .quantity(p.getTotalCount())
-                            .unit(method.getUnit())
-                            .build();
-                }
-                )
+        // 최근 데이터가 존재하는 3개의 월 (차트 X축은 오름차순)
+        List<Map.Entry<LocalDate, Long>> history = summary.getMonthlyCounts().entrySet().stream()
+                .map(e -> Map.entry(YearMonth.parse(e.getKey()).atDay(1), e.getValue()))
+                .sorted(Map.Entry.<LocalDate, Long>comparingByKey().reversed())
+                .limit(3)
+                .sorted(Map.Entry.comparingByKey())
                 .toList();
 
+        LocalDate lastWorkDate = summary.getLastWorkDate() != null ? summary.getLastWorkDate() : area.getStartDate();
 
         return AreaDetailResponse.StatusTab.builder()
                 .speciesList(speciesList)
                 .methodDistribution(distributionMap)
                 .accumulated(AreaDetailResponse.AccumulatedStats.builder()
-                        .totalAreaSize(totalTransplantArea)
+                        .totalAreaSize(summary.getTotalArea())
+                        .totalWorkCount((int) totalCount)
+                        .lastWorkDate(lastWorkDate)
+                        .build())
+                .workHistoryChart(TimeSeriesChartDto.builder()
+                        .labels(history.stream().map(Map.Entry::getKey).toList())
+                        .values(history.stream().map(h -> h.getValue().doubleValue()).toList())
+                        .unit("회")
+                        .build())
+                .build();
+    }
+
+    /**
+     * 현황 탭 (기간 / 집계 단위 지정)
+     * - (버킷, 방식, 종) 단위 집계 한 번의 결과로 분포 / 종별 수량 / 누적 통계 / 작업 횟수 차트를 모두 계산합니다.
+     * - buckets 는 기간 내 모든 버킷 시작일이며, 데이터가 없는 버킷은 0 으로 채웁니다.
+     */
+    public AreaDetailResponse.StatusTab buildStatusRange(List<StatusBucketProjection> rows, List<LocalDate> buckets, String period) {
+        Map<TransplantMethod, Long> methodCounts = new EnumMap<>(TransplantMethod.class);
+        Map<LocalDate, Long> bucketCounts = new HashMap<>();
+        Map<SpeciesMethod, Long> quantities = new LinkedHashMap<>();
+        long totalCount = 0;
+        double totalArea = 0;
+        LocalDate lastWorkDate = null;
+
+        for (StatusBucketProjection row : rows) {
+            TransplantMethod method = TransplantMethod.valueOf(row.getMethodName());
+            methodCounts.merge(method, row.getLogCount(), Long::sum);
+            bucketCounts.merge(row.getBucket(), row.getLogCount(), Long::sum);
+            quantities.merge(new SpeciesMethod(row.getSpeciesId(), row.getSpeciesName(), method), row.getQuantity(), Long::sum);
+
+            totalCount += row.getLogCount();
+            totalArea += row.getAreaSize();
+            if (lastWorkDate == null || row.getLastDate().isAfter(lastWorkDate)) lastWorkDate = row.getLastDate();
+        }
+
+        List<AreaDetailResponse.TransplantItem> speciesList = quantities.entrySet().stream()
+                .map(e -> toTransplantItem(e.getKey().speciesName(), e.getKey().method(), e.getValue()))
+                .toList();
+
+        return AreaDetailResponse.StatusTab.builder()
+                .speciesList(speciesList)
+                .methodDistribution(toDistribution(methodCounts, totalCount))
+                .accumulated(AreaDetailResponse.AccumulatedStats.builder()
+                        .totalAreaSize(totalArea)
                         .totalWorkCount((int) totalCount)
                         .lastWorkDate(lastWorkDate)
                         .build())
                 .workHistoryChart(TimeSeriesChartDto.builder()
-                        .labels(history.stream().map(WorkHistoryPointProjection::getMonth).toList())
-                        .values(history.stream().map(h -> h.getCount().doubleValue()).toList())
+                        .labels(buckets)
+                        .values(buckets.stream().map(b -> bucketCounts.getOrDefault(b, 0L).doubleValue()).toList())
                         .unit("회")
+                        .period(period)
                         .build())
                 .build();
     }
 
-    private AreaDetailResponse.EcologyTab buildEcology(ProjectArea area, List<GrowthLog> repLogs, List<MethodAttachmentStatusProjection> methodStatuses) {
+    private record SpeciesMethod(Long speciesId, String speciesName, TransplantMethod method) { }
+
+    /**
+     * 방식별 분포 (%; 소수점 1자리)
+     */
+    private Map<String, Double> toDistribution(Map<TransplantMethod, Long> methodCounts, long totalCount) {
+        Map<String, Double> distributionMap = new HashMap<>();
+        methodCounts.forEach((method, count) -> {
+            double ratio = totalCount == 0 ? 0 : (double) count / totalCount * 100;
+            distributionMap.put(method.getName(), Math.round(ratio * 10.0) / 10.0);
+        });
+        return distributionMap;
+    }
+
+    private AreaDetailResponse.TransplantItem toTransplantItem(String speciesName, TransplantMethod method, long quantity) {
+        return AreaDetailResponse.TransplantItem.builder()
+                .speciesName(speciesName)
+                .method(method.getName())
+                .methodDesc(method.getDescription())
+                .quantity(quantity)
+                .unit(method.getUnit())
+                .build();
+    }
+
+    private AreaDetailResponse.EcologyTab buildEcology(ProjectArea area, List<GrowthPointProjection> repLogs, List<MethodAttachmentStatusProjection> methodStatuses) {
 
         // DB에서 가져온 종별 최신 상태를 DTO로 매핑
         List<AreaDetailResponse.AttachmentStatus> attachmentStatuses = methodStatuses.stream()
@@ -144,8 +195,8 @@ public class DashboardAggregateBuilder {
                 .attachmentStatuses(attachmentStatuses)
                 .areaAttachmentStatus(area.getAttachmentStatus() != null ? area.getAttachmentStatus().getName() : "안정")
                 .representativeGrowthChart(TimeSeriesChartDto.builder()
-                        .labels(repLogs.stream().map(GrowthLog::getRecordDate).toList())
-                        .values(repLogs.stream().map(GrowthLog::getGrowthLength).toList())
+                        .labels(repLogs.stream().map(GrowthPointProjection::getRecordDate).toList())
+                        .values(repLogs.stream().map(GrowthPointProjection::getGrowthLength).toList())
                         .targetSpecies(targetSpeciesName)
                         .targetSpeciesId(targetSpeciesId)
                         .unit("mm/월")
@@ -153,13 +204,14 @@ public class DashboardAggregateBuilder {
                 .build();
     }
 
-    private AreaDetailResponse.EnvironmentTab buildEnvironment( EnvironmentSummaryProjection summary, List<TemperaturePointProjection> tempHistory) {
+    private AreaDetailResponse.EnvironmentTab buildEnvironment(MarineStatusSummary summary, List<TemperaturePointProjection> tempHistory) {
         return AreaDetailResponse.EnvironmentTab.builder()
+                .summaryMonths(summary.window().getMonths())
                 .last3MonthsSummary(AreaDetailResponse.EnvironmentSummary.builder()
-                        .visibility(toMarineStatusName(summary != null ? summary.getVisibility() : null))
-                        .current(toMarineStatusName(summary != null ? summary.getCurrent() : null))
-                        .surge(toMarineStatusName(summary != null ? summary.getSurge() : null))
-                        .wave(toMarineStatusName(summary != null ? summary.getWave() : null))
+                        .visibility(toMarineStatusName(summary.visibility()))
+                        .current(toMarineStatusName(summary.current()))
+                        .surge(toMarineStatusName(summary.surge()))
+                        .wave(toMarineStatusName(summary.wave()))
                         .build())
 
                 .temperatureChart(TimeSeriesChartDto.builder()
@@ -169,9 +221,9 @@ public class DashboardAggregateBuilder {
                         .build())
                 .build();
     }
-    private String toMarineStatusName(String enumName) {
-        if (enumName == null) return "데이터 없음";
-        return MarineStatus.valueOf(enumName).getName(); // GOOD/NORMAL/POOR -> 좋음/보통/나쁨
+    private String toMarineStatusName(MarineStatus status) {
+        if (status == null) return "데이터 없음";
+        return status.getName(); // GOOD/NORMAL/POOR -> 좋음/보통/나쁨
     }
 
     private AreaDetailResponse.PhotoTab buildPhotos(List<MediaPointProjection> mediaHistory) {
@@ -0,0 +1,144 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.bio.entity.Species;
+import com.ocean.piuda.bio.repository.SpeciesRepository;
+import com.ocean.piuda.dashboard.dto.ColumnarSeries;
+import com.ocean.piuda.dashboard.dto.response.ColumnarChartResponse;
+import com.ocean.piuda.dashboard.entity.ProjectArea;
+import com.ocean.piuda.dashboard.entity.WaterTemperatureRollup;
+import com.ocean.piuda.dashboard.enums.RollupResolution;
+import com.ocean.piuda.dashboard.repository.ChartSeriesJdbcRepository;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.WaterTemperatureRollupRepository;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 열(column) 형식 차트 조회
+ * - 성장 차트: 여러 종을 한 요청에서 겹쳐 그릴 수 있습니다. (미지정 시 대표종)
+ * - 수온 차트: 전체 기간
+ * - 시계열은 ChartSeriesJdbcRepository 에서 기본형 배열로 바로 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DashboardChartService {
+
+    static final int MAX_OVERLAY_SPECIES = 10;
+
+    private final ProjectAreaRepository projectAreaRepository;
+    private final SpeciesRepository speciesRepository;
+    private final ChartSeriesJdbcRepository chartSeriesRepository;
+    private final WaterTemperatureRollupRepository rollupRepository;
+
+    /**
+     * 종별 성장 길이 차트
+     * - speciesIds 순서대로 계열을 반환하며, 기록이 없는 종은 빈 배열입니다.
+     * - 존재하지 않는 종이 포함되면 RESOURCE_NOT_FOUND, MAX_OVERLAY_SPECIES 초과 시 INVALID_INPUT_VALUE
+     */
+    public ColumnarChartResponse getGrowthChart(Long areaId, List<Long> speciesIds) {
+        ProjectArea area = projectAreaRepository.findById(areaId)
+                .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
+
+        Set<Long> ids = new LinkedHashSet<>();
+        if (speciesIds == null || speciesIds.isEmpty()) {
+            if (area.getRepresentativeSpecies() != null) ids.add(area.getRepresentativeSpecies().getId());
+        } else {
+            speciesIds.stream().filter(Objects::nonNull).forEach(ids::add);
+        }
+        if (ids.size() > MAX_OVERLAY_SPECIES) throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+
+        if (ids.isEmpty()) return growthResponse(areaId, List.of());
+
+        Map<Long, String> names = speciesRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Species::getId, Species::getName));
+        if (names.size() != ids.size()) throw new BusinessException(ExceptionType.RESOURCE_NOT_FOUND);
+
+        Map<Long, ColumnarSeries> seriesBySpecies = chartSeriesRepository.findGrowthSeries(areaId, ids);
+
+        List<ColumnarChartResponse.Series> series = ids.stream()
+                .map(id -> toSeries(id, names.get(id), seriesBySpecies.getOrDefault(id, ColumnarSeries.EMPTY)))
+                .toList();
+
+        return growthResponse(areaId, series);
+    }
+
+    /**
+     * 수온 차트 (전체 기간)
+     * - resolution 이 있으면 원본 로그 대신 롤업(일/주/월) 버킷을 읽어 평균/최저/최고 3개 계열로 반환합니다.
+     * - 원본(resolution 없음) 조회에서 maxPoints 가 있으면 LTTB 로 다운샘플링합니다. (3 미만이면 INVALID_INPUT_VALUE)
+     */
+    public ColumnarChartResponse getTemperatureChart(Long areaId, Integer maxPoints, RollupResolution resolution) {
+        if (maxPoints != null && maxPoints < LttbDownsampler.MIN_POINTS) {
+            throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        }
+        if (!projectAreaRepository.existsById(areaId)) {
+            throw new BusinessException(ExceptionType.RESOURCE_NOT_FOUND);
+        }
+        if (resolution != null) return getTemperatureRollupChart(areaId, resolution);
+
+        ColumnarSeries temperature = chartSeriesRepository.findTemperatureSeries(areaId);
+        if (maxPoints != null) temperature = LttbDownsampler.downsample(temperature, maxPoints);
+
+        return ColumnarChartResponse.builder()
+                .areaId(areaId)
+                .metric("temperature")
+                .unit("℃")
+                .series(List.of(toSeries(null, "수온", temperature)))
+                .build();
+    }
+
+    private ColumnarChartResponse getTemperatureRollupChart(Long areaId, RollupResolution resolution) {
+        List<WaterTemperatureRollup> rollups =
+                rollupRepository.findAllByAreaIdAndResolutionOrderByBucketStartAsc(areaId, resolution);
+
+        ColumnarSeries.Buffer avg = new ColumnarSeries.Buffer(rollups.size());
+        ColumnarSeries.Buffer min = new ColumnarSeries.Buffer(rollups.size());
+        ColumnarSeries.Buffer max = new ColumnarSeries.Buffer(rollups.size());
+        for (WaterTemperatureRollup rollup : rollups) {
+            int day = (int) rollup.getBucketStart().toEpochDay();
+            avg.add(day, rollup.getTemperatureAvg());
+            min.add(day, rollup.getTemperatureMin());
+            max.add(day, rollup.getTemperatureMax());
+        }
+
+        return ColumnarChartResponse.builder()
+                .areaId(areaId)
+                .metric("temperature")
+                .unit("℃")
+                .resolution(resolution.name())
+                .series(List.of(
+                        toSeries(null, "평균 수온", avg.build()),
+                        toSeries(null, "최저 수온", min.build()),
+                        toSeries(null, "최고 수온", max.build())))
+                .build();
+    }
+
+    private ColumnarChartResponse growthResponse(Long areaId, List<ColumnarChartResponse.Series> series) {
+        return ColumnarChartResponse.builder()
+                .areaId(areaId)
+                .metric("growth")
+                .unit("mm")
+                .series(series)
+                .build();
+    }
+
+    private ColumnarChartResponse.Series toSeries(Long speciesId, String name, ColumnarSeries columns) {
+        return ColumnarChartResponse.Series.builder()
+                .speciesId(speciesId)
+                .name(name)
+                .days(columns.days())
+                .values(columns.values())
+                .build();
+    }
+}
@@ -4,13 +4,19 @@ import com.ocean.piuda.bio.entity.Species;
 import com.ocean.piuda.bio.repository.SpeciesRepository;
 import com.ocean.piuda.dashboard.dto.request.*;
 import com.ocean.piuda.dashboard.entity.*;
+import com.ocean.piuda.dashboard.entity.AreaTransplantSummary.TransplantContribution;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
 import com.ocean.piuda.dashboard.repository.*;
 import com.ocean.piuda.global.api.exception.BusinessException;
 import com.ocean.piuda.global.api.exception.ExceptionType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -22,6 +28,10 @@ public class DashboardCommandService {
     private final WaterLogRepository waterLogRepository;
     private final MediaLogRepository mediaLogRepository;
     private final SpeciesRepository speciesRepository;
+    private final TransplantSummaryService transplantSummaryService;
+    private final TemperatureRollupService temperatureRollupService;
+    private final WaterStatsService waterStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // -------------------------
     // ProjectArea
@@ -41,7 +51,9 @@ public class DashboardCommandService {
                 .build();
 
         area.setLocation(req.lat(), req.lon());
-        return projectAreaRepository.save(area).getId();
+        Long areaId = projectAreaRepository.save(area).getId();
+        publishChanged(areaId, DashboardChangeType.AREA);
+        return areaId;
     }
 
     public void updateArea(Long areaId, UpdateProjectAreaRequest req) {
@@ -66,12 +78,26 @@ public class DashboardCommandService {
                 req.lon(),
                 representativeSpecies
         );
+        markChanged(areaId, DashboardChangeType.AREA);
     }
 
+    /**
+     * 작업 영역 삭제 (집합 단위)
+     * - 영역과 하위 로그를 엔티티로 로딩하지 않고, 로그 테이블마다 DELETE 1회 후 영역을 삭제합니다.
+     * - 로그 수와 무관하게 실행되는 문장 수가 일정합니다. (존재 확인 1 + 로그 4 + 이식 요약 1 + 수온 롤업 1 + 영역 1)
+     */
     public void deleteArea(Long areaId) {
-        ProjectArea area = projectAreaRepository.findById(areaId)
-                .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
-        projectAreaRepository.delete(area); // cascade로 로그들도 같이 정리
+        if (!projectAreaRepository.existsById(areaId)) {
+            throw new BusinessException(ExceptionType.RESOURCE_NOT_FOUND);
+        }
+        transplantLogRepository.deleteAllByAreaId(areaId);
+        growthLogRepository.deleteAllByAreaId(areaId);
+        waterLogRepository.deleteAllByAreaId(areaId);
+        mediaLogRepository.deleteAllByAreaId(areaId);
+        transplantSummaryService.onAreaDeleted(areaId);
+        temperatureRollupService.onAreaDeleted(areaId);
+        projectAreaRepository.deleteByIdInBulk(areaId);
+        publishChanged(areaId, DashboardChangeType.AREA);
     }
 
     // -------------------------
@@ -96,7 +122,10 @@ public class DashboardCommandService {
 
         area.addTransplant(log);
 
-        return transplantLogRepository.save(log).getId();
+        Long logId = transplantLogRepository.save(log).getId();
+        transplantSummaryService.onCreated(areaId, TransplantContribution.of(log));
+        markChanged(areaId, DashboardChangeType.TRANSPLANT);
+        return logId;
     }
 
     public void updateTransplant(Long areaId, Long logId, UpdateTransplantLogRequest req) {
@@ -109,6 +138,8 @@ public class DashboardCommandService {
                     .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
         }
 
+        TransplantContribution before = TransplantContribution.of(log);
+
         log.update(
                 req.recordDate(),
                 req.method(),
@@ -117,12 +148,18 @@ public class DashboardCommandService {
                 req.areaSize(),
                 req.attachmentStatus()
         );
+
+        transplantSummaryService.onUpdated(areaId, before, TransplantContribution.of(log));
+        markChanged(areaId, DashboardChangeType.TRANSPLANT);
     }
 
     public void deleteTransplant(Long areaId, Long logId) {
         TransplantLog log = transplantLogRepository.findByIdAndProjectAreaId(logId, areaId)
                 .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
+        TransplantContribution deleted = TransplantContribution.of(log);
         transplantLogRepository.delete(log);
+        transplantSummaryService.onDeleted(areaId, deleted);
+        markChanged(areaId, DashboardChangeType.TRANSPLANT);
     }
 
 
@@ -137,6 +174,7 @@ public class DashboardCommandService {
                 .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
 
         area.setRepresentativeSpecies(species);
+        markChanged(areaId, DashboardChangeType.REPRESENTATIVE_SPECIES);
     }
 
     // -------------------------
@@ -159,7 +197,9 @@ public class DashboardCommandService {
 
         area.addGrowth(log);
 
-        return growthLogRepository.save(log).getId();
+        Long logId = growthLogRepository.save(log).getId();
+        markChanged(areaId, DashboardChangeType.GROWTH);
+        return logId;
     }
 
     public void updateGrowth(Long areaId, Long logId, UpdateGrowthLogRequest req) {
@@ -178,6 +218,7 @@ public class DashboardCommandService {
                 req.growthLength(),
                 req.status()
         );
+        markChanged(areaId, DashboardChangeType.GROWTH);
     }
 
 
@@ -185,6 +226,7 @@ public class DashboardCommandService {
         GrowthLog log = growthLogRepository.findByIdAndProjectAreaId(logId, areaId)
                 .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
         growthLogRepository.delete(log);
+        markChanged(areaId, DashboardChangeType.GROWTH);
     }
 
     // -------------------------
@@ -192,7 +234,7 @@ public class DashboardCommandService {
     // -------------------------
 
     public Long createWater(Long areaId, CreateWaterLogRequest req) {
-        ProjectArea area = projectAreaRepository.findById(areaId)
+        ProjectArea area = projectAreaRepository.findForUpdate(areaId)
                 .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
 
         WaterLog log = WaterLog.builder()
@@ -206,12 +248,20 @@ public class DashboardCommandService {
 
         area.addWater(log);
 
-        return waterLogRepository.save(log).getId();
+        Long logId = waterLogRepository.save(log).getId();
+        temperatureRollupService.onCreated(areaId, log.getRecordDate(), log.getTemperature());
+        waterStatsService.onCreated(area, log);
+        markChanged(areaId, DashboardChangeType.WATER);
+        return logId;
     }
 
     public void updateWater(Long areaId, Long logId, UpdateWaterLogRequest req) {
+        ProjectArea area = projectAreaRepository.findForUpdate(areaId)
+                .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
         WaterLog log = waterLogRepository.findByIdAndProjectAreaId(logId, areaId)
                 .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
+        LocalDate beforeDate = log.getRecordDate();
+        Double beforeTemperature = log.getTemperature();
 
         log.update(
                 req.recordDate(),
@@ -221,13 +271,23 @@ public class DashboardCommandService {
                 req.surge(),
                 req.wave()
         );
+        if (!beforeDate.equals(log.getRecordDate()) || !beforeTemperature.equals(log.getTemperature())) {
+            temperatureRollupService.onUpdated(areaId, beforeDate, log.getRecordDate());
+            waterStatsService.onUpdated(area, beforeTemperature, log);
+        }
+        markChanged(areaId, DashboardChangeType.WATER);
     }
 
 
     public void deleteWater(Long areaId, Long logId) {
+        ProjectArea area = projectAreaRepository.findForUpdate(areaId)
+                .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
         WaterLog log = waterLogRepository.findByIdAndProjectAreaId(logId, areaId)
                 .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
         waterLogRepository.delete(log);
+        temperatureRollupService.onDeleted(areaId, log.getRecordDate());
+        waterStatsService.onDeleted(area, log);
+        markChanged(areaId, DashboardChangeType.WATER);
     }
 
     // -------------------------
@@ -247,7 +307,9 @@ public class DashboardCommandService {
 
         area.addMedia(log);
 
-        return mediaLogRepository.save(log).getId();
+        Long logId = mediaLogRepository.save(log).getId();
+        markChanged(areaId, DashboardChangeType.MEDIA);
+        return logId;
     }
 
     public void updateMedia(Long areaId, Long logId, UpdateMediaLogRequest req) {
@@ -260,6 +322,7 @@ public class DashboardCommandService {
                 req.caption(),
                 req.category()
         );
+        markChanged(areaId, DashboardChangeType.MEDIA);
     }
 
 
@@ -267,5 +330,23 @@ public class DashboardCommandService {
         MediaLog log = mediaLogRepository.findByIdAndProjectAreaId(logId, areaId)
                 .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
         mediaLogRepository.delete(log);
+        markChanged(areaId, DashboardChangeType.MEDIA);
+    }
+
+    /**
+     * 영역 변경 버전 증가 + 변경 이벤트 발행
+     * - 하위 로그가 바뀌어도 영역의 dataVersion / modifiedAt 이 갱신되어 조회 API 의 ETag 가 바뀝니다.
+     * - 버전은 UPDATE ... SET data_version = data_version + 1 로 증가시킵니다. (잠그지 않은 엔티티 값 기준 증가 금지)
+     */
+    private void markChanged(Long areaId, DashboardChangeType type) {
+        projectAreaRepository.incrementDataVersion(areaId);
+        publishChanged(areaId, type);
+    }
+
+    /**
+     * 변경 이벤트 발행 (구독자는 커밋 이후에 처리)
+     */
+    private void publishChanged(Long areaId, DashboardChangeType type) {
+        eventPublisher.publishEvent(new DashboardChangedEvent(areaId, type));
     }
 }
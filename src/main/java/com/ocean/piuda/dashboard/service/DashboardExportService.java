@@ -0,0 +1,119 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocean.piuda.dashboard.dto.response.GrowthLogResponse;
+import com.ocean.piuda.dashboard.dto.response.LogExportLine;
+import com.ocean.piuda.dashboard.dto.response.MediaLogResponse;
+import com.ocean.piuda.dashboard.dto.response.TransplantLogResponse;
+import com.ocean.piuda.dashboard.dto.response.WaterLogResponse;
+import com.ocean.piuda.dashboard.repository.GrowthLogRepository;
+import com.ocean.piuda.dashboard.repository.MediaLogRepository;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.TransplantLogRepository;
+import com.ocean.piuda.dashboard.repository.WaterLogRepository;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 작업 영역 로그 전체 이력 내보내기 (NDJSON)
+ * - 이식 → 성장 → 수질 → 미디어 순서로, 각 로그를 기록일/id 오름차순 한 줄씩 씁니다.
+ * - 로그 종류마다 서버 측 커서(Stream, fetch size 고정)로 읽고, 한 줄을 쓴 뒤 엔티티를 detach 하므로
+ *   기간이 길어도 힙 사용량이 일정합니다. (페이지/카운트 쿼리 없음)
+ * - 응답 스트림은 요청 스레드가 아닌 비동기 스레드에서 쓰이므로 읽기 전용 트랜잭션을 직접 엽니다.
+ */
+@Slf4j
+@Service
+public class DashboardExportService {
+
+    private final ProjectAreaRepository projectAreaRepository;
+    private final TransplantLogRepository transplantLogRepository;
+    private final GrowthLogRepository growthLogRepository;
+    private final WaterLogRepository waterLogRepository;
+    private final MediaLogRepository mediaLogRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+
+    public DashboardExportService(
+            ProjectAreaRepository projectAreaRepository,
+            TransplantLogRepository transplantLogRepository,
+            GrowthLogRepository growthLogRepository,
+            WaterLogRepository waterLogRepository,
+            MediaLogRepository mediaLogRepository,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.projectAreaRepository = projectAreaRepository;
+        this.transplantLogRepository = transplantLogRepository;
+        this.growthLogRepository = growthLogRepository;
+        this.waterLogRepository = waterLogRepository;
+        this.mediaLogRepository = mediaLogRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 스트리밍 시작 전에 호출 (없는 영역이면 본문을 쓰기 전에 RESOURCE_NOT_FOUND)
+     */
+    public void assertAreaExists(Long areaId) {
+        if (!projectAreaRepository.existsById(areaId)) {
+            throw new BusinessException(ExceptionType.RESOURCE_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 영역의 전체 로그를 NDJSON 으로 씁니다.
+     *
+     * @return 쓴 줄 수
+     */
+    public long exportAreaLogs(Long areaId, OutputStream out) {
+        Long lines = readOnlyTx.execute(status -> {
+            long written = 0;
+            written += writeAll(transplantLogRepository.streamAllByAreaId(areaId), "transplant", TransplantLogResponse::from, out);
+            written += writeAll(growthLogRepository.streamAllByAreaId(areaId), "growth", GrowthLogResponse::from, out);
+            written += writeAll(waterLogRepository.streamAllByAreaId(areaId), "water", WaterLogResponse::from, out);
+            written += writeAll(mediaLogRepository.streamAllByAreaId(areaId), "media", MediaLogResponse::from, out);
+            return written;
+        });
+        log.info("로그 내보내기 완료 - areaId={}, lines={}", areaId, lines);
+        return lines != null ? lines : 0;
+    }
+
+    private <E> long writeAll(Stream<E> logs, String type, Function<E, ?> mapper, OutputStream out) {
+        long written = 0;
+        try (logs) {
+            var iterator = logs.iterator();
+            while (iterator.hasNext()) {
+                E entity = iterator.next();
+                writeLine(out, new LogExportLine(type, mapper.apply(entity)));
+                entityManager.detach(entity);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private void writeLine(OutputStream out, LogExportLine line) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등: 트랜잭션(커서)을 닫고 중단
+            throw new UncheckedIOException(e);
+        }
+    }
+}
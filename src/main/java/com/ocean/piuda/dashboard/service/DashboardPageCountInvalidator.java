@@ -0,0 +1,46 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.entity.GrowthLog;
+import com.ocean.piuda.dashboard.entity.MediaLog;
+import com.ocean.piuda.dashboard.entity.ProjectArea;
+import com.ocean.piuda.dashboard.entity.TransplantLog;
+import com.ocean.piuda.dashboard.entity.WaterLog;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.global.cache.PageCountCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 대시보드 목록 개수 캐시 무효화
+ * - DashboardChangedEvent 를 커밋 이후(AFTER_COMMIT)에 받아 변경 종류에 해당하는 개수만 무효화합니다.
+ * - 로그 개수는 영역 단위(scope = areaId)로, 작업 영역 목록 개수는 영역 변경 시에만 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardPageCountInvalidator {
+
+    private static final List<Class<?>> LOG_TYPES =
+            List.of(TransplantLog.class, GrowthLog.class, WaterLog.class, MediaLog.class);
+
+    private final PageCountCache pageCountCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        switch (event.type()) {
+            case AREA -> {
+                // 영역 생성/수정/삭제: 목록 개수 + (삭제 시) 해당 영역의 로그 개수
+                pageCountCache.invalidate(ProjectArea.class);
+                LOG_TYPES.forEach(type -> pageCountCache.invalidate(type, event.areaId()));
+            }
+            case TRANSPLANT -> pageCountCache.invalidate(TransplantLog.class, event.areaId());
+            case GROWTH -> pageCountCache.invalidate(GrowthLog.class, event.areaId());
+            case WATER -> pageCountCache.invalidate(WaterLog.class, event.areaId());
+            case MEDIA -> pageCountCache.invalidate(MediaLog.class, event.areaId());
+            case REPRESENTATIVE_SPECIES -> { }
+        }
+    }
+}
@@ -1,5 +1,12 @@
 package com.ocean.piuda.dashboard.service;
+import com.ocean.piuda.dashboard.dto.DataVersion;
+import com.ocean.piuda.dashboard.dto.LogCursor;
+import com.ocean.piuda.dashboard.dto.TimelineCursor;
+import com.ocean.piuda.dashboard.dto.request.LogCursorRequest;
 import com.ocean.piuda.dashboard.dto.request.AreaPageRequest;
+import com.ocean.piuda.dashboard.enums.AreaDetailTab;
+import com.ocean.piuda.dashboard.enums.EnvironmentWindow;
+import com.ocean.piuda.dashboard.enums.TimelineSource;
 import com.ocean.piuda.dashboard.enums.RestorationRegion;
 import com.ocean.piuda.dashboard.enums.ProjectLevel;
 import com.ocean.piuda.dashboard.enums.HabitatType;
@@ -21,15 +28,30 @@ import com.ocean.piuda.global.api.exception.BusinessException;
 import com.ocean.piuda.global.api.exception.ExceptionType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import com.ocean.piuda.dashboard.dto.request.LogPageRequest;
 import com.ocean.piuda.dashboard.dto.response.*;
+import com.ocean.piuda.global.api.dto.CursorResponse;
 import com.ocean.piuda.global.api.dto.PageResponse;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import com.ocean.piuda.global.cache.PageCountCache;
+import com.ocean.piuda.global.cache.PageCountCache.CountFilter;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Slice;
 
 
 @Service
@@ -43,6 +65,15 @@ public class DashboardQueryService {
     private final TransplantLogRepository transplantLogRepository;
     private final GrowthLogRepository growthLogRepository;
     private final MediaLogRepository mediaLogRepository;
+    private final AreaDetailTabLoader tabLoader;
+    private final AreaTransplantSummaryRepository transplantSummaryRepository;
+    private final AreaDetailCache detailCache;
+    private final PageCountCache pageCountCache;
+    private final AreaMarkerIndex markerIndex;
+    private final MarkerBBoxCache markerBBoxCache;
+
+    /** 다중 영역 상세 조회 최대 영역 수 */
+    static final int MAX_BATCH_AREAS = 50;
 
     private static final LocalDate DEFAULT_FROM = LocalDate.of(1900, 1, 1);
     private static final LocalDate DEFAULT_TO   = LocalDate.of(3000, 12, 31);
@@ -64,17 +95,17 @@ public class DashboardQueryService {
     public PageResponse<TransplantLogResponse> getTransplantLogs(
             Long areaId, LocalDate from, LocalDate to, LogPageRequest req
     ) {
-        var pageable = req.toPageable();
-        Page<TransplantLog> page = transplantLogRepository.findAllByProjectAreaIdAndRecordDateBetween(
-                areaId, safeFrom(from), safeTo(to), pageable
+        LocalDate fromDate = safeFrom(from);
+        LocalDate toDate = safeTo(to);
+        Slice<TransplantLogResponse> slice = transplantLogRepository.findAllByProjectAreaIdAndRecordDateBetween(
+                areaId, fromDate, toDate, req.toPageable()
+        ).map(TransplantLogResponse::from);
+
+        return pageCountCache.respond(
+                slice, req.isIncludeTotal(),
+                CountFilter.of(TransplantLog.class, areaId, fromDate, toDate),
+                () -> transplantLogRepository.countByProjectAreaIdAndRecordDateBetween(areaId, fromDate, toDate)
         );
-
-        List<TransplantLogResponse> content = page.getContent().stream()
-                .map(TransplantLogResponse::from)
-                .toList();
-
-        Page<TransplantLogResponse> mapped = new PageImpl<>(content, pageable, page.getTotalElements());
-        return PageResponse.of(mapped);
     }
 
     /**
@@ -91,17 +122,17 @@ public class DashboardQueryService {
     public PageResponse<GrowthLogResponse> getGrowthLogs(
             Long areaId, LocalDate from, LocalDate to, LogPageRequest req
     ) {
-        var pageable = req.toPageable();
-        Page<GrowthLog> page = growthLogRepository.findAllByProjectAreaIdAndRecordDateBetween(
-                areaId, safeFrom(from), safeTo(to), pageable
+        LocalDate fromDate = safeFrom(from);
+        LocalDate toDate = safeTo(to);
+        Slice<GrowthLogResponse> slice = growthLogRepository.findAllByProjectAreaIdAndRecordDateBetween(
+                areaId, fromDate, toDate, req.toPageable()
+        ).map(GrowthLogResponse::from);
+
+        return pageCountCache.respond(
+                slice, req.isIncludeTotal(),
+                CountFilter.of(GrowthLog.class, areaId, fromDate, toDate),
+                () -> growthLogRepository.countByProjectAreaIdAndRecordDateBetween(areaId, fromDate, toDate)
         );
-
-        List<GrowthLogResponse> content = page.getContent().stream()
-                .map(GrowthLogResponse::from)
-                .toList();
-
-        Page<GrowthLogResponse> mapped = new PageImpl<>(content, pageable, page.getTotalElements());
-        return PageResponse.of(mapped);
     }
 
     /**
@@ -118,17 +149,17 @@ public class DashboardQueryService {
     public PageResponse<WaterLogResponse> getWaterLogs(
             Long areaId, LocalDate from, LocalDate to, LogPageRequest req
     ) {
-        var pageable = req.toPageable();
-        Page<WaterLog> page = waterLogRepository.findAllByProjectAreaIdAndRecordDateBetween(
-                areaId, safeFrom(from), safeTo(to), pageable
+        LocalDate fromDate = safeFrom(from);
+        LocalDate toDate = safeTo(to);
+        Slice<WaterLogResponse> slice = waterLogRepository.findAllByProjectAreaIdAndRecordDateBetween(
+                areaId, fromDate, toDate, req.toPageable()
+        ).map(WaterLogResponse::from);
+
+        return pageCountCache.respond(
+                slice, req.isIncludeTotal(),
+                CountFilter.of(WaterLog.class, areaId, fromDate, toDate),
+                () -> waterLogRepository.countByProjectAreaIdAndRecordDateBetween(areaId, fromDate, toDate)
         );
-
-        List<WaterLogResponse> content = page.getContent().stream()
-                .map(WaterLogResponse::from)
-                .toList();
-
-        Page<WaterLogResponse> mapped = new PageImpl<>(content, pageable, page.getTotalElements());
-        return PageResponse.of(mapped);
     }
 
     /**
@@ -145,17 +176,154 @@ public class DashboardQueryService {
     public PageResponse<MediaLogResponse> getMediaLogs(
             Long areaId, LocalDate from, LocalDate to, LogPageRequest req
     ) {
-        var pageable = req.toPageable();
-        Page<MediaLog> page = mediaLogRepository.findAllByProjectAreaIdAndRecordDateBetween(
-                areaId, safeFrom(from), safeTo(to), pageable
+        LocalDate fromDate = safeFrom(from);
+        LocalDate toDate = safeTo(to);
+        Slice<MediaLogResponse> slice = mediaLogRepository.findAllByProjectAreaIdAndRecordDateBetween(
+                areaId, fromDate, toDate, req.toPageable()
+        ).map(MediaLogResponse::from);
+
+        return pageCountCache.respond(
+                slice, req.isIncludeTotal(),
+                CountFilter.of(MediaLog.class, areaId, fromDate, toDate),
+                () -> mediaLogRepository.countByProjectAreaIdAndRecordDateBetween(areaId, fromDate, toDate)
         );
+    }
+
+    /**
+     * ----------------------------
+     * 로그 목록 커서 페이지 조회
+     * - (record_date, id) 기준 keyset 탐색이므로 페이지가 깊어져도 비용이 같고 COUNT 쿼리가 없습니다.
+     * - size + 1 건을 조회해 다음 페이지 존재 여부를 판단합니다.
+     * ----------------------------
+     */
+    public CursorResponse<TransplantLogResponse> getTransplantLogsByCursor(
+            Long areaId, LocalDate from, LocalDate to, LogCursorRequest req
+    ) {
+        LogCursor cursor = req.resolveCursor(safeFrom(from), safeTo(to));
+        Limit limit = Limit.of(req.getSize() + 1);
+        List<TransplantLog> rows = req.isAscending()
+                ? transplantLogRepository.findPageAfterCursor(areaId, safeFrom(from), safeTo(to), cursor.recordDate(), cursor.id(), limit)
+                : transplantLogRepository.findPageBeforeCursor(areaId, safeFrom(from), safeTo(to), cursor.recordDate(), cursor.id(), limit);
+        return toCursorResponse(rows, req, TransplantLog::getRecordDate, TransplantLog::getId, TransplantLogResponse::from);
+    }
 
-        List<MediaLogResponse> content = page.getContent().stream()
-                .map(MediaLogResponse::from)
+    public CursorResponse<GrowthLogResponse> getGrowthLogsByCursor(
+            Long areaId, LocalDate from, LocalDate to, LogCursorRequest req
+    ) {
+        LogCursor cursor = req.resolveCursor(safeFrom(from), safeTo(to));
+        Limit limit = Limit.of(req.getSize() + 1);
+        List<GrowthLog> rows = req.isAscending()
+                ? growthLogRepository.findPageAfterCursor(areaId, safeFrom(from), safeTo(to), cursor.recordDate(), cursor.id(), limit)
+                : growthLogRepository.findPageBeforeCursor(areaId, safeFrom(from), safeTo(to), cursor.recordDate(), cursor.id(), limit);
+        return toCursorResponse(rows, req, GrowthLog::getRecordDate, GrowthLog::getId, GrowthLogResponse::from);
+    }
+
+    public CursorResponse<WaterLogResponse> getWaterLogsByCursor(
+            Long areaId, LocalDate from, LocalDate to, LogCursorRequest req
+    ) {
+        LogCursor cursor = req.resolveCursor(safeFrom(from), safeTo(to));
+        Limit limit = Limit.of(req.getSize() + 1);
+        List<WaterLog> rows = req.isAscending()
+                ? waterLogRepository.findPageAfterCursor(areaId, safeFrom(from), safeTo(to), cursor.recordDate(), cursor.id(), limit)
+                : waterLogRepository.findPageBeforeCursor(areaId, safeFrom(from), safeTo(to), cursor.recordDate(), cursor.id(), limit);
+        return toCursorResponse(rows, req, WaterLog::getRecordDate, WaterLog::getId, WaterLogResponse::from);
+    }
+
+    public CursorResponse<MediaLogResponse> getMediaLogsByCursor(
+            Long areaId, LocalDate from, LocalDate to, LogCursorRequest req
+    ) {
+        LogCursor cursor = req.resolveCursor(safeFrom(from), safeTo(to));
+        Limit limit = Limit.of(req.getSize() + 1);
+        List<MediaLog> rows = req.isAscending()
+                ? mediaLogRepository.findPageAfterCursor(areaId, safeFrom(from), safeTo(to), cursor.recordDate(), cursor.id(), limit)
+                : mediaLogRepository.findPageBeforeCursor(areaId, safeFrom(from), safeTo(to), cursor.recordDate(), cursor.id(), limit);
+        return toCursorResponse(rows, req, MediaLog::getRecordDate, MediaLog::getId, MediaLogResponse::from);
+    }
+
+    /**
+     * 통합 타임라인 (이식/성장/수질/미디어 로그를 기록일 순으로 병합)
+     * - 출처마다 커서 이후 size+1 행만 읽고(인덱스 탐색), k-way merge 로 size 개를 골라냅니다.
+     * - 같은 기록일은 TimelineSource 선언 순서, 같은 출처는 id 순입니다. (내림차순이면 모두 반대)
+     * - 다음 커서는 마지막 항목의 (기록일, 출처, id) 이며 COUNT 는 실행하지 않습니다.
+     */
+    public CursorResponse<TimelineItemResponse> getTimeline(
+            Long areaId, LocalDate from, LocalDate to, LogCursorRequest req
+    ) {
+        boolean ascending = req.isAscending();
+        LocalDate fromDate = safeFrom(from);
+        LocalDate toDate = safeTo(to);
+        TimelineCursor cursor = (req.getCursor() == null || req.getCursor().isBlank())
+                ? null
+                : TimelineCursor.decode(req.getCursor(), ascending);
+        Function<TimelineSource, LogCursor> sourceCursor = source -> cursor == null
+                ? LogCursor.first(ascending, fromDate, toDate)
+                : cursor.toLogCursor(source, ascending);
+        Limit limit = Limit.of(req.getSize() + 1);
+
+        LogCursor t = sourceCursor.apply(TimelineSource.TRANSPLANT);
+        List<TimelineItemResponse> transplants = (ascending
+                ? transplantLogRepository.findPageAfterCursor(areaId, fromDate, toDate, t.recordDate(), t.id(), limit)
+                : transplantLogRepository.findPageBeforeCursor(areaId, fromDate, toDate, t.recordDate(), t.id(), limit))
+                .stream()
+                .map(log -> TimelineItemResponse.of(TimelineSource.TRANSPLANT, log.getRecordDate(), log.getId(), TransplantLogResponse.from(log)))
                 .toList();
 
-        Page<MediaLogResponse> mapped = new PageImpl<>(content, pageable, page.getTotalElements());
-        return PageResponse.of(mapped);
+        LogCursor g = sourceCursor.apply(TimelineSource.GROWTH);
+        List<TimelineItemResponse> growths = (ascending
+                ? growthLogRepository.findPageAfterCursor(areaId, fromDate, toDate, g.recordDate(), g.id(), limit)
+                : growthLogRepository.findPageBeforeCursor(areaId, fromDate, toDate, g.recordDate(), g.id(), limit))
+                .stream()
+                .map(log -> TimelineItemResponse.of(TimelineSource.GROWTH, log.getRecordDate(), log.getId(), GrowthLogResponse.from(log)))
+                .toList();
+
+        LogCursor w = sourceCursor.apply(TimelineSource.WATER);
+        List<TimelineItemResponse> waters = (ascending
+                ? waterLogRepository.findPageAfterCursor(areaId, fromDate, toDate, w.recordDate(), w.id(), limit)
+                : waterLogRepository.findPageBeforeCursor(areaId, fromDate, toDate, w.recordDate(), w.id(), limit))
+                .stream()
+                .map(log -> TimelineItemResponse.of(TimelineSource.WATER, log.getRecordDate(), log.getId(), WaterLogResponse.from(log)))
+                .toList();
+
+        LogCursor m = sourceCursor.apply(TimelineSource.MEDIA);
+        List<TimelineItemResponse> medias = (ascending
+                ? mediaLogRepository.findPageAfterCursor(areaId, fromDate, toDate, m.recordDate(), m.id(), limit)
+                : mediaLogRepository.findPageBeforeCursor(areaId, fromDate, toDate, m.recordDate(), m.id(), limit))
+                .stream()
+                .map(log -> TimelineItemResponse.of(TimelineSource.MEDIA, log.getRecordDate(), log.getId(), MediaLogResponse.from(log)))
+                .toList();
+
+        Comparator<TimelineItemResponse> order = Comparator.comparing(TimelineItemResponse::recordDate)
+                .thenComparing(TimelineItemResponse::type)
+                .thenComparing(TimelineItemResponse::id);
+        List<TimelineItemResponse> merged = KWayMerge.merge(
+                List.of(transplants, growths, waters, medias),
+                ascending ? order : order.reversed(),
+                req.getSize() + 1);
+
+        boolean hasNext = merged.size() > req.getSize();
+        List<TimelineItemResponse> page = hasNext ? merged.subList(0, req.getSize()) : merged;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TimelineItemResponse last = page.get(page.size() - 1);
+            nextCursor = new TimelineCursor(last.recordDate(), last.type(), last.id()).encode(ascending);
+        }
+        return CursorResponse.of(page, req.getSize(), nextCursor);
+    }
+
+    private <E, R> CursorResponse<R> toCursorResponse(
+            List<E> rows, LogCursorRequest req,
+            Function<E, LocalDate> recordDate, Function<E, Long> id, Function<E, R> mapper
+    ) {
+        boolean hasNext = rows.size() > req.getSize();
+        List<E> page = hasNext ? rows.subList(0, req.getSize()) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            nextCursor = new LogCursor(recordDate.apply(last), id.apply(last)).encode(req.isAscending());
+        }
+        return CursorResponse.of(page.stream().map(mapper).toList(), req.getSize(), nextCursor);
     }
 
 
@@ -168,7 +336,7 @@ public class DashboardQueryService {
             String keyword,
             AreaPageRequest req
     ) {
-        var pageable = req.toPageable();
+        String normalizedKeyword = keyword != null && !keyword.isBlank() ? keyword.trim().toLowerCase() : null;
 
         Specification<ProjectArea> spec = (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -182,8 +350,8 @@ public class DashboardQueryService {
             if (habitat != null) {
                 predicates.add(cb.equal(root.get("habitat"), habitat));
             }
-            if (keyword != null && !keyword.isBlank()) {
-                String like = "%" + keyword.trim().toLowerCase() + "%";
+            if (normalizedKeyword != null) {
+                String like = "%" + normalizedKeyword + "%";
                 predicates.add(cb.like(cb.lower(root.get("name")), like));
             }
 
@@ -209,65 +377,385 @@ public class DashboardQueryService {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
 
-        Page<ProjectArea> page = projectAreaRepository.findAll(spec, pageable);
+        Slice<ProjectAreaListItemResponse> slice = projectAreaRepository.findSlice(spec, req.toPageable())
+                .map(ProjectAreaListItemResponse::from);
 
-        var content = page.getContent().stream()
-                .map(ProjectAreaListItemResponse::from)
-                .toList();
+        return pageCountCache.respond(
+                slice, req.isIncludeTotal(),
+                CountFilter.of(ProjectArea.class, null, region, level, habitat, from, to, normalizedKeyword),
+                () -> projectAreaRepository.count(spec)
+        );
+    }
 
-        Page<ProjectAreaListItemResponse> mapped = new PageImpl<>(content, pageable, page.getTotalElements());
-        return PageResponse.of(mapped);
+
+    /**
+     * 조건부 GET 용 버전 : 특정 작업 영역 (영역 + 하위 로그)
+     * - PK 단건 조회만 수행하므로 응답 조립 전에 호출합니다.
+     */
+    public DataVersion getAreaVersion(Long id) {
+        return projectAreaRepository.findVersionById(id)
+                .map(v -> DataVersion.ofArea(id, v))
+                .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
     }
 
+    /**
+     * 조건부 GET 용 버전 : 전체 작업 영역 (목록 / 마커 / 통계)
+     */
+    public DataVersion getDashboardVersion() {
+        return DataVersion.ofDashboard(projectAreaRepository.findDashboardVersion());
+    }
 
     /**
      * 1. 상세 조회 : 특정 작업 영역의 모든 상세 데이터(5개 탭)를 조회합니다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AreaDetailResponse getAreaDetail(Long id) {
-        // 작업 영역 엔티티
-        ProjectArea area = projectAreaRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
+        return getAreaDetail(id, EnumSet.allOf(AreaDetailTab.class));
+    }
 
-        // 환경 데이터 (DB 최적화 조회)
-        // - 전체 수온 시계열 (프로젝션)
-        List<TemperaturePointProjection> tempHistory = waterLogRepository.findTemperatureHistory(id);
-        // - 최신 환경 요약 (단건 엔티티)
-        EnvironmentSummaryProjection envSummary = waterLogRepository.findEnvironmentSummaryModeLast3Months(id);
+    /**
+     * 1-1. 탭 선택 상세 조회 : 요청된 탭에 필요한 쿼리만 실행합니다.
+     * - tabs 가 비어 있으면 전체 탭을 조회합니다.
+     * - 상세 조회 메서드는 트랜잭션 밖에서 실행되며, 쿼리는 tabLoader 가 각자의 읽기 전용 트랜잭션에서 실행합니다.
+     *   (바깥 트랜잭션이 커넥션을 쥔 채 탭 쿼리마다 커넥션을 더 요청하지 않도록)
+     * - 전체 탭 응답은 detailCache 에 보관되며, 일부 탭 요청도 캐시된 전체 응답이 있으면 그 안에서 골라 반환합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AreaDetailResponse getAreaDetail(Long id, Set<AreaDetailTab> tabs) {
+        return getAreaDetail(id, tabs, EnvironmentWindow.DEFAULT);
+    }
+
+    /**
+     * 1-2. 탭 + 환경 요약 기간 지정 상세 조회
+     * - 캐시는 기본 기간(3개월) 응답만 보관합니다. 다른 기간으로 환경 탭을 요청하면 캐시를 거치지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AreaDetailResponse getAreaDetail(Long id, Set<AreaDetailTab> tabs, EnvironmentWindow window) {
+        return getAreaDetail(id, tabs, window, null);
+    }
+
+    /**
+     * 1-2. 수온 차트 점 개수 제한
+     * - tempMaxPoints 가 있으면 환경 탭 수온 차트를 LTTB 로 다운샘플링합니다. (null 이면 전체)
+     * - 캐시에는 전체 시계열이 보관되고, 다운샘플링은 응답 직전에 적용됩니다. (캐시 키가 늘어나지 않음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AreaDetailResponse getAreaDetail(
+            Long id, Set<AreaDetailTab> tabs, EnvironmentWindow window, Integer tempMaxPoints
+    ) {
+        return getAreaDetail(id, getAreaVersion(id), tabs, window, tempMaxPoints);
+    }
+
+    /**
+     * 1-2. 버전 지정 상세 조회 (조건부 GET)
+     * - version 은 응답 조립 전에 읽은 영역 버전(getAreaVersion)이며, 캐시는 이 버전의 응답만 반환합니다.
+     *   컨트롤러는 같은 version 을 ETag 로 보내므로, 응답 본문과 ETag 가 서로 다른 버전이 되지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AreaDetailResponse getAreaDetail(
+            Long id, DataVersion version, Set<AreaDetailTab> tabs, EnvironmentWindow window, Integer tempMaxPoints
+    ) {
+        if (tempMaxPoints != null && tempMaxPoints < LttbDownsampler.MIN_POINTS) {
+            throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        }
+        AreaDetailResponse response = loadOrGetCached(id, version, tabs, window);
+        return tempMaxPoints != null ? downsampleTemperature(response, tempMaxPoints) : response;
+    }
+
+    private AreaDetailResponse loadOrGetCached(
+            Long id, DataVersion version, Set<AreaDetailTab> tabs, EnvironmentWindow window
+    ) {
+        Set<AreaDetailTab> requested = (tabs == null || tabs.isEmpty())
+                ? EnumSet.allOf(AreaDetailTab.class)
+                : EnumSet.copyOf(tabs);
+        EnvironmentWindow envWindow = window != null ? window : EnvironmentWindow.DEFAULT;
+
+        if (envWindow != EnvironmentWindow.DEFAULT && requested.contains(AreaDetailTab.ENVIRONMENT)) {
+            return loadAreaDetail(id, requested, envWindow);
+        }
+
+        if (requested.size() == AreaDetailTab.values().length) {
+            return detailCache.get(id, version, () -> loadAreaDetail(id, requested, EnvironmentWindow.DEFAULT));
+        }
+
+        AreaDetailResponse cached = detailCache.getIfPresent(id, version);
+        return cached != null ? selectTabs(cached, requested) : loadAreaDetail(id, requested, EnvironmentWindow.DEFAULT);
+    }
 
-        // 이식 데이터 (DB 집계 조회)
-        // - 전체 방식별 분포 (집계 프로젝션)
-        List<MethodDistributionProjection> distributions = transplantLogRepository.findMethodDistribution(id);
-        // - 최근 3개월 월별 작업 횟수 (서브쿼리 집계 프로젝션)
-        List<WorkHistoryPointProjection> history = transplantLogRepository.findWorkHistory(id);
+    private AreaDetailResponse downsampleTemperature(AreaDetailResponse response, int maxPoints) {
+        AreaDetailResponse.EnvironmentTab env = response.getEnvironment();
+        if (env == null || env.getTemperatureChart() == null) return response;
+
+        return AreaDetailResponse.builder()
+                .id(response.getId())
+                .overview(response.getOverview())
+                .status(response.getStatus())
+                .ecology(response.getEcology())
+                .environment(AreaDetailResponse.EnvironmentTab.builder()
+                        .summaryMonths(env.getSummaryMonths())
+                        .last3MonthsSummary(env.getLast3MonthsSummary())
+                        .temperatureChart(LttbDownsampler.downsample(env.getTemperatureChart(), maxPoints))
+                        .build())
+                .photos(response.getPhotos())
+                .build();
+    }
 
-        // 4. 생태 데이터 (조건부 필터링 조회)
+    /**
+     * 캐시된 전체 응답에서 요청된 탭만 남긴 응답 (추가 쿼리 없음)
+     */
+    private AreaDetailResponse selectTabs(AreaDetailResponse full, Set<AreaDetailTab> requested) {
+        return AreaDetailResponse.builder()
+                .id(full.getId())
+                .overview(requested.contains(AreaDetailTab.OVERVIEW) ? full.getOverview() : null)
+                .status(requested.contains(AreaDetailTab.STATUS) ? full.getStatus() : null)
+                .ecology(requested.contains(AreaDetailTab.ECOLOGY) ? full.getEcology() : null)
+                .environment(requested.contains(AreaDetailTab.ENVIRONMENT) ? full.getEnvironment() : null)
+                .photos(requested.contains(AreaDetailTab.PHOTOS) ? full.getPhotos() : null)
+                .build();
+    }
+
+    /**
+     * 상세 응답 조립 (DB 조회)
+     * - 영역 엔티티를 포함한 모든 쿼리를 tabLoader 에 등록해 동시에 실행합니다. (순차 모드 전환 가능)
+     * - 호출 스레드는 트랜잭션 밖에 있으므로 여기서 직접 repository 를 호출하지 않습니다.
+     */
+    private AreaDetailResponse loadAreaDetail(Long id, Set<AreaDetailTab> requested, EnvironmentWindow envWindow) {
+        return tabLoader.load(fork -> loadAreaDetail(fork, id, requested, envWindow));
+    }
+
+    private AreaDetailResponse loadAreaDetail(
+            AreaDetailTabLoader.Fork fork, Long id, Set<AreaDetailTab> requested, EnvironmentWindow envWindow
+    ) {
+        // 작업 영역 엔티티 (개요 탭은 추가 쿼리 없이 엔티티만으로 조립, 대표종은 함께 로딩)
+        Supplier<Optional<ProjectArea>> area = fork.submit(() -> projectAreaRepository.findWithRepresentativeSpeciesById(id));
+
+        // 환경 탭
+        // - 전체 수온 시계열 (프로젝션)
+        // - 최근 N개월 환경 요약 (구간 1회 스캔 후 항목별 최빈값)
+        Supplier<List<TemperaturePointProjection>> tempHistory = null;
+        Supplier<MarineStatusSummary> envSummary = null;
+        if (requested.contains(AreaDetailTab.ENVIRONMENT)) {
+            tempHistory = fork.submit(() -> waterLogRepository.findTemperatureHistory(id));
+            envSummary = fork.submit(() -> MarineStatusSummary.of(
+                    envWindow, waterLogRepository.findMarineStatusCounts(id, envWindow.getMonths())));
+        }
+
+        // 현황 탭
+        // - 이식 요약 테이블 PK 단건 조회 (로그 양과 무관한 비용)
+        // - 요약 행이 아직 없는 영역은 같은 작업 안에서 원본 로그 집계로 대체 (방식별 분포 / 월별 작업 횟수 / 종별 수량 / 누적 통계)
+        Supplier<AreaTransplantSummary> transplantSummary = null;
+        if (requested.contains(AreaDetailTab.STATUS)) {
+            transplantSummary = fork.submit(() -> transplantSummaryRepository.findById(id)
+                    .orElseGet(() -> TransplantSummaryService.assemble(
+                            id,
+                            transplantLogRepository.getAccumulatedStats(id),
+                            transplantLogRepository.findMethodDistribution(id),
+                            transplantLogRepository.findMonthlyWorkCounts(id),
+                            transplantLogRepository.findSpeciesMethodTotals(id)
+                    )));
+        }
+
+        // 생태 반응 탭 (조건부 필터링 조회)
         // - 대표 개체로 지정된 종의 로그만 시간순 조회
         // - 대표종이 설정되어 있지 않으면 빈 리스트 (빈 차트용)
-        List<GrowthLog> repGrowthLogs = (area.getRepresentativeSpecies() != null)
-                ? growthLogRepository.findAllByProjectAreaIdAndSpeciesIdOrderByRecordDateAsc(id, area.getRepresentativeSpecies().getId())
-                : List.of();
-
-        List<TransplantItemProjection> speciesItems = transplantLogRepository.findTransplantItems(id);
-        List<MethodAttachmentStatusProjection> methodStatuses = transplantLogRepository.findLatestAttachmentStatusPerMethod(id);
+        Supplier<List<GrowthPointProjection>> repGrowthLogs = null;
+        Supplier<List<MethodAttachmentStatusProjection>> methodStatuses = null;
+        if (requested.contains(AreaDetailTab.ECOLOGY)) {
+            repGrowthLogs = fork.submit(() -> growthLogRepository.findRepresentativeGrowthPoints(id));
+            methodStatuses = fork.submit(() -> transplantLogRepository.findLatestAttachmentStatusPerMethod(id));
+        }
+
+        // 사진 탭
+        Supplier<List<MediaPointProjection>> mediaHistory = null;
+        if (requested.contains(AreaDetailTab.PHOTOS)) {
+            mediaHistory = fork.submit(() -> mediaLogRepository.findAllByProjectAreaIdOrderByRecordDateAsc(id));
+        }
+
+        fork.join();
+
+        ProjectArea loadedArea = area.get()
+                .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
 
-        // 마지막 작업일
-        // lastDate : @Query 에서 부여된 alias
-        AccumulatedStatsProjection stats = transplantLogRepository.getAccumulatedStats(id);
+        AreaDetailSource.AreaDetailSourceBuilder src = AreaDetailSource.builder();
 
-        LocalDate lastWorkDate = (stats != null && stats.getLastDate() != null)
-                        ? stats.getLastDate()
-                        : area.getStartDate();
+        if (requested.contains(AreaDetailTab.ENVIRONMENT)) {
+            src.tempHistory(tempHistory.get()).envSummary(envSummary.get());
+        }
 
-        Double totalTransplantArea = (stats != null && stats.getTotalArea() != null)
-                ? stats.getTotalArea()
-                : 0.0;
+        if (requested.contains(AreaDetailTab.STATUS)) {
+            src.transplantSummary(transplantSummary.get());
+        }
 
-        // 5. 미디어 데이터
-        List<MediaPointProjection> mediaHistory = mediaLogRepository.findAllByProjectAreaIdOrderByRecordDateAsc(id);
+        if (requested.contains(AreaDetailTab.ECOLOGY)) {
+            src.repGrowthLogs(repGrowthLogs.get()).methodStatuses(methodStatuses.get());
+        }
 
+        if (requested.contains(AreaDetailTab.PHOTOS)) {
+            src.mediaHistory(mediaHistory.get());
+        }
 
         // 최종 조립
-        return aggregateBuilder.build(area, tempHistory, envSummary, distributions, history, repGrowthLogs, methodStatuses, speciesItems, lastWorkDate, totalTransplantArea, mediaHistory);
+        return aggregateBuilder.build(loadedArea, requested, src.build());
+    }
+
+
+    /**
+     * 1-3. 다중 영역 상세 조회 (비교 화면)
+     * - 탭 쿼리마다 area_id IN (...) + 영역별 GROUP BY 로 한 번만 실행하고, 결과를 영역별로 나눠 조립합니다.
+     * - 영역 수와 무관하게 쿼리 수가 일정합니다. (이식 요약 행이 없는 영역이 있으면 fallback 집계 4회 추가)
+     * - 전체 탭 요청은 detailCache 에 현재 버전으로 있는 영역을 그대로 사용하고, 나머지만 조회합니다.
+     *   (묶음 조회 결과는 캐시에 저장하지 않습니다. 조회 중 커밋된 변경의 무효화가 유실되지 않도록)
+     * - 응답 순서는 요청한 ID 순서이며, 존재하지 않는 ID 가 있으면 RESOURCE_NOT_FOUND
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<AreaDetailResponse> getAreaDetails(List<Long> ids, Set<AreaDetailTab> tabs) {
+        Set<Long> areaIds = ids == null ? Set.of() : ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (areaIds.isEmpty() || areaIds.size() > MAX_BATCH_AREAS) {
+            throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        }
+        Set<AreaDetailTab> requested = (tabs == null || tabs.isEmpty())
+                ? EnumSet.allOf(AreaDetailTab.class)
+                : EnumSet.copyOf(tabs);
+
+        Map<Long, DataVersion> versions = detailCache.isEnabled() ? getAreaVersions(areaIds) : Map.of();
+        Map<Long, AreaDetailResponse> responses = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long areaId : areaIds) {
+            DataVersion version = versions.get(areaId);
+            AreaDetailResponse cached = version != null ? detailCache.getIfPresent(areaId, version) : null;
+            if (cached != null) responses.put(areaId, selectTabs(cached, requested));
+            else missing.add(areaId);
+        }
+
+        if (!missing.isEmpty()) {
+            responses.putAll(loadAreaDetails(missing, requested));
+        }
+
+        return areaIds.stream().map(responses::get).toList();
+    }
+
+    private Map<Long, DataVersion> getAreaVersions(Set<Long> areaIds) {
+        return projectAreaRepository.findVersionsByIdIn(areaIds).stream()
+                .collect(Collectors.toMap(AreaIdVersionProjection::getAreaId, v -> DataVersion.ofArea(v.getAreaId(), v)));
+    }
+
+    private Map<Long, AreaDetailResponse> loadAreaDetails(List<Long> ids, Set<AreaDetailTab> requested) {
+        return tabLoader.load(fork -> loadAreaDetails(fork, ids, requested));
+    }
+
+    private Map<Long, AreaDetailResponse> loadAreaDetails(
+            AreaDetailTabLoader.Fork fork, List<Long> ids, Set<AreaDetailTab> requested
+    ) {
+        Supplier<List<ProjectArea>> areas = fork.submit(() -> projectAreaRepository.findAllByIdIn(ids));
+
+        Supplier<Map<Long, List<TemperaturePointProjection>>> tempHistory = null;
+        Supplier<Map<Long, List<MarineStatusCountProjection>>> envCounts = null;
+        if (requested.contains(AreaDetailTab.ENVIRONMENT)) {
+            tempHistory = fork.submit(() -> groupByArea(
+                    waterLogRepository.findTemperatureHistoryByAreaIds(ids), AreaTemperaturePointProjection::getAreaId));
+            envCounts = fork.submit(() -> groupByArea(
+                    waterLogRepository.findMarineStatusCountsByAreaIds(ids, EnvironmentWindow.DEFAULT.getMonths()),
+                    AreaMarineStatusCountProjection::getAreaId));
+        }
+
+        // 현황 탭: 요약 행을 한 번에 조회하고, 요약 행이 없는 영역만 같은 작업 안에서 원본 로그 집계로 대체
+        Supplier<Map<Long, AreaTransplantSummary>> summaries = null;
+        if (requested.contains(AreaDetailTab.STATUS)) {
+            summaries = fork.submit(() -> loadTransplantSummaries(ids));
+        }
+
+        Supplier<Map<Long, List<GrowthPointProjection>>> repGrowthLogs = null;
+        Supplier<Map<Long, List<MethodAttachmentStatusProjection>>> methodStatuses = null;
+        if (requested.contains(AreaDetailTab.ECOLOGY)) {
+            repGrowthLogs = fork.submit(() -> groupByArea(
+                    growthLogRepository.findRepresentativeGrowthPointsByAreaIds(ids), AreaGrowthPointProjection::getAreaId));
+            methodStatuses = fork.submit(() -> groupByArea(
+                    transplantLogRepository.findLatestAttachmentStatusPerMethodByAreaIds(ids),
+                    AreaMethodAttachmentStatusProjection::getAreaId));
+        }
+
+        Supplier<Map<Long, List<MediaPointProjection>>> mediaHistory = null;
+        if (requested.contains(AreaDetailTab.PHOTOS)) {
+            mediaHistory = fork.submit(() -> groupByArea(
+                    mediaLogRepository.findMediaPointsByAreaIds(ids), AreaMediaPointProjection::getAreaId));
+        }
+
+        fork.join();
+
+        if (areas.get().size() != ids.size()) throw new BusinessException(ExceptionType.RESOURCE_NOT_FOUND);
+
+        // 영역별 분배 후 조립
+        Map<Long, AreaDetailResponse> responses = new HashMap<>();
+        for (ProjectArea area : areas.get()) {
+            Long areaId = area.getId();
+            AreaDetailSource.AreaDetailSourceBuilder src = AreaDetailSource.builder();
+
+            if (requested.contains(AreaDetailTab.ENVIRONMENT)) {
+                src.tempHistory(tempHistory.get().getOrDefault(areaId, List.of()))
+                        .envSummary(MarineStatusSummary.of(
+                                EnvironmentWindow.DEFAULT, envCounts.get().getOrDefault(areaId, List.of())));
+            }
+
+            if (requested.contains(AreaDetailTab.STATUS)) {
+                src.transplantSummary(summaries.get().get(areaId));
+            }
+
+            if (requested.contains(AreaDetailTab.ECOLOGY)) {
+                src.repGrowthLogs(repGrowthLogs.get().getOrDefault(areaId, List.of()))
+                        .methodStatuses(methodStatuses.get().getOrDefault(areaId, List.of()));
+            }
+
+            if (requested.contains(AreaDetailTab.PHOTOS)) {
+                src.mediaHistory(mediaHistory.get().getOrDefault(areaId, List.of()));
+            }
+
+            responses.put(areaId, aggregateBuilder.build(area, requested, src.build()));
+        }
+        return responses;
+    }
+
+    /**
+     * 영역별 이식 요약 (요약 행이 없는 영역은 원본 로그 집계 4회로 대체)
+     */
+    private Map<Long, AreaTransplantSummary> loadTransplantSummaries(List<Long> ids) {
+        Map<Long, AreaTransplantSummary> summaries = new HashMap<>();
+        transplantSummaryRepository.findAllById(ids).forEach(s -> summaries.put(s.getAreaId(), s));
+
+        List<Long> fallbackIds = ids.stream().filter(areaId -> !summaries.containsKey(areaId)).toList();
+        if (fallbackIds.isEmpty()) return summaries;
+
+        Map<Long, List<AccumulatedStatsProjection>> accumulated = groupByArea(
+                transplantLogRepository.getAccumulatedStatsByAreaIds(fallbackIds), AreaAccumulatedStatsProjection::getAreaId);
+        Map<Long, List<MethodDistributionProjection>> distributions = groupByArea(
+                transplantLogRepository.findMethodDistributionByAreaIds(fallbackIds), AreaMethodDistributionProjection::getAreaId);
+        Map<Long, List<WorkHistoryPointProjection>> monthly = groupByArea(
+                transplantLogRepository.findMonthlyWorkCountsByAreaIds(fallbackIds), AreaWorkHistoryPointProjection::getAreaId);
+        Map<Long, List<SpeciesMethodTotalProjection>> speciesTotals = groupByArea(
+                transplantLogRepository.findSpeciesMethodTotalsByAreaIds(fallbackIds), AreaSpeciesMethodTotalProjection::getAreaId);
+
+        for (Long areaId : fallbackIds) {
+            summaries.put(areaId, TransplantSummaryService.assemble(
+                    areaId,
+                    accumulated.getOrDefault(areaId, List.of()).stream().findFirst().orElse(null),
+                    distributions.getOrDefault(areaId, List.of()),
+                    monthly.getOrDefault(areaId, List.of()),
+                    speciesTotals.getOrDefault(areaId, List.of())
+            ));
+        }
+        return summaries;
+    }
+
+    /**
+     * 영역 ID 기준으로 행을 나눔 (조회 순서 유지)
+     */
+    private static <T, P extends T> Map<Long, List<T>> groupByArea(List<P> rows, Function<P, Long> areaId) {
+        Map<Long, List<T>> grouped = new HashMap<>();
+        for (P row : rows) {
+            grouped.computeIfAbsent(areaId.apply(row), id -> new ArrayList<>()).add(row);
+        }
+        return grouped;
     }
 
 
@@ -292,19 +780,44 @@ public class DashboardQueryService {
      * 뷰포트(BBox) 내 마커 목록
      * - 지도 뷰포트에 보이는 마커들만 요약 정보로 반환합니다.
      * - 상세 데이터는 /areas/{id}로 별도 조회하는 패턴을 사용합니다.
+     * - 마커 공간 인덱스가 켜져 있으면 DB 를 거치지 않고 메모리 스냅샷에서 조회합니다.
+     * - 타일 격자 단위로 캐시된 목록을 합쳐 요청 BBox 로 잘라 반환합니다. (MarkerBBoxCache)
+     *
+     * @param dataVersion 전체 영역 데이터 버전 (DataVersion.ofDashboard 의 etag, 응답 ETag 와 같은 값)
      */
     public List<AreaMarkerResponse> getMarkersInBBox(
             Double minLat, Double minLon,
-            Double maxLat, Double maxLon
+            Double maxLat, Double maxLon,
+            String dataVersion
+    ) {
+        return markerBBoxCache.get(minLat, minLon, maxLat, maxLon, dataVersion, this::loadMarkersInBBox);
+    }
+
+    private List<AreaMarkerResponse> loadMarkersInBBox(
+            double minLat, double minLon,
+            double maxLat, double maxLon
     ) {
-        List<AreaMarkerProjection> rows =
-                projectAreaRepository.findMarkersWithinBBox(minLat, minLon, maxLat, maxLon);
+        List<AreaMarkerProjection> rows = markerIndex.isEnabled()
+                ? markerIndex.withinBBox(minLat, minLon, maxLat, maxLon)
+                : findMarkersWithinBBox(minLat, minLon, maxLat, maxLon);
 
         return rows.stream()
                 .map(this::toMarkerResponse)
                 .toList();
     }
 
+    /**
+     * DB BBox 조회 (minLon > maxLon 이면 날짜변경선을 넘는 BBox 로 보고 두 구간을 조회)
+     * - ST_MakeEnvelope 는 경도를 정렬하므로 그대로 넘기면 반대쪽 구간이 조회됩니다.
+     */
+    private List<AreaMarkerProjection> findMarkersWithinBBox(double minLat, double minLon, double maxLat, double maxLon) {
+        if (minLon <= maxLon) return projectAreaRepository.findMarkersWithinBBox(minLat, minLon, maxLat, maxLon);
+
+        List<AreaMarkerProjection> rows = new ArrayList<>(projectAreaRepository.findMarkersWithinBBox(minLat, minLon, maxLat, 180));
+        rows.addAll(projectAreaRepository.findMarkersWithinBBox(minLat, -180, maxLat, maxLon));
+        return rows;
+    }
+
     /**
      * 반경 기반 마커 목록
      * - 중심 좌표 + 반경 기준으로 주변 마커를 조회합니다.
@@ -316,8 +829,9 @@ public class DashboardQueryService {
     ) {
         double radiusMeters = (radiusKm != null ? radiusKm : 5.0) * 1000;
 
-        List<AreaMarkerProjection> rows =
-                projectAreaRepository.findMarkersNearby(lat, lon, radiusMeters);
+        List<AreaMarkerProjection> rows = markerIndex.isEnabled()
+                ? markerIndex.nearby(lat, lon, radiusMeters)
+                : projectAreaRepository.findMarkersNearby(lat, lon, radiusMeters);
 
         return rows.stream()
                 .map(this::toMarkerResponse)
@@ -335,14 +849,43 @@ public class DashboardQueryService {
     ) {
         int limitCount = (limit != null && limit > 0) ? limit : 3;
 
-        List<AreaMarkerProjection> rows =
-                projectAreaRepository.findNearestMarkers(lat, lon, limitCount);
+        List<AreaMarkerProjection> rows = markerIndex.isEnabled()
+                ? markerIndex.nearest(lat, lon, limitCount)
+                : projectAreaRepository.findNearestMarkers(lat, lon, limitCount);
 
         return rows.stream()
                 .map(this::toMarkerResponse)
                 .toList();
     }
 
+    /**
+     * 줌 단계별 마커 클러스터
+     * - 뷰포트를 화면 격자 칸 단위로 묶어 칸마다 중심/개수/면적 합계/대표 서식지를 반환합니다.
+     * - 응답 크기는 영역 수가 아니라 화면에 들어가는 칸 수에 비례합니다.
+     */
+    public List<MarkerClusterResponse> getMarkerClusters(
+            Double minLat, Double minLon,
+            Double maxLat, Double maxLon,
+            Integer zoom
+    ) {
+        List<MarkerClusterGrid.Cluster> clusters = markerIndex.isEnabled()
+                ? markerIndex.clusters(minLat, minLon, maxLat, maxLon, zoom)
+                : markerIndex.cluster(
+                        findMarkersWithinBBox(minLat, minLon, maxLat, maxLon),
+                        minLat, minLon, maxLat, maxLon, zoom);
+
+        return clusters.stream()
+                .map(c -> MarkerClusterResponse.builder()
+                        .lat(c.lat())
+                        .lon(c.lon())
+                        .count(c.count())
+                        .totalAreaSize(c.totalAreaSize())
+                        .dominantHabitat(c.habitat() != null ? HabitatType.valueOf(c.habitat()).getName() : "기타")
+                        .areaId(c.areaId())
+                        .build())
+                .toList();
+    }
+
     // 내부 변환 로직
     private AreaMarkerResponse toMarkerResponse(AreaMarkerProjection p) {
         String habitatName = p.getHabitat() != null ?
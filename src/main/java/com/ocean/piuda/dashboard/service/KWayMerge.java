@@ -0,0 +1,38 @@
+package com.ocean.piuda.dashboard.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 정렬된 목록 k개의 병합 (k-way merge)
+ * - 각 목록의 현재 머리만 우선순위 큐에 두므로 limit 개를 꺼내는 비용은 O(limit log k) 입니다.
+ * - 입력 목록은 모두 order 기준으로 이미 정렬되어 있어야 합니다.
+ */
+final class KWayMerge {
+
+    private KWayMerge() {
+    }
+
+    static <T> List<T> merge(List<? extends List<? extends T>> sources, Comparator<? super T> order, int limit) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                (a, b) -> order.compare(a.value(), b.value()));
+        for (List<? extends T> source : sources) {
+            if (!source.isEmpty()) heads.add(new Head<>(source, 0, source.get(0)));
+        }
+
+        List<T> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            merged.add(head.value());
+
+            int next = head.index() + 1;
+            if (next < head.source().size()) heads.add(new Head<>(head.source(), next, head.source().get(next)));
+        }
+        return merged;
+    }
+
+    private record Head<T>(List<? extends T> source, int index, T value) {
+    }
+}
@@ -0,0 +1,223 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocean.piuda.bio.entity.Species;
+import com.ocean.piuda.bio.repository.SpeciesRepository;
+import com.ocean.piuda.dashboard.dto.LogSelector;
+import com.ocean.piuda.dashboard.dto.request.*;
+import com.ocean.piuda.dashboard.dto.response.BulkLogEditResponse;
+import com.ocean.piuda.dashboard.entity.*;
+import com.ocean.piuda.dashboard.enums.BulkEditAction;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.LogBulkEditAuditRepository;
+import com.ocean.piuda.dashboard.repository.LogBulkEditRepository;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * 로그 대량 수정/삭제 서비스
+ * - 대상(ID 목록 또는 기록일 구간)을 집합 단위 UPDATE / DELETE 1문장으로 처리합니다.
+ *   (행마다 로그/종을 조회하지 않으며, 종은 요청당 1회만 조회)
+ * - 작업 1회당 감사 기록 1건을 남기고, 영역 버전 증가와 변경 이벤트 발행도 1회만 수행합니다.
+ * - 파생 데이터는 영역 단위로 다시 계산합니다. (이식 요약 / 수온 롤업 / 수온 누적 통계)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LogBulkEditService {
+
+    private final ProjectAreaRepository projectAreaRepository;
+    private final LogBulkEditRepository logBulkEditRepository;
+    private final LogBulkEditAuditRepository auditRepository;
+    private final SpeciesRepository speciesRepository;
+    private final TransplantSummaryService transplantSummaryService;
+    private final TemperatureRollupService temperatureRollupService;
+    private final WaterStatsService waterStatsService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // -------------------------
+    // 대량 수정
+    // -------------------------
+
+    public BulkLogEditResponse updateTransplants(Long areaId, BulkLogUpdateRequest<UpdateTransplantLogRequest> req) {
+        UpdateTransplantLogRequest c = req.changes();
+        Map<String, Object> assignments = new LinkedHashMap<>();
+        putIfPresent(assignments, "recordDate", c.recordDate());
+        putIfPresent(assignments, "method", c.method());
+        putIfPresent(assignments, "species", findSpecies(c.speciesId()));
+        putIfPresent(assignments, "count", c.count());
+        putIfPresent(assignments, "areaSize", c.areaSize());
+        putIfPresent(assignments, "attachmentStatus", c.attachmentStatus());
+
+        return update(areaId, DashboardChangeType.TRANSPLANT, TransplantLog.class, req, assignments, Map.of());
+    }
+
+    public BulkLogEditResponse updateGrowths(Long areaId, BulkLogUpdateRequest<UpdateGrowthLogRequest> req) {
+        UpdateGrowthLogRequest c = req.changes();
+        Map<String, Object> assignments = new LinkedHashMap<>();
+        putIfPresent(assignments, "species", findSpecies(c.speciesId()));
+        putIfPresent(assignments, "recordDate", c.recordDate());
+        putIfPresent(assignments, "growthLength", c.growthLength());
+        putIfPresent(assignments, "status", c.status());
+
+        return update(areaId, DashboardChangeType.GROWTH, GrowthLog.class, req, assignments, Map.of());
+    }
+
+    public BulkLogEditResponse updateWaters(Long areaId, BulkLogUpdateRequest<BulkWaterLogChanges> req) {
+        BulkWaterLogChanges c = req.changes();
+        if (c.temperature() != null && c.temperatureOffset() != null) {
+            throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        }
+        Map<String, Object> assignments = new LinkedHashMap<>();
+        putIfPresent(assignments, "recordDate", c.recordDate());
+        putIfPresent(assignments, "temperature", c.temperature());
+        putIfPresent(assignments, "visibility", c.visibility());
+        putIfPresent(assignments, "current", c.current());
+        putIfPresent(assignments, "surge", c.surge());
+        putIfPresent(assignments, "wave", c.wave());
+        Map<String, Double> increments = c.temperatureOffset() != null
+                ? Map.of("temperature", c.temperatureOffset())
+                : Map.of();
+
+        return update(areaId, DashboardChangeType.WATER, WaterLog.class, req, assignments, increments);
+    }
+
+    public BulkLogEditResponse updateMedia(Long areaId, BulkLogUpdateRequest<UpdateMediaLogRequest> req) {
+        UpdateMediaLogRequest c = req.changes();
+        Map<String, Object> assignments = new LinkedHashMap<>();
+        putIfPresent(assignments, "recordDate", c.recordDate());
+        putIfPresent(assignments, "mediaUrl", c.mediaUrl());
+        putIfPresent(assignments, "caption", c.caption());
+        putIfPresent(assignments, "category", c.category());
+
+        return update(areaId, DashboardChangeType.MEDIA, MediaLog.class, req, assignments, Map.of());
+    }
+
+    // -------------------------
+    // 대량 삭제
+    // -------------------------
+
+    public BulkLogEditResponse deleteTransplants(Long areaId, BulkLogDeleteRequest req) {
+        return delete(areaId, DashboardChangeType.TRANSPLANT, TransplantLog.class, req);
+    }
+
+    public BulkLogEditResponse deleteGrowths(Long areaId, BulkLogDeleteRequest req) {
+        return delete(areaId, DashboardChangeType.GROWTH, GrowthLog.class, req);
+    }
+
+    public BulkLogEditResponse deleteWaters(Long areaId, BulkLogDeleteRequest req) {
+        return delete(areaId, DashboardChangeType.WATER, WaterLog.class, req);
+    }
+
+    public BulkLogEditResponse deleteMedia(Long areaId, BulkLogDeleteRequest req) {
+        return delete(areaId, DashboardChangeType.MEDIA, MediaLog.class, req);
+    }
+
+    // -------------------------
+    // 공통
+    // -------------------------
+
+    private BulkLogEditResponse update(
+            Long areaId, DashboardChangeType type, Class<?> logType, BulkLogUpdateRequest<?> req,
+            Map<String, Object> assignments, Map<String, Double> increments
+    ) {
+        if (assignments.isEmpty() && increments.isEmpty()) {
+            throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+        }
+        LogSelector selector = req.selector();
+        return execute(areaId, type, BulkEditAction.UPDATE, selector, toJson(req.changes()),
+                () -> logBulkEditRepository.update(logType, areaId, selector, assignments, increments));
+    }
+
+    private BulkLogEditResponse delete(Long areaId, DashboardChangeType type, Class<?> logType, BulkLogDeleteRequest req) {
+        LogSelector selector = req.selector();
+        return execute(areaId, type, BulkEditAction.DELETE, selector, null,
+                () -> logBulkEditRepository.delete(logType, areaId, selector));
+    }
+
+    private BulkLogEditResponse execute(
+            Long areaId, DashboardChangeType type, BulkEditAction action,
+            LogSelector selector, String changes, IntSupplier statement
+    ) {
+        // 영역 행 잠금: 같은 영역의 단건 수질 로그 변경/대량 적재와 파생 데이터 갱신이 섞이지 않도록
+        ProjectArea area = projectAreaRepository.findForUpdate(areaId)
+                .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
+
+        int affectedRows = statement.getAsInt();
+
+        if (affectedRows > 0) {
+            refreshDerived(area, type);
+            projectAreaRepository.incrementDataVersion(areaId);
+            eventPublisher.publishEvent(new DashboardChangedEvent(areaId, type));
+        }
+
+        LogBulkEditAudit audit = auditRepository.save(LogBulkEditAudit.builder()
+                .areaId(areaId)
+                .logType(type)
+                .action(action)
+                .selector(selector.describe())
+                .changes(changes)
+                .affectedRows(affectedRows)
+                .performedBy(currentUsername())
+                .build());
+
+        log.info("로그 대량 {} - areaId={}, type={}, selector={}, affected={}",
+                action.getName(), areaId, type, selector.describe(), affectedRows);
+        return new BulkLogEditResponse(affectedRows, audit.getId());
+    }
+
+    private void refreshDerived(ProjectArea area, DashboardChangeType type) {
+        switch (type) {
+            case TRANSPLANT -> transplantSummaryService.recompute(area.getId());
+            case WATER -> {
+                temperatureRollupService.recompute(area.getId());
+                waterStatsService.recompute(area);
+            }
+            default -> { }
+        }
+    }
+
+    private Species findSpecies(Long speciesId) {
+        if (speciesId == null) return null;
+        return speciesRepository.findById(speciesId)
+                .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
+    }
+
+    private static void putIfPresent(Map<String, Object> assignments, String attribute, Object value) {
+        if (value != null) assignments.put(attribute, value);
+    }
+
+    private String toJson(Object changes) {
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("대량 수정 값 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.isAuthenticated()) {
+            return authentication.getName();
+        }
+
+        return "SYSTEM";
+    }
+}
@@ -0,0 +1,112 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.dto.ColumnarSeries;
+import com.ocean.piuda.dashboard.dto.TimeSeriesChartDto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시계열 다운샘플링 (Largest-Triangle-Three-Buckets)
+ * - 첫/마지막 점은 항상 유지하고, 나머지는 (maxPoints - 2)개 버킷에서 삼각형 넓이가 가장 큰 점 1개씩 고릅니다.
+ * - 피크/골이 보존되므로 차트 모양은 유지하면서 점 개수를 maxPoints 로 제한합니다.
+ * - 입력 길이 n 에 대해 O(n), 추가 메모리는 출력 크기만큼만 사용합니다.
+ */
+public final class LttbDownsampler {
+
+    /** 첫 점 + 버킷 1개 + 마지막 점 */
+    public static final int MIN_POINTS = 3;
+
+    private LttbDownsampler() { }
+
+    /**
+     * @param series    x(epoch day) 오름차순 시계열
+     * @param maxPoints 최대 점 개수 (MIN_POINTS 이상). 시계열이 이보다 짧으면 그대로 반환
+     */
+    public static ColumnarSeries downsample(ColumnarSeries series, int maxPoints) {
+        if (maxPoints < MIN_POINTS) throw new IllegalArgumentException("maxPoints must be >= " + MIN_POINTS);
+
+        int n = series.size();
+        if (n <= maxPoints) return series;
+
+        int[] days = series.days();
+        double[] values = series.values();
+        int[] outDays = new int[maxPoints];
+        double[] outValues = new double[maxPoints];
+
+        // 첫 점과 마지막 점을 제외한 구간을 (maxPoints - 2)개 버킷으로 나눔
+        double bucketSize = (double) (n - 2) / (maxPoints - 2);
+
+        int selected = 0;
+        outDays[0] = days[0];
+        outValues[0] = values[0];
+
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            // 다음 버킷의 평균 점 (삼각형의 세 번째 꼭짓점)
+            int nextStart = (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, n);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += days[i];
+                avgY += values[i];
+            }
+            int nextLength = nextEnd - nextStart;
+            avgX /= nextLength;
+            avgY /= nextLength;
+
+            // 현재 버킷에서 (직전 선택 점, 후보, 다음 버킷 평균) 삼각형 넓이가 가장 큰 점
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = (int) ((bucket + 1) * bucketSize) + 1;
+            double ax = days[selected];
+            double ay = values[selected];
+            double maxArea = -1;
+            int candidate = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((ax - avgX) * (values[i] - ay) - (ax - days[i]) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    candidate = i;
+                }
+            }
+
+            outDays[bucket + 1] = days[candidate];
+            outValues[bucket + 1] = values[candidate];
+            selected = candidate;
+        }
+
+        outDays[maxPoints - 1] = days[n - 1];
+        outValues[maxPoints - 1] = values[n - 1];
+        return new ColumnarSeries(outDays, outValues);
+    }
+
+    /**
+     * 상세 조회 환경 탭의 수온 차트용 (labels: 날짜, values: 수온)
+     */
+    public static TimeSeriesChartDto downsample(TimeSeriesChartDto chart, int maxPoints) {
+        List<LocalDate> labels = chart.labels();
+        if (labels == null || labels.size() <= maxPoints) return chart;
+
+        ColumnarSeries.Buffer buffer = new ColumnarSeries.Buffer(labels.size());
+        for (int i = 0; i < labels.size(); i++) {
+            buffer.add((int) labels.get(i).toEpochDay(), chart.values().get(i));
+        }
+        ColumnarSeries sampled = downsample(buffer.build(), maxPoints);
+
+        List<LocalDate> sampledLabels = new ArrayList<>(sampled.size());
+        List<Double> sampledValues = new ArrayList<>(sampled.size());
+        for (int i = 0; i < sampled.size(); i++) {
+            sampledLabels.add(LocalDate.ofEpochDay(sampled.days()[i]));
+            sampledValues.add(sampled.values()[i]);
+        }
+        return TimeSeriesChartDto.builder()
+                .labels(sampledLabels)
+                .values(sampledValues)
+                .unit(chart.unit())
+                .targetSpecies(chart.targetSpecies())
+                .targetSpeciesId(chart.targetSpeciesId())
+                .period(chart.period())
+                .build();
+    }
+}
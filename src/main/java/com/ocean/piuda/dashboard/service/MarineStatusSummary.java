@@ -0,0 +1,52 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.enums.EnvironmentWindow;
+import com.ocean.piuda.dashboard.enums.MarineStatus;
+import com.ocean.piuda.dashboard.repository.projection.MarineStatusCountProjection;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 환경 요약 (항목별 최빈값)
+ * - 조합별 기록 수(한 번의 스캔 결과)를 항목별 EnumMap 카운터에 누적한 뒤 최빈값을 고릅니다.
+ * - 동률이면 enum 이름 오름차순으로 앞선 값을 선택합니다. (기존 SQL 의 ORDER BY COUNT(*) DESC, 컬럼 과 동일)
+ * - 기간 내 기록이 없으면 모든 항목이 null 입니다.
+ */
+public record MarineStatusSummary(
+        EnvironmentWindow window,
+        MarineStatus visibility,
+        MarineStatus current,
+        MarineStatus surge,
+        MarineStatus wave
+) {
+
+    private static final Comparator<Map.Entry<MarineStatus, Long>> MODE_ORDER =
+            Map.Entry.<MarineStatus, Long>comparingByValue().reversed()
+                    .thenComparing(e -> e.getKey().name());
+
+    public static MarineStatusSummary of(EnvironmentWindow window, List<MarineStatusCountProjection> counts) {
+        return new MarineStatusSummary(
+                window,
+                mode(counts, MarineStatusCountProjection::getVisibility),
+                mode(counts, MarineStatusCountProjection::getCurrent),
+                mode(counts, MarineStatusCountProjection::getSurge),
+                mode(counts, MarineStatusCountProjection::getWave)
+        );
+    }
+
+    private static MarineStatus mode(List<MarineStatusCountProjection> counts,
+                                     Function<MarineStatusCountProjection, String> column) {
+        Map<MarineStatus, Long> counter = new EnumMap<>(MarineStatus.class);
+        for (MarineStatusCountProjection row : counts) {
+            counter.merge(MarineStatus.valueOf(column.apply(row)), row.getCount(), Long::sum);
+        }
+        return counter.entrySet().stream()
+                .min(MODE_ORDER)
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,136 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ocean.piuda.dashboard.dto.response.AreaMarkerResponse;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 뷰포트(BBox) 마커 응답 캐시 - 타일 격자 단위
+ * - 지도를 조금씩 움직일 때마다 BBox 값이 달라져도 같은 타일을 재사용하도록, 요청을 XYZ 타일 격자에 맞춰 나눕니다.
+ *   - 줌: BBox 가 타일 한 칸 크기 이하가 되는 가장 큰 줌 (요청 1건당 타일 최대 2x2)
+ * - 타일별 마커 목록을 캐시하고, 응답은 타일 목록을 합친 뒤 요청 BBox 로 정확히 잘라 ID 순으로 반환합니다.
+ * - 타일은 전체 영역 데이터 버전(응답 ETag)별로 보관하므로, 커밋 이후 비우기 전까지도 새 ETag 에 이전 목록이 실리지 않습니다.
+ * - 영역 생성/수정/삭제(AREA)가 커밋된 뒤(AFTER_COMMIT) 이전 버전 타일을 비웁니다. (마커 인덱스 재구성 이후)
+ * - 적중/미스/축출 횟수는 actuator metrics 의 cache.* (cache=dashboard.marker-bbox) 로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class MarkerBBoxCache {
+
+    static final String CACHE_NAME = "dashboard.marker-bbox";
+
+    private final boolean enabled;
+    private final int maxZoom;
+    private final Cache<TileKey, List<AreaMarkerResponse>> cache;
+    private final Counter invalidations;
+
+    public MarkerBBoxCache(
+            @Value("${dashboard.marker-bbox.cache.enabled:true}") boolean enabled,
+            @Value("${dashboard.marker-bbox.cache.max-zoom:14}") int maxZoom,
+            @Value("${dashboard.marker-bbox.cache.max-size:5000}") long maxSize,
+            @Value("${dashboard.marker-bbox.cache.ttl-seconds:600}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.maxZoom = maxZoom;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("cache.invalidations")
+                .description("영역 변경으로 비워진 BBox 마커 캐시 횟수")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 타일 단위 BBox 조회 함수 (타일 경계 위의 영역은 양쪽 타일에 모두 포함되어도 됨)
+     */
+    @FunctionalInterface
+    public interface TileLoader {
+        List<AreaMarkerResponse> load(double minLat, double minLon, double maxLat, double maxLon);
+    }
+
+    /**
+     * BBox 안의 마커 (ID 순)
+     * - 캐시가 꺼져 있거나 BBox 가 뒤집혀 있으면 loader 로 바로 조회합니다.
+     *
+     * @param dataVersion 전체 영역 데이터 버전 (DataVersion.ofDashboard 의 etag)
+     */
+    public List<AreaMarkerResponse> get(
+            double minLat, double minLon, double maxLat, double maxLon, String dataVersion, TileLoader loader
+    ) {
+        if (!enabled || minLat > maxLat || minLon > maxLon) return loader.load(minLat, minLon, maxLat, maxLon);
+
+        int z = zoomFor(minLat, minLon, maxLat, maxLon);
+        int tiles = 1 << z;
+        int minX = tileIndex(MarkerClusterGrid.mercatorX(minLon), tiles);
+        int maxX = tileIndex(MarkerClusterGrid.mercatorX(maxLon), tiles);
+        int minY = tileIndex(MarkerClusterGrid.mercatorY(maxLat), tiles);
+        int maxY = tileIndex(MarkerClusterGrid.mercatorY(minLat), tiles);
+
+        Map<Long, AreaMarkerResponse> byId = new TreeMap<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (AreaMarkerResponse m : cache.get(new TileKey(z, x, y, dataVersion), key -> loadTile(key, loader))) {
+                    if (m.getLat() >= minLat && m.getLat() <= maxLat && m.getLon() >= minLon && m.getLon() <= maxLon) {
+                        byId.putIfAbsent(m.getId(), m);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(byId.values());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        if (event.type() != DashboardChangeType.AREA) return;
+        log.debug("BBox 마커 캐시 비움 - areaId={}", event.areaId());
+        cache.invalidateAll();
+        invalidations.increment();
+    }
+
+    // BBox 의 메르카토르 폭/높이가 타일 한 칸 이하가 되는 가장 큰 줌
+    private int zoomFor(double minLat, double minLon, double maxLat, double maxLon) {
+        double dx = MarkerClusterGrid.mercatorX(maxLon) - MarkerClusterGrid.mercatorX(minLon);
+        double dy = MarkerClusterGrid.mercatorY(minLat) - MarkerClusterGrid.mercatorY(maxLat);
+        double span = Math.max(Math.max(dx, dy), 1e-12);
+        int z = (int) Math.floor(Math.log(1 / span) / Math.log(2));
+        return Math.max(0, Math.min(maxZoom, z));
+    }
+
+    private static int tileIndex(double unit, int tiles) {
+        return Math.max(0, Math.min(tiles - 1, (int) Math.floor(unit * tiles)));
+    }
+
+    private static List<AreaMarkerResponse> loadTile(TileKey key, TileLoader loader) {
+        int tiles = 1 << key.z();
+        // 메르카토르 범위 밖(위도 ±85.05 초과)은 가장자리 타일에 포함
+        double maxLat = key.y() == 0 ? 90 : AreaTileService.tileLat(key.y(), key.z());
+        double minLat = key.y() == tiles - 1 ? -90 : AreaTileService.tileLat(key.y() + 1, key.z());
+        double minLon = AreaTileService.tileLon(key.x(), key.z());
+        double maxLon = AreaTileService.tileLon(key.x() + 1, key.z());
+        return List.copyOf(loader.load(minLat, minLon, maxLat, maxLon));
+    }
+
+    private record TileKey(int z, int x, int y, String dataVersion) {}
+}
@@ -0,0 +1,195 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.repository.projection.AreaMarkerProjection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 줌 단계별 마커 클러스터 격자 (불변)
+ * - 웹 메르카토르 화면 좌표에서 한 변이 radiusPx 인 격자 칸 단위로 영역을 묶습니다.
+ * - 줌이 하나 내려갈 때마다 칸 인덱스가 절반이 되므로, 최대 줌의 칸을 부모 칸으로 합쳐 0 단계까지 미리 계산합니다.
+ * - 조회 결과 개수는 화면에 들어가는 칸 수로 제한됩니다. (영역 수와 무관)
+ */
+final class MarkerClusterGrid {
+
+    private static final double TILE_SIZE = 256;
+    private static final double MAX_MERCATOR_LAT = 85.05112878;
+
+    private final double cellsPerWorldAtZoom0;
+    private final List<Map<Long, Cluster>> levels;
+
+    private MarkerClusterGrid(double cellsPerWorldAtZoom0, List<Map<Long, Cluster>> levels) {
+        this.cellsPerWorldAtZoom0 = cellsPerWorldAtZoom0;
+        this.levels = levels;
+    }
+
+    /**
+     * 줌 0 ~ maxZoom 격자를 계산합니다. (위치 없는 영역은 제외)
+     */
+    static MarkerClusterGrid build(List<AreaMarkerProjection> markers, double radiusPx, int maxZoom) {
+        double cellsPerWorldAtZoom0 = TILE_SIZE / radiusPx;
+        double cellsPerWorld = cellsPerWorldAtZoom0 * Math.pow(2, maxZoom);
+
+        Map<Long, Cell> cells = new HashMap<>();
+        for (AreaMarkerProjection m : markers) {
+            if (m.getLat() == null || m.getLon() == null) continue;
+            long key = key(cellIndex(mercatorX(m.getLon()), cellsPerWorld), cellIndex(mercatorY(m.getLat()), cellsPerWorld));
+            cells.computeIfAbsent(key, k -> new Cell()).add(m);
+        }
+
+        List<Map<Long, Cluster>> levels = new ArrayList<>(maxZoom + 1);
+        for (int z = maxZoom; z >= 0; z--) {
+            Map<Long, Cluster> level = new HashMap<>(cells.size() * 2);
+            cells.forEach((key, cell) -> level.put(key, cell.toCluster()));
+            levels.add(0, level);
+
+            if (z == 0) break;
+            Map<Long, Cell> parents = new HashMap<>();
+            cells.forEach((key, cell) -> parents.computeIfAbsent(parentKey(key), k -> new Cell()).merge(cell));
+            cells = parents;
+        }
+        return new MarkerClusterGrid(cellsPerWorldAtZoom0, levels);
+    }
+
+    int maxZoom() {
+        return levels.size() - 1;
+    }
+
+    /**
+     * zoom 단계에서 중심점이 BBox 안에 있는 클러스터 (큰 클러스터 먼저)
+     * - zoom 은 0 ~ maxZoom
+     * - minLon > maxLon 이면 날짜변경선을 넘는 BBox 로 보고 [minLon, 180], [-180, maxLon] 두 구간을 조회합니다.
+     */
+    List<Cluster> query(double minLat, double minLon, double maxLat, double maxLon, int zoom) {
+        Map<Long, Cluster> level = levels.get(zoom);
+        double cellsPerWorld = cellsPerWorldAtZoom0 * Math.pow(2, zoom);
+
+        List<Cluster> result = new ArrayList<>();
+        if (minLon > maxLon) {
+            collect(level, cellsPerWorld, minLat, minLon, maxLat, 180, result);
+            collect(level, cellsPerWorld, minLat, -180, maxLat, maxLon, result);
+        } else {
+            collect(level, cellsPerWorld, minLat, minLon, maxLat, maxLon, result);
+        }
+        result.sort(Comparator.comparingInt(Cluster::count).reversed()
+                .thenComparingDouble(Cluster::lat)
+                .thenComparingDouble(Cluster::lon));
+        return result;
+    }
+
+    private static void collect(
+            Map<Long, Cluster> level, double cellsPerWorld,
+            double minLat, double minLon, double maxLat, double maxLon,
+            List<Cluster> result
+    ) {
+        int minX = cellIndex(mercatorX(minLon), cellsPerWorld);
+        int maxX = cellIndex(mercatorX(maxLon), cellsPerWorld);
+        int minY = cellIndex(mercatorY(maxLat), cellsPerWorld); // 화면 좌표는 북쪽이 위(작은 y)
+        int maxY = cellIndex(mercatorY(minLat), cellsPerWorld);
+
+        long viewportCells = (long) (maxX - minX + 1) * (maxY - minY + 1);
+        if (viewportCells <= level.size()) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    Cluster c = level.get(key(x, y));
+                    if (c != null && c.within(minLat, minLon, maxLat, maxLon)) result.add(c);
+                }
+            }
+        } else {
+            for (Cluster c : level.values()) {
+                if (c.within(minLat, minLon, maxLat, maxLon)) result.add(c);
+            }
+        }
+    }
+
+    /**
+     * 최대 줌을 넘는 경우 등 개별 영역을 클러스터 1건 형태로 변환
+     */
+    static Cluster single(AreaMarkerProjection m) {
+        Cell cell = new Cell();
+        cell.add(m);
+        return cell.toCluster();
+    }
+
+    /**
+     * 웹 메르카토르 정규 좌표 (0 ~ 1, 서쪽 끝 = 0)
+     */
+    static double mercatorX(double lon) {
+        return (lon + 180) / 360;
+    }
+
+    /**
+     * 웹 메르카토르 정규 좌표 (0 ~ 1, 북쪽 끝 = 0)
+     */
+    static double mercatorY(double lat) {
+        double clamped = Math.max(-MAX_MERCATOR_LAT, Math.min(MAX_MERCATOR_LAT, lat));
+        double sin = Math.sin(Math.toRadians(clamped));
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    }
+
+    private static int cellIndex(double unit, double cellsPerWorld) {
+        double clamped = Math.max(0, Math.min(1, unit));
+        return (int) Math.min(Math.floor(clamped * cellsPerWorld), Math.ceil(cellsPerWorld) - 1);
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+
+    private static long parentKey(long key) {
+        return key((int) (key >>> 32) >> 1, (int) key >> 1);
+    }
+
+    /**
+     * 클러스터 (count == 1 이면 areaId 가 해당 영역 ID)
+     *
+     * @param habitat 가장 많은 서식지 (DB Enum 문자열, 없으면 null)
+     */
+    record Cluster(double lat, double lon, int count, double totalAreaSize, String habitat, Long areaId) {
+
+        boolean within(double minLat, double minLon, double maxLat, double maxLon) {
+            return lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon;
+        }
+    }
+
+    // 격자 계산 중에만 쓰는 가변 집계
+    private static final class Cell {
+        private int count;
+        private double sumLat;
+        private double sumLon;
+        private double sumAreaSize;
+        private Long areaId;
+        private final Map<String, Integer> habitats = new HashMap<>();
+
+        void add(AreaMarkerProjection m) {
+            count++;
+            sumLat += m.getLat();
+            sumLon += m.getLon();
+            if (m.getAreaSize() != null) sumAreaSize += m.getAreaSize();
+            if (m.getHabitat() != null) habitats.merge(m.getHabitat(), 1, Integer::sum);
+            areaId = m.getId();
+        }
+
+        void merge(Cell other) {
+            count += other.count;
+            sumLat += other.sumLat;
+            sumLon += other.sumLon;
+            sumAreaSize += other.sumAreaSize;
+            other.habitats.forEach((h, n) -> habitats.merge(h, n, Integer::sum));
+            areaId = other.areaId;
+        }
+
+        Cluster toCluster() {
+            String dominant = habitats.entrySet().stream()
+                    .max(Map.Entry.<String, Integer>comparingByValue()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+            return new Cluster(sumLat / count, sumLon / count, count, sumAreaSize, dominant, count == 1 ? areaId : null);
+        }
+    }
+}
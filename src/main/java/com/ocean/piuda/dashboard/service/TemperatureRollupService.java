@@ -0,0 +1,132 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.enums.RollupResolution;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.WaterTemperatureRollupRepository;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 수온 롤업(water_temperature_rollups) 유지 서비스
+ * - DashboardCommandService 의 수질 로그 변경 시 같은 트랜잭션 안에서 갱신합니다.
+ * - 생성: 해상도별 버킷에 upsert (해상도당 1문장)
+ * - 수정/삭제: 영향을 받은 버킷만 원본 로그로 다시 계산 (버킷 범위만 스캔)
+ * - 관리자 전체 재계산은 영역마다 별도 트랜잭션(REQUIRES_NEW)으로 실행합니다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class TemperatureRollupService {
+
+    private final WaterTemperatureRollupRepository rollupRepository;
+    private final ProjectAreaRepository projectAreaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate perAreaTx;
+
+    public TemperatureRollupService(
+            WaterTemperatureRollupRepository rollupRepository,
+            ProjectAreaRepository projectAreaRepository,
+            ApplicationEventPublisher eventPublisher,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.rollupRepository = rollupRepository;
+        this.projectAreaRepository = projectAreaRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.perAreaTx = new TransactionTemplate(transactionManager);
+        this.perAreaTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void onCreated(Long areaId, LocalDate recordDate, double temperature) {
+        for (RollupResolution resolution : RollupResolution.values()) {
+            rollupRepository.upsertSample(areaId, resolution.name(), resolution.truncate(recordDate), temperature);
+        }
+    }
+
+    /**
+     * 기록일/수온 변경 (변경 전후 버킷을 다시 계산)
+     */
+    public void onUpdated(Long areaId, LocalDate beforeDate, LocalDate afterDate) {
+        for (RollupResolution resolution : RollupResolution.values()) {
+            LocalDate before = resolution.truncate(beforeDate);
+            LocalDate after = resolution.truncate(afterDate);
+            recomputeBucket(areaId, resolution, before);
+            if (!after.equals(before)) recomputeBucket(areaId, resolution, after);
+        }
+    }
+
+    public void onDeleted(Long areaId, LocalDate recordDate) {
+        for (RollupResolution resolution : RollupResolution.values()) {
+            recomputeBucket(areaId, resolution, resolution.truncate(recordDate));
+        }
+    }
+
+    public void onAreaDeleted(Long areaId) {
+        rollupRepository.deleteAllByAreaId(areaId);
+    }
+
+    /**
+     * 원본 수질 로그로 영역 롤업 전체 재계산 (관리자 작업, 단일 영역)
+     * - 롤업이 바뀌므로 영역 버전을 올리고 변경 이벤트를 발행합니다. (조건부 GET / 차트 캐시 갱신)
+     */
+    public void rebuild(Long areaId) {
+        recompute(areaId);
+        projectAreaRepository.incrementDataVersion(areaId);
+        eventPublisher.publishEvent(new DashboardChangedEvent(areaId, DashboardChangeType.WATER));
+    }
+
+    /**
+     * 원본 수질 로그로 영역 롤업 전체 재계산 (단일 영역)
+     * - 버전 증가 / 이벤트 발행은 호출하는 쪽(대량 적재 / 대량 수정 트랜잭션)이 담당합니다.
+     */
+    public void recompute(Long areaId) {
+        if (!projectAreaRepository.existsById(areaId)) throw new BusinessException(ExceptionType.RESOURCE_NOT_FOUND);
+
+        rollupRepository.deleteAllByAreaId(areaId);
+        for (RollupResolution resolution : RollupResolution.values()) {
+            rollupRepository.insertAllFromLogs(areaId, resolution.name(), resolution.getTruncUnit());
+        }
+    }
+
+    /**
+     * 전체 영역 롤업 재계산 (관리자 작업)
+     * - 영역마다 별도 트랜잭션으로 재계산하고 커밋하며, 영역 사이에 영속성 컨텍스트를 비웁니다.
+     *
+     * @return 재계산된 영역 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAll() {
+        List<Long> areaIds = projectAreaRepository.findAllIds();
+
+        for (Long areaId : areaIds) {
+            perAreaTx.executeWithoutResult(status -> rebuild(areaId));
+            entityManager.clear();
+        }
+        log.info("수온 롤업 재계산 완료 - {}개 영역", areaIds.size());
+        return areaIds.size();
+    }
+
+    /**
+     * 버킷 1개 다시 계산: 원본 로그로 upsert 하고, 로그가 하나도 남지 않았을 때만 행을 삭제
+     */
+    private void recomputeBucket(Long areaId, RollupResolution resolution, LocalDate bucketStart) {
+        int upserted = rollupRepository.upsertBucketFromLogs(areaId, resolution.name(), bucketStart, resolution.next(bucketStart));
+        if (upserted == 0) rollupRepository.deleteBucket(areaId, resolution, bucketStart);
+    }
+}
@@ -0,0 +1,196 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.entity.AreaTransplantSummary;
+import com.ocean.piuda.dashboard.entity.AreaTransplantSummary.SpeciesMethodTotal;
+import com.ocean.piuda.dashboard.entity.AreaTransplantSummary.TransplantContribution;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.enums.TransplantMethod;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.AreaTransplantSummaryRepository;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.TransplantLogRepository;
+import com.ocean.piuda.dashboard.repository.projection.AccumulatedStatsProjection;
+import com.ocean.piuda.dashboard.repository.projection.MethodDistributionProjection;
+import com.ocean.piuda.dashboard.repository.projection.SpeciesMethodTotalProjection;
+import com.ocean.piuda.dashboard.repository.projection.WorkHistoryPointProjection;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작업 영역별 이식 요약(area_transplant_summaries) 유지 서비스
+ * - DashboardCommandService 의 이식 로그 변경 시 같은 트랜잭션 안에서 증분 갱신합니다.
+ * - 요약 행이 아직 없는 영역(기존 데이터)은 첫 변경 시 원본 로그로 전체 계산합니다.
+ *   (빈 행을 INSERT ... ON CONFLICT DO NOTHING 으로 만든 뒤 잠그므로 동시 첫 변경도 충돌 없이 직렬화됩니다)
+ * - 관리자 전체 재계산은 영역마다 별도 트랜잭션(REQUIRES_NEW)으로 실행해, 요약 행 잠금을 영역 하나씩만 잡습니다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class TransplantSummaryService {
+
+    private final AreaTransplantSummaryRepository summaryRepository;
+    private final TransplantLogRepository transplantLogRepository;
+    private final ProjectAreaRepository projectAreaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate perAreaTx;
+
+    public TransplantSummaryService(
+            AreaTransplantSummaryRepository summaryRepository,
+            TransplantLogRepository transplantLogRepository,
+            ProjectAreaRepository projectAreaRepository,
+            ApplicationEventPublisher eventPublisher,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.summaryRepository = summaryRepository;
+        this.transplantLogRepository = transplantLogRepository;
+        this.projectAreaRepository = projectAreaRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.perAreaTx = new TransactionTemplate(transactionManager);
+        this.perAreaTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void onCreated(Long areaId, TransplantContribution created) {
+        summaryRepository.findForUpdate(areaId).ifPresentOrElse(
+                summary -> summary.add(created),
+                () -> recompute(areaId)
+        );
+    }
+
+    public void onUpdated(Long areaId, TransplantContribution before, TransplantContribution after) {
+        summaryRepository.findForUpdate(areaId).ifPresentOrElse(
+                summary -> {
+                    boolean lastDateRemoved = summary.remove(before);
+                    summary.add(after);
+                    if (lastDateRemoved && !after.recordDate().equals(before.recordDate())) {
+                        summary.updateLastWorkDate(transplantLogRepository.findLastRecordDate(areaId));
+                    }
+                },
+                () -> recompute(areaId)
+        );
+    }
+
+    public void onDeleted(Long areaId, TransplantContribution deleted) {
+        summaryRepository.findForUpdate(areaId).ifPresentOrElse(
+                summary -> {
+                    if (summary.remove(deleted)) {
+                        // JPQL 실행 전 자동 flush 되므로 삭제된 로그는 집계에서 제외됨
+                        summary.updateLastWorkDate(transplantLogRepository.findLastRecordDate(areaId));
+                    }
+                },
+                () -> recompute(areaId)
+        );
+    }
+
+    public void onAreaDeleted(Long areaId) {
+        summaryRepository.deleteByAreaId(areaId);
+    }
+
+    /**
+     * 원본 이식 로그로 요약 전체 재계산 (관리자 작업, 단일 영역)
+     * - 요약이 바뀌므로 영역 버전을 올리고 변경 이벤트를 발행합니다. (조건부 GET / 상세 캐시 갱신)
+     */
+    public void rebuild(Long areaId) {
+        recompute(areaId);
+        projectAreaRepository.incrementDataVersion(areaId);
+        eventPublisher.publishEvent(new DashboardChangedEvent(areaId, DashboardChangeType.TRANSPLANT));
+    }
+
+    /**
+     * 원본 이식 로그로 요약 전체 재계산 (단일 영역)
+     * - 버전 증가 / 이벤트 발행은 호출하는 쪽(로그 변경 트랜잭션)이 담당합니다.
+     */
+    public void recompute(Long areaId) {
+        if (!projectAreaRepository.existsById(areaId)) throw new BusinessException(ExceptionType.RESOURCE_NOT_FOUND);
+
+        // 행을 먼저 확보한 뒤 잠금 (요약 행이 없을 때 동시에 들어온 쓰기끼리 PK 충돌하지 않도록)
+        summaryRepository.insertEmptyIfAbsent(areaId);
+        AreaTransplantSummary summary = summaryRepository.findForUpdate(areaId)
+                .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
+
+        AreaTransplantSummary computed = assemble(
+                areaId,
+                transplantLogRepository.getAccumulatedStats(areaId),
+                transplantLogRepository.findMethodDistribution(areaId),
+                transplantLogRepository.findMonthlyWorkCounts(areaId),
+                transplantLogRepository.findSpeciesMethodTotals(areaId)
+        );
+
+        summary.overwrite(
+                computed.getTotalCount(),
+                computed.getTotalArea(),
+                computed.getLastWorkDate(),
+                computed.getMethodCounts(),
+                computed.getMonthlyCounts(),
+                computed.getSpeciesMethodTotals()
+        );
+
+        summaryRepository.save(summary);
+    }
+
+    /**
+     * 원본 로그 집계 결과로 (저장되지 않은) 요약 객체 조립
+     * - 재계산과, 요약 행이 아직 없는 영역의 현황 탭 조회(fallback)에서 함께 사용합니다.
+     */
+    public static AreaTransplantSummary assemble(
+            Long areaId,
+            AccumulatedStatsProjection stats,
+            List<MethodDistributionProjection> distributions,
+            List<WorkHistoryPointProjection> monthly,
+            List<SpeciesMethodTotalProjection> speciesTotals
+    ) {
+        Map<TransplantMethod, Long> methodCounts = new HashMap<>();
+        distributions.forEach(d -> methodCounts.put(d.getMethodName(), d.getCount()));
+
+        Map<String, Long> monthlyCounts = new HashMap<>();
+        monthly.forEach(m -> monthlyCounts.put(AreaTransplantSummary.monthKey(m.getMonth()), m.getCount()));
+
+        List<SpeciesMethodTotal> totals = speciesTotals.stream()
+                .map(p -> new SpeciesMethodTotal(p.getSpeciesId(), p.getSpeciesName(), p.getMethodName(), p.getTotalCount()))
+                .toList();
+
+        AreaTransplantSummary summary = AreaTransplantSummary.empty(areaId);
+        summary.overwrite(
+                stats != null && stats.getTotalCount() != null ? stats.getTotalCount() : 0L,
+                stats != null && stats.getTotalArea() != null ? stats.getTotalArea() : 0.0,
+                stats != null ? stats.getLastDate() : null,
+                methodCounts,
+                monthlyCounts,
+                totals
+        );
+        return summary;
+    }
+
+    /**
+     * 전체 영역 요약 재계산 (관리자 작업)
+     * - 영역마다 별도 트랜잭션으로 재계산하고 커밋하며, 영역 사이에 영속성 컨텍스트를 비웁니다.
+     *
+     * @return 재계산된 영역 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAll() {
+        List<Long> areaIds = projectAreaRepository.findAllIds();
+
+        for (Long areaId : areaIds) {
+            perAreaTx.executeWithoutResult(status -> rebuild(areaId));
+            entityManager.clear();
+        }
+        log.info("이식 요약 재계산 완료 - {}개 영역", areaIds.size());
+        return areaIds.size();
+    }
+}
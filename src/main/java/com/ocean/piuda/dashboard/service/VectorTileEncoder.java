@@ -0,0 +1,170 @@
+package com.ocean.piuda.dashboard.service;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.Point;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapbox Vector Tile(MVT 2.1) 인코더 - 점 레이어 1개 전용
+ * - JTS Point / MultiPoint (타일 좌표계, 0 ~ extent, y 는 아래로 증가) 를 protobuf 로 직접 인코딩합니다.
+ * - 속성 키/값은 레이어 안에서 중복 없이 한 번만 기록합니다.
+ * - 선/면 도형은 지원하지 않습니다.
+ *
+ * @see <a href="https://github.com/mapbox/vector-tile-spec/tree/master/2.1">vector-tile-spec 2.1</a>
+ */
+final class VectorTileEncoder {
+
+    static final int EXTENT = 4096;
+
+    // protobuf wire type
+    private static final int VARINT = 0;
+    private static final int FIXED64 = 1;
+    private static final int LENGTH_DELIMITED = 2;
+
+    private static final int GEOM_TYPE_POINT = 1;
+    private static final int CMD_MOVE_TO = 1;
+
+    private final String layerName;
+    private final List<byte[]> features = new ArrayList<>();
+    private final Map<String, Integer> keys = new LinkedHashMap<>();
+    private final Map<Object, Integer> values = new LinkedHashMap<>();
+
+    VectorTileEncoder(String layerName) {
+        this.layerName = layerName;
+    }
+
+    /**
+     * 점 피처 추가 (null 속성값은 생략)
+     */
+    void addFeature(long id, Geometry geometry, Map<String, ?> attributes) {
+        Proto feature = new Proto();
+        feature.uint(1, id);
+
+        Proto tags = new Proto();
+        attributes.forEach((key, value) -> {
+            if (value == null) return;
+            tags.varint(keys.computeIfAbsent(key, k -> keys.size()));
+            tags.varint(values.computeIfAbsent(value, v -> values.size()));
+        });
+        byte[] tagBytes = tags.toByteArray();
+        if (tagBytes.length > 0) feature.bytes(2, tagBytes);
+        feature.uint(3, GEOM_TYPE_POINT);
+        feature.bytes(4, pointCommands(geometry));
+
+        features.add(feature.toByteArray());
+    }
+
+    /**
+     * Tile 메시지 (피처가 없으면 빈 배열 = 빈 타일)
+     */
+    byte[] encode() {
+        if (features.isEmpty()) return new byte[0];
+
+        Proto layer = new Proto();
+        layer.uint(15, 2);
+        layer.string(1, layerName);
+        features.forEach(f -> layer.bytes(2, f));
+        keys.keySet().forEach(k -> layer.string(3, k));
+        values.keySet().forEach(v -> layer.bytes(4, value(v)));
+        layer.uint(5, EXTENT);
+
+        Proto tile = new Proto();
+        tile.bytes(3, layer.toByteArray());
+        return tile.toByteArray();
+    }
+
+    private static byte[] pointCommands(Geometry geometry) {
+        List<Point> points = new ArrayList<>();
+        if (geometry instanceof Point p) {
+            points.add(p);
+        } else if (geometry instanceof MultiPoint mp) {
+            for (int i = 0; i < mp.getNumGeometries(); i++) points.add((Point) mp.getGeometryN(i));
+        } else {
+            throw new IllegalArgumentException("점 도형만 지원합니다: " + geometry.getGeometryType());
+        }
+
+        Proto commands = new Proto();
+        commands.varint(CMD_MOVE_TO | (points.size() << 3));
+        int cursorX = 0;
+        int cursorY = 0;
+        for (Point p : points) {
+            int x = (int) Math.round(p.getX());
+            int y = (int) Math.round(p.getY());
+            commands.varint(Integer.toUnsignedLong(zigZag(x - cursorX)));
+            commands.varint(Integer.toUnsignedLong(zigZag(y - cursorY)));
+            cursorX = x;
+            cursorY = y;
+        }
+        return commands.toByteArray();
+    }
+
+    private static byte[] value(Object v) {
+        Proto value = new Proto();
+        switch (v) {
+            case String s -> value.string(1, s);
+            case Double d -> value.fixed64(3, Double.doubleToLongBits(d));
+            case Float f -> value.fixed64(3, Double.doubleToLongBits(f));
+            case Boolean b -> value.uint(7, b ? 1 : 0);
+            case Number n -> value.sint(6, n.longValue());
+            default -> value.string(1, v.toString());
+        }
+        return value.toByteArray();
+    }
+
+    private static int zigZag(int n) {
+        return (n << 1) ^ (n >> 31);
+    }
+
+    // 최소 protobuf 쓰기 도구
+    private static final class Proto {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        void uint(int field, long value) {
+            tag(field, VARINT);
+            varint(value);
+        }
+
+        void sint(int field, long value) {
+            tag(field, VARINT);
+            varint((value << 1) ^ (value >> 63));
+        }
+
+        void fixed64(int field, long bits) {
+            tag(field, FIXED64);
+            for (int i = 0; i < 8; i++) out.write((int) (bits >>> (8 * i)) & 0xff);
+        }
+
+        void string(int field, String value) {
+            bytes(field, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void bytes(int field, byte[] value) {
+            tag(field, LENGTH_DELIMITED);
+            varint(value.length);
+            out.writeBytes(value);
+        }
+
+        void varint(long value) {
+            while ((value & ~0x7fL) != 0) {
+                out.write((int) ((value & 0x7f) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        private void tag(int field, int wireType) {
+            varint(((long) field << 3) | wireType);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+}
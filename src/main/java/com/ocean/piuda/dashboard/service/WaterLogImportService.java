@@ -0,0 +1,186 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocean.piuda.dashboard.dto.request.CreateWaterLogRequest;
+import com.ocean.piuda.dashboard.dto.response.BulkImportResponse;
+import com.ocean.piuda.dashboard.entity.ProjectArea;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.enums.WaterLogImportFormat;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.WaterLogJdbcRepository;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 수질 로그 대량 적재 (CSV / NDJSON)
+ * - 입력을 한 줄씩 읽어 파싱/검증한 뒤(트랜잭션 밖, 유효 행만 보관 - 최대 max-rows),
+ *   영역 행을 잠그고 batch-size 행마다 JDBC 배치 INSERT 1회로 적재합니다. (행마다 영역 로딩 / IDENTITY INSERT 없음)
+ *   업로드를 읽는 동안에는 커넥션과 영역 잠금을 잡지 않습니다.
+ * - 오류 행은 건너뛰고 줄 번호와 사유를 결과에 담습니다.
+ * - 적재 후 수온 롤업/누적 통계 재계산, 영역 버전 증가, 변경 이벤트 발행은 적재 1회당 한 번만 수행합니다.
+ */
+@Slf4j
+@Service
+public class WaterLogImportService {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final ProjectAreaRepository projectAreaRepository;
+    private final WaterLogJdbcRepository waterLogJdbcRepository;
+    private final TemperatureRollupService temperatureRollupService;
+    private final WaterStatsService waterStatsService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate writeTx;
+    private final int batchSize;
+    private final long maxRows;
+
+    public WaterLogImportService(
+            ProjectAreaRepository projectAreaRepository,
+            WaterLogJdbcRepository waterLogJdbcRepository,
+            TemperatureRollupService temperatureRollupService,
+            WaterStatsService waterStatsService,
+            Validator validator,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${dashboard.water-import.batch-size:500}") int batchSize,
+            @Value("${dashboard.water-import.max-rows:100000}") long maxRows
+    ) {
+        this.projectAreaRepository = projectAreaRepository;
+        this.waterLogJdbcRepository = waterLogJdbcRepository;
+        this.temperatureRollupService = temperatureRollupService;
+        this.waterStatsService = waterStatsService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRows = maxRows;
+    }
+
+    public BulkImportResponse importWaterLogs(Long areaId, WaterLogImportFormat format, InputStream in) {
+        Report report = new Report();
+        List<CreateWaterLogRequest> rows = read(format, in, report);
+
+        // 입력을 다 읽고 검증한 뒤에만 커넥션/영역 잠금을 잡음 (업로드 속도와 무관하게 잠금 시간이 짧음)
+        writeTx.executeWithoutResult(status -> write(areaId, rows, report));
+
+        log.info("수질 로그 대량 적재 - areaId={}, total={}, inserted={}, failed={}",
+                areaId, report.totalRows, report.insertedRows, report.failedRows);
+        return report.toResponse();
+    }
+
+    private List<CreateWaterLogRequest> read(WaterLogImportFormat format, InputStream in, Report report) {
+        List<CreateWaterLogRequest> rows = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            WaterLogRowParser parser = format == WaterLogImportFormat.NDJSON ? WaterLogRowParser.ndjson(objectMapper) : null;
+            long lineNo = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (lineNo == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') line = line.substring(1);
+                if (line.isBlank()) continue;
+
+                if (parser == null) { // CSV 헤더
+                    parser = WaterLogRowParser.csv(line);
+                    continue;
+                }
+                if (report.totalRows >= maxRows) {
+                    report.note(lineNo, "행 수 제한(" + maxRows + ") 초과 - 이 줄부터는 읽지 않았습니다.");
+                    break;
+                }
+
+                report.totalRows++;
+                CreateWaterLogRequest row = parseAndValidate(parser, line, lineNo, report);
+                if (row != null) rows.add(row);
+            }
+            if (parser == null) throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE); // 빈 CSV (헤더 없음)
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    private void write(Long areaId, List<CreateWaterLogRequest> rows, Report report) {
+        ProjectArea area = projectAreaRepository.findForUpdate(areaId)
+                .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
+        if (rows.isEmpty()) return;
+
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            report.insertedRows += waterLogJdbcRepository.insertBatch(areaId, rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+
+        if (report.insertedRows > 0) {
+            temperatureRollupService.recompute(areaId);
+            waterStatsService.recompute(area);
+            projectAreaRepository.incrementDataVersion(areaId);
+            eventPublisher.publishEvent(new DashboardChangedEvent(areaId, DashboardChangeType.WATER));
+        }
+    }
+
+    private CreateWaterLogRequest parseAndValidate(WaterLogRowParser parser, String line, long lineNo, Report report) {
+        CreateWaterLogRequest row;
+        try {
+            row = parser.parse(line);
+        } catch (IllegalArgumentException e) {
+            report.fail(lineNo, e.getMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<CreateWaterLogRequest>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            report.fail(lineNo, violations.stream()
+                    .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        return row;
+    }
+
+    private static final class Report {
+        private long totalRows;
+        private long insertedRows;
+        private long failedRows;
+        private final List<BulkImportResponse.RowError> errors = new ArrayList<>();
+        private boolean truncated;
+
+        private void fail(long line, String message) {
+            failedRows++;
+            note(line, message);
+        }
+
+        private void note(long line, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new BulkImportResponse.RowError(line, message));
+            else truncated = true;
+        }
+
+        private BulkImportResponse toResponse() {
+            return new BulkImportResponse(totalRows, insertedRows, failedRows, List.copyOf(errors), truncated);
+        }
+    }
+}
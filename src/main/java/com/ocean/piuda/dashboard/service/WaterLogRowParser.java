@@ -0,0 +1,114 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocean.piuda.dashboard.dto.request.CreateWaterLogRequest;
+import com.ocean.piuda.dashboard.enums.MarineStatus;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 대량 적재 입력의 한 줄 → CreateWaterLogRequest
+ * - 형식 오류는 IllegalArgumentException(메시지 = 행 오류 내용)으로 알립니다.
+ * - 필수 값 누락 여부는 호출 측에서 Bean Validation 으로 검사합니다. (단건 생성 API 와 같은 규칙)
+ */
+interface WaterLogRowParser {
+
+    List<String> CSV_COLUMNS = List.of("recordDate", "temperature", "visibility", "current", "surge", "wave");
+
+    CreateWaterLogRequest parse(String line);
+
+    /**
+     * NDJSON: 한 줄 = CreateWaterLogRequest JSON 객체
+     */
+    static WaterLogRowParser ndjson(ObjectMapper objectMapper) {
+        return line -> {
+            CreateWaterLogRequest row;
+            try {
+                row = objectMapper.readValue(line, CreateWaterLogRequest.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("JSON 형식 오류: " + e.getOriginalMessage());
+            }
+            if (row == null) throw new IllegalArgumentException("JSON 형식 오류: 객체가 아닌 null 입니다.");
+            return row;
+        };
+    }
+
+    /**
+     * CSV: 첫 줄은 헤더 (열 이름은 대소문자/순서 무관, record_date 도 허용)
+     * - 헤더에 필요한 열이 없으면 적재 전체를 거부합니다. (INVALID_INPUT_VALUE)
+     */
+    static WaterLogRowParser csv(String headerLine) {
+        String[] header = headerLine.split(",", -1);
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            indexes.put(normalize(header[i]), i);
+        }
+
+        int[] columns = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < columns.length; i++) {
+            Integer index = indexes.get(normalize(CSV_COLUMNS.get(i)));
+            if (index == null) throw new BusinessException(ExceptionType.INVALID_INPUT_VALUE);
+            columns[i] = index;
+        }
+        int width = header.length;
+
+        return line -> {
+            String[] cells = line.split(",", -1);
+            if (cells.length != width) {
+                throw new IllegalArgumentException("열 개수 불일치: " + cells.length + " (헤더 " + width + ")");
+            }
+            return new CreateWaterLogRequest(
+                    parseDate(cells[columns[0]]),
+                    parseDouble(cells[columns[1]]),
+                    parseStatus("visibility", cells[columns[2]]),
+                    parseStatus("current", cells[columns[3]]),
+                    parseStatus("surge", cells[columns[4]]),
+                    parseStatus("wave", cells[columns[5]])
+            );
+        };
+    }
+
+    private static String normalize(String column) {
+        return column.strip().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static LocalDate parseDate(String cell) {
+        String value = cell.strip();
+        if (value.isEmpty()) return null;
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("recordDate 형식 오류 (YYYY-MM-DD): " + value);
+        }
+    }
+
+    private static Double parseDouble(String cell) {
+        String value = cell.strip();
+        if (value.isEmpty()) return null;
+        try {
+            double parsed = Double.parseDouble(value);
+            if (!Double.isFinite(parsed)) throw new NumberFormatException();
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("temperature 형식 오류: " + value);
+        }
+    }
+
+    private static MarineStatus parseStatus(String column, String cell) {
+        String value = cell.strip();
+        if (value.isEmpty()) return null;
+        try {
+            return MarineStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(column + " 값 오류 (GOOD / NORMAL / POOR): " + value);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.entity.ProjectArea;
+import com.ocean.piuda.dashboard.entity.WaterLog;
+import com.ocean.piuda.dashboard.entity.WaterStats;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.WaterLogRepository;
+import com.ocean.piuda.dashboard.repository.projection.WaterStatsProjection;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 작업 영역 수온 누적 통계(ProjectArea.waterStats) 유지 서비스
+ * - DashboardCommandService 의 수질 로그 변경 시 같은 트랜잭션 안에서 O(1) 로 갱신합니다.
+ * - 호출 측은 영역 행을 잠근 상태(findForUpdate)로 넘겨야 합니다.
+ * - 수정/삭제로 최저/최고/마지막 기록이 빠지면 원본 로그로 다시 계산합니다. (집계 문장 1회)
+ * - 관리자 전체 재계산 / 기동 시 보정은 영역마다 별도 트랜잭션(REQUIRES_NEW)으로 실행해, 영역 행 잠금을 하나씩만 잡습니다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class WaterStatsService {
+
+    private final WaterLogRepository waterLogRepository;
+    private final ProjectAreaRepository projectAreaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate perAreaTx;
+
+    public WaterStatsService(
+            WaterLogRepository waterLogRepository,
+            ProjectAreaRepository projectAreaRepository,
+            ApplicationEventPublisher eventPublisher,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.waterLogRepository = waterLogRepository;
+        this.projectAreaRepository = projectAreaRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.perAreaTx = new TransactionTemplate(transactionManager);
+        this.perAreaTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void onCreated(ProjectArea area, WaterLog created) {
+        area.getWaterStats().add(created.getId(), created.getRecordDate(), created.getTemperature());
+    }
+
+    /**
+     * 기록일/수온 변경 (updated 는 이미 변경이 반영된 로그)
+     */
+    public void onUpdated(ProjectArea area, double beforeTemperature, WaterLog updated) {
+        if (area.getWaterStats().remove(updated.getId(), beforeTemperature)) {
+            area.getWaterStats().add(updated.getId(), updated.getRecordDate(), updated.getTemperature());
+        } else {
+            recompute(area);
+        }
+    }
+
+    public void onDeleted(ProjectArea area, WaterLog deleted) {
+        if (!area.getWaterStats().remove(deleted.getId(), deleted.getTemperature())) {
+            recompute(area);
+        }
+    }
+
+    /**
+     * 원본 수질 로그로 다시 계산 (대량 적재 이후 등)
+     */
+    public void recompute(ProjectArea area) {
+        // 네이티브 집계 전에 대기 중인 로그 변경을 반영
+        waterLogRepository.flush();
+        WaterStatsProjection p = waterLogRepository.aggregateWaterStats(area.getId());
+        area.replaceWaterStats(WaterStats.of(
+                p.getSampleCount() != null ? p.getSampleCount() : 0L,
+                p.getMean(),
+                p.getVariancePop(),
+                p.getMinTemperature(),
+                p.getMaxTemperature(),
+                p.getLastLogId(),
+                p.getLastRecordDate(),
+                p.getLastTemperature()
+        ));
+    }
+
+    /**
+     * 단일 영역 재계산 (관리자 작업)
+     * - 통계가 바뀌므로 영역 버전을 올리고 변경 이벤트를 발행합니다. (조건부 GET / 상세 캐시 갱신)
+     */
+    public void rebuild(Long areaId) {
+        ProjectArea area = projectAreaRepository.findForUpdate(areaId)
+                .orElseThrow(() -> new BusinessException(ExceptionType.RESOURCE_NOT_FOUND));
+        recompute(area);
+        projectAreaRepository.incrementDataVersion(areaId);
+        eventPublisher.publishEvent(new DashboardChangedEvent(areaId, DashboardChangeType.WATER));
+    }
+
+    /**
+     * 전체 영역 재계산 (관리자 작업)
+     *
+     * @return 재계산된 영역 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAll() {
+        List<Long> areaIds = projectAreaRepository.findAllIds();
+
+        rebuildEach(areaIds);
+        log.info("수온 누적 통계 재계산 완료 - {}개 영역", areaIds.size());
+        return areaIds.size();
+    }
+
+    /**
+     * 표본 수가 실제 로그 수와 다른 영역만 재계산 (기동 시 WaterStatsBackfillInitializer 가 호출)
+     *
+     * @return 재계산된 영역 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildStale() {
+        List<Long> areaIds = projectAreaRepository.findAreaIdsWithStaleWaterStats();
+
+        rebuildEach(areaIds);
+        if (!areaIds.isEmpty()) log.info("수온 누적 통계 보정 완료 - {}개 영역", areaIds.size());
+        return areaIds.size();
+    }
+
+    // 영역마다 짧은 트랜잭션으로 재계산 후 커밋하고, 영역 사이에 영속성 컨텍스트를 비움
+    private void rebuildEach(List<Long> areaIds) {
+        for (Long areaId : areaIds) {
+            perAreaTx.executeWithoutResult(status -> rebuild(areaId));
+            entityManager.clear();
+        }
+    }
+}
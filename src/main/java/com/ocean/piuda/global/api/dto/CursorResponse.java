@@ -0,0 +1,19 @@
+package com.ocean.piuda.global.api.dto;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * - 전체 개수(COUNT)를 계산하지 않습니다.
+ * - 다음 페이지는 nextCursor 를 그대로 cursor 파라미터로 넘겨 조회합니다. (마지막 페이지면 null)
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static <T> CursorResponse<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorResponse<>(content, size, nextCursor != null, nextCursor);
+    }
+}
@@ -18,7 +18,10 @@ public class PageRequest<T extends Enum<T> & SortEnum> {
     
     @NotNull
     private T sort;
-    
+
+    // false 이면 전체 개수(COUNT)를 계산하지 않고 다음 페이지 존재 여부(hasNext)만 반환
+    private boolean includeTotal = true;
+
     public PageRequest() {}
     
     public PageRequest(int page, int size, T sort) {
@@ -1,15 +1,18 @@
 package com.ocean.piuda.global.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageResponse<T>(
         List<T> content,
         int page,        // 1부터 시작
         int size,
-        int totalPages,
-        long totalElements,
+        Integer totalPages,     // includeTotal=false(Slice) 이면 null
+        Long totalElements,     // includeTotal=false(Slice) 이면 null
         boolean first,
         boolean last,
         boolean hasNext,
@@ -28,4 +31,22 @@ public record PageResponse<T>(
                 page.hasPrevious()
         );
     }
+
+    /**
+     * 전체 개수 없이 다음 페이지 존재 여부만 담는 응답 (COUNT 생략)
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        if (slice instanceof Page<T> page) return of(page);
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber() + 1,
+                slice.getSize(),
+                null,
+                null,
+                slice.isFirst(),
+                slice.isLast(),
+                slice.hasNext(),
+                slice.hasPrevious()
+        );
+    }
 }
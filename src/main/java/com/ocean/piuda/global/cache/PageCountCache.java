@@ -0,0 +1,148 @@
+package com.ocean.piuda.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ocean.piuda.global.api.dto.PageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이지 목록 전체 개수(COUNT) 캐시 (프로세스 내부)
+ * - 목록 조회는 Slice(size + 1 건)로 본문만 가져오고, totalElements 는 이 캐시에서 채웁니다.
+ * - 키는 정규화된 필터(CountFilter)이며 페이지 번호/크기/정렬은 포함하지 않습니다.
+ * - 첫 페이지가 마지막 페이지인 경우처럼 본문만으로 개수가 정해지면 COUNT 를 실행하지 않습니다.
+ * - 쓰기 커밋 후 네임스페이스(엔티티 타입) 또는 네임스페이스 + 범위(영역 ID 등) 단위로 무효화합니다.
+ *   무효화는 세대 번호를 올리는 방식이라, 커밋 전에 시작된 COUNT 결과가 새 세대에 남지 않습니다.
+ * - 적중/미스/축출 횟수는 actuator metrics 의 cache.* (cache=page.count) 로 노출됩니다.
+ */
+@Component
+public class PageCountCache {
+
+    static final String CACHE_NAME = "page.count";
+
+    private final boolean enabled;
+    private final Cache<CountKey, Long> cache;
+    private final Map<Object, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Counter invalidations;
+
+    public PageCountCache(
+            @Value("${app.page-count.cache.enabled:true}") boolean enabled,
+            @Value("${app.page-count.cache.max-size:10000}") long maxSize,
+            @Value("${app.page-count.cache.ttl-seconds:30}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("cache.invalidations")
+                .description("쓰기 커밋으로 무효화된 목록 개수 범위 수")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 목록 응답 조립
+     * - includeTotal=false 이면 COUNT 없이 Slice 그대로(hasNext 만) 반환합니다.
+     */
+    public <T> PageResponse<T> respond(Slice<T> slice, boolean includeTotal, CountFilter filter, LongSupplier counter) {
+        return includeTotal ? PageResponse.of(page(slice, filter, counter)) : PageResponse.of(slice);
+    }
+
+    /**
+     * Slice 본문 + 캐시된 전체 개수로 Page 생성
+     */
+    public <T> Page<T> page(Slice<T> slice, CountFilter filter, LongSupplier counter) {
+        return PageableExecutionUtils.getPage(slice.getContent(), slice.getPageable(), () -> count(filter, counter));
+    }
+
+    /**
+     * 캐시된 개수를 반환하고, 없으면 counter 로 계산해 저장합니다.
+     */
+    public long count(CountFilter filter, LongSupplier counter) {
+        if (!enabled) return counter.getAsLong();
+
+        CountKey key = new CountKey(
+                filter,
+                generation(filter.namespace()),
+                generation(new Scope(filter.namespace(), filter.scope()))
+        );
+        return cache.get(key, k -> counter.getAsLong());
+    }
+
+    /**
+     * 네임스페이스 전체 무효화 (모든 범위)
+     */
+    public void invalidate(Class<?> namespace) {
+        bump(namespace);
+    }
+
+    /**
+     * 네임스페이스 안의 특정 범위만 무효화
+     */
+    public void invalidate(Class<?> namespace, Object scope) {
+        bump(new Scope(namespace, scope));
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 무효화 (트랜잭션 밖이면 즉시)
+     */
+    public void invalidateAfterCommit(Class<?> namespace) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(namespace);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(namespace);
+            }
+        });
+    }
+
+    private long generation(Object generationKey) {
+        AtomicLong generation = generations.get(generationKey);
+        return generation != null ? generation.get() : 0L;
+    }
+
+    private void bump(Object generationKey) {
+        generations.computeIfAbsent(generationKey, k -> new AtomicLong()).incrementAndGet();
+        invalidations.increment();
+    }
+
+    /**
+     * 정규화된 목록 필터
+     * - namespace: 목록 대상 엔티티 타입
+     * - scope: 부분 무효화 단위 (예: 작업 영역 ID, 없으면 null)
+     * - values: 개수에 영향을 주는 필터 값 (정규화 후, null 허용)
+     */
+    public record CountFilter(Class<?> namespace, Object scope, List<Object> values) {
+        public static CountFilter of(Class<?> namespace, Object scope, Object... values) {
+            return new CountFilter(namespace, scope, Arrays.asList(values));
+        }
+    }
+
+    private record Scope(Class<?> namespace, Object scope) { }
+
+    private record CountKey(CountFilter filter, long namespaceGeneration, long scopeGeneration) { }
+}
@@ -0,0 +1,27 @@
+package com.ocean.piuda.global.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 개수 캐시 무효화 엔티티 리스너
+ * - @EntityListeners 로 등록한 엔티티가 저장/수정/삭제되면, 커밋 이후 해당 엔티티 타입의 개수 캐시를 무효화합니다.
+ * - Hibernate 가 스프링 빈 컨테이너로 생성하므로 PageCountCache 를 주입받습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PageCountInvalidationListener {
+
+    private final PageCountCache pageCountCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChanged(Object entity) {
+        pageCountCache.invalidateAfterCommit(Hibernate.getClass(entity));
+    }
+}
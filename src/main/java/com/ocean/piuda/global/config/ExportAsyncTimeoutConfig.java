@@ -0,0 +1,56 @@
+package com.ocean.piuda.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * 로그 전체 이력 내보내기(NDJSON) 비동기 응답 시간 제한
+ * - StreamingResponseBody 는 비동기 요청 제한 시간 안에 다 써야 하므로, 내보내기 요청에만 긴 제한 시간을 적용합니다.
+ * - 다른 비동기 요청은 spring.mvc.async.request-timeout 기본값을 그대로 사용합니다.
+ */
+@Configuration
+public class ExportAsyncTimeoutConfig implements WebMvcConfigurer {
+
+    static final String EXPORT_PATTERN = "/api/dashboard/areas/{id}/export";
+
+    private final long timeoutMillis;
+
+    public ExportAsyncTimeoutConfig(@Value("${dashboard.export.async-timeout-seconds:1800}") long timeoutSeconds) {
+        this.timeoutMillis = timeoutSeconds * 1000;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new ExportTimeoutInterceptor(timeoutMillis));
+    }
+
+    /**
+     * 비동기 처리 시작 직전에, 매핑된 핸들러 패턴이 내보내기이면 이 요청의 제한 시간만 바꿉니다.
+     */
+    static final class ExportTimeoutInterceptor implements CallableProcessingInterceptor {
+
+        private final long timeoutMillis;
+
+        ExportTimeoutInterceptor(long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (request instanceof AsyncWebRequest asyncRequest && EXPORT_PATTERN.equals(Objects.toString(pattern, null))) {
+                asyncRequest.setTimeout(timeoutMillis);
+            }
+        }
+    }
+}
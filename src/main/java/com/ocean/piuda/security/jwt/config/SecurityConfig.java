@@ -101,8 +101,11 @@ public class SecurityConfig {
                          * Dashboard API.
                          *
                          * - GET 조회 API는 public fallback으로 허용합니다.
+                         * - 로그 전체 이력 내보내기는 DB 커서를 오래 잡으므로 ROLE_USER 이상만 허용합니다.
                          * - 생성/수정/삭제 계열은 ADMIN만 허용합니다.
                          */
+                        .requestMatchers(HttpMethod.GET, "/api/dashboard/areas/*/export")
+                        .access(registeredUser)
                         .requestMatchers(HttpMethod.POST, "/api/dashboard/**")
                         .access(admin)
                         .requestMatchers(HttpMethod.PUT, "/api/dashboard/**")
@@ -137,6 +140,14 @@ public class SecurityConfig {
                         .requestMatchers("/api/admin/**")
                         .access(admin)
 
+                        /*
+                         * Actuator metrics.
+                         *
+                         * 캐시 적중률 등 내부 지표는 ROLE_ADMIN만 조회할 수 있습니다.
+                         */
+                        .requestMatchers("/actuator/metrics/**")
+                        .access(admin)
+
                         /*
                          * 기존 실증 public API 호환.
                          *
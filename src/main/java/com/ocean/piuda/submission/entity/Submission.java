@@ -4,6 +4,7 @@ import com.ocean.piuda.submission.enums.ActivityType;
 import com.ocean.piuda.submission.enums.SubmissionStatus;
 import com.ocean.piuda.site.entity.SiteNameOption;
 import com.ocean.piuda.global.api.domain.BaseEntity;
+import com.ocean.piuda.global.cache.PageCountInvalidationListener;
 import com.ocean.piuda.user.entity.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Max;
@@ -18,6 +19,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "submission")
+@EntityListeners(PageCountInvalidationListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -5,6 +5,7 @@ import com.ocean.piuda.submission.enums.SubmissionStatus;
 import com.ocean.piuda.submission.entity.Submission;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -74,6 +75,9 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
             @Param("userId") Long userId
     );
 
+    /**
+     * Admin 목록 본문 (size + 1 건 조회, COUNT 없음 - 전체 개수는 countWithFilters + PageCountCache)
+     */
     @Query("""
     SELECT DISTINCT s FROM Submission s
     LEFT JOIN FETCH s.basicEnv
@@ -85,7 +89,7 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
       AND (cast(:startDate as timestamp) IS NULL OR s.submittedAt >= :startDate)
       AND (cast(:endDate as timestamp) IS NULL OR s.submittedAt <= :endDate)
     """)
-    Page<Submission> findWithFilters(
+    Slice<Submission> findWithFilters(
             @Param("keyword") String keyword,
             @Param("status") SubmissionStatus status,
             @Param("activityType") ActivityType activityType,
@@ -94,6 +98,24 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
             Pageable pageable
     );
 
+    @Query("""
+    SELECT COUNT(s) FROM Submission s
+    WHERE (:keyword IS NULL OR :keyword = '' OR
+           s.siteName LIKE %:keyword% OR
+           s.authorName LIKE %:keyword%)
+      AND (:status IS NULL OR s.status = :status)
+      AND (:activityType IS NULL OR s.activityType = :activityType)
+      AND (cast(:startDate as timestamp) IS NULL OR s.submittedAt >= :startDate)
+      AND (cast(:endDate as timestamp) IS NULL OR s.submittedAt <= :endDate)
+    """)
+    long countWithFilters(
+            @Param("keyword") String keyword,
+            @Param("status") SubmissionStatus status,
+            @Param("activityType") ActivityType activityType,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
     @Query("""
         SELECT DISTINCT s FROM Submission s
         LEFT JOIN FETCH s.basicEnv
@@ -10,12 +10,15 @@ import com.ocean.piuda.submission.entity.Submission;
 import com.ocean.piuda.submission.repository.AuditLogRepository;
 import com.ocean.piuda.submission.repository.SubmissionRepository;
 import com.ocean.piuda.global.api.dto.PageResponse;
+import com.ocean.piuda.global.cache.PageCountCache;
+import com.ocean.piuda.global.cache.PageCountCache.CountFilter;
 import com.ocean.piuda.global.api.exception.BusinessException;
 import com.ocean.piuda.global.api.exception.ExceptionType;
 import com.ocean.piuda.security.jwt.service.TokenUserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,12 +33,14 @@ public class SubmissionQueryService {
     private final SubmissionRepository submissionRepository;
     private final AuditLogRepository auditLogRepository;
     private final TokenUserService tokenUserService;
+    private final PageCountCache pageCountCache;
 
     /**
      * Admin 제출 목록 조회.
      *
      * 전체 제출물을 대상으로 필터링/검색/정렬합니다.
      * 일반 record 사용자의 제출 목록 조회에는 사용하지 않습니다.
+     * 전체 개수는 필터 기준으로 캐시하며, includeTotal=false 이면 개수를 계산하지 않습니다.
      */
     public PageResponse<SubmissionListResponse> getSubmissions(
             String keyword,
@@ -43,14 +48,20 @@ public class SubmissionQueryService {
             ActivityType activityType,
             LocalDateTime startDate,
             LocalDateTime endDate,
-            Pageable pageable
+            Pageable pageable,
+            boolean includeTotal
     ) {
-        Page<Submission> page = submissionRepository.findWithFilters(
-                keyword, status, activityType, startDate, endDate, pageable
-        );
+        String normalizedKeyword = keyword != null && !keyword.isEmpty() ? keyword : null;
 
-        Page<SubmissionListResponse> mapped = page.map(SubmissionListResponse::from);
-        return PageResponse.of(mapped);
+        Slice<SubmissionListResponse> slice = submissionRepository.findWithFilters(
+                normalizedKeyword, status, activityType, startDate, endDate, pageable
+        ).map(SubmissionListResponse::from);
+
+        return pageCountCache.respond(
+                slice, includeTotal,
+                CountFilter.of(Submission.class, null, normalizedKeyword, status, activityType, startDate, endDate),
+                () -> submissionRepository.countWithFilters(normalizedKeyword, status, activityType, startDate, endDate)
+        );
     }
 
     /**
@@ -12,7 +12,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -38,8 +38,8 @@ public class UserController {
     }
 
     @PostMapping("/search")
-    @Operation(summary = "유저 검색", description = "닉네임 또는 username을 기준으로 유저를 검색합니다.")
-    public ApiData<Page<DetailedUserResponse>> searchByNicknameOrUsername(
+    @Operation(summary = "유저 검색", description = "닉네임 또는 username을 기준으로 유저를 검색합니다. includeTotal=false 이면 전체 개수 없이 다음 페이지 존재 여부만 반환합니다.")
+    public ApiData<Slice<DetailedUserResponse>> searchByNicknameOrUsername(
             @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "검색 요청 정보", required = true)
             @RequestBody @Valid UserSearchRequest req
     ) {
@@ -6,10 +6,12 @@ import lombok.Builder;
 public record UserSearchRequest(
         String q,
         Integer page,
-        Integer size
+        Integer size,
+        Boolean includeTotal    // false 이면 전체 개수(COUNT) 없이 다음 페이지 존재 여부만 반환
 ) {
 
     public int pageOrDefault() { return page == null ? 0 : Math.max(0, page); }
     public int sizeOrDefault() { return size == null ? 20 : Math.max(1, size); }
     public String qOrEmpty()    { return q == null ? "" : q; }
+    public boolean includeTotalOrDefault() { return includeTotal == null || includeTotal; }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.ocean.piuda.user.entity;
 
 import com.ocean.piuda.global.api.domain.BaseEntity;
+import com.ocean.piuda.global.cache.PageCountInvalidationListener;
 import com.ocean.piuda.security.jwt.dto.request.UserUpdateRequestDto;
 import com.ocean.piuda.security.jwt.enums.Role;
 import com.ocean.piuda.security.oauth2.enums.ProviderType;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
 
 @Table(name = "users")
 @Entity
+@EntityListeners(PageCountInvalidationListener.class)
 @Getter
 @NoArgsConstructor @AllArgsConstructor
 @Builder
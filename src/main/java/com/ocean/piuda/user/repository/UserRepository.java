@@ -2,8 +2,8 @@ package com.ocean.piuda.user.repository;
 
 import com.ocean.piuda.security.oauth2.enums.ProviderType;
 import com.ocean.piuda.user.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,18 +23,37 @@ public interface UserRepository extends JpaRepository<User , Long> {
            SELECT u FROM User u
            WHERE LOWER(u.nickname) LIKE LOWER(CONCAT('%', :q, '%'))
            """)
-    Page<User> searchByNicknameFulltext(@Param("q") String q, Pageable pageable);
+    Slice<User> searchByNicknameFulltext(@Param("q") String q, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(u) FROM User u
+           WHERE LOWER(u.nickname) LIKE LOWER(CONCAT('%', :q, '%'))
+           """)
+    long countByNicknameFulltext(@Param("q") String q);
 
     @Query("""
            SELECT u FROM User u
            WHERE LOWER(u.username) LIKE LOWER(CONCAT('%', :q, '%'))
            """)
-    Page<User> searchByUsernameFulltext(@Param("q") String q, Pageable pageable);
+    Slice<User> searchByUsernameFulltext(@Param("q") String q, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(u) FROM User u
+           WHERE LOWER(u.username) LIKE LOWER(CONCAT('%', :q, '%'))
+           """)
+    long countByUsernameFulltext(@Param("q") String q);
 
     @Query("""
            SELECT u FROM User u
            WHERE LOWER(u.nickname) LIKE LOWER(CONCAT('%', :q, '%'))
               OR LOWER(u.username) LIKE LOWER(CONCAT('%', :q, '%'))
            """)
-    Page<User> searchByNicknameOrUsernameFulltext(@Param("q") String q, Pageable pageable);
+    Slice<User> searchByNicknameOrUsernameFulltext(@Param("q") String q, Pageable pageable);
+
+    @Query("""
+           SELECT COUNT(u) FROM User u
+           WHERE LOWER(u.nickname) LIKE LOWER(CONCAT('%', :q, '%'))
+              OR LOWER(u.username) LIKE LOWER(CONCAT('%', :q, '%'))
+           """)
+    long countByNicknameOrUsernameFulltext(@Param("q") String q);
 }
@@ -2,16 +2,22 @@ package com.ocean.piuda.user.service;
 
 import com.ocean.piuda.global.api.exception.BusinessException;
 import com.ocean.piuda.global.api.exception.ExceptionType;
+import com.ocean.piuda.global.cache.PageCountCache;
+import com.ocean.piuda.global.cache.PageCountCache.CountFilter;
 import com.ocean.piuda.user.dto.request.UserSearchRequest;
 import com.ocean.piuda.user.dto.response.DetailedUserResponse;
 import com.ocean.piuda.user.entity.User;
 import com.ocean.piuda.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
 @RequiredArgsConstructor
 @Service
 @Transactional(readOnly = true)
@@ -19,31 +25,48 @@ public class UserQueryService {
 
     private final UserRepository userRepository;
     private final UserAggregateBuilder aggregateBuilder;
+    private final PageCountCache pageCountCache;
 
     public User getUserById(Long userId){
         return userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ExceptionType.USER_NOT_FOUND));
     }
 
-    public Page<DetailedUserResponse> searchByNickname(UserSearchRequest req) {
+    public Slice<DetailedUserResponse> searchByNickname(UserSearchRequest req) {
         String q = normalize(req.qOrEmpty());
-        var pageable = PageRequest.of(req.pageOrDefault(), req.sizeOrDefault());
-        Page<User> page = userRepository.searchByNicknameFulltext(q, pageable);
-        return page.map(aggregateBuilder::build);
+        return search(req, "nickname", q,
+                pageable -> userRepository.searchByNicknameFulltext(q, pageable),
+                () -> userRepository.countByNicknameFulltext(q));
     }
 
-    public Page<DetailedUserResponse> searchByUsername(UserSearchRequest req) {
+    public Slice<DetailedUserResponse> searchByUsername(UserSearchRequest req) {
         String q = normalize(req.qOrEmpty());
-        var pageable = PageRequest.of(req.pageOrDefault(), req.sizeOrDefault());
-        Page<User> page = userRepository.searchByUsernameFulltext(q, pageable);
-        return page.map(aggregateBuilder::build);
+        return search(req, "username", q,
+                pageable -> userRepository.searchByUsernameFulltext(q, pageable),
+                () -> userRepository.countByUsernameFulltext(q));
     }
 
-    public Page<DetailedUserResponse> searchByNicknameOrUsername(UserSearchRequest req) {
+    public Slice<DetailedUserResponse> searchByNicknameOrUsername(UserSearchRequest req) {
         String q = normalize(req.qOrEmpty());
+        return search(req, "nicknameOrUsername", q,
+                pageable -> userRepository.searchByNicknameOrUsernameFulltext(q, pageable),
+                () -> userRepository.countByNicknameOrUsernameFulltext(q));
+    }
+
+    /**
+     * 검색 본문은 Slice 로 조회하고, 전체 개수는 (검색 종류, 정규화된 검색어) 기준으로 캐시합니다.
+     * includeTotal=false 이면 개수 없이 Slice 를 그대로 반환합니다.
+     */
+    private Slice<DetailedUserResponse> search(
+            UserSearchRequest req, String field, String q,
+            Function<Pageable, Slice<User>> finder, LongSupplier counter
+    ) {
         var pageable = PageRequest.of(req.pageOrDefault(), req.sizeOrDefault());
-        Page<User> page = userRepository.searchByNicknameOrUsernameFulltext(q, pageable);
-        return page.map(aggregateBuilder::build);
+        Slice<DetailedUserResponse> slice = finder.apply(pageable).map(aggregateBuilder::build);
+        if (!req.includeTotalOrDefault()) return slice;
+
+        // 검색 쿼리가 LOWER 비교이므로 소문자로 정규화한 검색어를 키로 사용
+        return pageCountCache.page(slice, CountFilter.of(User.class, null, field, q.toLowerCase()), counter);
     }
 
     private String normalize(String q) {
@@ -0,0 +1,92 @@
+package com.ocean.piuda.dashboard.controller;
+
+import com.ocean.piuda.dashboard.dto.DataVersion;
+import com.ocean.piuda.dashboard.dto.response.AreaDetailResponse;
+import com.ocean.piuda.dashboard.service.AreaHeatmapService;
+import com.ocean.piuda.dashboard.service.AreaStatusAnalyticsService;
+import com.ocean.piuda.dashboard.service.AreaTileService;
+import com.ocean.piuda.dashboard.service.DashboardChartService;
+import com.ocean.piuda.dashboard.service.DashboardCommandService;
+import com.ocean.piuda.dashboard.service.DashboardExportService;
+import com.ocean.piuda.dashboard.service.DashboardQueryService;
+import com.ocean.piuda.dashboard.service.LogBulkEditService;
+import com.ocean.piuda.dashboard.service.WaterLogImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class DashboardControllerTest {
+
+    private static final Long AREA_ID = 1L;
+    private static final DataVersion AREA_VERSION = new DataVersion("area-1-v7", 1_750_000_000_000L);
+
+    private DashboardQueryService dashboardQueryService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        dashboardQueryService = mock(DashboardQueryService.class);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new DashboardController(
+                        dashboardQueryService,
+                        mock(DashboardCommandService.class),
+                        mock(AreaStatusAnalyticsService.class),
+                        mock(DashboardChartService.class),
+                        mock(DashboardExportService.class),
+                        mock(WaterLogImportService.class),
+                        mock(LogBulkEditService.class),
+                        mock(AreaTileService.class),
+                        mock(AreaHeatmapService.class)
+                ))
+                .build();
+
+        when(dashboardQueryService.getAreaVersion(AREA_ID)).thenReturn(AREA_VERSION);
+        when(dashboardQueryService.getAreaDetail(eq(AREA_ID), eq(AREA_VERSION), any(), any(), any())).thenReturn(AreaDetailResponse.builder().id(AREA_ID).build());
+    }
+
+    @Test
+    void getAreaDetail_withoutValidators_returnsBodyWithEtag() throws Exception {
+        mockMvc.perform(get("/api/dashboard/areas/{id}", AREA_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"area-1-v7\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+        verify(dashboardQueryService).getAreaDetail(eq(AREA_ID), eq(AREA_VERSION), any(), any(), any());
+    }
+
+    @Test
+    void getAreaDetail_withMatchingEtag_returns304WithoutAssembly() throws Exception {
+        mockMvc.perform(get("/api/dashboard/areas/{id}", AREA_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"area-1-v7\""))
+                .andExpect(status().isNotModified());
+
+        verify(dashboardQueryService, never()).getAreaDetail(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void getAreaDetail_withStaleEtag_returnsBody() throws Exception {
+        mockMvc.perform(get("/api/dashboard/areas/{id}", AREA_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"area-1-v6\""))
+                .andExpect(status().isOk());
+
+        verify(dashboardQueryService).getAreaDetail(eq(AREA_ID), eq(AREA_VERSION), any(), any(), any());
+    }
+
+    @Test
+    void getAreaDetail_withIfModifiedSince_returns304WhenUnchanged() throws Exception {
+        mockMvc.perform(get("/api/dashboard/areas/{id}", AREA_ID)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, AREA_VERSION.lastModified()))
+                .andExpect(status().isNotModified());
+
+        verify(dashboardQueryService, never()).getAreaDetail(any(), any(), any(), any(), any());
+    }
+}
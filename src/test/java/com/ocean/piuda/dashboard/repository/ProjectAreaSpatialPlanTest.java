@@ -0,0 +1,161 @@
+package com.ocean.piuda.dashboard.repository;
+
+import com.ocean.piuda.dashboard.initializer.SpatialIndexInitializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.jpa.repository.Query;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공간 쿼리 실행 계획 회귀 테스트 (PostGIS 필요)
+ * - POSTGIS_TEST_URL(+ POSTGIS_TEST_USER / POSTGIS_TEST_PASSWORD) 가 설정된 경우에만 실행합니다.
+ * - 별도 스키마에 project_areas 를 만들고 저장소의 @Query 문자열을 그대로 EXPLAIN 합니다.
+ */
+@EnabledIfEnvironmentVariable(named = "POSTGIS_TEST_URL", matches = ".+")
+class ProjectAreaSpatialPlanTest {
+
+    private static final String SCHEMA = "spatial_plan_test";
+    private static final Map<String, String> PARAMS = Map.of(
+            "lat", "35.5",
+            "lon", "129.3",
+            "radiusInMeters", "5000",
+            "minLat", "35.4",
+            "minLon", "129.2",
+            "maxLat", "35.6",
+            "maxLon", "129.4",
+            "limitCount", "3"
+    );
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getenv("POSTGIS_TEST_URL"),
+                System.getenv("POSTGIS_TEST_USER"),
+                System.getenv("POSTGIS_TEST_PASSWORD"));
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE EXTENSION IF NOT EXISTS postgis");
+            st.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            st.execute("CREATE SCHEMA " + SCHEMA);
+            st.execute("SET search_path TO " + SCHEMA + ", public");
+            st.execute("""
+                    CREATE TABLE project_areas (
+                        area_id    bigserial PRIMARY KEY,
+                        name       varchar(255),
+                        location   geometry(Point, 4326),
+                        start_date date,
+                        depth      double precision,
+                        area_size  double precision,
+                        habitat    varchar(255),
+                        level      varchar(255)
+                    )
+                    """);
+            st.execute("SELECT setseed(0.42)");
+            st.execute("""
+                    INSERT INTO project_areas (name, location, start_date, depth, area_size, habitat, level)
+                    SELECT 'area-' || g,
+                           ST_SetSRID(ST_MakePoint(124 + random() * 8, 33 + random() * 6), 4326),
+                           DATE '2025-01-01',
+                           random() * 30,
+                           random() * 1000,
+                           'ROCKY',
+                           'TRANSPLANT_COMPLETED'
+                    FROM generate_series(1, 20000) g
+                    """);
+            for (String ddl : SpatialIndexInitializer.STATEMENTS) st.execute(ddl);
+            st.execute("ANALYZE project_areas");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection == null) return;
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        } finally {
+            connection.close();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"findMarkersNearby", "getNearbyStatistics", "findNearbyAreas"})
+    void radiusQueries_useGeographyIndex(String method) throws SQLException {
+        assertThat(explain(sqlOf(method))).contains("idx_project_areas_location_geog");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"findMarkersWithinBBox", "findNearestMarkers"})
+    void bboxAndKnnQueries_useGeometryIndex(String method) throws SQLException {
+        assertThat(explain(sqlOf(method))).contains("idx_project_areas_location");
+    }
+
+    @Test
+    void radiusQuery_returnsSameRowsWithAndWithoutIndex() throws SQLException {
+        String sql = sqlOf("findMarkersNearby");
+        List<Long> withIndex = ids(sql);
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("SET enable_indexscan = off");
+            st.execute("SET enable_bitmapscan = off");
+            List<Long> sequential = ids(sql);
+
+            assertThat(explain(sql)).doesNotContain("idx_project_areas_location_geog");
+            assertThat(withIndex).isNotEmpty().containsExactlyInAnyOrderElementsOf(sequential);
+        } finally {
+            try (Statement st = connection.createStatement()) {
+                st.execute("RESET enable_indexscan");
+                st.execute("RESET enable_bitmapscan");
+            }
+        }
+    }
+
+    private static String sqlOf(String methodName) {
+        Method method = Arrays.stream(ProjectAreaRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+        String sql = method.getAnnotation(Query.class).value();
+
+        Matcher matcher = Pattern.compile("(?<!:):(\\w+)").matcher(sql);
+        StringBuilder bound = new StringBuilder();
+        while (matcher.find()) matcher.appendReplacement(bound, PARAMS.get(matcher.group(1)));
+        matcher.appendTail(bound);
+        return bound.toString();
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery("EXPLAIN " + sql)) {
+            while (rs.next()) plan.append(rs.getString(1)).append('\n');
+        }
+        return plan.toString();
+    }
+
+    private static List<Long> ids(String sql) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            while (rs.next()) ids.add(rs.getLong("id"));
+        }
+        return ids;
+    }
+}
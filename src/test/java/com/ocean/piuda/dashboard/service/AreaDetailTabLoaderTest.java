@@ -0,0 +1,178 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class AreaDetailTabLoaderTest {
+
+    @Test
+    void parallel_limitsConcurrentQueriesPerRequest() {
+        PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+        AreaDetailTabLoader loader = new AreaDetailTabLoader(txManager, true, 2, 20);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        try {
+            Integer sum = loader.load(fork -> {
+                List<Supplier<Integer>> parts = IntStream.range(0, 6)
+                        .mapToObj(i -> fork.submit(sleepingQuery(running, maxRunning)))
+                        .toList();
+                fork.join();
+                return parts.stream().mapToInt(Supplier::get).sum();
+            });
+            assertThat(sum).isEqualTo(6);
+        } finally {
+            loader.shutdown();
+        }
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        verify(txManager, times(6)).getTransaction(argThat(def -> def.isReadOnly()
+                && def.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    void parallel_capIsNotSharedBetweenRequests() throws Exception {
+        AreaDetailTabLoader loader = new AreaDetailTabLoader(mock(PlatformTransactionManager.class), true, 2, 20);
+
+        // 요청 3건 x 쿼리 2개가 모두 동시에 실행되어야 래치가 풀림 (상한이 전역이면 시간 초과)
+        CountDownLatch allRunning = new CountDownLatch(6);
+        Supplier<Boolean> query = () -> {
+            allRunning.countDown();
+            try {
+                return allRunning.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        };
+
+        ExecutorService requests = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                results.add(requests.submit(() -> loader.load(fork -> {
+                    Supplier<Boolean> a = fork.submit(query);
+                    Supplier<Boolean> b = fork.submit(query);
+                    fork.join();
+                    return a.get() && b.get();
+                })));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            requests.shutdownNow();
+            loader.shutdown();
+        }
+    }
+
+    @Test
+    void parallel_limitsConcurrentQueriesAcrossRequestsToHalfOfConnectionPool() throws Exception {
+        PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+        AreaDetailTabLoader loader = new AreaDetailTabLoader(txManager, true, 4, 4);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Supplier<Integer> query = sleepingQuery(running, maxRunning);
+
+        // 요청 3건이 동시에 각각 쿼리 4개를 등록 (풀 4 → 전역 2)
+        ExecutorService requests = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                results.add(requests.submit(() -> loader.load(fork -> {
+                    List<Supplier<Integer>> parts = IntStream.range(0, 4).mapToObj(i -> fork.submit(query)).toList();
+                    fork.join();
+                    return parts.stream().mapToInt(Supplier::get).sum();
+                })));
+            }
+            for (Future<Integer> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(4);
+            }
+        } finally {
+            requests.shutdownNow();
+            loader.shutdown();
+        }
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        verify(txManager, times(12)).getTransaction(argThat(def -> def.isReadOnly()
+                && def.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    void parallel_rethrowsOriginalExceptionOnJoin() {
+        AreaDetailTabLoader loader = new AreaDetailTabLoader(mock(PlatformTransactionManager.class), true, 2, 10);
+        try {
+            assertThatThrownBy(() -> loader.load(fork -> {
+                fork.submit(() -> {
+                    throw new BusinessException(ExceptionType.RESOURCE_NOT_FOUND);
+                });
+                fork.join();
+                return null;
+            }))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("exceptionType")
+                    .isEqualTo(ExceptionType.RESOURCE_NOT_FOUND);
+        } finally {
+            loader.shutdown();
+        }
+    }
+
+    @Test
+    void sequential_runsEveryQueryOnCallerThreadInOneReadOnlyTransaction() {
+        PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+        AreaDetailTabLoader loader = new AreaDetailTabLoader(txManager, false, 2, 10);
+
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+        Integer sum = loader.load(fork -> {
+            Supplier<Integer> a = fork.submit(() -> {
+                threads.add(Thread.currentThread());
+                return 1;
+            });
+            Supplier<Integer> b = fork.submit(() -> {
+                threads.add(Thread.currentThread());
+                return 2;
+            });
+            fork.join();
+            return a.get() + b.get();
+        });
+
+        assertThat(sum).isEqualTo(3);
+        assertThat(threads).containsExactly(caller, caller);
+        verify(txManager, times(1)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(txManager, times(1)).commit(any());
+    }
+
+    private static Supplier<Integer> sleepingQuery(AtomicInteger running, AtomicInteger maxRunning) {
+        return () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+            return 1;
+        };
+    }
+}
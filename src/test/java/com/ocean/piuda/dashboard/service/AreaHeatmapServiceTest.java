@@ -0,0 +1,105 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.dto.response.AreaHeatmapResponse;
+import com.ocean.piuda.dashboard.dto.response.HeatmapCellResponse;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.projection.AreaMarkerProjection;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.*;
+
+class AreaHeatmapServiceTest {
+
+    private AreaMarkerIndex markerIndex;
+    private AreaHeatmapService areaHeatmapService;
+
+    @BeforeEach
+    void setUp() {
+        markerIndex = mock(AreaMarkerIndex.class);
+        areaHeatmapService = new AreaHeatmapService(
+                markerIndex, mock(ProjectAreaRepository.class), 0.01, 10, 32, 60, new SimpleMeterRegistry());
+
+        when(markerIndex.isEnabled()).thenReturn(true);
+        when(markerIndex.withinBBox(anyDouble(), anyDouble(), anyDouble(), anyDouble())).thenReturn(List.of(
+                marker(1L, 35.01, 129.01, 10.0, 100.0),
+                marker(2L, 35.09, 129.05, 20.0, null),
+                marker(3L, 35.15, 129.05, null, 50.0),
+                marker(4L, 37.55, 126.95, 5.0, 30.0)
+        ));
+    }
+
+    @Test
+    void getHeatmap_aggregatesEachCellInOnePass() {
+        AreaHeatmapResponse heatmap = areaHeatmapService.getHeatmap(0.1);
+
+        assertThat(heatmap.getTotalCount()).isEqualTo(4);
+        assertThat(heatmap.getCells())
+                .extracting(HeatmapCellResponse::getCount, HeatmapCellResponse::getTotalAreaSize, HeatmapCellResponse::getAvgDepth)
+                .containsExactly(
+                        tuple(2, 100.0, 15.0),   // 35.0~35.1, 129.0~129.1
+                        tuple(1, 50.0, null),    // 35.1~35.2
+                        tuple(1, 30.0, 5.0)      // 37.5~37.6, 126.9~127.0
+                );
+        HeatmapCellResponse first = heatmap.getCells().get(0);
+        assertThat(first.getMinLat()).isCloseTo(35.0, within(1e-9));
+        assertThat(first.getCenterLon()).isCloseTo(129.05, within(1e-9));
+    }
+
+    @Test
+    void getHeatmap_isCachedPerResolution_andClearedOnAreaChange() {
+        areaHeatmapService.getHeatmap(0.1);
+        areaHeatmapService.getHeatmap(0.10000001);
+        areaHeatmapService.getHeatmap(0.5);
+        verify(markerIndex, times(2)).withinBBox(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+
+        areaHeatmapService.onDashboardChanged(new DashboardChangedEvent(1L, DashboardChangeType.WATER));
+        areaHeatmapService.getHeatmap(0.1);
+        verify(markerIndex, times(2)).withinBBox(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+
+        areaHeatmapService.onDashboardChanged(new DashboardChangedEvent(1L, DashboardChangeType.AREA));
+        areaHeatmapService.getHeatmap(0.1);
+        verify(markerIndex, times(3)).withinBBox(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void getHeatmap_rejectsCellSizeOutOfRange() {
+        assertThatThrownBy(() -> areaHeatmapService.getHeatmap(0.001))
+                .isInstanceOf(BusinessException.class)
+                .extracting("exceptionType")
+                .isEqualTo(ExceptionType.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> areaHeatmapService.getHeatmap(45.0))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> areaHeatmapService.getHeatmap(Double.NaN))
+                .isInstanceOf(BusinessException.class)
+                .extracting("exceptionType")
+                .isEqualTo(ExceptionType.INVALID_INPUT_VALUE);
+    }
+
+    private static AreaMarkerProjection marker(long id, double lat, double lon, Double depth, Double areaSize) {
+        return new AreaMarkerProjection() {
+            @Override public Long getId() { return id; }
+            @Override public String getName() { return "영역-" + id; }
+            @Override public Double getLat() { return lat; }
+            @Override public Double getLon() { return lon; }
+            @Override public LocalDate getStartDate() { return null; }
+            @Override public Double getDepth() { return depth; }
+            @Override public Double getAreaSize() { return areaSize; }
+            @Override public String getHabitat() { return null; }
+            @Override public String getLevel() { return null; }
+        };
+    }
+}
@@ -0,0 +1,169 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.projection.AreaMarkerProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+class AreaMarkerIndexTest {
+
+    private ProjectAreaRepository projectAreaRepository;
+    private AreaMarkerIndex markerIndex;
+    private List<AreaMarkerProjection> markers;
+
+    @BeforeEach
+    void setUp() {
+        projectAreaRepository = mock(ProjectAreaRepository.class);
+        markerIndex = new AreaMarkerIndex(projectAreaRepository, true, 300, 60, 16, new SimpleMeterRegistry());
+
+        Random random = new Random(42);
+        markers = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            markers.add(marker(id, -60 + random.nextDouble() * 120, -180 + random.nextDouble() * 360));
+        }
+        // 한반도 연안 밀집 구역
+        for (long id = 2001; id <= 2500; id++) {
+            markers.add(marker(id, 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5));
+        }
+        when(projectAreaRepository.findAllMarkers()).thenReturn(markers);
+    }
+
+    @Test
+    void queries_matchBruteForce() {
+        assertThat(ids(markerIndex.withinBBox(34, 126, 36, 128)))
+                .isEqualTo(ids(markers.stream()
+                        .filter(m -> m.getLat() >= 34 && m.getLat() <= 36 && m.getLon() >= 126 && m.getLon() <= 128)
+                        .sorted(Comparator.comparing(AreaMarkerProjection::getId))
+                        .toList()));
+
+        double[][] centers = {{35.1, 129.0}, {0, 0}, {10, 179.9}, {-45, -179.5}};
+        for (double[] c : centers) {
+            double radius = 300_000;
+            assertThat(ids(markerIndex.nearby(c[0], c[1], radius)))
+                    .isEqualTo(ids(markers.stream()
+                            .filter(m -> AreaMarkerIndex.haversineMeters(c[0], c[1], m.getLat(), m.getLon()) <= radius)
+                            .sorted(Comparator.comparingDouble(m -> AreaMarkerIndex.haversineMeters(c[0], c[1], m.getLat(), m.getLon())))
+                            .toList()));
+
+            assertThat(ids(markerIndex.nearest(c[0], c[1], 7)))
+                    .isEqualTo(ids(markers.stream()
+                            .sorted(Comparator.comparingDouble(m -> Math.hypot(m.getLat() - c[0], m.getLon() - c[1])))
+                            .limit(7)
+                            .toList()));
+        }
+    }
+
+    @Test
+    void haversine_matchesKnownDistance() {
+        // 서울 - 부산 약 325km
+        assertThat(AreaMarkerIndex.haversineMeters(37.5665, 126.9780, 35.1796, 129.0756))
+                .isCloseTo(325_000, within(5_000.0));
+    }
+
+    @Test
+    void snapshot_isReusedAndRebuiltOnlyOnAreaChange() {
+        markerIndex.withinBBox(34, 126, 36, 128);
+        markerIndex.nearby(35, 127, 10_000);
+        markerIndex.nearest(35, 127, 3);
+        verify(projectAreaRepository, times(1)).findAllMarkers();
+
+        markerIndex.onDashboardChanged(new DashboardChangedEvent(1L, DashboardChangeType.WATER));
+        verify(projectAreaRepository, times(1)).findAllMarkers();
+
+        when(projectAreaRepository.findAllMarkers()).thenReturn(List.of(marker(9999L, 35, 127)));
+        markerIndex.onDashboardChanged(new DashboardChangedEvent(9999L, DashboardChangeType.AREA));
+
+        assertThat(ids(markerIndex.nearest(35, 127, 3))).containsExactly(9999L);
+        verify(projectAreaRepository, times(2)).findAllMarkers();
+    }
+
+    @Test
+    void clusters_partitionEveryAreaAndStayWithinScreenCells() {
+        for (int zoom = 0; zoom <= 16; zoom += 4) {
+            int total = markerIndex.clusters(-90, -180, 90, 180, zoom).stream()
+                    .mapToInt(MarkerClusterGrid.Cluster::count)
+                    .sum();
+            assertThat(total).isEqualTo(markers.size());
+        }
+
+        // 줌 5 에서 경도 44도 x 위도 30도 화면은 최대 18x13 칸
+        assertThat(markerIndex.clusters(20, 105, 50, 149, 5)).hasSizeLessThanOrEqualTo(18 * 13);
+        assertThat(markerIndex.clusters(34, 126, 36, 128, 17))
+                .allSatisfy(c -> assertThat(c.count()).isEqualTo(1))
+                .hasSize(markerIndex.withinBBox(34, 126, 36, 128).size());
+    }
+
+    @Test
+    void antimeridianBBox_coversBothSidesOfDateLine() {
+        // minLon > maxLon: 170 ~ 180, -180 ~ -170
+        List<AreaMarkerProjection> expected = markers.stream()
+                .filter(m -> m.getLat() >= -50 && m.getLat() <= 50 && (m.getLon() >= 170 || m.getLon() <= -170))
+                .sorted(Comparator.comparing(AreaMarkerProjection::getId))
+                .toList();
+        assertThat(expected).anyMatch(m -> m.getLon() > 0).anyMatch(m -> m.getLon() < 0);
+
+        assertThat(ids(markerIndex.withinBBox(-50, 170, 50, -170))).isEqualTo(ids(expected));
+        // 최대 클러스터 줌 초과: 개별 영역
+        assertThat(markerIndex.clusters(-50, 170, 50, -170, 17)).hasSize(expected.size());
+
+        List<MarkerClusterGrid.Cluster> clusters = markerIndex.clusters(-50, 170, 50, -170, 8);
+        assertThat(clusters).isNotEmpty()
+                .allMatch(c -> c.lon() >= 170 || c.lon() <= -170)
+                .anyMatch(c -> c.lon() > 0)
+                .anyMatch(c -> c.lon() < 0);
+    }
+
+    @Test
+    void clusters_sumAreaSizeAndPickDominantHabitat() {
+        when(projectAreaRepository.findAllMarkers()).thenReturn(List.of(
+                marker(1L, 35.000, 129.000, "ROCKY", 10.0),
+                marker(2L, 35.001, 129.001, "ROCKY", 20.0),
+                marker(3L, 35.002, 129.002, "MIXED", null)
+        ));
+
+        List<MarkerClusterGrid.Cluster> clusters = markerIndex.clusters(34, 128, 36, 130, 5);
+
+        assertThat(clusters).singleElement().satisfies(c -> {
+            assertThat(c.count()).isEqualTo(3);
+            assertThat(c.totalAreaSize()).isEqualTo(30.0);
+            assertThat(c.habitat()).isEqualTo("ROCKY");
+            assertThat(c.lat()).isCloseTo(35.001, within(1e-9));
+            assertThat(c.areaId()).isNull();
+        });
+    }
+
+    private static List<Long> ids(List<AreaMarkerProjection> rows) {
+        return rows.stream().map(AreaMarkerProjection::getId).toList();
+    }
+
+    private static AreaMarkerProjection marker(long id, double lat, double lon) {
+        return marker(id, lat, lon, null, null);
+    }
+
+    private static AreaMarkerProjection marker(long id, double lat, double lon, String habitat, Double areaSize) {
+        return new AreaMarkerProjection() {
+            @Override public Long getId() { return id; }
+            @Override public String getName() { return "영역-" + id; }
+            @Override public Double getLat() { return lat; }
+            @Override public Double getLon() { return lon; }
+            @Override public LocalDate getStartDate() { return null; }
+            @Override public Double getDepth() { return null; }
+            @Override public Double getAreaSize() { return areaSize; }
+            @Override public String getHabitat() { return habitat; }
+            @Override public String getLevel() { return null; }
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.dto.response.AreaStatusAnalyticsResponse;
+import com.ocean.piuda.dashboard.enums.AnalyticsGranularity;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.TransplantLogRepository;
+import com.ocean.piuda.dashboard.repository.projection.AreaVersionProjection;
+import com.ocean.piuda.dashboard.repository.projection.StatusBucketProjection;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AreaStatusAnalyticsServiceTest {
+
+    private static final Long AREA_ID = 1L;
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 15);
+    private static final LocalDate TO = LocalDate.of(2025, 4, 10);
+
+    private ProjectAreaRepository projectAreaRepository;
+    private TransplantLogRepository transplantLogRepository;
+    private AreaStatusAnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        projectAreaRepository = mock(ProjectAreaRepository.class);
+        transplantLogRepository = mock(TransplantLogRepository.class);
+        analyticsService = new AreaStatusAnalyticsService(
+                projectAreaRepository,
+                transplantLogRepository,
+                new DashboardAggregateBuilder(),
+                100,
+                600,
+                new SimpleMeterRegistry()
+        );
+
+        givenVersion(1L);
+        when(transplantLogRepository.findStatusBuckets(AREA_ID, FROM, TO, "month")).thenReturn(List.of(
+                row(LocalDate.of(2025, 1, 1), "ROPE", 3L, "감태", 2, 10, 50.0, LocalDate.of(2025, 1, 20)),
+                row(LocalDate.of(2025, 3, 1), "ROPE", 3L, "감태", 1, 5, 20.0, LocalDate.of(2025, 3, 3)),
+                row(LocalDate.of(2025, 3, 1), "TRANSPLANT_MODULE", 3L, "감태", 1, 2, 30.0, LocalDate.of(2025, 3, 9))
+        ));
+    }
+
+    @Test
+    void getStatusAnalytics_aggregatesOneGroupedQueryAndZeroFillsBuckets() {
+        AreaStatusAnalyticsResponse response =
+                analyticsService.getStatusAnalytics(AREA_ID, FROM, TO, AnalyticsGranularity.MONTH);
+
+        var status = response.getStatus();
+        assertThat(status.getWorkHistoryChart().labels()).containsExactly(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 4, 1));
+        assertThat(status.getWorkHistoryChart().values()).containsExactly(2.0, 0.0, 2.0, 0.0);
+        assertThat(status.getAccumulated().getTotalWorkCount()).isEqualTo(4);
+        assertThat(status.getAccumulated().getTotalAreaSize()).isEqualTo(100.0);
+        assertThat(status.getAccumulated().getLastWorkDate()).isEqualTo(LocalDate.of(2025, 3, 9));
+        assertThat(status.getMethodDistribution()).containsEntry("로프", 75.0).containsEntry("이식 모듈", 25.0);
+        assertThat(status.getSpeciesList()).hasSize(2);
+        assertThat(status.getSpeciesList().get(0).getQuantity()).isEqualTo(15L);
+
+        verify(transplantLogRepository, times(1)).findStatusBuckets(AREA_ID, FROM, TO, "month");
+    }
+
+    @Test
+    void getStatusAnalytics_cachesPerRangeAndGranularity() {
+        analyticsService.getStatusAnalytics(AREA_ID, FROM, TO, AnalyticsGranularity.MONTH);
+        analyticsService.getStatusAnalytics(AREA_ID, FROM, TO, AnalyticsGranularity.MONTH);
+        analyticsService.getStatusAnalytics(AREA_ID, FROM, TO, AnalyticsGranularity.QUARTER);
+
+        verify(transplantLogRepository, times(1)).findStatusBuckets(AREA_ID, FROM, TO, "month");
+        verify(transplantLogRepository, times(1)).findStatusBuckets(AREA_ID, FROM, TO, "quarter");
+    }
+
+    @Test
+    void getStatusAnalytics_reloadsAfterAreaVersionChanges() {
+        analyticsService.getStatusAnalytics(AREA_ID, FROM, TO, AnalyticsGranularity.MONTH);
+        givenVersion(2L);
+        analyticsService.getStatusAnalytics(AREA_ID, FROM, TO, AnalyticsGranularity.MONTH);
+
+        verify(transplantLogRepository, times(2)).findStatusBuckets(AREA_ID, FROM, TO, "month");
+    }
+
+    @Test
+    void getStatusAnalytics_rejectsReversedRange() {
+        assertThatThrownBy(() -> analyticsService.getStatusAnalytics(AREA_ID, TO, FROM, AnalyticsGranularity.WEEK))
+                .isInstanceOf(BusinessException.class);
+
+        verify(transplantLogRepository, never()).findStatusBuckets(any(), any(), any(), any());
+    }
+
+    @Test
+    void buckets_followDateTruncRules() {
+        assertThat(AreaStatusAnalyticsService.buckets(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 14), AnalyticsGranularity.WEEK))
+                .containsExactly(LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 13));
+        assertThat(AreaStatusAnalyticsService.buckets(LocalDate.of(2025, 2, 20), LocalDate.of(2025, 7, 1), AnalyticsGranularity.QUARTER))
+                .containsExactly(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 4, 1), LocalDate.of(2025, 7, 1));
+    }
+
+    private void givenVersion(long version) {
+        AreaVersionProjection projection = mock(AreaVersionProjection.class);
+        when(projection.getDataVersion()).thenReturn(version);
+        when(projection.getModifiedAt()).thenReturn(LocalDateTime.of(2025, 5, 1, 0, 0));
+        when(projectAreaRepository.findVersionById(AREA_ID)).thenReturn(Optional.of(projection));
+    }
+
+    private static StatusBucketProjection row(LocalDate bucket, String method, Long speciesId, String speciesName,
+                                              long logCount, long quantity, double areaSize, LocalDate lastDate) {
+        return new StatusBucketProjection() {
+            @Override public LocalDate getBucket() { return bucket; }
+            @Override public String getMethodName() { return method; }
+            @Override public Long getSpeciesId() { return speciesId; }
+            @Override public String getSpeciesName() { return speciesName; }
+            @Override public Long getLogCount() { return logCount; }
+            @Override public Long getQuantity() { return quantity; }
+            @Override public Double getAreaSize() { return areaSize; }
+            @Override public LocalDate getLastDate() { return lastDate; }
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.projection.AreaMarkerProjection;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.*;
+
+class AreaTileServiceTest {
+
+    private AreaMarkerIndex markerIndex;
+    private AreaTileService areaTileService;
+
+    @BeforeEach
+    void setUp() {
+        markerIndex = mock(AreaMarkerIndex.class);
+        areaTileService = new AreaTileService(
+                markerIndex, mock(ProjectAreaRepository.class), 22, 1_000_000, 60, new SimpleMeterRegistry());
+
+        when(markerIndex.isEnabled()).thenReturn(true);
+        when(markerIndex.withinBBox(anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(List.of(marker(7L, 0, 0)));
+    }
+
+    @Test
+    void getTile_encodesPointFeatureInTileCoordinates() {
+        byte[] tile = areaTileService.getTile(0, 0, 0, "v1");
+
+        // id=7, tags=[0,0,1,1,2,2], type=POINT, geometry=[MoveTo(1), zigzag(2048), zigzag(2048)]
+        byte[] feature = {
+                0x08, 0x07,
+                0x12, 0x06, 0, 0, 1, 1, 2, 2,
+                0x18, 0x01,
+                0x22, 0x05, 0x09, (byte) 0x80, 0x20, (byte) 0x80, 0x20
+        };
+        assertThat(indexOf(tile, feature)).isNotNegative();
+        assertThat(indexOf(tile, "areas".getBytes(StandardCharsets.UTF_8))).isNotNegative();
+        assertThat(indexOf(tile, "habitat".getBytes(StandardCharsets.UTF_8))).isNotNegative();
+        assertThat(indexOf(tile, "ROCKY".getBytes(StandardCharsets.UTF_8))).isNotNegative();
+    }
+
+    @Test
+    void getTile_isCachedPerDataVersion_andClearedOnAreaChange() {
+        areaTileService.getTile(3, 6, 3, "v1");
+        areaTileService.getTile(3, 6, 3, "v1");
+        verify(markerIndex, times(1)).withinBBox(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+
+        areaTileService.getTile(3, 6, 3, "v2");
+        verify(markerIndex, times(2)).withinBBox(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+
+        areaTileService.onDashboardChanged(new DashboardChangedEvent(1L, DashboardChangeType.WATER));
+        areaTileService.getTile(3, 6, 3, "v2");
+        verify(markerIndex, times(2)).withinBBox(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+
+        areaTileService.onDashboardChanged(new DashboardChangedEvent(1L, DashboardChangeType.AREA));
+        areaTileService.getTile(3, 6, 3, "v2");
+        verify(markerIndex, times(3)).withinBBox(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void getTile_withoutAreas_returnsEmptyTile() {
+        when(markerIndex.withinBBox(anyDouble(), anyDouble(), anyDouble(), anyDouble())).thenReturn(List.of());
+
+        assertThat(areaTileService.getTile(5, 1, 1, "v1")).isEmpty();
+    }
+
+    @Test
+    void getTile_rejectsOutOfRangeCoordinates() {
+        assertThatThrownBy(() -> areaTileService.getTile(2, 4, 0, "v1"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("exceptionType")
+                .isEqualTo(ExceptionType.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> areaTileService.getTile(23, 0, 0, "v1"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        outer:
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static AreaMarkerProjection marker(long id, double lat, double lon) {
+        return new AreaMarkerProjection() {
+            @Override public Long getId() { return id; }
+            @Override public String getName() { return "영역-" + id; }
+            @Override public Double getLat() { return lat; }
+            @Override public Double getLon() { return lon; }
+            @Override public LocalDate getStartDate() { return null; }
+            @Override public Double getDepth() { return null; }
+            @Override public Double getAreaSize() { return null; }
+            @Override public String getHabitat() { return "ROCKY"; }
+            @Override public String getLevel() { return "TRANSPLANT_COMPLETED"; }
+        };
+    }
+}
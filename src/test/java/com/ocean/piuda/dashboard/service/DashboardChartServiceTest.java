@@ -0,0 +1,178 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.bio.entity.Species;
+import com.ocean.piuda.bio.repository.SpeciesRepository;
+import com.ocean.piuda.dashboard.dto.ColumnarSeries;
+import com.ocean.piuda.dashboard.dto.response.ColumnarChartResponse;
+import com.ocean.piuda.dashboard.entity.ProjectArea;
+import com.ocean.piuda.dashboard.entity.WaterTemperatureRollup;
+import com.ocean.piuda.dashboard.enums.HabitatType;
+import com.ocean.piuda.dashboard.enums.ProjectLevel;
+import com.ocean.piuda.dashboard.enums.RestorationRegion;
+import com.ocean.piuda.dashboard.enums.RollupResolution;
+import com.ocean.piuda.dashboard.repository.ChartSeriesJdbcRepository;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.WaterTemperatureRollupRepository;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DashboardChartServiceTest {
+
+    private static final Long AREA_ID = 1L;
+    private static final Long KELP_ID = 3L;
+    private static final Long SEAWEED_ID = 4L;
+
+    private ProjectAreaRepository projectAreaRepository;
+    private SpeciesRepository speciesRepository;
+    private ChartSeriesJdbcRepository chartSeriesRepository;
+    private WaterTemperatureRollupRepository rollupRepository;
+    private DashboardChartService chartService;
+
+    @BeforeEach
+    void setUp() {
+        projectAreaRepository = mock(ProjectAreaRepository.class);
+        speciesRepository = mock(SpeciesRepository.class);
+        chartSeriesRepository = mock(ChartSeriesJdbcRepository.class);
+        rollupRepository = mock(WaterTemperatureRollupRepository.class);
+        chartService = new DashboardChartService(
+                projectAreaRepository, speciesRepository, chartSeriesRepository, rollupRepository);
+
+        when(projectAreaRepository.findById(AREA_ID)).thenReturn(Optional.of(area()));
+    }
+
+    @Test
+    void buffer_growsAndTrimsToSize() {
+        ColumnarSeries.Buffer buffer = new ColumnarSeries.Buffer(1);
+        for (int i = 0; i < 5; i++) buffer.add(20000 + i, i * 1.5);
+
+        ColumnarSeries series = buffer.build();
+
+        assertThat(series.size()).isEqualTo(5);
+        assertThat(series.days()).containsExactly(20000, 20001, 20002, 20003, 20004);
+        assertThat(series.values()).containsExactly(0.0, 1.5, 3.0, 4.5, 6.0);
+    }
+
+    @Test
+    void getGrowthChart_overlaysSpeciesInRequestOrderInOneQuery() {
+        when(speciesRepository.findAllById(Set.of(SEAWEED_ID, KELP_ID))).thenReturn(List.of(
+                Species.builder().id(KELP_ID).name("감태").build(),
+                Species.builder().id(SEAWEED_ID).name("모자반").build()));
+        when(chartSeriesRepository.findGrowthSeries(eq(AREA_ID), any())).thenReturn(Map.of(
+                KELP_ID, new ColumnarSeries(new int[]{20089, 20120}, new double[]{12.5, 18.0})));
+
+        ColumnarChartResponse response = chartService.getGrowthChart(AREA_ID, List.of(SEAWEED_ID, KELP_ID));
+
+        assertThat(response.getMetric()).isEqualTo("growth");
+        assertThat(response.getSeries()).extracting(ColumnarChartResponse.Series::getSpeciesId)
+                .containsExactly(SEAWEED_ID, KELP_ID);
+        // 기록이 없는 종은 빈 배열
+        assertThat(response.getSeries().get(0).getDays()).isEmpty();
+        assertThat(response.getSeries().get(1).getName()).isEqualTo("감태");
+        assertThat(response.getSeries().get(1).getDays()).containsExactly(20089, 20120);
+        assertThat(response.getSeries().get(1).getValues()).containsExactly(12.5, 18.0);
+        verify(chartSeriesRepository, times(1)).findGrowthSeries(eq(AREA_ID), any());
+    }
+
+    @Test
+    void getGrowthChart_withoutSpecies_usesRepresentativeSpecies() {
+        when(speciesRepository.findAllById(Set.of(KELP_ID)))
+                .thenReturn(List.of(Species.builder().id(KELP_ID).name("감태").build()));
+        when(chartSeriesRepository.findGrowthSeries(eq(AREA_ID), any())).thenReturn(Map.of());
+
+        ColumnarChartResponse response = chartService.getGrowthChart(AREA_ID, null);
+
+        assertThat(response.getSeries()).extracting(ColumnarChartResponse.Series::getSpeciesId)
+                .containsExactly(KELP_ID);
+    }
+
+    @Test
+    void getGrowthChart_tooManySpecies_isRejected() {
+        List<Long> ids = LongStream.rangeClosed(1, DashboardChartService.MAX_OVERLAY_SPECIES + 1).boxed().toList();
+
+        assertThatThrownBy(() -> chartService.getGrowthChart(AREA_ID, ids))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(chartSeriesRepository);
+    }
+
+    @Test
+    void getGrowthChart_unknownSpecies_isRejected() {
+        when(speciesRepository.findAllById(any())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> chartService.getGrowthChart(AREA_ID, List.of(99L)))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(chartSeriesRepository);
+    }
+
+    @Test
+    void getTemperatureChart_withResolution_readsRollupsInsteadOfRawLogs() {
+        when(projectAreaRepository.existsById(AREA_ID)).thenReturn(true);
+        WaterTemperatureRollup june = rollup(LocalDate.of(2025, 6, 1), 3, 54.0, 16.0, 20.0);
+        WaterTemperatureRollup july = rollup(LocalDate.of(2025, 7, 1), 2, 44.0, 21.0, 23.0);
+        when(rollupRepository.findAllByAreaIdAndResolutionOrderByBucketStartAsc(AREA_ID, RollupResolution.MONTH))
+                .thenReturn(List.of(june, july));
+
+        ColumnarChartResponse response = chartService.getTemperatureChart(AREA_ID, null, RollupResolution.MONTH);
+
+        assertThat(response.getResolution()).isEqualTo("MONTH");
+        assertThat(response.getSeries()).extracting(ColumnarChartResponse.Series::getName)
+                .containsExactly("평균 수온", "최저 수온", "최고 수온");
+        int juneDay = (int) LocalDate.of(2025, 6, 1).toEpochDay();
+        int julyDay = (int) LocalDate.of(2025, 7, 1).toEpochDay();
+        assertThat(response.getSeries().get(0).getDays()).containsExactly(juneDay, julyDay);
+        assertThat(response.getSeries().get(0).getValues()).containsExactly(18.0, 22.0);
+        assertThat(response.getSeries().get(1).getValues()).containsExactly(16.0, 21.0);
+        assertThat(response.getSeries().get(2).getValues()).containsExactly(20.0, 23.0);
+        verifyNoInteractions(chartSeriesRepository);
+    }
+
+    @Test
+    void getTemperatureChart_withoutResolution_readsRawSeries() {
+        when(projectAreaRepository.existsById(AREA_ID)).thenReturn(true);
+        when(chartSeriesRepository.findTemperatureSeries(AREA_ID))
+                .thenReturn(new ColumnarSeries(new int[]{20089, 20090}, new double[]{17.5, 18.0}));
+
+        ColumnarChartResponse response = chartService.getTemperatureChart(AREA_ID, null, null);
+
+        assertThat(response.getResolution()).isNull();
+        assertThat(response.getSeries()).hasSize(1);
+        assertThat(response.getSeries().get(0).getValues()).containsExactly(17.5, 18.0);
+        verifyNoInteractions(rollupRepository);
+    }
+
+    private WaterTemperatureRollup rollup(LocalDate bucketStart, long count, double sum, double min, double max) {
+        WaterTemperatureRollup rollup = mock(WaterTemperatureRollup.class);
+        when(rollup.getBucketStart()).thenReturn(bucketStart);
+        when(rollup.getTemperatureAvg()).thenReturn(sum / count);
+        when(rollup.getTemperatureMin()).thenReturn(min);
+        when(rollup.getTemperatureMax()).thenReturn(max);
+        return rollup;
+    }
+
+    private ProjectArea area() {
+        ProjectArea area = ProjectArea.builder()
+                .id(AREA_ID)
+                .name("포항 테스트 영역-1")
+                .restorationRegion(RestorationRegion.POHANG)
+                .startDate(LocalDate.of(2025, 3, 1))
+                .habitat(HabitatType.ROCKY)
+                .depth(10.5)
+                .areaSize(1850.0)
+                .level(ProjectLevel.GROWTH)
+                .build();
+        area.setRepresentativeSpecies(Species.builder().id(KELP_ID).name("감태").build());
+        return area;
+    }
+}
@@ -0,0 +1,147 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.bio.repository.SpeciesRepository;
+import com.ocean.piuda.dashboard.entity.MediaLog;
+import com.ocean.piuda.dashboard.entity.ProjectArea;
+import com.ocean.piuda.dashboard.entity.WaterLog;
+import com.ocean.piuda.dashboard.enums.AreaAttachmentStatus;
+import com.ocean.piuda.dashboard.enums.HabitatType;
+import com.ocean.piuda.dashboard.enums.MarineStatus;
+import com.ocean.piuda.dashboard.enums.MediaCategory;
+import com.ocean.piuda.dashboard.enums.ProjectLevel;
+import com.ocean.piuda.dashboard.enums.RestorationRegion;
+import com.ocean.piuda.dashboard.repository.AreaTransplantSummaryRepository;
+import com.ocean.piuda.dashboard.repository.GrowthLogRepository;
+import com.ocean.piuda.dashboard.repository.MediaLogRepository;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.TransplantLogRepository;
+import com.ocean.piuda.dashboard.repository.WaterLogRepository;
+import com.ocean.piuda.dashboard.repository.WaterTemperatureRollupRepository;
+import com.ocean.piuda.global.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 영역 삭제 문장 수 회귀 테스트 (H2)
+ * - 로그 수가 다른 영역을 실제 스키마에 만들고, deleteArea 가 준비(prepare)한 JDBC 문장 수를 Hibernate 통계로 비교합니다.
+ * - schema.sql 은 PostGIS 확장 생성 전용이므로 실행하지 않습니다.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@Import(JpaConfig.class)
+class DashboardCommandServiceDeleteAreaTest {
+
+    @Autowired private EntityManager entityManager;
+    @Autowired private ProjectAreaRepository projectAreaRepository;
+    @Autowired private TransplantLogRepository transplantLogRepository;
+    @Autowired private GrowthLogRepository growthLogRepository;
+    @Autowired private WaterLogRepository waterLogRepository;
+    @Autowired private MediaLogRepository mediaLogRepository;
+    @Autowired private SpeciesRepository speciesRepository;
+    @Autowired private AreaTransplantSummaryRepository summaryRepository;
+    @Autowired private WaterTemperatureRollupRepository rollupRepository;
+
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private DashboardCommandService commandService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        commandService = new DashboardCommandService(
+                projectAreaRepository,
+                transplantLogRepository,
+                growthLogRepository,
+                waterLogRepository,
+                mediaLogRepository,
+                speciesRepository,
+                new TransplantSummaryService(summaryRepository, transplantLogRepository, projectAreaRepository,
+                        eventPublisher, entityManager, transactionManager),
+                new TemperatureRollupService(rollupRepository, projectAreaRepository,
+                        eventPublisher, entityManager, transactionManager),
+                new WaterStatsService(waterLogRepository, projectAreaRepository,
+                        eventPublisher, entityManager, transactionManager),
+                eventPublisher
+        );
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void deleteArea_preparesSameNumberOfStatementsRegardlessOfLogCount() {
+        Long empty = seedArea(0);
+        Long single = seedArea(1);
+        Long large = seedArea(300);
+
+        long forEmpty = statementsToDelete(empty);
+        long forSingle = statementsToDelete(single);
+        long forLarge = statementsToDelete(large);
+
+        assertThat(forSingle).isEqualTo(forEmpty);
+        assertThat(forLarge).isEqualTo(forEmpty);
+        // 존재 확인 1 + 로그 4 + 이식 요약 1 + 수온 롤업 1 + 영역 1
+        assertThat(forEmpty).isEqualTo(8);
+
+        assertThat(projectAreaRepository.count()).isZero();
+        assertThat(waterLogRepository.count()).isZero();
+        assertThat(mediaLogRepository.count()).isZero();
+    }
+
+    private long statementsToDelete(Long areaId) {
+        statistics.clear();
+        commandService.deleteArea(areaId);
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long seedArea(int logCount) {
+        ProjectArea area = ProjectArea.builder()
+                .name("삭제 테스트 영역-" + logCount)
+                .restorationRegion(RestorationRegion.POHANG)
+                .startDate(LocalDate.of(2025, 1, 1))
+                .habitat(HabitatType.ROCKY)
+                .depth(10.0)
+                .areaSize(100.0)
+                .level(ProjectLevel.OBSERVATION)
+                .attachmentStatus(AreaAttachmentStatus.STABLE)
+                .build();
+
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < logCount; i++) {
+            area.addWater(WaterLog.builder()
+                    .recordDate(start.plusDays(i))
+                    .temperature(15.0 + i % 10)
+                    .visibility(MarineStatus.GOOD)
+                    .current(MarineStatus.GOOD)
+                    .surge(MarineStatus.NORMAL)
+                    .wave(MarineStatus.GOOD)
+                    .build());
+            area.addMedia(MediaLog.builder()
+                    .recordDate(start.plusDays(i))
+                    .mediaUrl("https://example.com/media/" + i + ".jpg")
+                    .category(MediaCategory.TIMELINE)
+                    .build());
+        }
+
+        entityManager.persist(area);
+        entityManager.flush();
+        entityManager.clear();
+        return area.getId();
+    }
+}
@@ -0,0 +1,118 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.bio.repository.SpeciesRepository;
+import com.ocean.piuda.dashboard.entity.GrowthLog;
+import com.ocean.piuda.dashboard.entity.ProjectArea;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.AreaTransplantSummaryRepository;
+import com.ocean.piuda.dashboard.repository.GrowthLogRepository;
+import com.ocean.piuda.dashboard.repository.MediaLogRepository;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.TransplantLogRepository;
+import com.ocean.piuda.dashboard.repository.WaterLogRepository;
+import com.ocean.piuda.dashboard.repository.WaterTemperatureRollupRepository;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class DashboardCommandServiceTest {
+
+    private static final Long AREA_ID = 1L;
+
+    private ProjectAreaRepository projectAreaRepository;
+    private TransplantLogRepository transplantLogRepository;
+    private GrowthLogRepository growthLogRepository;
+    private WaterLogRepository waterLogRepository;
+    private MediaLogRepository mediaLogRepository;
+    private AreaTransplantSummaryRepository summaryRepository;
+    private WaterTemperatureRollupRepository rollupRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private DashboardCommandService commandService;
+
+    @BeforeEach
+    void setUp() {
+        projectAreaRepository = mock(ProjectAreaRepository.class);
+        transplantLogRepository = mock(TransplantLogRepository.class);
+        growthLogRepository = mock(GrowthLogRepository.class);
+        waterLogRepository = mock(WaterLogRepository.class);
+        mediaLogRepository = mock(MediaLogRepository.class);
+        summaryRepository = mock(AreaTransplantSummaryRepository.class);
+        rollupRepository = mock(WaterTemperatureRollupRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        commandService = new DashboardCommandService(
+                projectAreaRepository,
+                transplantLogRepository,
+                growthLogRepository,
+                waterLogRepository,
+                mediaLogRepository,
+                mock(SpeciesRepository.class),
+                new TransplantSummaryService(summaryRepository, transplantLogRepository, projectAreaRepository,
+                        eventPublisher, mock(EntityManager.class), mock(PlatformTransactionManager.class)),
+                new TemperatureRollupService(rollupRepository, projectAreaRepository,
+                        eventPublisher, mock(EntityManager.class), mock(PlatformTransactionManager.class)),
+                new WaterStatsService(waterLogRepository, projectAreaRepository,
+                        eventPublisher, mock(EntityManager.class), mock(PlatformTransactionManager.class)),
+                eventPublisher
+        );
+    }
+
+    @Test
+    void deleteArea_deletesLogsBeforeAreaWithoutLoadingEntities() {
+        when(projectAreaRepository.existsById(AREA_ID)).thenReturn(true);
+        when(projectAreaRepository.deleteByIdInBulk(AREA_ID)).thenReturn(1);
+
+        commandService.deleteArea(AREA_ID);
+
+        // 로그는 영역보다 먼저 삭제 (FK). 문장 수는 DashboardCommandServiceDeleteAreaTest 에서 실제 스키마로 검증
+        InOrder order = inOrder(transplantLogRepository, growthLogRepository, waterLogRepository,
+                mediaLogRepository, summaryRepository, rollupRepository, projectAreaRepository);
+        order.verify(transplantLogRepository).deleteAllByAreaId(AREA_ID);
+        order.verify(growthLogRepository).deleteAllByAreaId(AREA_ID);
+        order.verify(waterLogRepository).deleteAllByAreaId(AREA_ID);
+        order.verify(mediaLogRepository).deleteAllByAreaId(AREA_ID);
+        order.verify(summaryRepository).deleteByAreaId(AREA_ID);
+        order.verify(rollupRepository).deleteAllByAreaId(AREA_ID);
+        order.verify(projectAreaRepository).deleteByIdInBulk(AREA_ID);
+
+        verify(projectAreaRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(new DashboardChangedEvent(AREA_ID, DashboardChangeType.AREA));
+    }
+
+    @Test
+    void deleteGrowth_bumpsAreaVersionInSqlInsteadOfOnTheLoadedEntity() {
+        ProjectArea area = ProjectArea.builder().id(AREA_ID).build();
+        GrowthLog log = GrowthLog.builder().id(5L).build();
+        area.addGrowth(log);
+        when(growthLogRepository.findByIdAndProjectAreaId(5L, AREA_ID)).thenReturn(Optional.of(log));
+
+        commandService.deleteGrowth(AREA_ID, 5L);
+
+        // 잠그지 않은 엔티티의 값을 증가시키면 동시 쓰기가 같은 버전으로 커밋될 수 있음
+        verify(projectAreaRepository).incrementDataVersion(AREA_ID);
+        assertThat(area.getDataVersion()).isZero();
+        verify(eventPublisher).publishEvent(new DashboardChangedEvent(AREA_ID, DashboardChangeType.GROWTH));
+    }
+
+    @Test
+    void deleteArea_unknownArea_deletesNothing() {
+        when(projectAreaRepository.existsById(AREA_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> commandService.deleteArea(AREA_ID)).isInstanceOf(BusinessException.class);
+
+        verifyNoInteractions(transplantLogRepository, growthLogRepository, waterLogRepository,
+                mediaLogRepository, summaryRepository, rollupRepository, eventPublisher);
+        verify(projectAreaRepository, never()).deleteByIdInBulk(any());
+    }
+}
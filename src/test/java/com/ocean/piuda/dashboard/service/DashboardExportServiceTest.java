@@ -0,0 +1,126 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocean.piuda.dashboard.entity.MediaLog;
+import com.ocean.piuda.dashboard.entity.WaterLog;
+import com.ocean.piuda.dashboard.enums.MarineStatus;
+import com.ocean.piuda.dashboard.repository.GrowthLogRepository;
+import com.ocean.piuda.dashboard.repository.MediaLogRepository;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.TransplantLogRepository;
+import com.ocean.piuda.dashboard.repository.WaterLogRepository;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class DashboardExportServiceTest {
+
+    private static final Long AREA_ID = 1L;
+
+    private ProjectAreaRepository projectAreaRepository;
+    private TransplantLogRepository transplantLogRepository;
+    private GrowthLogRepository growthLogRepository;
+    private WaterLogRepository waterLogRepository;
+    private MediaLogRepository mediaLogRepository;
+    private EntityManager entityManager;
+    private ObjectMapper objectMapper;
+    private DashboardExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        projectAreaRepository = mock(ProjectAreaRepository.class);
+        transplantLogRepository = mock(TransplantLogRepository.class);
+        growthLogRepository = mock(GrowthLogRepository.class);
+        waterLogRepository = mock(WaterLogRepository.class);
+        mediaLogRepository = mock(MediaLogRepository.class);
+        entityManager = mock(EntityManager.class);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        exportService = new DashboardExportService(
+                projectAreaRepository,
+                transplantLogRepository,
+                growthLogRepository,
+                waterLogRepository,
+                mediaLogRepository,
+                entityManager,
+                objectMapper,
+                mock(PlatformTransactionManager.class)
+        );
+
+        when(transplantLogRepository.streamAllByAreaId(AREA_ID)).thenReturn(Stream.empty());
+        when(growthLogRepository.streamAllByAreaId(AREA_ID)).thenReturn(Stream.empty());
+        when(waterLogRepository.streamAllByAreaId(AREA_ID)).thenReturn(Stream.empty());
+        when(mediaLogRepository.streamAllByAreaId(AREA_ID)).thenReturn(Stream.empty());
+    }
+
+    @Test
+    void exportAreaLogs_writesOneLinePerLogAndDetachesEachEntity() throws Exception {
+        List<WaterLog> waterLogs = LongStream.rangeClosed(1, 3).mapToObj(this::waterLog).toList();
+        MediaLog media = MediaLog.builder().id(9L).recordDate(LocalDate.of(2025, 7, 5)).mediaUrl("https://cdn/1.jpg").build();
+        AtomicBoolean waterStreamClosed = new AtomicBoolean();
+        when(waterLogRepository.streamAllByAreaId(AREA_ID))
+                .thenReturn(waterLogs.stream().onClose(() -> waterStreamClosed.set(true)));
+        when(mediaLogRepository.streamAllByAreaId(AREA_ID)).thenReturn(Stream.of(media));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long lines = exportService.exportAreaLogs(AREA_ID, out);
+
+        assertThat(lines).isEqualTo(4);
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("\n");
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : body.split("\n")) rows.add(objectMapper.readTree(line));
+        assertThat(rows).extracting(row -> row.get("type").asText())
+                .containsExactly("water", "water", "water", "media");
+        assertThat(rows).extracting(row -> row.get("log").get("id").asLong())
+                .containsExactly(1L, 2L, 3L, 9L);
+
+        waterLogs.forEach(log -> verify(entityManager).detach(log));
+        verify(entityManager).detach(media);
+        assertThat(waterStreamClosed).isTrue();
+    }
+
+    @Test
+    void exportAreaLogs_emptyArea_writesNothing() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(exportService.exportAreaLogs(AREA_ID, out)).isZero();
+        assertThat(out.size()).isZero();
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void assertAreaExists_unknownArea_isRejected() {
+        when(projectAreaRepository.existsById(AREA_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> exportService.assertAreaExists(AREA_ID)).isInstanceOf(BusinessException.class);
+    }
+
+    private WaterLog waterLog(long id) {
+        return WaterLog.builder()
+                .id(id)
+                .recordDate(LocalDate.of(2025, 7, (int) id))
+                .temperature(18.0)
+                .visibility(MarineStatus.GOOD)
+                .current(MarineStatus.GOOD)
+                .surge(MarineStatus.GOOD)
+                .wave(MarineStatus.GOOD)
+                .build();
+    }
+}
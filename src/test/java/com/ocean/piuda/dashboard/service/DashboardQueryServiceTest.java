@@ -0,0 +1,570 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.bio.entity.Species;
+import com.ocean.piuda.dashboard.dto.DataVersion;
+import com.ocean.piuda.dashboard.dto.LogCursor;
+import com.ocean.piuda.dashboard.dto.TimelineCursor;
+import com.ocean.piuda.dashboard.dto.request.LogCursorRequest;
+import com.ocean.piuda.dashboard.dto.request.LogPageRequest;
+import com.ocean.piuda.dashboard.dto.response.AreaDetailResponse;
+import com.ocean.piuda.dashboard.dto.response.TimelineItemResponse;
+import com.ocean.piuda.dashboard.dto.response.WaterLogResponse;
+import com.ocean.piuda.dashboard.entity.AreaTransplantSummary;
+import com.ocean.piuda.dashboard.entity.MediaLog;
+import com.ocean.piuda.dashboard.entity.ProjectArea;
+import com.ocean.piuda.dashboard.entity.WaterLog;
+import com.ocean.piuda.dashboard.enums.*;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.AreaTransplantSummaryRepository;
+import com.ocean.piuda.dashboard.repository.GrowthLogRepository;
+import com.ocean.piuda.dashboard.repository.MediaLogRepository;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.TransplantLogRepository;
+import com.ocean.piuda.dashboard.repository.WaterLogRepository;
+import com.ocean.piuda.dashboard.repository.projection.AreaIdVersionProjection;
+import com.ocean.piuda.dashboard.repository.projection.AreaVersionProjection;
+import com.ocean.piuda.global.api.dto.CursorResponse;
+import com.ocean.piuda.global.api.dto.PageResponse;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.cache.PageCountCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+class DashboardQueryServiceTest {
+
+    private static final Long AREA_ID = 1L;
+    private static final Long SPECIES_ID = 3L;
+
+    private ProjectAreaRepository projectAreaRepository;
+    private WaterLogRepository waterLogRepository;
+    private TransplantLogRepository transplantLogRepository;
+    private GrowthLogRepository growthLogRepository;
+    private MediaLogRepository mediaLogRepository;
+    private AreaTransplantSummaryRepository transplantSummaryRepository;
+    private DashboardQueryService dashboardQueryService;
+    private PlatformTransactionManager sequentialTxManager;
+    private AreaDetailTabLoader sequentialLoader;
+    private PageCountCache pageCountCache;
+
+    @BeforeEach
+    void setUp() {
+        projectAreaRepository = mock(ProjectAreaRepository.class);
+        waterLogRepository = mock(WaterLogRepository.class);
+        transplantLogRepository = mock(TransplantLogRepository.class);
+        growthLogRepository = mock(GrowthLogRepository.class);
+        mediaLogRepository = mock(MediaLogRepository.class);
+        transplantSummaryRepository = mock(AreaTransplantSummaryRepository.class);
+
+        // 순차 모드: 호출 스레드에서 바로 실행되므로 호출 횟수를 그대로 검증할 수 있음
+        sequentialTxManager = mock(PlatformTransactionManager.class);
+        sequentialLoader = new AreaDetailTabLoader(sequentialTxManager, false, 1, 10);
+
+        pageCountCache = new PageCountCache(true, 100, 60, new SimpleMeterRegistry());
+
+        // 캐시 비활성: 매 호출마다 쿼리 횟수를 검증
+        dashboardQueryService = serviceWith(new AreaDetailCache(false, 0, 1, new SimpleMeterRegistry()));
+
+        when(projectAreaRepository.findWithRepresentativeSpeciesById(AREA_ID)).thenReturn(Optional.of(area()));
+        when(projectAreaRepository.findVersionById(AREA_ID)).thenReturn(Optional.of(version(1)));
+    }
+
+    @Test
+    void getAreaDetail_withoutTabs_runsEveryTabQueryOnce() {
+        AreaDetailResponse response = dashboardQueryService.getAreaDetail(AREA_ID, null);
+
+        assertThat(response.getOverview()).isNotNull();
+        assertThat(response.getStatus()).isNotNull();
+        assertThat(response.getEcology()).isNotNull();
+        assertThat(response.getEnvironment()).isNotNull();
+        assertThat(response.getPhotos()).isNotNull();
+
+        verifyQueryCounts(EnumSet.allOf(AreaDetailTab.class));
+    }
+
+    @Test
+    void getAreaDetail_sequentialLoader_runsAllQueriesInOneReadOnlyTransaction() {
+        dashboardQueryService.getAreaDetail(AREA_ID, null);
+
+        verifyQueryCounts(EnumSet.allOf(AreaDetailTab.class));
+        verify(sequentialTxManager, times(1)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(sequentialTxManager, times(1)).commit(any());
+    }
+
+    @Test
+    void getAreaDetail_parallelLoader_runsEachQueryInItsOwnReadOnlyTransaction() {
+        PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+        AreaDetailTabLoader parallelLoader = new AreaDetailTabLoader(txManager, true, 2, 10);
+        try {
+            DashboardQueryService parallelService = serviceWith(
+                    new AreaDetailCache(false, 0, 1, new SimpleMeterRegistry()), parallelLoader);
+
+            AreaDetailResponse response = parallelService.getAreaDetail(AREA_ID, null);
+
+            assertThat(response.getOverview().getName()).isEqualTo("포항 테스트 영역-1");
+            assertThat(response.getStatus()).isNotNull();
+            assertThat(response.getEcology()).isNotNull();
+            assertThat(response.getEnvironment()).isNotNull();
+            assertThat(response.getPhotos()).isNotNull();
+            verifyQueryCounts(EnumSet.allOf(AreaDetailTab.class));
+
+            // 영역 1 + 환경 2 + 현황 1 + 생태 2 + 사진 1 (바깥 트랜잭션 없음)
+            verify(txManager, times(7)).getTransaction(argThat(def -> def.isReadOnly()
+                    && def.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        } finally {
+            parallelLoader.shutdown();
+        }
+    }
+
+    @Test
+    void getAreaDetail_parallelLoader_unknownArea_throwsNotFound() {
+        AreaDetailTabLoader parallelLoader = new AreaDetailTabLoader(mock(PlatformTransactionManager.class), true, 2, 10);
+        try {
+            DashboardQueryService parallelService = serviceWith(
+                    new AreaDetailCache(false, 0, 1, new SimpleMeterRegistry()), parallelLoader);
+
+            assertThatThrownBy(() -> parallelService.getAreaDetail(99L, new DataVersion("area-99-v0", -1), null, null, null))
+                    .isInstanceOf(BusinessException.class);
+        } finally {
+            parallelLoader.shutdown();
+        }
+    }
+
+    @Test
+    void getAreaDetail_status_withStoredSummary_skipsTransplantAggregates() {
+        AreaTransplantSummary summary = AreaTransplantSummary.empty(AREA_ID);
+        summary.add(new AreaTransplantSummary.TransplantContribution(
+                TransplantMethod.ROPE, SPECIES_ID, "감태", LocalDate.of(2025, 5, 10), 120.0, 3));
+        when(transplantSummaryRepository.findById(AREA_ID)).thenReturn(Optional.of(summary));
+
+        AreaDetailResponse response = dashboardQueryService.getAreaDetail(AREA_ID, EnumSet.of(AreaDetailTab.STATUS));
+
+        assertThat(response.getStatus()).isNotNull();
+        verify(transplantSummaryRepository, times(1)).findById(AREA_ID);
+        verifyNoInteractions(transplantLogRepository);
+    }
+
+    @ParameterizedTest
+    @MethodSource("tabCombinations")
+    void getAreaDetail_runsOnlyQueriesOfRequestedTabs(Set<AreaDetailTab> tabs) {
+        AreaDetailResponse response = dashboardQueryService.getAreaDetail(AREA_ID, tabs);
+
+        assertThat(response.getOverview() != null).isEqualTo(tabs.contains(AreaDetailTab.OVERVIEW));
+        assertThat(response.getStatus() != null).isEqualTo(tabs.contains(AreaDetailTab.STATUS));
+        assertThat(response.getEcology() != null).isEqualTo(tabs.contains(AreaDetailTab.ECOLOGY));
+        assertThat(response.getEnvironment() != null).isEqualTo(tabs.contains(AreaDetailTab.ENVIRONMENT));
+        assertThat(response.getPhotos() != null).isEqualTo(tabs.contains(AreaDetailTab.PHOTOS));
+
+        verifyQueryCounts(tabs);
+    }
+
+    @Test
+    void getAreaDetail_withCache_servesRepeatedAndPartialRequestsWithoutQueries() {
+        AreaDetailCache cache = new AreaDetailCache(true, 100, 600, new SimpleMeterRegistry());
+        DashboardQueryService cachedService = serviceWith(cache);
+
+        AreaDetailResponse first = cachedService.getAreaDetail(AREA_ID, null);
+        AreaDetailResponse second = cachedService.getAreaDetail(AREA_ID, null);
+        AreaDetailResponse photosOnly = cachedService.getAreaDetail(AREA_ID, EnumSet.of(AreaDetailTab.PHOTOS));
+
+        assertThat(second).isSameAs(first);
+        assertThat(photosOnly.getPhotos()).isSameAs(first.getPhotos());
+        assertThat(photosOnly.getOverview()).isNull();
+        verifyQueryCounts(EnumSet.allOf(AreaDetailTab.class));
+    }
+
+    @Test
+    void getAreaDetail_withCache_reloadsAfterCommittedChange() {
+        AreaDetailCache cache = new AreaDetailCache(true, 100, 600, new SimpleMeterRegistry());
+        DashboardQueryService cachedService = serviceWith(cache);
+
+        AreaDetailResponse first = cachedService.getAreaDetail(AREA_ID, null);
+        cache.onDashboardChanged(new DashboardChangedEvent(AREA_ID, DashboardChangeType.WATER));
+        AreaDetailResponse reloaded = cachedService.getAreaDetail(AREA_ID, null);
+
+        assertThat(reloaded).isNotSameAs(first);
+        verify(projectAreaRepository, times(2)).findWithRepresentativeSpeciesById(AREA_ID);
+        verify(waterLogRepository, times(2)).findTemperatureHistory(AREA_ID);
+    }
+
+    @Test
+    void getAreaDetail_withCache_newerVersionIsNotServedFromOlderEntry() {
+        AreaDetailCache cache = new AreaDetailCache(true, 100, 600, new SimpleMeterRegistry());
+        DashboardQueryService cachedService = serviceWith(cache);
+
+        // 커밋 직후 무효화 이벤트가 오기 전: 버전만 먼저 바뀜
+        AreaDetailResponse first = cachedService.getAreaDetail(AREA_ID, null);
+        when(projectAreaRepository.findVersionById(AREA_ID)).thenReturn(Optional.of(version(2)));
+        AreaDetailResponse reloaded = cachedService.getAreaDetail(AREA_ID, null);
+        AreaDetailResponse cached = cachedService.getAreaDetail(AREA_ID, null);
+
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(cached).isSameAs(reloaded);
+        verify(projectAreaRepository, times(2)).findWithRepresentativeSpeciesById(AREA_ID);
+    }
+
+    @Test
+    void getAreaDetail_withNonDefaultWindow_bypassesCacheAndScansRequestedMonths() {
+        AreaDetailCache cache = new AreaDetailCache(true, 100, 600, new SimpleMeterRegistry());
+        DashboardQueryService cachedService = serviceWith(cache);
+        cachedService.getAreaDetail(AREA_ID, null);
+
+        AreaDetailResponse response = cachedService.getAreaDetail(
+                AREA_ID, EnumSet.of(AreaDetailTab.ENVIRONMENT), EnvironmentWindow.TWELVE_MONTHS);
+
+        assertThat(response.getEnvironment().getSummaryMonths()).isEqualTo(12);
+        verify(waterLogRepository, times(1)).findMarineStatusCounts(AREA_ID, 3);
+        verify(waterLogRepository, times(1)).findMarineStatusCounts(AREA_ID, 12);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 30})
+    void getAreaDetails_runsEachTabQueryOnceRegardlessOfAreaCount(int areaCount) {
+        List<Long> ids = LongStream.rangeClosed(1, areaCount).boxed().toList();
+        when(projectAreaRepository.findAllByIdIn(ids)).thenReturn(ids.stream().map(this::area).toList());
+
+        List<AreaDetailResponse> responses = dashboardQueryService.getAreaDetails(ids, null);
+
+        assertThat(responses).extracting(AreaDetailResponse::getId).containsExactlyElementsOf(ids);
+        verify(projectAreaRepository, times(1)).findAllByIdIn(ids);
+        verify(waterLogRepository, times(1)).findTemperatureHistoryByAreaIds(ids);
+        verify(waterLogRepository, times(1)).findMarineStatusCountsByAreaIds(ids, 3);
+        verify(transplantSummaryRepository, times(1)).findAllById(ids);
+        verify(transplantLogRepository, times(1)).getAccumulatedStatsByAreaIds(ids);
+        verify(transplantLogRepository, times(1)).findMethodDistributionByAreaIds(ids);
+        verify(transplantLogRepository, times(1)).findMonthlyWorkCountsByAreaIds(ids);
+        verify(transplantLogRepository, times(1)).findSpeciesMethodTotalsByAreaIds(ids);
+        verify(growthLogRepository, times(1)).findRepresentativeGrowthPointsByAreaIds(ids);
+        verify(transplantLogRepository, times(1)).findLatestAttachmentStatusPerMethodByAreaIds(ids);
+        verify(mediaLogRepository, times(1)).findMediaPointsByAreaIds(ids);
+        verifyNoMoreInteractions(waterLogRepository, transplantLogRepository, growthLogRepository, mediaLogRepository,
+                transplantSummaryRepository);
+    }
+
+    @Test
+    void getAreaDetails_withCache_reusesOnlyEntriesOfCurrentVersion() {
+        DashboardQueryService cachedService = serviceWith(new AreaDetailCache(true, 100, 600, new SimpleMeterRegistry()));
+        AreaDetailResponse cached = cachedService.getAreaDetail(AREA_ID, null);
+
+        List<Long> ids = List.of(AREA_ID, 2L);
+        when(projectAreaRepository.findVersionsByIdIn(Set.copyOf(ids)))
+                .thenReturn(List.of(idVersion(AREA_ID, 1), idVersion(2L, 1)));
+        when(projectAreaRepository.findAllByIdIn(List.of(2L))).thenReturn(List.of(area(2L)));
+        List<AreaDetailResponse> responses = cachedService.getAreaDetails(ids, null);
+
+        assertThat(responses.get(0)).isSameAs(cached);
+        verify(projectAreaRepository, times(1)).findAllByIdIn(List.of(2L));
+
+        // 영역 1 의 버전이 바뀌면 이전 버전 응답은 재사용하지 않음
+        when(projectAreaRepository.findVersionsByIdIn(Set.copyOf(ids)))
+                .thenReturn(List.of(idVersion(AREA_ID, 2), idVersion(2L, 1)));
+        when(projectAreaRepository.findAllByIdIn(ids)).thenReturn(List.of(area(AREA_ID), area(2L)));
+        cachedService.getAreaDetails(ids, null);
+
+        verify(projectAreaRepository, times(1)).findAllByIdIn(ids);
+    }
+
+    @Test
+    void getAreaDetails_withStoredSummaries_skipsTransplantAggregates() {
+        List<Long> ids = List.of(AREA_ID, 2L);
+        when(projectAreaRepository.findAllByIdIn(ids)).thenReturn(List.of(area(AREA_ID), area(2L)));
+        when(transplantSummaryRepository.findAllById(ids)).thenReturn(List.of(
+                AreaTransplantSummary.empty(AREA_ID), AreaTransplantSummary.empty(2L)));
+
+        dashboardQueryService.getAreaDetails(ids, EnumSet.of(AreaDetailTab.STATUS));
+
+        verify(transplantSummaryRepository, times(1)).findAllById(ids);
+        verifyNoInteractions(transplantLogRepository, waterLogRepository, growthLogRepository, mediaLogRepository);
+    }
+
+    @Test
+    void getAreaDetails_unknownArea_throwsNotFound() {
+        List<Long> ids = List.of(AREA_ID, 99L);
+        when(projectAreaRepository.findAllByIdIn(ids)).thenReturn(List.of(area()));
+
+        assertThatThrownBy(() -> dashboardQueryService.getAreaDetails(ids, null))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void getWaterLogsByCursor_returnsNextCursorThatSeeksPastLastRow() {
+        LocalDate day = LocalDate.of(2025, 5, 1);
+        when(waterLogRepository.findPageBeforeCursor(eq(AREA_ID), any(), any(), eq(LocalDate.of(3000, 12, 31)),
+                eq(Long.MAX_VALUE), argThat(limit -> limit.max() == 3)))
+                .thenReturn(List.of(waterLog(30L, day), waterLog(20L, day), waterLog(10L, day)));
+
+        LogCursorRequest req = new LogCursorRequest();
+        req.setSize(2);
+        CursorResponse<WaterLogResponse> first = dashboardQueryService.getWaterLogsByCursor(AREA_ID, null, null, req);
+
+        assertThat(first.content()).extracting(WaterLogResponse::getId).containsExactly(30L, 20L);
+        assertThat(first.hasNext()).isTrue();
+
+        req.setCursor(first.nextCursor());
+        CursorResponse<WaterLogResponse> second = dashboardQueryService.getWaterLogsByCursor(AREA_ID, null, null, req);
+
+        // 두 번째 페이지는 마지막 행 (2025-05-01, 20) 이후부터 탐색하며 COUNT 는 실행하지 않음
+        verify(waterLogRepository).findPageBeforeCursor(eq(AREA_ID), any(), any(), eq(day), eq(20L), argThat(limit -> limit.max() == 3));
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+        verify(waterLogRepository, never()).findAllByProjectAreaIdAndRecordDateBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    void getWaterLogsByCursor_cursorFromOtherDirection_isRejected() {
+        String descCursor = new LogCursor(LocalDate.of(2025, 5, 1), 20L).encode(false);
+        LogCursorRequest req = new LogCursorRequest();
+        req.setSort(LogSort.RECORD_DATE_ASC);
+        req.setCursor(descCursor);
+
+        assertThatThrownBy(() -> dashboardQueryService.getWaterLogsByCursor(AREA_ID, null, null, req))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void getTimeline_mergesSourcesByDateThenSourceAndSeeksEachSourceFromCursor() {
+        LocalDate may1 = LocalDate.of(2025, 5, 1);
+        LocalDate may2 = LocalDate.of(2025, 5, 2);
+        LocalDate may3 = LocalDate.of(2025, 5, 3);
+        when(waterLogRepository.findPageBeforeCursor(eq(AREA_ID), any(), any(), eq(LocalDate.of(3000, 12, 31)),
+                eq(Long.MAX_VALUE), argThat(limit -> limit.max() == 4)))
+                .thenReturn(List.of(waterLog(7L, may3), waterLog(5L, may1)));
+        when(mediaLogRepository.findPageBeforeCursor(eq(AREA_ID), any(), any(), eq(LocalDate.of(3000, 12, 31)),
+                eq(Long.MAX_VALUE), argThat(limit -> limit.max() == 4)))
+                .thenReturn(List.of(mediaLog(2L, may3), mediaLog(9L, may2)));
+
+        LogCursorRequest req = new LogCursorRequest();
+        req.setSize(3);
+        CursorResponse<TimelineItemResponse> first = dashboardQueryService.getTimeline(AREA_ID, null, null, req);
+
+        // 내림차순: 기록일 → 출처(미디어가 수질보다 먼저) → id
+        assertThat(first.content()).extracting(TimelineItemResponse::type, TimelineItemResponse::id).containsExactly(
+                tuple(TimelineSource.MEDIA, 2L), tuple(TimelineSource.WATER, 7L), tuple(TimelineSource.MEDIA, 9L));
+        assertThat(first.hasNext()).isTrue();
+
+        req.setCursor(first.nextCursor());
+        dashboardQueryService.getTimeline(AREA_ID, null, null, req);
+
+        // 마지막 항목 (2025-05-02, MEDIA, 9): 미디어는 그 다음 id 부터, 나머지 출처는 같은 날짜 처음부터
+        verify(mediaLogRepository).findPageBeforeCursor(eq(AREA_ID), any(), any(), eq(may2), eq(9L), any());
+        verify(waterLogRepository).findPageBeforeCursor(eq(AREA_ID), any(), any(), eq(may2), eq(Long.MAX_VALUE), any());
+        verify(transplantLogRepository).findPageBeforeCursor(eq(AREA_ID), any(), any(), eq(may2), eq(Long.MAX_VALUE), any());
+        verify(waterLogRepository, never()).findAllByProjectAreaIdAndRecordDateBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    void timelineCursor_ascending_skipsSameDateForEarlierSources() {
+        LocalDate day = LocalDate.of(2025, 5, 2);
+        TimelineCursor cursor = new TimelineCursor(day, TimelineSource.GROWTH, 40L);
+
+        assertThat(cursor.toLogCursor(TimelineSource.TRANSPLANT, true)).isEqualTo(new LogCursor(day, Long.MAX_VALUE));
+        assertThat(cursor.toLogCursor(TimelineSource.GROWTH, true)).isEqualTo(new LogCursor(day, 40L));
+        assertThat(cursor.toLogCursor(TimelineSource.MEDIA, true)).isEqualTo(new LogCursor(day, 0L));
+        assertThat(TimelineCursor.decode(cursor.encode(true), true)).isEqualTo(cursor);
+        assertThatThrownBy(() -> TimelineCursor.decode(cursor.encode(true), false)).isInstanceOf(BusinessException.class);
+    }
+
+    /**
+     * 5개 탭의 공집합이 아닌 모든 조합 (31가지)
+     */
+    static List<Set<AreaDetailTab>> tabCombinations() {
+        AreaDetailTab[] all = AreaDetailTab.values();
+        List<Set<AreaDetailTab>> combinations = new ArrayList<>();
+        for (int mask = 1; mask < (1 << all.length); mask++) {
+            Set<AreaDetailTab> tabs = EnumSet.noneOf(AreaDetailTab.class);
+            for (int i = 0; i < all.length; i++) {
+                if ((mask & (1 << i)) != 0) tabs.add(all[i]);
+            }
+            combinations.add(tabs);
+        }
+        return combinations;
+    }
+
+    private void verifyQueryCounts(Set<AreaDetailTab> tabs) {
+        int environment = tabs.contains(AreaDetailTab.ENVIRONMENT) ? 1 : 0;
+        int status = tabs.contains(AreaDetailTab.STATUS) ? 1 : 0;
+        int ecology = tabs.contains(AreaDetailTab.ECOLOGY) ? 1 : 0;
+        int photos = tabs.contains(AreaDetailTab.PHOTOS) ? 1 : 0;
+
+        verify(projectAreaRepository, times(1)).findWithRepresentativeSpeciesById(AREA_ID);
+
+        verify(waterLogRepository, times(environment)).findTemperatureHistory(AREA_ID);
+        verify(waterLogRepository, times(environment)).findMarineStatusCounts(AREA_ID, 3);
+
+        // 요약 행이 없으면(mock 기본값) 원본 로그 집계로 대체
+        verify(transplantSummaryRepository, times(status)).findById(AREA_ID);
+        verify(transplantLogRepository, times(status)).findMethodDistribution(AREA_ID);
+        verify(transplantLogRepository, times(status)).findMonthlyWorkCounts(AREA_ID);
+        verify(transplantLogRepository, times(status)).findSpeciesMethodTotals(AREA_ID);
+        verify(transplantLogRepository, times(status)).getAccumulatedStats(AREA_ID);
+
+        verify(growthLogRepository, times(ecology)).findRepresentativeGrowthPoints(AREA_ID);
+        verify(transplantLogRepository, times(ecology)).findLatestAttachmentStatusPerMethod(AREA_ID);
+
+        verify(mediaLogRepository, times(photos)).findAllByProjectAreaIdOrderByRecordDateAsc(AREA_ID);
+
+        verifyNoMoreInteractions(waterLogRepository, transplantLogRepository, growthLogRepository, mediaLogRepository,
+                transplantSummaryRepository);
+    }
+
+    @Test
+    void getWaterLogs_cachesTotalPerFilterUntilWaterChangeIsCommitted() {
+        LocalDate day = LocalDate.of(2025, 6, 1);
+        when(waterLogRepository.findAllByProjectAreaIdAndRecordDateBetween(eq(AREA_ID), any(), any(), any()))
+                .thenAnswer(inv -> new SliceImpl<>(
+                        List.of(waterLog(2L, day), waterLog(1L, day)), inv.getArgument(3), true));
+        when(waterLogRepository.countByProjectAreaIdAndRecordDateBetween(eq(AREA_ID), any(), any())).thenReturn(7L);
+        LogPageRequest req = new LogPageRequest();
+        req.setSize(2);
+
+        PageResponse<WaterLogResponse> first = dashboardQueryService.getWaterLogs(AREA_ID, null, null, req);
+        req.setPage(2);
+        PageResponse<WaterLogResponse> second = dashboardQueryService.getWaterLogs(AREA_ID, null, null, req);
+
+        assertThat(first.totalElements()).isEqualTo(7L);
+        assertThat(second.totalPages()).isEqualTo(4);
+        verify(waterLogRepository, times(1)).countByProjectAreaIdAndRecordDateBetween(eq(AREA_ID), any(), any());
+
+        // 다른 영역의 변경은 영향 없음, 같은 영역의 수질 변경은 다시 COUNT
+        DashboardPageCountInvalidator invalidator = new DashboardPageCountInvalidator(pageCountCache);
+        invalidator.onDashboardChanged(new DashboardChangedEvent(99L, DashboardChangeType.WATER));
+        dashboardQueryService.getWaterLogs(AREA_ID, null, null, req);
+        invalidator.onDashboardChanged(new DashboardChangedEvent(AREA_ID, DashboardChangeType.WATER));
+        dashboardQueryService.getWaterLogs(AREA_ID, null, null, req);
+
+        verify(waterLogRepository, times(2)).countByProjectAreaIdAndRecordDateBetween(eq(AREA_ID), any(), any());
+    }
+
+    @Test
+    void getWaterLogs_withoutTotal_skipsCount() {
+        LocalDate day = LocalDate.of(2025, 6, 1);
+        when(waterLogRepository.findAllByProjectAreaIdAndRecordDateBetween(eq(AREA_ID), any(), any(), any()))
+                .thenAnswer(inv -> new SliceImpl<>(List.of(waterLog(1L, day)), inv.getArgument(3), true));
+        LogPageRequest req = new LogPageRequest();
+        req.setSize(1);
+        req.setIncludeTotal(false);
+
+        PageResponse<WaterLogResponse> response = dashboardQueryService.getWaterLogs(AREA_ID, null, null, req);
+
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.totalElements()).isNull();
+        assertThat(response.totalPages()).isNull();
+        verify(waterLogRepository, never()).countByProjectAreaIdAndRecordDateBetween(any(), any(), any());
+    }
+
+    private DashboardQueryService serviceWith(AreaDetailCache cache) {
+        return serviceWith(cache, sequentialLoader);
+    }
+
+    private DashboardQueryService serviceWith(AreaDetailCache cache, AreaDetailTabLoader tabLoader) {
+        return new DashboardQueryService(
+                projectAreaRepository,
+                new DashboardAggregateBuilder(),
+                waterLogRepository,
+                transplantLogRepository,
+                growthLogRepository,
+                mediaLogRepository,
+                tabLoader,
+                transplantSummaryRepository,
+                cache,
+                pageCountCache,
+                new AreaMarkerIndex(projectAreaRepository, true, 300, 60, 16, new SimpleMeterRegistry()),
+                new MarkerBBoxCache(true, 14, 1000, 60, new SimpleMeterRegistry())
+        );
+    }
+
+    private ProjectArea area() {
+        return area(AREA_ID);
+    }
+
+    private AreaIdVersionProjection idVersion(Long areaId, long dataVersion) {
+        AreaVersionProjection version = version(dataVersion);
+        return new AreaIdVersionProjection() {
+            @Override
+            public Long getAreaId() {
+                return areaId;
+            }
+
+            @Override
+            public Long getDataVersion() {
+                return version.getDataVersion();
+            }
+
+            @Override
+            public LocalDateTime getModifiedAt() {
+                return version.getModifiedAt();
+            }
+        };
+    }
+
+    private AreaVersionProjection version(long dataVersion) {
+        return new AreaVersionProjection() {
+            @Override
+            public Long getDataVersion() {
+                return dataVersion;
+            }
+
+            @Override
+            public LocalDateTime getModifiedAt() {
+                return LocalDateTime.of(2025, 6, 1, 0, 0).plusMinutes(dataVersion);
+            }
+        };
+    }
+
+    private WaterLog waterLog(Long id, LocalDate recordDate) {
+        return WaterLog.builder()
+                .id(id)
+                .recordDate(recordDate)
+                .temperature(15.0)
+                .visibility(MarineStatus.GOOD)
+                .current(MarineStatus.GOOD)
+                .surge(MarineStatus.GOOD)
+                .wave(MarineStatus.GOOD)
+                .build();
+    }
+
+    private MediaLog mediaLog(Long id, LocalDate recordDate) {
+        return MediaLog.builder()
+                .id(id)
+                .recordDate(recordDate)
+                .mediaUrl("https://cdn.example.com/" + id + ".jpg")
+                .category(MediaCategory.values()[0])
+                .build();
+    }
+
+    private ProjectArea area(Long id) {
+        ProjectArea area = ProjectArea.builder()
+                .id(id)
+                .name("포항 테스트 영역-1")
+                .restorationRegion(RestorationRegion.POHANG)
+                .startDate(LocalDate.of(2025, 3, 1))
+                .habitat(HabitatType.ROCKY)
+                .depth(10.5)
+                .areaSize(1850.0)
+                .level(ProjectLevel.GROWTH)
+                .attachmentStatus(AreaAttachmentStatus.STABLE)
+                .build();
+        area.setRepresentativeSpecies(Species.builder().id(SPECIES_ID).name("감태").build());
+        return area;
+    }
+}
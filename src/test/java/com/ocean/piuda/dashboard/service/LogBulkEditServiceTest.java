@@ -0,0 +1,141 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ocean.piuda.bio.repository.SpeciesRepository;
+import com.ocean.piuda.dashboard.dto.LogSelector;
+import com.ocean.piuda.dashboard.dto.request.BulkLogDeleteRequest;
+import com.ocean.piuda.dashboard.dto.request.BulkLogUpdateRequest;
+import com.ocean.piuda.dashboard.dto.request.BulkWaterLogChanges;
+import com.ocean.piuda.dashboard.dto.request.UpdateMediaLogRequest;
+import com.ocean.piuda.dashboard.dto.response.BulkLogEditResponse;
+import com.ocean.piuda.dashboard.entity.GrowthLog;
+import com.ocean.piuda.dashboard.entity.LogBulkEditAudit;
+import com.ocean.piuda.dashboard.entity.ProjectArea;
+import com.ocean.piuda.dashboard.entity.WaterLog;
+import com.ocean.piuda.dashboard.enums.BulkEditAction;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.enums.MarineStatus;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.LogBulkEditAuditRepository;
+import com.ocean.piuda.dashboard.repository.LogBulkEditRepository;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import com.ocean.piuda.global.api.exception.ExceptionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.*;
+
+class LogBulkEditServiceTest {
+
+    private static final Long AREA_ID = 1L;
+
+    private ProjectAreaRepository projectAreaRepository;
+    private LogBulkEditRepository logBulkEditRepository;
+    private LogBulkEditAuditRepository auditRepository;
+    private TransplantSummaryService transplantSummaryService;
+    private TemperatureRollupService temperatureRollupService;
+    private WaterStatsService waterStatsService;
+    private ApplicationEventPublisher eventPublisher;
+    private LogBulkEditService logBulkEditService;
+    private ProjectArea area;
+
+    @BeforeEach
+    void setUp() {
+        projectAreaRepository = mock(ProjectAreaRepository.class);
+        logBulkEditRepository = mock(LogBulkEditRepository.class);
+        auditRepository = mock(LogBulkEditAuditRepository.class);
+        transplantSummaryService = mock(TransplantSummaryService.class);
+        temperatureRollupService = mock(TemperatureRollupService.class);
+        waterStatsService = mock(WaterStatsService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        logBulkEditService = new LogBulkEditService(
+                projectAreaRepository,
+                logBulkEditRepository,
+                auditRepository,
+                mock(SpeciesRepository.class),
+                transplantSummaryService,
+                temperatureRollupService,
+                waterStatsService,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                eventPublisher
+        );
+
+        area = ProjectArea.builder().id(AREA_ID).name("포항 테스트 영역-1").build();
+        when(projectAreaRepository.findForUpdate(AREA_ID)).thenReturn(Optional.of(area));
+        when(auditRepository.save(any())).then(returnsFirstArg());
+    }
+
+    @Test
+    void updateWaters_appliesOffsetInOneStatement_refreshesDerivedDataOnce() {
+        LocalDate from = LocalDate.of(2025, 6, 1);
+        LocalDate to = LocalDate.of(2025, 6, 30);
+        var req = new BulkLogUpdateRequest<>(null, from, to,
+                new BulkWaterLogChanges(null, null, -0.4, MarineStatus.GOOD, null, null, null));
+        when(logBulkEditRepository.update(eq(WaterLog.class), eq(AREA_ID), any(), any(), any())).thenReturn(1200);
+
+        BulkLogEditResponse response = logBulkEditService.updateWaters(AREA_ID, req);
+
+        assertThat(response.affectedRows()).isEqualTo(1200);
+        verify(logBulkEditRepository).update(
+                WaterLog.class, AREA_ID, new LogSelector(null, from, to),
+                Map.of("visibility", MarineStatus.GOOD), Map.of("temperature", -0.4));
+        verify(temperatureRollupService).recompute(AREA_ID);
+        verify(waterStatsService).recompute(area);
+        verify(eventPublisher).publishEvent(new DashboardChangedEvent(AREA_ID, DashboardChangeType.WATER));
+        verifyNoInteractions(transplantSummaryService);
+
+        ArgumentCaptor<LogBulkEditAudit> audit = ArgumentCaptor.forClass(LogBulkEditAudit.class);
+        verify(auditRepository, times(1)).save(audit.capture());
+        assertThat(audit.getValue().getAction()).isEqualTo(BulkEditAction.UPDATE);
+        assertThat(audit.getValue().getSelector()).isEqualTo("recordDate=2025-06-01~2025-06-30");
+        assertThat(audit.getValue().getAffectedRows()).isEqualTo(1200);
+    }
+
+    @Test
+    void deleteGrowths_withNoMatchingRows_onlyRecordsAudit() {
+        when(logBulkEditRepository.delete(eq(GrowthLog.class), eq(AREA_ID), any())).thenReturn(0);
+
+        BulkLogEditResponse response = logBulkEditService.deleteGrowths(AREA_ID, new BulkLogDeleteRequest(List.of(5L, 6L), null, null));
+
+        assertThat(response.affectedRows()).isZero();
+        verify(auditRepository, times(1)).save(any());
+        verifyNoInteractions(eventPublisher, transplantSummaryService, temperatureRollupService, waterStatsService);
+    }
+
+    @Test
+    void bulkEdit_rejectsAmbiguousOrEmptyRequests() {
+        LocalDate day = LocalDate.of(2025, 6, 1);
+        var both = new BulkLogDeleteRequest(List.of(1L), day, day);
+        var openRange = new BulkLogDeleteRequest(null, day, null);
+        var noChanges = new BulkLogUpdateRequest<>(List.of(1L), null, null,
+                new UpdateMediaLogRequest(null, null, null, null));
+        var valueAndOffset = new BulkLogUpdateRequest<>(List.of(1L), null, null,
+                new BulkWaterLogChanges(null, 18.0, 0.5, null, null, null, null));
+
+        assertInvalid(() -> logBulkEditService.deleteMedia(AREA_ID, both));
+        assertInvalid(() -> logBulkEditService.deleteMedia(AREA_ID, openRange));
+        assertInvalid(() -> logBulkEditService.updateMedia(AREA_ID, noChanges));
+        assertInvalid(() -> logBulkEditService.updateWaters(AREA_ID, valueAndOffset));
+        verifyNoInteractions(logBulkEditRepository, auditRepository);
+    }
+
+    private void assertInvalid(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting("exceptionType")
+                .isEqualTo(ExceptionType.INVALID_INPUT_VALUE);
+    }
+}
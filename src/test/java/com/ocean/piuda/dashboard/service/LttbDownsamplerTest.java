@@ -0,0 +1,69 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.dto.ColumnarSeries;
+import com.ocean.piuda.dashboard.dto.TimeSeriesChartDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LttbDownsamplerTest {
+
+    private static final int START_DAY = (int) LocalDate.of(2000, 1, 1).toEpochDay();
+
+    /**
+     * 100k 점 합성 시계열 (계절 주기 사인파 + 중간의 단일 피크)
+     */
+    private static ColumnarSeries syntheticSeries(int n, int spikeAt) {
+        ColumnarSeries.Buffer buffer = new ColumnarSeries.Buffer(n);
+        for (int i = 0; i < n; i++) {
+            double value = 15 + 8 * Math.sin(2 * Math.PI * i / 365.0);
+            if (i == spikeAt) value = 40;
+            buffer.add(START_DAY + i, value);
+        }
+        return buffer.build();
+    }
+
+    @Test
+    void downsample_100kPoints_capsOutputAndKeepsEndpointsAndPeak() {
+        ColumnarSeries series = syntheticSeries(100_000, 54_321);
+
+        ColumnarSeries sampled = LttbDownsampler.downsample(series, 500);
+
+        assertThat(sampled.size()).isEqualTo(500);
+        assertThat(sampled.days()[0]).isEqualTo(START_DAY);
+        assertThat(sampled.days()[499]).isEqualTo(START_DAY + 99_999);
+        assertThat(sampled.values()).contains(40.0);
+        assertThat(IntStream.range(1, 500).allMatch(i -> sampled.days()[i] > sampled.days()[i - 1])).isTrue();
+    }
+
+    @Test
+    void downsample_shortSeries_isReturnedAsIs() {
+        ColumnarSeries series = syntheticSeries(10, -1);
+
+        assertThat(LttbDownsampler.downsample(series, 10)).isSameAs(series);
+    }
+
+    @Test
+    void downsample_belowMinimumPoints_isRejected() {
+        assertThatThrownBy(() -> LttbDownsampler.downsample(syntheticSeries(10, -1), 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void downsample_chartDto_keepsMetadata() {
+        List<LocalDate> labels = IntStream.range(0, 1000).mapToObj(i -> LocalDate.ofEpochDay(START_DAY + i)).toList();
+        List<Double> values = IntStream.range(0, 1000).mapToObj(i -> (double) (i % 50)).toList();
+        TimeSeriesChartDto chart = TimeSeriesChartDto.builder().labels(labels).values(values).unit("℃").build();
+
+        TimeSeriesChartDto sampled = LttbDownsampler.downsample(chart, 100);
+
+        assertThat(sampled.labels()).hasSize(100).startsWith(labels.get(0)).endsWith(labels.get(999));
+        assertThat(sampled.values()).hasSize(100);
+        assertThat(sampled.unit()).isEqualTo("℃");
+    }
+}
@@ -0,0 +1,69 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.enums.EnvironmentWindow;
+import com.ocean.piuda.dashboard.enums.MarineStatus;
+import com.ocean.piuda.dashboard.repository.projection.MarineStatusCountProjection;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarineStatusSummaryTest {
+
+    @Test
+    void of_picksModePerColumnAcrossCombinations() {
+        List<MarineStatusCountProjection> counts = List.of(
+                row("GOOD", "POOR", "NORMAL", "GOOD", 4),
+                row("POOR", "POOR", "NORMAL", "NORMAL", 3),
+                row("POOR", "GOOD", "GOOD", "NORMAL", 2)
+        );
+
+        MarineStatusSummary summary = MarineStatusSummary.of(EnvironmentWindow.THREE_MONTHS, counts);
+
+        // 시야: GOOD 4 vs POOR 5
+        assertThat(summary.visibility()).isEqualTo(MarineStatus.POOR);
+        // 조류: POOR 7 vs GOOD 2
+        assertThat(summary.current()).isEqualTo(MarineStatus.POOR);
+        // 서지: NORMAL 7 vs GOOD 2
+        assertThat(summary.surge()).isEqualTo(MarineStatus.NORMAL);
+        // 파도: NORMAL 5 vs GOOD 4
+        assertThat(summary.wave()).isEqualTo(MarineStatus.NORMAL);
+    }
+
+    @Test
+    void of_onTie_picksEnumNameAscending() {
+        List<MarineStatusCountProjection> counts = List.of(
+                row("POOR", "NORMAL", "POOR", "NORMAL", 2),
+                row("NORMAL", "GOOD", "GOOD", "POOR", 2)
+        );
+
+        MarineStatusSummary summary = MarineStatusSummary.of(EnvironmentWindow.ONE_MONTH, counts);
+
+        assertThat(summary.visibility()).isEqualTo(MarineStatus.NORMAL);
+        assertThat(summary.current()).isEqualTo(MarineStatus.GOOD);
+        assertThat(summary.surge()).isEqualTo(MarineStatus.GOOD);
+        assertThat(summary.wave()).isEqualTo(MarineStatus.NORMAL);
+    }
+
+    @Test
+    void of_withoutLogs_returnsNullModes() {
+        MarineStatusSummary summary = MarineStatusSummary.of(EnvironmentWindow.SIX_MONTHS, List.of());
+
+        assertThat(summary.window()).isEqualTo(EnvironmentWindow.SIX_MONTHS);
+        assertThat(summary.visibility()).isNull();
+        assertThat(summary.current()).isNull();
+        assertThat(summary.surge()).isNull();
+        assertThat(summary.wave()).isNull();
+    }
+
+    private static MarineStatusCountProjection row(String visibility, String current, String surge, String wave, long count) {
+        return new MarineStatusCountProjection() {
+            @Override public String getVisibility() { return visibility; }
+            @Override public String getCurrent() { return current; }
+            @Override public String getSurge() { return surge; }
+            @Override public String getWave() { return wave; }
+            @Override public Long getCount() { return count; }
+        };
+    }
+}
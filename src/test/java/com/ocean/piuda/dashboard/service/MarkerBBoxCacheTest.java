@@ -0,0 +1,115 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.dto.response.AreaMarkerResponse;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkerBBoxCacheTest {
+
+    private static final String VERSION = "areas-3000-3000-1750000000000";
+
+    private MarkerBBoxCache markerBBoxCache;
+    private List<AreaMarkerResponse> markers;
+    private AtomicInteger tileLoads;
+    private MarkerBBoxCache.TileLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        markerBBoxCache = new MarkerBBoxCache(true, 14, 1000, 60, new SimpleMeterRegistry());
+
+        Random random = new Random(7);
+        markers = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            markers.add(marker(id, 34.5 + random.nextDouble(), 128.5 + random.nextDouble()));
+        }
+        tileLoads = new AtomicInteger();
+        loader = (minLat, minLon, maxLat, maxLon) -> {
+            tileLoads.incrementAndGet();
+            return bruteForce(minLat, minLon, maxLat, maxLon);
+        };
+    }
+
+    @Test
+    void panning_reusesSnappedTiles_andTrimsToExactBBox() {
+        int requests = 0;
+        for (int step = 0; step < 20; step++) {
+            double shift = step * 0.0005;
+            double minLat = 35.10;
+            double minLon = 129.10 + shift;
+            double maxLat = 35.20;
+            double maxLon = 129.20 + shift;
+
+            assertThat(ids(markerBBoxCache.get(minLat, minLon, maxLat, maxLon, VERSION, loader)))
+                    .isEqualTo(ids(bruteForce(minLat, minLon, maxLat, maxLon)));
+            requests++;
+        }
+
+        assertThat(requests).isEqualTo(20);
+        assertThat(tileLoads.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void areaChange_invalidatesTiles() {
+        markerBBoxCache.get(35.1, 129.1, 35.2, 129.2, VERSION, loader);
+        int loaded = tileLoads.get();
+
+        markerBBoxCache.onDashboardChanged(new DashboardChangedEvent(1L, DashboardChangeType.GROWTH));
+        markerBBoxCache.get(35.1, 129.1, 35.2, 129.2, VERSION, loader);
+        assertThat(tileLoads.get()).isEqualTo(loaded);
+
+        markerBBoxCache.onDashboardChanged(new DashboardChangedEvent(1L, DashboardChangeType.AREA));
+        markerBBoxCache.get(35.1, 129.1, 35.2, 129.2, VERSION, loader);
+        assertThat(tileLoads.get()).isEqualTo(loaded * 2);
+    }
+
+    @Test
+    void newerVersion_loadsTilesAgainBeforeInvalidation() {
+        markerBBoxCache.get(35.1, 129.1, 35.2, 129.2, VERSION, loader);
+        int loaded = tileLoads.get();
+
+        // 커밋 직후 비우기 이벤트가 오기 전에도 새 버전은 이전 타일을 쓰지 않음
+        markerBBoxCache.get(35.1, 129.1, 35.2, 129.2, "areas-3000-3001-1750000001000", loader);
+        assertThat(tileLoads.get()).isEqualTo(loaded * 2);
+    }
+
+    @Test
+    void disabled_loadsExactBBoxEveryTime() {
+        MarkerBBoxCache disabled = new MarkerBBoxCache(false, 14, 1000, 60, new SimpleMeterRegistry());
+
+        disabled.get(35.1, 129.1, 35.2, 129.2, VERSION, loader);
+        disabled.get(35.1, 129.1, 35.2, 129.2, VERSION, loader);
+
+        assertThat(tileLoads).hasValue(2);
+    }
+
+    private List<AreaMarkerResponse> bruteForce(double minLat, double minLon, double maxLat, double maxLon) {
+        return markers.stream()
+                .filter(m -> m.getLat() >= minLat && m.getLat() <= maxLat && m.getLon() >= minLon && m.getLon() <= maxLon)
+                .sorted(Comparator.comparing(AreaMarkerResponse::getId))
+                .toList();
+    }
+
+    private static List<Long> ids(List<AreaMarkerResponse> rows) {
+        return rows.stream().map(AreaMarkerResponse::getId).toList();
+    }
+
+    private static AreaMarkerResponse marker(long id, double lat, double lon) {
+        return AreaMarkerResponse.builder()
+                .id(id)
+                .name("영역-" + id)
+                .lat(lat)
+                .lon(lon)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.enums.RollupResolution;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.WaterTemperatureRollupRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class TemperatureRollupServiceTest {
+
+    private static final Long AREA_ID = 1L;
+
+    private WaterTemperatureRollupRepository rollupRepository;
+    private ProjectAreaRepository projectAreaRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private EntityManager entityManager;
+    private PlatformTransactionManager transactionManager;
+    private TemperatureRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        rollupRepository = mock(WaterTemperatureRollupRepository.class);
+        projectAreaRepository = mock(ProjectAreaRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        entityManager = mock(EntityManager.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        rollupService = new TemperatureRollupService(rollupRepository, projectAreaRepository,
+                eventPublisher, entityManager, transactionManager);
+    }
+
+    @Test
+    void truncate_usesMondayWeeksAndFirstDayOfMonth() {
+        LocalDate thursday = LocalDate.of(2025, 7, 3);
+
+        assertThat(RollupResolution.DAY.truncate(thursday)).isEqualTo(thursday);
+        assertThat(RollupResolution.WEEK.truncate(thursday)).isEqualTo(LocalDate.of(2025, 6, 30));
+        assertThat(RollupResolution.MONTH.truncate(thursday)).isEqualTo(LocalDate.of(2025, 7, 1));
+    }
+
+    @Test
+    void onCreated_upsertsOneBucketPerResolution() {
+        rollupService.onCreated(AREA_ID, LocalDate.of(2025, 7, 3), 18.5);
+
+        verify(rollupRepository).upsertSample(AREA_ID, "DAY", LocalDate.of(2025, 7, 3), 18.5);
+        verify(rollupRepository).upsertSample(AREA_ID, "WEEK", LocalDate.of(2025, 6, 30), 18.5);
+        verify(rollupRepository).upsertSample(AREA_ID, "MONTH", LocalDate.of(2025, 7, 1), 18.5);
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    @Test
+    void onUpdated_recomputesOnlyAffectedBuckets() {
+        when(rollupRepository.upsertBucketFromLogs(any(), any(), any(), any())).thenReturn(1);
+
+        // 같은 주/월 안에서 날짜만 이동: 일 버킷 2개 + 주 1개 + 월 1개
+        rollupService.onUpdated(AREA_ID, LocalDate.of(2025, 7, 3), LocalDate.of(2025, 7, 4));
+
+        verify(rollupRepository).upsertBucketFromLogs(AREA_ID, "DAY", LocalDate.of(2025, 7, 3), LocalDate.of(2025, 7, 4));
+        verify(rollupRepository).upsertBucketFromLogs(AREA_ID, "DAY", LocalDate.of(2025, 7, 4), LocalDate.of(2025, 7, 5));
+        verify(rollupRepository).upsertBucketFromLogs(AREA_ID, "WEEK", LocalDate.of(2025, 6, 30), LocalDate.of(2025, 7, 7));
+        verify(rollupRepository).upsertBucketFromLogs(
+                AREA_ID, "MONTH", LocalDate.of(2025, 7, 1), LocalDate.of(2025, 8, 1));
+        verify(rollupRepository, times(4)).upsertBucketFromLogs(any(), any(), any(), any());
+        // 버킷에 로그가 남아 있으면 삭제하지 않음 (삭제 후 INSERT 는 동시 수정 시 유니크 키 충돌)
+        verify(rollupRepository, never()).deleteBucket(any(), any(), any());
+    }
+
+    @Test
+    void onDeleted_deletesOnlyBucketsLeftWithoutLogs() {
+        // 일 버킷만 비고, 주/월 버킷에는 다른 로그가 남음
+        when(rollupRepository.upsertBucketFromLogs(any(), any(), any(), any())).thenReturn(1);
+        when(rollupRepository.upsertBucketFromLogs(AREA_ID, "DAY", LocalDate.of(2025, 7, 3), LocalDate.of(2025, 7, 4)))
+                .thenReturn(0);
+
+        rollupService.onDeleted(AREA_ID, LocalDate.of(2025, 7, 3));
+
+        verify(rollupRepository).deleteBucket(AREA_ID, RollupResolution.DAY, LocalDate.of(2025, 7, 3));
+        verify(rollupRepository, times(1)).deleteBucket(any(), any(), any());
+        verify(rollupRepository, times(3)).upsertBucketFromLogs(any(), any(), any(), any());
+    }
+
+    @Test
+    void rebuild_bumpsAreaVersionAndPublishesChange() {
+        when(projectAreaRepository.existsById(AREA_ID)).thenReturn(true);
+
+        rollupService.rebuild(AREA_ID);
+
+        verify(rollupRepository).deleteAllByAreaId(AREA_ID);
+        verify(rollupRepository, times(RollupResolution.values().length)).insertAllFromLogs(eq(AREA_ID), any(), any());
+        verify(projectAreaRepository).incrementDataVersion(AREA_ID);
+        verify(eventPublisher).publishEvent(new DashboardChangedEvent(AREA_ID, DashboardChangeType.WATER));
+    }
+
+    @Test
+    void rebuildAll_runsEachAreaInItsOwnTransaction() {
+        when(projectAreaRepository.findAllIds()).thenReturn(List.of(AREA_ID, 2L));
+        when(projectAreaRepository.existsById(any())).thenReturn(true);
+
+        assertThat(rollupService.rebuildAll()).isEqualTo(2);
+
+        verify(transactionManager, times(2)).getTransaction(argThat(def ->
+                def.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager, times(2)).commit(any());
+        verify(entityManager, times(2)).clear();
+        verify(projectAreaRepository).incrementDataVersion(2L);
+        verify(eventPublisher, times(2)).publishEvent(any(DashboardChangedEvent.class));
+    }
+}
@@ -0,0 +1,95 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.entity.AreaTransplantSummary;
+import com.ocean.piuda.dashboard.entity.AreaTransplantSummary.TransplantContribution;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.enums.TransplantMethod;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.AreaTransplantSummaryRepository;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.TransplantLogRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class TransplantSummaryServiceTest {
+
+    private static final Long AREA_ID = 1L;
+
+    private AreaTransplantSummaryRepository summaryRepository;
+    private TransplantLogRepository transplantLogRepository;
+    private ProjectAreaRepository projectAreaRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private EntityManager entityManager;
+    private PlatformTransactionManager transactionManager;
+    private TransplantSummaryService transplantSummaryService;
+
+    @BeforeEach
+    void setUp() {
+        summaryRepository = mock(AreaTransplantSummaryRepository.class);
+        transplantLogRepository = mock(TransplantLogRepository.class);
+        projectAreaRepository = mock(ProjectAreaRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        entityManager = mock(EntityManager.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        transplantSummaryService = new TransplantSummaryService(summaryRepository, transplantLogRepository,
+                projectAreaRepository, eventPublisher, entityManager, transactionManager);
+
+        when(projectAreaRepository.existsById(AREA_ID)).thenReturn(true);
+    }
+
+    @Test
+    void onCreated_withoutSummaryRow_insertsIfAbsentThenLocksInsteadOfSavingNewRow() {
+        AreaTransplantSummary inserted = AreaTransplantSummary.empty(AREA_ID);
+        // 첫 조회에는 행이 없고, ON CONFLICT DO NOTHING 이후에는 (자신 또는 다른 트랜잭션이 만든) 행이 있음
+        when(summaryRepository.findForUpdate(AREA_ID)).thenReturn(Optional.empty(), Optional.of(inserted));
+
+        transplantSummaryService.onCreated(AREA_ID, new TransplantContribution(
+                TransplantMethod.ROPE, 3L, "감태", LocalDate.of(2025, 5, 10), 120.0, 3));
+
+        InOrder order = inOrder(summaryRepository);
+        order.verify(summaryRepository).findForUpdate(AREA_ID);
+        order.verify(summaryRepository).insertEmptyIfAbsent(AREA_ID);
+        order.verify(summaryRepository).findForUpdate(AREA_ID);
+        verify(summaryRepository, times(1)).save(any());
+        verify(summaryRepository).save(same(inserted));
+        assertThat(inserted.getTotalCount()).isZero(); // 원본 로그 집계(mock: 0건)로 덮어씀
+    }
+
+    @Test
+    void rebuild_bumpsAreaVersionAndPublishesChange() {
+        when(summaryRepository.findForUpdate(AREA_ID)).thenReturn(Optional.of(AreaTransplantSummary.empty(AREA_ID)));
+
+        transplantSummaryService.rebuild(AREA_ID);
+
+        verify(projectAreaRepository).incrementDataVersion(AREA_ID);
+        verify(eventPublisher).publishEvent(new DashboardChangedEvent(AREA_ID, DashboardChangeType.TRANSPLANT));
+    }
+
+    @Test
+    void rebuildAll_runsEachAreaInItsOwnTransaction() {
+        when(projectAreaRepository.findAllIds()).thenReturn(List.of(AREA_ID, 2L));
+        when(projectAreaRepository.existsById(2L)).thenReturn(true);
+        when(summaryRepository.findForUpdate(any())).thenAnswer(inv -> Optional.of(AreaTransplantSummary.empty(inv.getArgument(0))));
+
+        assertThat(transplantSummaryService.rebuildAll()).isEqualTo(2);
+
+        verify(transactionManager, times(2)).getTransaction(argThat(def ->
+                def.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager, times(2)).commit(any());
+        verify(entityManager, times(2)).clear();
+        verify(projectAreaRepository).incrementDataVersion(2L);
+        verify(eventPublisher, times(2)).publishEvent(any(DashboardChangedEvent.class));
+    }
+}
@@ -0,0 +1,248 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocean.piuda.dashboard.dto.request.CreateWaterLogRequest;
+import com.ocean.piuda.dashboard.dto.response.BulkImportResponse;
+import com.ocean.piuda.dashboard.entity.ProjectArea;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.enums.MarineStatus;
+import com.ocean.piuda.dashboard.enums.WaterLogImportFormat;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.WaterLogJdbcRepository;
+import com.ocean.piuda.global.api.exception.BusinessException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class WaterLogImportServiceTest {
+
+    private static final Long AREA_ID = 1L;
+    private static final String HEADER = "recordDate,temperature,visibility,current,surge,wave";
+
+    private ProjectAreaRepository projectAreaRepository;
+    private WaterLogJdbcRepository waterLogJdbcRepository;
+    private TemperatureRollupService temperatureRollupService;
+    private WaterStatsService waterStatsService;
+    private ApplicationEventPublisher eventPublisher;
+    private ProjectArea area;
+    private List<Integer> batchSizes;
+
+    @BeforeEach
+    void setUp() {
+        projectAreaRepository = mock(ProjectAreaRepository.class);
+        waterLogJdbcRepository = mock(WaterLogJdbcRepository.class);
+        temperatureRollupService = mock(TemperatureRollupService.class);
+        waterStatsService = mock(WaterStatsService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        area = ProjectArea.builder().id(AREA_ID).name("포항 테스트 영역-1").build();
+        batchSizes = new ArrayList<>();
+
+        when(projectAreaRepository.findForUpdate(AREA_ID)).thenReturn(Optional.of(area));
+        // 호출 후 버퍼가 비워지므로 크기만 기록
+        when(waterLogJdbcRepository.insertBatch(eq(AREA_ID), anyList())).thenAnswer(invocation -> {
+            List<?> rows = invocation.getArgument(1);
+            if (!rows.isEmpty()) batchSizes.add(rows.size());
+            return rows.size();
+        });
+    }
+
+    @Test
+    void importCsv_insertsValidRowsAndReportsInvalidOnes() {
+        String csv = String.join("\n",
+                HEADER,
+                "2025-07-01,18.5,GOOD,NORMAL,POOR,GOOD",
+                "2025-07-02,abc,GOOD,GOOD,GOOD,GOOD",
+                "",
+                "2025-07-03,19.0,good,good,good,good",
+                "2025-07-04,,GOOD,GOOD,GOOD,GOOD",
+                "2025-07-05,19.5,GOOD,GOOD");
+
+        BulkImportResponse response = service(500, 100_000)
+                .importWaterLogs(AREA_ID, WaterLogImportFormat.CSV, input(csv));
+
+        assertThat(response.totalRows()).isEqualTo(5);
+        assertThat(response.insertedRows()).isEqualTo(2);
+        assertThat(response.failedRows()).isEqualTo(3);
+        assertThat(response.errors()).extracting(BulkImportResponse.RowError::line).containsExactly(3L, 6L, 7L);
+        assertThat(response.errors().get(1).message()).startsWith("temperature");
+        assertThat(response.errorsTruncated()).isFalse();
+
+        verify(temperatureRollupService).recompute(AREA_ID);
+        verify(waterStatsService).recompute(area);
+        verify(eventPublisher).publishEvent(new DashboardChangedEvent(AREA_ID, DashboardChangeType.WATER));
+        verify(projectAreaRepository).incrementDataVersion(AREA_ID);
+    }
+
+    @Test
+    void importCsv_columnsInAnyOrderAndSnakeCase() {
+        String csv = "wave,surge,current,visibility,temperature,record_date\n"
+                + "POOR,NORMAL,GOOD,GOOD,17.25,2025-07-01\n";
+        List<CreateWaterLogRequest> inserted = new ArrayList<>();
+        when(waterLogJdbcRepository.insertBatch(eq(AREA_ID), anyList())).thenAnswer(invocation -> {
+            List<CreateWaterLogRequest> rows = invocation.getArgument(1);
+            inserted.addAll(rows);
+            return rows.size();
+        });
+
+        service(500, 100_000).importWaterLogs(AREA_ID, WaterLogImportFormat.CSV, input(csv));
+
+        assertThat(inserted).containsExactly(new CreateWaterLogRequest(LocalDate.of(2025, 7, 1), 17.25,
+                MarineStatus.GOOD, MarineStatus.GOOD, MarineStatus.NORMAL, MarineStatus.POOR));
+    }
+
+    @Test
+    void importCsv_missingHeaderColumn_rejectsWholeRequest() {
+        String csv = "recordDate,temperature\n2025-07-01,18.5\n";
+
+        assertThatThrownBy(() -> service(500, 100_000).importWaterLogs(AREA_ID, WaterLogImportFormat.CSV, input(csv)))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(waterLogJdbcRepository, temperatureRollupService, waterStatsService, eventPublisher);
+    }
+
+    @Test
+    void importNdjson_reportsMalformedAndIncompleteLines() {
+        String ndjson = String.join("\n",
+                "{\"recordDate\":\"2025-07-01\",\"temperature\":18.5,\"visibility\":\"GOOD\",\"current\":\"GOOD\",\"surge\":\"GOOD\",\"wave\":\"GOOD\"}",
+                "{\"recordDate\":\"2025-07-02\",",
+                "{\"recordDate\":\"2025-07-03\",\"temperature\":18.5}");
+
+        BulkImportResponse response = service(500, 100_000)
+                .importWaterLogs(AREA_ID, WaterLogImportFormat.NDJSON, input(ndjson));
+
+        assertThat(response.insertedRows()).isEqualTo(1);
+        assertThat(response.errors()).extracting(BulkImportResponse.RowError::line).containsExactly(2L, 3L);
+        assertThat(response.errors().get(0).message()).startsWith("JSON");
+        assertThat(response.errors().get(1).message()).contains("current", "surge", "visibility", "wave");
+    }
+
+    @Test
+    void importNdjson_nullLine_isReportedAsRowError() {
+        String ndjson = String.join("\n",
+                "null",
+                "{\"recordDate\":\"2025-07-01\",\"temperature\":18.5,\"visibility\":\"GOOD\",\"current\":\"GOOD\",\"surge\":\"GOOD\",\"wave\":\"GOOD\"}");
+
+        BulkImportResponse response = service(500, 100_000)
+                .importWaterLogs(AREA_ID, WaterLogImportFormat.NDJSON, input(ndjson));
+
+        assertThat(response.insertedRows()).isEqualTo(1);
+        assertThat(response.failedRows()).isEqualTo(1);
+        assertThat(response.errors()).extracting(BulkImportResponse.RowError::line).containsExactly(1L);
+        assertThat(response.errors().get(0).message()).startsWith("JSON");
+    }
+
+    @Test
+    void import_locksAreaOnlyAfterWholeInputIsRead() {
+        AtomicBoolean inputExhausted = new AtomicBoolean();
+        AtomicBoolean exhaustedWhenLocked = new AtomicBoolean();
+        byte[] csv = (HEADER + "\n2025-07-01,18.5,GOOD,GOOD,GOOD,GOOD\n").getBytes(StandardCharsets.UTF_8);
+        InputStream in = new ByteArrayInputStream(csv) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                int n = super.read(b, off, len);
+                if (n < 0) inputExhausted.set(true);
+                return n;
+            }
+        };
+        when(projectAreaRepository.findForUpdate(AREA_ID)).thenAnswer(invocation -> {
+            exhaustedWhenLocked.set(inputExhausted.get());
+            return Optional.of(area);
+        });
+
+        service(500, 100_000).importWaterLogs(AREA_ID, WaterLogImportFormat.CSV, in);
+
+        assertThat(exhaustedWhenLocked).isTrue();
+        verify(waterLogJdbcRepository).insertBatch(eq(AREA_ID), anyList());
+    }
+
+    @Test
+    void importCsv_flushesFixedSizeBatches() {
+        StringBuilder csv = new StringBuilder(HEADER).append('\n');
+        LocalDate start = LocalDate.of(2015, 1, 1);
+        for (int i = 0; i < 10_234; i++) {
+            csv.append(start.plusDays(i % 3650)).append(',').append(10 + (i % 150) / 10.0).append(",GOOD,NORMAL,GOOD,POOR\n");
+        }
+
+        BulkImportResponse response = service(500, 100_000)
+                .importWaterLogs(AREA_ID, WaterLogImportFormat.CSV, input(csv.toString()));
+
+        assertThat(response.insertedRows()).isEqualTo(10_234);
+        // 행 수가 아니라 배치 수만큼만 INSERT 왕복
+        assertThat(batchSizes).hasSize(21);
+        assertThat(batchSizes.subList(0, 20)).containsOnly(500);
+        assertThat(batchSizes.get(20)).isEqualTo(234);
+        verify(projectAreaRepository, times(1)).findForUpdate(AREA_ID);
+        verify(temperatureRollupService, times(1)).recompute(AREA_ID);
+    }
+
+    @Test
+    void importCsv_stopsAtMaxRows() {
+        String csv = String.join("\n",
+                HEADER,
+                "2025-07-01,18.5,GOOD,GOOD,GOOD,GOOD",
+                "2025-07-02,18.5,GOOD,GOOD,GOOD,GOOD",
+                "2025-07-03,18.5,GOOD,GOOD,GOOD,GOOD");
+
+        BulkImportResponse response = service(500, 2)
+                .importWaterLogs(AREA_ID, WaterLogImportFormat.CSV, input(csv));
+
+        assertThat(response.insertedRows()).isEqualTo(2);
+        assertThat(response.failedRows()).isZero();
+        assertThat(response.errors()).extracting(BulkImportResponse.RowError::line).containsExactly(4L);
+    }
+
+    @Test
+    void importCsv_withoutValidRows_leavesAreaUnchanged() {
+        String csv = HEADER + "\n2025-07-01,18.5,GOOD,GOOD,GOOD,UNKNOWN\n";
+
+        BulkImportResponse response = service(500, 100_000)
+                .importWaterLogs(AREA_ID, WaterLogImportFormat.CSV, input(csv));
+
+        assertThat(response.failedRows()).isEqualTo(1);
+        verifyNoInteractions(temperatureRollupService, waterStatsService, eventPublisher);
+        verify(projectAreaRepository, never()).incrementDataVersion(any());
+    }
+
+    @Test
+    void format_isResolvedFromContentType() {
+        assertThat(WaterLogImportFormat.from("text/csv; charset=UTF-8")).isEqualTo(WaterLogImportFormat.CSV);
+        assertThat(WaterLogImportFormat.from("application/x-ndjson")).isEqualTo(WaterLogImportFormat.NDJSON);
+        assertThatThrownBy(() -> WaterLogImportFormat.from("application/json")).isInstanceOf(BusinessException.class);
+    }
+
+    private WaterLogImportService service(int batchSize, long maxRows) {
+        return new WaterLogImportService(
+                projectAreaRepository,
+                waterLogJdbcRepository,
+                temperatureRollupService,
+                waterStatsService,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper().findAndRegisterModules(),
+                eventPublisher,
+                mock(PlatformTransactionManager.class),
+                batchSize,
+                maxRows
+        );
+    }
+
+    private InputStream input(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,159 @@
+package com.ocean.piuda.dashboard.service;
+
+import com.ocean.piuda.dashboard.entity.ProjectArea;
+import com.ocean.piuda.dashboard.entity.WaterLog;
+import com.ocean.piuda.dashboard.entity.WaterStats;
+import com.ocean.piuda.dashboard.enums.DashboardChangeType;
+import com.ocean.piuda.dashboard.enums.MarineStatus;
+import com.ocean.piuda.dashboard.event.DashboardChangedEvent;
+import com.ocean.piuda.dashboard.repository.ProjectAreaRepository;
+import com.ocean.piuda.dashboard.repository.WaterLogRepository;
+import com.ocean.piuda.dashboard.repository.projection.WaterStatsProjection;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+class WaterStatsServiceTest {
+
+    private static final Long AREA_ID = 1L;
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 1);
+
+    private WaterLogRepository waterLogRepository;
+    private ProjectAreaRepository projectAreaRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private EntityManager entityManager;
+    private PlatformTransactionManager transactionManager;
+    private WaterStatsService waterStatsService;
+    private ProjectArea area;
+
+    @BeforeEach
+    void setUp() {
+        waterLogRepository = mock(WaterLogRepository.class);
+        projectAreaRepository = mock(ProjectAreaRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        entityManager = mock(EntityManager.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        waterStatsService = new WaterStatsService(waterLogRepository, projectAreaRepository,
+                eventPublisher, entityManager, transactionManager);
+        area = ProjectArea.builder().id(AREA_ID).name("포항 테스트 영역-1").build();
+    }
+
+    @Test
+    void addAndRemove_matchDirectComputation() {
+        double[] temperatures = {18.0, 21.5, 19.0, 20.25, 17.5};
+        for (int i = 0; i < temperatures.length; i++) {
+            waterStatsService.onCreated(area, waterLog(i + 1L, DAY.plusDays(i), temperatures[i]));
+        }
+
+        // 최저/최고/마지막이 아닌 19.0 제거 → 증분 유지
+        waterStatsService.onDeleted(area, waterLog(3L, DAY.plusDays(2), 19.0));
+
+        WaterStats stats = area.getWaterStats();
+        assertThat(stats.getSampleCount()).isEqualTo(4);
+        assertThat(stats.getMean()).isCloseTo(19.3125, within(1e-9));
+        assertThat(stats.getVariance()).isCloseTo(sampleVariance(18.0, 21.5, 20.25, 17.5), within(1e-9));
+        assertThat(stats.getMin()).isEqualTo(17.5);
+        assertThat(stats.getMax()).isEqualTo(21.5);
+        assertThat(stats.getLastLogId()).isEqualTo(5L);
+        assertThat(stats.getLastTemperature()).isEqualTo(17.5);
+        verifyNoInteractions(waterLogRepository);
+    }
+
+    @Test
+    void onDeleted_recomputesWhenExtremeIsRemoved() {
+        waterStatsService.onCreated(area, waterLog(1L, DAY, 18.0));
+        waterStatsService.onCreated(area, waterLog(2L, DAY.plusDays(1), 25.0));
+        waterStatsService.onCreated(area, waterLog(3L, DAY.plusDays(2), 20.0));
+
+        WaterStatsProjection aggregate = mock(WaterStatsProjection.class);
+        when(aggregate.getSampleCount()).thenReturn(2L);
+        when(aggregate.getMean()).thenReturn(19.0);
+        when(aggregate.getVariancePop()).thenReturn(1.0);
+        when(aggregate.getMinTemperature()).thenReturn(18.0);
+        when(aggregate.getMaxTemperature()).thenReturn(20.0);
+        when(aggregate.getLastLogId()).thenReturn(3L);
+        when(aggregate.getLastRecordDate()).thenReturn(DAY.plusDays(2));
+        when(aggregate.getLastTemperature()).thenReturn(20.0);
+        when(waterLogRepository.aggregateWaterStats(AREA_ID)).thenReturn(aggregate);
+
+        // 최고값(25.0) 제거 → 원본 로그로 재계산
+        waterStatsService.onDeleted(area, waterLog(2L, DAY.plusDays(1), 25.0));
+
+        verify(waterLogRepository).flush();
+        verify(waterLogRepository).aggregateWaterStats(AREA_ID);
+        WaterStats stats = area.getWaterStats();
+        assertThat(stats.getSampleCount()).isEqualTo(2);
+        assertThat(stats.getMax()).isEqualTo(20.0);
+        assertThat(stats.getVariance()).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    void onDeleted_lastSampleResetsWithoutQuery() {
+        waterStatsService.onCreated(area, waterLog(1L, DAY, 18.0));
+
+        waterStatsService.onDeleted(area, waterLog(1L, DAY, 18.0));
+
+        assertThat(area.getWaterStats().getSampleCount()).isZero();
+        assertThat(area.getWaterStats().getMean()).isNull();
+        verifyNoInteractions(waterLogRepository);
+    }
+
+    @Test
+    void rebuildStale_recomputesOnlyAreasWhoseSampleCountDiffersFromLogs() {
+        // 통계 컬럼 추가 이전부터 로그가 있던 영역 (표본 수 0)
+        when(projectAreaRepository.findAreaIdsWithStaleWaterStats()).thenReturn(List.of(AREA_ID));
+        when(projectAreaRepository.findForUpdate(AREA_ID)).thenReturn(Optional.of(area));
+        WaterStatsProjection aggregate = mock(WaterStatsProjection.class);
+        when(aggregate.getSampleCount()).thenReturn(3L);
+        when(aggregate.getMean()).thenReturn(19.0);
+        when(aggregate.getVariancePop()).thenReturn(0.5);
+        when(waterLogRepository.aggregateWaterStats(AREA_ID)).thenReturn(aggregate);
+
+        int rebuilt = waterStatsService.rebuildStale();
+
+        assertThat(rebuilt).isEqualTo(1);
+        assertThat(area.getWaterStats().getSampleCount()).isEqualTo(3);
+        verify(projectAreaRepository, never()).findAllIds();
+
+        // 영역마다 별도 트랜잭션에서 잠그고, 재계산 후 버전 증가 + 변경 이벤트
+        verify(transactionManager).getTransaction(argThat(def ->
+                def.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager).commit(any());
+        verify(entityManager).clear();
+        verify(projectAreaRepository).incrementDataVersion(AREA_ID);
+        verify(eventPublisher).publishEvent(new DashboardChangedEvent(AREA_ID, DashboardChangeType.WATER));
+    }
+
+    private static double sampleVariance(double... values) {
+        double mean = 0;
+        for (double v : values) mean += v;
+        mean /= values.length;
+        double sum = 0;
+        for (double v : values) sum += (v - mean) * (v - mean);
+        return sum / (values.length - 1);
+    }
+
+    private WaterLog waterLog(Long id, LocalDate recordDate, double temperature) {
+        return WaterLog.builder()
+                .id(id)
+                .projectArea(area)
+                .recordDate(recordDate)
+                .temperature(temperature)
+                .visibility(MarineStatus.GOOD)
+                .current(MarineStatus.GOOD)
+                .surge(MarineStatus.GOOD)
+                .wave(MarineStatus.GOOD)
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.ocean.piuda.global.cache;
+
+import com.ocean.piuda.global.api.dto.PageResponse;
+import com.ocean.piuda.global.cache.PageCountCache.CountFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageCountCacheTest {
+
+    private PageCountCache pageCountCache;
+    private AtomicInteger countQueries;
+    private LongSupplier counter;
+
+    @BeforeEach
+    void setUp() {
+        pageCountCache = new PageCountCache(true, 100, 60, new SimpleMeterRegistry());
+        countQueries = new AtomicInteger();
+        counter = () -> {
+            countQueries.incrementAndGet();
+            return 42L;
+        };
+    }
+
+    @Test
+    void count_isCachedPerNormalizedFilter() {
+        pageCountCache.count(CountFilter.of(String.class, 1L, "a", null), counter);
+        pageCountCache.count(CountFilter.of(String.class, 1L, "a", null), counter);
+        pageCountCache.count(CountFilter.of(String.class, 1L, "b", null), counter);
+
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    void invalidate_scopeOnlyAffectsThatScope_namespaceAffectsAll() {
+        CountFilter area1 = CountFilter.of(String.class, 1L);
+        CountFilter area2 = CountFilter.of(String.class, 2L);
+        pageCountCache.count(area1, counter);
+        pageCountCache.count(area2, counter);
+
+        pageCountCache.invalidate(String.class, 1L);
+        pageCountCache.count(area1, counter);
+        pageCountCache.count(area2, counter);
+        assertThat(countQueries).hasValue(3);
+
+        pageCountCache.invalidateAfterCommit(String.class);   // 트랜잭션 밖: 즉시 무효화
+        pageCountCache.count(area1, counter);
+        pageCountCache.count(area2, counter);
+        assertThat(countQueries).hasValue(5);
+    }
+
+    @Test
+    void respond_lastPageWithinFirstPage_skipsCount() {
+        var slice = new SliceImpl<>(List.of("x", "y"), PageRequest.of(0, 10), false);
+
+        PageResponse<String> response = pageCountCache.respond(slice, true, CountFilter.of(String.class, null), counter);
+
+        assertThat(response.totalElements()).isEqualTo(2L);
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    void respond_withoutTotal_returnsSliceShape() {
+        var slice = new SliceImpl<>(List.of("x"), PageRequest.of(1, 1), true);
+
+        PageResponse<String> response = pageCountCache.respond(slice, false, CountFilter.of(String.class, null), counter);
+
+        assertThat(response.page()).isEqualTo(2);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.hasPrevious()).isTrue();
+        assertThat(response.totalElements()).isNull();
+        assertThat(response.totalPages()).isNull();
+        assertThat(countQueries).hasValue(0);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ocean.piuda.global.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ExportAsyncTimeoutConfigTest {
+
+    private final ExportAsyncTimeoutConfig.ExportTimeoutInterceptor interceptor =
+            new ExportAsyncTimeoutConfig.ExportTimeoutInterceptor(1_800_000L);
+
+    @Test
+    void exportRequest_getsExportTimeout() throws Exception {
+        AsyncWebRequest request = requestMatching(ExportAsyncTimeoutConfig.EXPORT_PATTERN);
+
+        interceptor.beforeConcurrentHandling(request, () -> null);
+
+        verify(request).setTimeout(1_800_000L);
+    }
+
+    @Test
+    void otherAsyncRequest_keepsDefaultTimeout() throws Exception {
+        AsyncWebRequest request = requestMatching("/api/dashboard/tiles/{z}/{x}/{y}.mvt");
+
+        interceptor.beforeConcurrentHandling(request, () -> null);
+
+        verify(request, never()).setTimeout(anyLong());
+    }
+
+    private static AsyncWebRequest requestMatching(String pattern) {
+        AsyncWebRequest request = mock(AsyncWebRequest.class);
+        when(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST))
+                .thenReturn(pattern);
+        return request;
+    }
+}
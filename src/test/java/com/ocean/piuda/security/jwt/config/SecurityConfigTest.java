@@ -3,8 +3,16 @@ package com.ocean.piuda.security.jwt.config;
 import com.ocean.piuda.admin.bio.controller.AdminSpeciesController;
 import com.ocean.piuda.bio.service.SpeciesService;
 import com.ocean.piuda.dashboard.controller.DashboardController;
+import com.ocean.piuda.dashboard.dto.DataVersion;
+import com.ocean.piuda.dashboard.service.AreaHeatmapService;
+import com.ocean.piuda.dashboard.service.AreaStatusAnalyticsService;
+import com.ocean.piuda.dashboard.service.AreaTileService;
+import com.ocean.piuda.dashboard.service.DashboardChartService;
 import com.ocean.piuda.dashboard.service.DashboardCommandService;
+import com.ocean.piuda.dashboard.service.DashboardExportService;
 import com.ocean.piuda.dashboard.service.DashboardQueryService;
+import com.ocean.piuda.dashboard.service.LogBulkEditService;
+import com.ocean.piuda.dashboard.service.WaterLogImportService;
 import com.ocean.piuda.record.reference.controller.RecordReferenceController;
 import com.ocean.piuda.security.jwt.controller.AuthController;
 import com.ocean.piuda.security.jwt.enums.Role;
@@ -78,6 +86,27 @@ class SecurityConfigTest {
     @MockitoBean
     private DashboardCommandService dashboardCommandService;
 
+    @MockitoBean
+    private AreaStatusAnalyticsService areaStatusAnalyticsService;
+
+    @MockitoBean
+    private DashboardChartService dashboardChartService;
+
+    @MockitoBean
+    private DashboardExportService dashboardExportService;
+
+    @MockitoBean
+    private WaterLogImportService waterLogImportService;
+
+    @MockitoBean
+    private LogBulkEditService logBulkEditService;
+
+    @MockitoBean
+    private AreaTileService areaTileService;
+
+    @MockitoBean
+    private AreaHeatmapService areaHeatmapService;
+
     @Test
     @WithMockUser(authorities = "ROLE_USER")
     void userCanAccessRecordSpeciesApi() throws Exception {
@@ -168,10 +197,25 @@ class SecurityConfigTest {
 
     @Test
     void anonymousCanAccessDashboardReadApi() throws Exception {
+        when(dashboardQueryService.getDashboardVersion()).thenReturn(new DataVersion("areas-0-0--1", -1));
+
         mockMvc.perform(get("/api/dashboard/areas"))
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void anonymousCannotExportDashboardAreaLogs() throws Exception {
+        mockMvc.perform(get("/api/dashboard/areas/1/export"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_USER")
+    void userCanExportDashboardAreaLogs() throws Exception {
+        mockMvc.perform(get("/api/dashboard/areas/1/export"))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void anonymousCannotCreateDashboardArea() throws Exception {
         mockMvc.perform(post("/api/dashboard/areas")
@@ -194,6 +238,12 @@ class SecurityConfigTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void anonymousCannotAccessActuatorMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/metrics/cache.gets"))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     @WithMockUser(authorities = "ROLE_USER")
     void userCannotCreateDashboardArea() throws Exception {
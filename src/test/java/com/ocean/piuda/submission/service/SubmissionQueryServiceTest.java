@@ -9,8 +9,10 @@ import com.ocean.piuda.submission.repository.SubmissionRepository;
 import com.ocean.piuda.global.api.dto.PageResponse;
 import com.ocean.piuda.global.api.exception.BusinessException;
 import com.ocean.piuda.global.api.exception.ExceptionType;
+import com.ocean.piuda.global.cache.PageCountCache;
 import com.ocean.piuda.security.jwt.service.TokenUserService;
 import com.ocean.piuda.submission.service.SubmissionQueryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageImpl;
@@ -41,7 +43,8 @@ class SubmissionQueryServiceTest {
         submissionQueryService = new SubmissionQueryService(
                 submissionRepository,
                 auditLogRepository,
-                tokenUserService
+                tokenUserService,
+                new PageCountCache(true, 100, 60, new SimpleMeterRegistry())
         );
     }
 